@@ -0,0 +1,69 @@
+package audio;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures mixing one block of sound with a number of busy voices, into
+ * a sink that only counts the bytes, alone or after a tick of commands.
+ * Run with e.g. 'gradle jmh -PjmhArgs="AudioMixerBenchmark -p voices=16"'.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AudioMixerBenchmark {
+
+    /** Voices playing at once. */
+    @Param({"1", "8", "16"})
+    public int voices;
+
+    private AudioMixer mixer;
+    private OfflineSink sink;
+    private AudioCommandQueue commands;
+
+    @Setup
+    public void prepare() {
+        short[] data = new short[(int) AudioMixer.SAMPLE_RATE * 2];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (short) (Math.sin(i * 0.01) * 8000);
+        }
+        PcmSample sample = new PcmSample(data);
+        mixer = new AudioMixer(voices);
+        for (int i = 0; i < voices; i++) {
+            mixer.play(sample, "voice" + i, 0, true);
+        }
+        sink = OfflineSink.discarding();
+        commands = new AudioCommandQueue(AudioMixer.COMMAND_CAPACITY, resource -> sample);
+        mixer.setCommands(commands);
+    }
+
+    @Benchmark
+    public int mixBlock() {
+        return mixer.render(sink, AudioMixer.BLOCK_FRAMES);
+    }
+
+    /** A tick of ten hits of the same sound posted, merged and mixed. */
+    @Benchmark
+    public int postHitsAndMixBlock() {
+        for (int i = 0; i < 10; i++) {
+            commands.play("hit", "hit", 0, false, 8);
+        }
+        int bytes = mixer.render(sink, AudioMixer.BLOCK_FRAMES);
+        commands.stop("hit");
+        return bytes;
+    }
+}
@@ -0,0 +1,62 @@
+package entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one GameModel tick and each of its phases on its own.
+ * Run with 'gradle jmh', or e.g. 'gradle jmh -PjmhArgs="GameModelBenchmark.tick -p scenario=gammaBoss"'.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameModelBenchmark {
+
+    /**
+     * Resets the load before every call; the work per call is large enough
+     * (tens of microseconds and up) for invocation-level setup to be accurate.
+     */
+    @Setup(Level.Invocation)
+    public void prepare(GameModelScenario scenario) {
+        scenario.prepareTick();
+    }
+
+    @Benchmark
+    public void tick(GameModelScenario scenario) {
+        scenario.model.updateGameWorld();
+    }
+
+    @Benchmark
+    public void updateAllEntities(GameModelScenario scenario) {
+        scenario.model.updateAllEntities();
+    }
+
+    @Benchmark
+    public void processAllCollisions(GameModelScenario scenario) {
+        scenario.model.processAllCollisions();
+    }
+
+    @Benchmark
+    public void processChargingLaserCollisions(GameModelScenario scenario) {
+        scenario.model.processChargingLaserCollisions();
+    }
+
+    @Benchmark
+    public void cleanupAllEntities(GameModelScenario scenario) {
+        scenario.model.cleanupAllEntities();
+    }
+}
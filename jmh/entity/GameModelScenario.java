@@ -0,0 +1,144 @@
+package entity;
+
+import audio.SoundManager;
+import engine.core.Core;
+import engine.core.GameState;
+import engine.core.SimulationClock;
+import entity.bullet.Bullet;
+import entity.bullet.BulletPool;
+import entity.level.Level;
+import entity.level.LevelManager;
+import entity.ship.Ship;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Builds a GameModel in a reproducible state for the tick benchmarks.
+ * Formation scenarios use the level layouts from maps.json; boss scenarios
+ * clear the formation and run the boss for a few seconds so it is mid-pattern.
+ * A fixed number of extra bullets is kept alive on top of whatever the level fires.
+ */
+@State(Scope.Thread)
+public class GameModelScenario {
+
+    /** Reference screen size the game is designed for. */
+    private static final int SCREEN_WIDTH = 1228;
+    private static final int SCREEN_HEIGHT = 777;
+    private static final int MAX_LIVES = 7;
+    /** Ticks the boss runs before measuring. */
+    private static final int BOSS_WARMUP_TICKS = 60 * 8;
+
+    /** level1..level7 use the formation of that level, the rest spawn a boss. */
+    @Param({"level1", "level2", "level3", "level4", "level5", "level6", "level7",
+            "omegaBoss", "zetaBoss", "gammaBoss", "finalBoss"})
+    public String scenario;
+
+    /** Extra bullets kept alive during the measurement. */
+    @Param({"100", "1000", "10000"})
+    public int bullets;
+
+    GameModel model;
+
+    private long tickNanos;
+    private Bullet[] extraBullets;
+    private int[] startX;
+    private int[] startY;
+    private int[] startSpeed;
+
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUpTrial() {
+        Core.getLogger().setLevel(java.util.logging.Level.WARNING);
+        SoundManager.setMuted(true);
+        if (!GameConstant.isInitialized()) {
+            GameConstant.initialize(SCREEN_WIDTH, SCREEN_HEIGHT);
+        }
+        SimulationClock.takeOwnership();
+        this.tickNanos = SimulationClock.tickNanos(GameConstant.FPS);
+
+        boolean bossScenario = !this.scenario.startsWith("level");
+        int levelNumber = bossScenario ? bossLevel(this.scenario) : Integer.parseInt(this.scenario.substring(5));
+        Level level = new LevelManager().getLevel(levelNumber);
+        if (level == null) {
+            throw new IllegalStateException("Level " + levelNumber + " not found in maps.json.");
+        }
+
+        GameState state = new GameState(levelNumber, 0, 0, 0, MAX_LIVES, MAX_LIVES, 0, 0, 0);
+        this.model = new GameModel(state, level, false, MAX_LIVES,
+                SCREEN_WIDTH, GameConstant.ITEMS_SEPARATION_LINE_HEIGHT);
+        this.model.initialize();
+
+        if (bossScenario) {
+            this.model.getEnemyShipFormationModel().clear();
+            for (int i = 0; i < BOSS_WARMUP_TICKS; i++) {
+                keepPlayersAlive();
+                SimulationClock.advance(this.tickNanos);
+                this.model.updateGameWorld();
+            }
+        }
+
+        // Half of the extra bullets go up (player), half go down (enemy).
+        Random random = new Random(42);
+        this.extraBullets = new Bullet[this.bullets];
+        this.startX = new int[this.bullets];
+        this.startY = new int[this.bullets];
+        this.startSpeed = new int[this.bullets];
+        int top = GameConstant.STAT_SEPARATION_LINE_HEIGHT;
+        int bottom = GameConstant.ITEMS_SEPARATION_LINE_HEIGHT;
+        for (int i = 0; i < this.bullets; i++) {
+            this.startX[i] = random.nextInt(SCREEN_WIDTH);
+            this.startY[i] = top + random.nextInt(bottom - top);
+            this.startSpeed[i] = (i % 2 == 0) ? -6 : 4;
+            this.extraBullets[i] = BulletPool.getBullet(this.startX[i], this.startY[i], this.startSpeed[i]);
+        }
+    }
+
+    /**
+     * Puts the extra bullets back where they started and advances the clock,
+     * so every measured tick sees the same load. Bullets the model removed
+     * went back to the pool and are taken from it again.
+     */
+    public void prepareTick() {
+        Set<Bullet> live = this.model.getBullets();
+        for (int i = 0; i < this.extraBullets.length; i++) {
+            Bullet b = this.extraBullets[i];
+            if (!live.contains(b)) {
+                b = BulletPool.getBullet(this.startX[i], this.startY[i], this.startSpeed[i]);
+                this.extraBullets[i] = b;
+            }
+            b.setPositionX(this.startX[i]);
+            b.setPositionY(this.startY[i]);
+            b.setSpeed(this.startSpeed[i]);
+            b.setOwnerId(this.startSpeed[i] < 0 ? 1 : null);
+            b.resetPenetration();
+            live.add(b);
+        }
+        keepPlayersAlive();
+        SimulationClock.advance(this.tickNanos);
+    }
+
+    private void keepPlayersAlive() {
+        keepAlive(this.model.getShip());
+        keepAlive(this.model.getShipP2());
+    }
+
+    private static void keepAlive(final Ship ship) {
+        if (ship != null && !ship.isInvincible()) {
+            ship.activateInvincibility(Integer.MAX_VALUE);
+        }
+    }
+
+    private static int bossLevel(final String boss) {
+        switch (boss) {
+            case "omegaBoss": return 3;
+            case "gammaBoss": return 4;
+            case "zetaBoss": return 6;
+            case "finalBoss": return 7;
+            default: throw new IllegalArgumentException("Unknown boss scenario: " + boss);
+        }
+    }
+}
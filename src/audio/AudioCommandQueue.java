@@ -0,0 +1,218 @@
+package audio;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Commands for an {@link AudioMixer}, posted by the game and carried out
+ * by the audio thread before it mixes its next block.
+ * Posting never waits: the commands go into a fixed ring of slots that
+ * any thread may fill and only the audio thread empties. Each slot has a
+ * sequence number telling whose turn it is, so a poster claims a slot
+ * with a single compare-and-set and publishes it by bumping the number.
+ * When the ring is full the command is dropped and counted rather than
+ * making the game wait for the sound.
+ *
+ * Sounds and music tracks are named by resource and looked up on the
+ * audio thread, so a sound that was not preloaded is decoded there and
+ * not in the game loop.
+ */
+public final class AudioCommandQueue {
+
+    /** What a command does to the mixer. */
+    enum Op {
+        PLAY, STOP, STOP_PREFIXED, STOP_ALL, PAUSE, RESUME,
+        MUSIC, STOP_MUSIC, PAUSE_MUSIC, RESUME_MUSIC
+    }
+
+    /** Plays of a sound with no limit on the voices it may take. */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    /** Turn of each slot: its index plus a multiple of the capacity when free, one more when filled. */
+    private final AtomicLongArray sequence;
+    private final Op[] op;
+    /** Resource of the sound to play. */
+    private final String[] resource;
+    /** Voice name, or name prefix, the command applies to. */
+    private final String[] name;
+    private final int[] importance;
+    private final boolean[] loop;
+    /** Voices of the same name the sound may take, counting itself, or frames of a music fade. */
+    private final int[] limit;
+    private final int mask;
+
+    /** Next slot to fill, shared by the posting threads. */
+    private final AtomicLong tail = new AtomicLong();
+    /** Next slot to carry out, only used by the draining thread. */
+    private long head;
+    /** Number of commands dropped on a full ring. */
+    private final AtomicLong overflows = new AtomicLong();
+
+    /** Finds the decoded sound of a resource. */
+    private final Function<String, PcmSample> samples;
+    /** Opens the music track of a resource, null if it cannot be played. */
+    private final Function<String, MusicStream> tracks;
+
+    /**
+     * Constructor, creates an empty queue for sounds only.
+     *
+     * @param capacity
+     *            Commands waiting at most, rounded up to a power of two.
+     * @param samples
+     *            Finds the decoded sound of a resource, on the audio thread.
+     */
+    public AudioCommandQueue(final int capacity, final Function<String, PcmSample> samples) {
+        this(capacity, samples, resource -> null);
+    }
+
+    /**
+     * Constructor, creates an empty queue.
+     *
+     * @param capacity
+     *            Commands waiting at most, rounded up to a power of two.
+     * @param samples
+     *            Finds the decoded sound of a resource, on the audio thread.
+     * @param tracks
+     *            Opens the music track of a resource, on the audio thread.
+     */
+    public AudioCommandQueue(final int capacity, final Function<String, PcmSample> samples,
+                             final Function<String, MusicStream> tracks) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.sequence = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            this.sequence.set(i, i);
+        }
+        this.op = new Op[size];
+        this.resource = new String[size];
+        this.name = new String[size];
+        this.importance = new int[size];
+        this.loop = new boolean[size];
+        this.limit = new int[size];
+        this.mask = size - 1;
+        this.samples = samples;
+        this.tracks = tracks;
+    }
+
+    /**
+     * Plays a sound, unless limit voices of the same name are busy.
+     *
+     * @return False if the queue was full and the command dropped.
+     */
+    public boolean play(final String sound, final String voiceName, final int priority,
+                        final boolean looping, final int maxVoices) {
+        return post(Op.PLAY, sound, voiceName, priority, looping, maxVoices);
+    }
+
+    /** Stops every voice with the given name. */
+    public boolean stop(final String voiceName) {
+        return post(Op.STOP, null, voiceName, 0, false, 0);
+    }
+
+    /** Stops every voice with a name starting with the given prefix. */
+    public boolean stopPrefixed(final String prefix) {
+        return post(Op.STOP_PREFIXED, null, prefix, 0, false, 0);
+    }
+
+    /** Stops every voice. */
+    public boolean stopAll() {
+        return post(Op.STOP_ALL, null, null, 0, false, 0);
+    }
+
+    /** Pauses or resumes every voice with the given name. */
+    public boolean setPaused(final String voiceName, final boolean value) {
+        return post(value ? Op.PAUSE : Op.RESUME, null, voiceName, 0, false, 0);
+    }
+
+    /**
+     * Plays a music track, crossfading from the current one.
+     * Asking for the track already playing keeps it going.
+     */
+    public boolean playMusic(final String track, final int fadeFrames) {
+        return post(Op.MUSIC, track, track, 0, true, fadeFrames);
+    }
+
+    /** Fades out the music. */
+    public boolean stopMusic(final int fadeFrames) {
+        return post(Op.STOP_MUSIC, null, null, 0, false, fadeFrames);
+    }
+
+    /** Pauses or resumes the music. */
+    public boolean setMusicPaused(final boolean value) {
+        return post(value ? Op.PAUSE_MUSIC : Op.RESUME_MUSIC, null, null, 0, false, 0);
+    }
+
+    private boolean post(final Op command, final String sound, final String voiceName,
+                         final int priority, final boolean looping, final int maxVoices) {
+        long position = tail.get();
+        int slot;
+        while (true) {
+            slot = (int) (position & mask);
+            long turn = sequence.getAcquire(slot) - position;
+            if (turn == 0) {
+                if (tail.compareAndSet(position, position + 1)) break;
+                position = tail.get();
+            } else if (turn < 0) {
+                overflows.incrementAndGet();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+        op[slot] = command;
+        resource[slot] = sound;
+        name[slot] = voiceName;
+        importance[slot] = priority;
+        loop[slot] = looping;
+        limit[slot] = maxVoices;
+        sequence.setRelease(slot, position + 1);
+        return true;
+    }
+
+    /**
+     * Carries out the commands posted so far on a mixer, in order.
+     * Only called by one thread at a time, the audio thread once started.
+     *
+     * @return Number of commands carried out.
+     */
+    public int drainTo(final AudioMixer mixer) {
+        int count = 0;
+        while (true) {
+            int slot = (int) (head & mask);
+            if (sequence.getAcquire(slot) != head + 1) return count;
+            Op command = op[slot];
+            String sound = resource[slot];
+            String voiceName = name[slot];
+            int priority = importance[slot];
+            boolean looping = loop[slot];
+            int maxVoices = limit[slot];
+            resource[slot] = null;
+            name[slot] = null;
+            sequence.setRelease(slot, head + mask + 1);
+            head++;
+            count++;
+
+            switch (command) {
+                case PLAY -> mixer.play(samples.apply(sound), voiceName, priority, looping, maxVoices);
+                case STOP -> mixer.stop(voiceName);
+                case STOP_PREFIXED -> mixer.stopPrefixed(voiceName);
+                case STOP_ALL -> mixer.stopAll();
+                case PAUSE -> mixer.setPaused(voiceName, true);
+                case RESUME -> mixer.setPaused(voiceName, false);
+                case MUSIC -> {
+                    // A track already playing is not opened again.
+                    MusicStream track = sound.equals(mixer.getMusicName()) ? null : tracks.apply(sound);
+                    mixer.playMusic(track, voiceName, maxVoices);
+                }
+                case STOP_MUSIC -> mixer.stopMusic(maxVoices);
+                case PAUSE_MUSIC -> mixer.setMusicPaused(true);
+                case RESUME_MUSIC -> mixer.setMusicPaused(false);
+            }
+        }
+    }
+
+    /** Number of commands dropped because the queue was full. */
+    public long getOverflows() {
+        return overflows.get();
+    }
+}
@@ -0,0 +1,560 @@
+package audio;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.LineUnavailableException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Mixes every sound of the game into a single output.
+ * A fixed number of voices each play one decoded {@link PcmSample}; the
+ * audio thread adds them together block by block and writes the result
+ * to one {@link AudioSink}, so starting a sound only takes a free voice
+ * instead of opening a line. When every voice is busy, a new sound takes
+ * over the voice of the least important sound playing, the one closest
+ * to its end among equals, and is dropped if all of them matter more.
+ *
+ * Music does not take a voice: it is read from a {@link MusicStream} a
+ * block at a time on a deck of its own. A new track fades in while the
+ * one it replaces fades out on a second deck.
+ *
+ * Voices are kept in parallel arrays and changed under the mixer lock,
+ * which the audio thread only holds while mixing one block. The game
+ * does not change them itself: it posts to the {@link AudioCommandQueue}
+ * of the mixer, which the audio thread carries out before each block.
+ */
+public final class AudioMixer {
+
+    /** Frames per second of the mixed sound. */
+    public static final float SAMPLE_RATE = 44100f;
+    /** Format of the mixed sound: 16 bit signed little-endian stereo. */
+    public static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, 2, true, false);
+    /** Frames mixed at once, about 12 ms. */
+    public static final int BLOCK_FRAMES = 512;
+    /** Blocks the output holds ahead of playback. */
+    private static final int BUFFERED_BLOCKS = 4;
+    /** Bytes per stereo frame. */
+    private static final int FRAME_BYTES = 4;
+    /** Voices of a mixer built without a count. */
+    public static final int DEFAULT_VOICES = 16;
+    /** Fixed-point unit of a voice gain. */
+    private static final int GAIN_BITS = 8;
+    private static final int UNITY_GAIN = 1 << GAIN_BITS;
+    /** Time given to the audio thread to finish its block when stopped. */
+    private static final long STOP_TIMEOUT_MILLIS = 500;
+    /** Commands waiting for the audio thread at most, several ticks' worth of sounds. */
+    public static final int COMMAND_CAPACITY = 1024;
+
+    private final Object lock = new Object();
+
+    /** Sound of each voice, null when the voice is free. */
+    private final PcmSample[] sample;
+    /** Next frame of each voice. */
+    private final int[] position;
+    /** True for voices starting over at the end of their sound. */
+    private final boolean[] looping;
+    /** True for voices kept but not mixed. */
+    private final boolean[] paused;
+    /** Importance of each voice, higher voices are stolen last. */
+    private final int[] priority;
+    /** Gain of each voice, {@link #UNITY_GAIN} plays the sound as is. */
+    private final int[] gain;
+    /** Name the voice can be found by. */
+    private final String[] tag;
+
+    /** Track of the music deck, null when no music plays. */
+    private MusicStream music;
+    /** Name the music was started with. */
+    private String musicName;
+    /** Frames the music has faded in, out of {@link #musicFadeLength}. */
+    private int musicFaded;
+    private int musicFadeLength;
+    /** Track fading out after being replaced or stopped, null if none. */
+    private MusicStream fading;
+    /** Gain of the fading track when it started fading. */
+    private int fadingGain;
+    /** Frames the fading track has faded out, out of {@link #fadingLength}. */
+    private int fadingFaded;
+    private int fadingLength;
+    /** True while the music decks are paused. */
+    private boolean musicPaused;
+    /** Samples of the music read for a block. */
+    private final short[] musicBlock = new short[BLOCK_FRAMES * 2];
+
+    /** Sum of the voices of a block, before clipping. */
+    private final int[] accumulator = new int[BLOCK_FRAMES * 2];
+    /** Mixed block handed to the sink. */
+    private final byte[] block = new byte[BLOCK_FRAMES * FRAME_BYTES];
+
+    /** Number of sounds that took over a busy voice. */
+    private long stolen;
+    /** Number of sounds dropped because every voice mattered more. */
+    private long dropped;
+    /** Number of sounds merged with the same sound started in the same block. */
+    private long coalesced;
+
+    /** Commands carried out before each block, null if the mixer has none. */
+    private volatile AudioCommandQueue commands;
+
+    /** Thread writing to the sink, null unless started. */
+    private Thread thread;
+    /** Sink the audio thread writes to. */
+    private AudioSink sink;
+    /** True while the audio thread runs. */
+    private volatile boolean running;
+
+    /**
+     * Constructor, creates a mixer with {@link #DEFAULT_VOICES} voices.
+     */
+    public AudioMixer() {
+        this(DEFAULT_VOICES);
+    }
+
+    /**
+     * Constructor, creates a silent mixer.
+     *
+     * @param voices
+     *            Number of sounds playing at the same time at most.
+     */
+    public AudioMixer(final int voices) {
+        this.sample = new PcmSample[voices];
+        this.position = new int[voices];
+        this.looping = new boolean[voices];
+        this.paused = new boolean[voices];
+        this.priority = new int[voices];
+        this.gain = new int[voices];
+        this.tag = new String[voices];
+    }
+
+    /**
+     * Starts a sound on a free voice, or on a stolen one if none is free.
+     *
+     * @param sound
+     *            Sound to play.
+     * @param name
+     *            Name to stop or find the sound by later.
+     * @param importance
+     *            Priority of the sound when voices run out.
+     * @param loop
+     *            True to start the sound over at its end until stopped.
+     * @return The voice playing the sound, -1 if it was dropped.
+     */
+    public int play(final PcmSample sound, final String name, final int importance, final boolean loop) {
+        return play(sound, name, importance, loop, AudioCommandQueue.UNLIMITED);
+    }
+
+    /**
+     * Starts a sound unless enough voices already play under its name.
+     * A sound started again before its first frame was mixed would only
+     * play twice as loud, so it keeps the voice already started: ten hits
+     * in one tick sound as one.
+     *
+     * @param limit
+     *            Voices with the same name at most, counting the new one.
+     * @return The voice playing the sound, -1 if it was dropped.
+     */
+    public int play(final PcmSample sound, final String name, final int importance,
+                    final boolean loop, final int limit) {
+        if (sound.frames() == 0) return -1;
+        synchronized (lock) {
+            int voice = -1;
+            int named = 0;
+            for (int i = 0; i < sample.length; i++) {
+                if (sample[i] == null) {
+                    if (voice < 0) voice = i;
+                } else if (name.equals(tag[i])) {
+                    if (sample[i] == sound && position[i] == 0) {
+                        coalesced++;
+                        return i;
+                    }
+                    named++;
+                }
+            }
+            if (named >= limit) return -1;
+            if (voice < 0) {
+                voice = victim(importance);
+                if (voice < 0) {
+                    dropped++;
+                    return -1;
+                }
+                stolen++;
+            }
+            sample[voice] = sound;
+            position[voice] = 0;
+            looping[voice] = loop;
+            paused[voice] = false;
+            priority[voice] = importance;
+            gain[voice] = UNITY_GAIN;
+            tag[voice] = name;
+            return voice;
+        }
+    }
+
+    /**
+     * Picks the voice a new sound takes over: the least important one,
+     * then the one with the fewest frames left. Looping voices never end,
+     * so they are taken last among equals.
+     *
+     * @return The voice, -1 if every voice matters more than the sound.
+     */
+    private int victim(final int importance) {
+        int victim = -1;
+        long victimLeft = Long.MAX_VALUE;
+        for (int i = 0; i < sample.length; i++) {
+            if (priority[i] > importance) continue;
+            long left = looping[i] ? Long.MAX_VALUE - 1 : sample[i].frames() - position[i];
+            if (victim < 0 || priority[i] < priority[victim]
+                    || (priority[i] == priority[victim] && left < victimLeft)) {
+                victim = i;
+                victimLeft = left;
+            }
+        }
+        return victim;
+    }
+
+    /**
+     * Stops every voice with the given name.
+     */
+    public void stop(final String name) {
+        synchronized (lock) {
+            for (int i = 0; i < sample.length; i++) {
+                if (sample[i] != null && name.equals(tag[i])) {
+                    release(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops every voice with a name starting with the given prefix.
+     */
+    public void stopPrefixed(final String prefix) {
+        synchronized (lock) {
+            for (int i = 0; i < sample.length; i++) {
+                if (sample[i] != null && tag[i].startsWith(prefix)) {
+                    release(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops every voice.
+     */
+    public void stopAll() {
+        synchronized (lock) {
+            for (int i = 0; i < sample.length; i++) {
+                release(i);
+            }
+        }
+    }
+
+    /**
+     * Pauses or resumes every voice with the given name, keeping its place.
+     */
+    public void setPaused(final String name, final boolean value) {
+        synchronized (lock) {
+            for (int i = 0; i < sample.length; i++) {
+                if (sample[i] != null && name.equals(tag[i])) {
+                    paused[i] = value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts the voices playing or paused with the given name.
+     */
+    public int count(final String name) {
+        synchronized (lock) {
+            int count = 0;
+            for (int i = 0; i < sample.length; i++) {
+                if (sample[i] != null && name.equals(tag[i])) count++;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Counts the busy voices.
+     */
+    public int activeVoices() {
+        synchronized (lock) {
+            int count = 0;
+            for (PcmSample s : sample) {
+                if (s != null) count++;
+            }
+            return count;
+        }
+    }
+
+    /** Number of sounds that took over a busy voice. */
+    public long getStolen() {
+        synchronized (lock) {
+            return stolen;
+        }
+    }
+
+    /** Number of sounds dropped because every voice mattered more. */
+    public long getDropped() {
+        synchronized (lock) {
+            return dropped;
+        }
+    }
+
+    /**
+     * Plays a music track, fading it in while the current one fades out.
+     * Asking again for the track already playing keeps it going.
+     *
+     * @param track
+     *            Track to play, null to only fade out the current one.
+     * @param name
+     *            Name of the track, to find it by later.
+     * @param fadeFrames
+     *            Length of the crossfade, 0 to cut.
+     */
+    public void playMusic(final MusicStream track, final String name, final int fadeFrames) {
+        synchronized (lock) {
+            if (music != null && name.equals(musicName)) {
+                musicPaused = false;
+                return;
+            }
+            fadeOutMusic(fadeFrames);
+            if (track != null) {
+                music = track;
+                musicName = name;
+                musicFaded = 0;
+                musicFadeLength = fadeFrames;
+            }
+            musicPaused = false;
+        }
+    }
+
+    /**
+     * Fades out the music.
+     *
+     * @param fadeFrames
+     *            Length of the fade, 0 to cut.
+     */
+    public void stopMusic(final int fadeFrames) {
+        synchronized (lock) {
+            fadeOutMusic(fadeFrames);
+        }
+    }
+
+    /** Moves the music to the fading deck, replacing any track still fading there. */
+    private void fadeOutMusic(final int fadeFrames) {
+        if (music == null) return;
+        if (fadeFrames > 0) {
+            fading = music;
+            fadingGain = musicGain();
+            fadingFaded = 0;
+            fadingLength = fadeFrames;
+        }
+        music = null;
+        musicName = null;
+    }
+
+    /** Gain of the music deck on its next frame. */
+    private int musicGain() {
+        if (musicFaded >= musicFadeLength) return UNITY_GAIN;
+        return (int) ((long) UNITY_GAIN * musicFaded / musicFadeLength);
+    }
+
+    /**
+     * Pauses or resumes the music, keeping its place.
+     */
+    public void setMusicPaused(final boolean value) {
+        synchronized (lock) {
+            musicPaused = value;
+        }
+    }
+
+    /** Name of the music playing or paused, null if none. */
+    public String getMusicName() {
+        synchronized (lock) {
+            return musicName;
+        }
+    }
+
+    /** Number of sounds merged with the same sound started in the same block. */
+    public long getCoalesced() {
+        synchronized (lock) {
+            return coalesced;
+        }
+    }
+
+    /**
+     * Setter for the commands carried out before each block, by the audio
+     * thread once started or by {@link #render} otherwise.
+     */
+    public void setCommands(final AudioCommandQueue queue) {
+        this.commands = queue;
+    }
+
+    /** Carries out the commands posted since the last block. */
+    private void drainCommands() {
+        AudioCommandQueue queue = this.commands;
+        if (queue != null) {
+            queue.drainTo(this);
+        }
+    }
+
+    private void release(final int voice) {
+        sample[voice] = null;
+        tag[voice] = null;
+    }
+
+    /**
+     * Mixes the next frames of every voice and moves the voices along.
+     *
+     * @param out
+     *            Receives 16 bit little-endian stereo frames.
+     * @param frames
+     *            Frames to mix, at most {@link #BLOCK_FRAMES}.
+     *            Called by one thread at a time.
+     */
+    public void mix(final byte[] out, final int frames) {
+        final int samples = frames * 2;
+        final int[] sum = accumulator;
+        Arrays.fill(sum, 0, samples, 0);
+
+        synchronized (lock) {
+            for (int v = 0; v < sample.length; v++) {
+                if (sample[v] == null || paused[v]) continue;
+                final short[] data = sample[v].data();
+                final int length = data.length;
+                final int g = gain[v];
+                int index = position[v] * 2;
+                for (int i = 0; i < samples; i++) {
+                    if (index >= length) {
+                        if (!looping[v]) break;
+                        index = 0;
+                    }
+                    sum[i] += data[index++] * g;
+                }
+                if (index >= length && !looping[v]) {
+                    release(v);
+                } else {
+                    position[v] = index / 2;
+                }
+            }
+            if (!musicPaused) {
+                mixMusic(sum, frames);
+            }
+        }
+
+        for (int i = 0; i < samples; i++) {
+            int value = sum[i] >> GAIN_BITS;
+            if (value > Short.MAX_VALUE) value = Short.MAX_VALUE;
+            else if (value < Short.MIN_VALUE) value = Short.MIN_VALUE;
+            out[i * 2] = (byte) value;
+            out[i * 2 + 1] = (byte) (value >> 8);
+        }
+    }
+
+    /** Adds the next frames of both music decks to a block. */
+    private void mixMusic(final int[] sum, final int frames) {
+        final short[] read = musicBlock;
+        if (music != null) {
+            int count = music.read(read, frames);
+            for (int f = 0; f < count; f++) {
+                int g = musicGain();
+                if (musicFaded < musicFadeLength) musicFaded++;
+                sum[f * 2] += read[f * 2] * g;
+                sum[f * 2 + 1] += read[f * 2 + 1] * g;
+            }
+            if (music.isFinished()) {
+                music = null;
+                musicName = null;
+            }
+        }
+        if (fading != null) {
+            int count = Math.min(fading.read(read, frames), fadingLength - fadingFaded);
+            for (int f = 0; f < count; f++) {
+                int g = (int) ((long) fadingGain * (fadingLength - fadingFaded) / fadingLength);
+                fadingFaded++;
+                sum[f * 2] += read[f * 2] * g;
+                sum[f * 2 + 1] += read[f * 2 + 1] * g;
+            }
+            if (fadingFaded >= fadingLength || fading.isFinished()) {
+                fading = null;
+            }
+        }
+    }
+
+    /**
+     * Mixes a number of frames into a sink on the calling thread, as the
+     * audio thread would, to test or measure the mixer without a device.
+     * Only to be used on a mixer that was not started.
+     *
+     * @return Bytes written to the sink.
+     */
+    public int render(final AudioSink target, final int frames) {
+        int left = frames;
+        int bytes = 0;
+        while (left > 0) {
+            int count = Math.min(left, BLOCK_FRAMES);
+            drainCommands();
+            mix(block, count);
+            target.write(block, 0, count * FRAME_BYTES);
+            bytes += count * FRAME_BYTES;
+            left -= count;
+        }
+        return bytes;
+    }
+
+    /**
+     * Opens a sink and starts mixing into it on the audio thread.
+     *
+     * @throws LineUnavailableException
+     *             If the sink cannot be opened; the mixer is not started.
+     */
+    public void start(final AudioSink output) throws LineUnavailableException {
+        output.open(FORMAT, BLOCK_FRAMES * FRAME_BYTES * BUFFERED_BLOCKS);
+        this.sink = output;
+        this.running = true;
+        this.thread = new Thread(this::run, "Audio");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Stops the audio thread and closes its sink.
+     */
+    public void shutdown() {
+        this.running = false;
+        if (this.thread == null) return;
+        try {
+            this.thread.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.thread = null;
+    }
+
+    private void run() {
+        final long blockNanos = (long) (TimeUnit.SECONDS.toNanos(1) * BLOCK_FRAMES / SAMPLE_RATE);
+        long nextBlock = System.nanoTime();
+        try {
+            while (running) {
+                drainCommands();
+                mix(block, BLOCK_FRAMES);
+                // A line blocks until it has room; other sinks are paced here.
+                sink.write(block, 0, block.length);
+                if (!sink.isRealTime()) {
+                    nextBlock += blockNanos;
+                    long wait = nextBlock - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    } else {
+                        nextBlock = System.nanoTime();
+                    }
+                }
+            }
+        } finally {
+            sink.close();
+        }
+    }
+}
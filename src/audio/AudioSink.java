@@ -0,0 +1,36 @@
+package audio;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.LineUnavailableException;
+
+/**
+ * Destination of the mixed sound, written by the mixer one block at a time.
+ */
+public interface AudioSink {
+
+    /**
+     * Prepares the sink before the first block.
+     *
+     * @param format
+     *            Format of the blocks.
+     * @param bufferBytes
+     *            Bytes the sink should be able to hold ahead of playback.
+     */
+    void open(AudioFormat format, int bufferBytes) throws LineUnavailableException;
+
+    /**
+     * Writes a block of mixed sound.
+     */
+    void write(byte[] data, int offset, int length);
+
+    /**
+     * Tells if {@link #write} waits for the sound to be played. The mixer
+     * keeps its own pace for sinks that take blocks at once.
+     */
+    boolean isRealTime();
+
+    /**
+     * Releases the sink once the mixer stops.
+     */
+    void close();
+}
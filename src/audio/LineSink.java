@@ -0,0 +1,46 @@
+package audio;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+/**
+ * Plays the mixed sound on the default output line of the sound card.
+ */
+public final class LineSink implements AudioSink {
+
+    /** Output line, null until opened. */
+    private SourceDataLine line;
+
+    @Override
+    public void open(final AudioFormat format, final int bufferBytes) throws LineUnavailableException {
+        try {
+            line = AudioSystem.getSourceDataLine(format);
+        } catch (IllegalArgumentException e) {
+            // No mixer of the sound system supports the format, or there is no device at all.
+            throw new LineUnavailableException(e.getMessage());
+        }
+        line.open(format, bufferBytes);
+        line.start();
+    }
+
+    @Override
+    public void write(final byte[] data, final int offset, final int length) {
+        line.write(data, offset, length);
+    }
+
+    @Override
+    public boolean isRealTime() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        if (line == null) return;
+        line.stop();
+        line.flush();
+        line.close();
+        line = null;
+    }
+}
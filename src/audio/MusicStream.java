@@ -0,0 +1,249 @@
+package audio;
+
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A music track read a block at a time instead of decoded whole.
+ * The samples are read straight from the WAV data, memory-mapped when
+ * the track is a file on disk, and converted to the mixer format as they
+ * are read: mono is copied to both channels and other rates are
+ * resampled on the fly. Opening a track only reads its header, so it can
+ * be done on the audio thread, and a looping track goes from its last
+ * frame back to its first within the same block.
+ *
+ * Tracks in other sample formats, e.g. 8 or 24 bit or floating point, are
+ * decoded whole by the sound system like a {@link PcmSample} and streamed
+ * from memory.
+ */
+public final class MusicStream {
+
+    /** Bytes between two pages touched by {@link #prefetch}. */
+    private static final int PAGE_BYTES = 4096;
+
+    /** Little-endian 16 bit samples of the track, from the start of its data. */
+    private final ByteBuffer data;
+    /** Frames of the track at its own rate. */
+    private final int frames;
+    private final int channels;
+    /** Bytes per frame of the track. */
+    private final int frameBytes;
+    /** Frames of the track per frame of the mixer. */
+    private final double step;
+
+    /** Frame of the track read next. */
+    private int frame;
+    /** Distance from that frame to the next one, when resampling. */
+    private double fraction;
+    /** True to start over at the end of the track. */
+    private boolean looping = true;
+    /** Last byte read by {@link #prefetch}, kept so the reads are not optimized away. */
+    private volatile byte touched;
+
+    /**
+     * Constructor, reads the track from data already in memory.
+     *
+     * @param data
+     *            Little-endian 16 bit samples, left and right interleaved for two channels.
+     * @param channels
+     *            1 or 2.
+     * @param sampleRate
+     *            Frames per second of the track.
+     */
+    public MusicStream(final ByteBuffer data, final int channels, final float sampleRate) {
+        this.data = data.slice().order(ByteOrder.LITTLE_ENDIAN);
+        this.channels = channels;
+        this.frameBytes = 2 * channels;
+        this.frames = this.data.remaining() / this.frameBytes;
+        this.step = sampleRate / AudioMixer.SAMPLE_RATE;
+    }
+
+    /**
+     * Opens a track, mapping it if it is a file and reading it into memory
+     * otherwise, e.g. from a jar.
+     *
+     * @param resourcePath
+     *            Path of the track among the resources.
+     * @return The track, positioned on its first frame.
+     */
+    public static MusicStream open(final String resourcePath) throws IOException, UnsupportedAudioFileException {
+        String p = resourcePath.startsWith("/") ? resourcePath : "/" + resourcePath;
+        URL url = MusicStream.class.getResource(p);
+        if (url == null) {
+            throw new FileNotFoundException(p);
+        }
+        ByteBuffer file;
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Path.of(url.toURI()), StandardOpenOption.READ)) {
+                file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        } else {
+            try (InputStream in = url.openStream()) {
+                file = ByteBuffer.wrap(in.readAllBytes());
+            }
+        }
+        return fromFile(file);
+    }
+
+    /**
+     * Streams a track from the bytes of a sound file. WAV files of 16 bit
+     * PCM samples are read in place; any other format the sound system
+     * reads is decoded whole first.
+     *
+     * @param file
+     *            Bytes of the file, not copied when read in place.
+     * @return The track, positioned on its first frame.
+     */
+    public static MusicStream fromFile(final ByteBuffer file) throws IOException, UnsupportedAudioFileException {
+        try {
+            return fromWav(file);
+        } catch (UnsupportedAudioFileException e) {
+            byte[] bytes = new byte[file.remaining()];
+            file.duplicate().get(bytes);
+            return fromSample(PcmSample.decode(bytes));
+        }
+    }
+
+    /** Streams a sound already decoded into the mixer format. */
+    private static MusicStream fromSample(final PcmSample sample) {
+        short[] samples = sample.data();
+        ByteBuffer data = ByteBuffer.allocate(samples.length * 2).order(ByteOrder.LITTLE_ENDIAN);
+        data.asShortBuffer().put(samples);
+        return new MusicStream(data, 2, AudioMixer.SAMPLE_RATE);
+    }
+
+    /**
+     * Reads the header of a WAV file and streams its data chunk.
+     *
+     * @throws UnsupportedAudioFileException
+     *             If the file is not 16 bit PCM on one or two channels, or
+     *             a chunk claims more bytes than the file has.
+     */
+    static MusicStream fromWav(final ByteBuffer file) throws UnsupportedAudioFileException {
+        ByteBuffer wav = file.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        if (wav.remaining() < 12 || wav.getInt(0) != 0x46464952 || wav.getInt(8) != 0x45564157) {
+            throw new UnsupportedAudioFileException("Not a WAV file");
+        }
+        int channels = 0;
+        int bits = 0;
+        int format = 0;
+        float rate = 0;
+        int offset = 12;
+        while (offset + 8 <= wav.limit()) {
+            int id = wav.getInt(offset);
+            long size = wav.getInt(offset + 4) & 0xFFFFFFFFL;
+            int body = offset + 8;
+            // A damaged size must neither read past the file nor loop on the same chunk.
+            if (body + size > wav.limit()) {
+                throw new UnsupportedAudioFileException("WAV chunk runs past the end of the file");
+            }
+            if (id == 0x20746D66) { // "fmt "
+                if (size < 16) {
+                    throw new UnsupportedAudioFileException("WAV format chunk is too short");
+                }
+                format = wav.getShort(body) & 0xFFFF;
+                channels = wav.getShort(body + 2);
+                rate = wav.getInt(body + 4);
+                bits = wav.getShort(body + 14);
+            } else if (id == 0x61746164) { // "data"
+                if (format != 1 || bits != 16 || channels < 1 || channels > 2) {
+                    throw new UnsupportedAudioFileException("Only 16 bit PCM tracks are streamed");
+                }
+                return new MusicStream(wav.limit((int) (body + size)).position(body), channels, rate);
+            }
+            // Chunks are padded to an even size.
+            offset = (int) (body + size + (size & 1));
+        }
+        throw new UnsupportedAudioFileException("No data in WAV file");
+    }
+
+    /**
+     * Reads the next frames in the mixer format.
+     *
+     * @param out
+     *            Receives interleaved left and right samples.
+     * @param count
+     *            Frames to read.
+     * @return Frames read, fewer than asked only at the end of a track that does not loop.
+     */
+    public int read(final short[] out, final int count) {
+        if (frames == 0) return 0;
+        final int last = frames - 1;
+        int read = 0;
+        while (read < count && frame < frames) {
+            int next = frame < last ? frame + 1 : (looping ? 0 : last);
+            int a = frame * frameBytes;
+            int b = next * frameBytes;
+            int left = data.getShort(a);
+            int nextLeft = data.getShort(b);
+            int right = channels == 1 ? left : data.getShort(a + 2);
+            int nextRight = channels == 1 ? nextLeft : data.getShort(b + 2);
+            if (fraction == 0) {
+                out[read * 2] = (short) left;
+                out[read * 2 + 1] = (short) right;
+            } else {
+                out[read * 2] = (short) Math.round(left + (nextLeft - left) * fraction);
+                out[read * 2 + 1] = (short) Math.round(right + (nextRight - right) * fraction);
+            }
+            read++;
+
+            fraction += step;
+            while (fraction >= 1) {
+                fraction -= 1;
+                frame++;
+            }
+            if (frame >= frames && looping) {
+                frame -= frames;
+            }
+        }
+        return read;
+    }
+
+    /**
+     * Reads one byte of every page of the first frames, so that the first
+     * blocks of a mapped track do not wait for the disk on the audio thread.
+     *
+     * @param count
+     *            Frames to bring into memory.
+     */
+    public void prefetch(final int count) {
+        int end = (int) Math.min(data.limit(), (long) count * frameBytes);
+        byte sink = 0;
+        for (int i = 0; i < end; i += PAGE_BYTES) {
+            sink ^= data.get(i);
+        }
+        touched = sink;
+    }
+
+    /** Setter for looping, on by default. */
+    public void setLooping(final boolean value) {
+        this.looping = value;
+    }
+
+    /** Goes back to the first frame. */
+    public void rewind() {
+        this.frame = 0;
+        this.fraction = 0;
+    }
+
+    /** True once a track that does not loop was read to its end. */
+    public boolean isFinished() {
+        return frame >= frames;
+    }
+
+    /** Frames of the track at its own rate. */
+    public int frames() {
+        return frames;
+    }
+}
@@ -0,0 +1,68 @@
+package audio;
+
+import javax.sound.sampled.AudioFormat;
+import java.util.Arrays;
+
+/**
+ * Sink that keeps the mixed sound in memory instead of playing it, so
+ * mixing can be tested and measured without a sound card. It records up
+ * to a fixed number of bytes and counts the rest; with no room at all it
+ * is a null sink that only counts.
+ */
+public final class OfflineSink implements AudioSink {
+
+    /** Recorded sound. */
+    private final byte[] recorded;
+    /** Bytes written so far, recorded or not. */
+    private long written;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity
+     *            Bytes recorded at most, later blocks are only counted.
+     */
+    public OfflineSink(final int capacity) {
+        this.recorded = new byte[capacity];
+    }
+
+    /**
+     * Creates a sink that records nothing.
+     */
+    public static OfflineSink discarding() {
+        return new OfflineSink(0);
+    }
+
+    @Override
+    public void open(final AudioFormat format, final int bufferBytes) {
+        written = 0;
+    }
+
+    @Override
+    public synchronized void write(final byte[] data, final int offset, final int length) {
+        if (written < recorded.length) {
+            int kept = (int) Math.min(length, recorded.length - written);
+            System.arraycopy(data, offset, recorded, (int) written, kept);
+        }
+        written += length;
+    }
+
+    @Override
+    public boolean isRealTime() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /** Number of bytes written, recorded or not. */
+    public synchronized long getBytesWritten() {
+        return written;
+    }
+
+    /** Copy of the recorded bytes. */
+    public synchronized byte[] toByteArray() {
+        return Arrays.copyOf(recorded, (int) Math.min(written, recorded.length));
+    }
+}
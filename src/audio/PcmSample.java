@@ -0,0 +1,110 @@
+package audio;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * A sound decoded once into the format of the mixer: 16 bit stereo
+ * samples at {@link AudioMixer#SAMPLE_RATE}, left and right interleaved.
+ * Mono sounds are copied to both channels and sounds recorded at another
+ * rate are resampled, so the mixer only ever adds samples together.
+ */
+public final class PcmSample {
+
+    /** Sample standing in for a sound that could not be read. */
+    public static final PcmSample EMPTY = new PcmSample(new short[0]);
+
+    /** Interleaved left and right samples. */
+    private final short[] data;
+
+    /**
+     * Constructor, wraps samples already in the mixer format.
+     *
+     * @param data
+     *            Interleaved left and right samples.
+     */
+    public PcmSample(final short[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Decodes a sound file into the mixer format.
+     *
+     * @param file
+     *            Bytes of a WAV file, or any format the sound system reads.
+     * @return The decoded sound.
+     */
+    public static PcmSample decode(final byte[] file) throws IOException, UnsupportedAudioFileException {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(new ByteArrayInputStream(file))) {
+            AudioFormat format = source.getFormat();
+            AudioInputStream pcm = source;
+            if (format.getEncoding() != AudioFormat.Encoding.PCM_SIGNED
+                    || format.getSampleSizeInBits() != 16 || format.isBigEndian()) {
+                AudioFormat target = new AudioFormat(format.getSampleRate(), 16,
+                        format.getChannels(), true, false);
+                pcm = AudioSystem.getAudioInputStream(target, source);
+            }
+            byte[] bytes = pcm.readAllBytes();
+            int channels = pcm.getFormat().getChannels();
+            return new PcmSample(resample(toStereo(bytes, channels), pcm.getFormat().getSampleRate()));
+        }
+    }
+
+    /**
+     * Reads little-endian 16 bit samples into interleaved stereo, keeping
+     * the first two channels or doubling a single one.
+     */
+    static short[] toStereo(final byte[] bytes, final int channels) {
+        int frames = bytes.length / (2 * channels);
+        short[] stereo = new short[frames * 2];
+        for (int frame = 0; frame < frames; frame++) {
+            int offset = frame * 2 * channels;
+            short left = (short) ((bytes[offset] & 0xFF) | bytes[offset + 1] << 8);
+            short right = left;
+            if (channels > 1) {
+                right = (short) ((bytes[offset + 2] & 0xFF) | bytes[offset + 3] << 8);
+            }
+            stereo[frame * 2] = left;
+            stereo[frame * 2 + 1] = right;
+        }
+        return stereo;
+    }
+
+    /**
+     * Converts interleaved stereo samples to the mixer rate by linear
+     * interpolation, returning them unchanged if the rates already match.
+     */
+    static short[] resample(final short[] stereo, final float sampleRate) {
+        if (sampleRate == AudioMixer.SAMPLE_RATE || stereo.length == 0) return stereo;
+        int sourceFrames = stereo.length / 2;
+        double step = sampleRate / AudioMixer.SAMPLE_RATE;
+        int frames = (int) Math.round(sourceFrames / step);
+        short[] resampled = new short[frames * 2];
+        for (int frame = 0; frame < frames; frame++) {
+            double position = frame * step;
+            int index = (int) position;
+            int next = Math.min(index + 1, sourceFrames - 1);
+            double weight = position - index;
+            for (int channel = 0; channel < 2; channel++) {
+                double a = stereo[index * 2 + channel];
+                double b = stereo[next * 2 + channel];
+                resampled[frame * 2 + channel] = (short) Math.round(a + (b - a) * weight);
+            }
+        }
+        return resampled;
+    }
+
+    /** Interleaved left and right samples, not to be changed. */
+    short[] data() {
+        return data;
+    }
+
+    /** Number of stereo frames. */
+    public int frames() {
+        return data.length / 2;
+    }
+}
@@ -1,115 +1,192 @@
 package audio;
 
-import javax.sound.sampled.*;
+import engine.core.AssetLoader;
+
+import javax.sound.sampled.LineUnavailableException;
 import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Plays the sound effects and music of the game on one {@link AudioMixer}.
+ * Every sound file is decoded once and kept; playing it only claims a
+ * voice of the mixer, which writes all voices to a single output line.
+ * Without a sound card the mixer writes to a null sink instead, so the
+ * game runs the same, silently. Music is not decoded but streamed from
+ * its file, and crossfades from one track to the next.
+ *
+ * None of the methods wait for the sound: they post a command to the
+ * audio thread and return, so the game loop never blocks on audio.
+ */
 public class SoundManager {
-    private static final Map<String, Clip> CACHE = new ConcurrentHashMap<>();
-    private static final Map<String, byte[]> AUDIO_CACHE = new HashMap<>();
+    /** Decoded sounds, {@link PcmSample#EMPTY} for files that could not be read. */
+    private static final Map<String, PcmSample> SAMPLES = new ConcurrentHashMap<>();
+    /** Directory of the sound files, listed for preloading. */
+    private static final String SFX_DIR = "res/sfx";
     private static volatile boolean muted = false;  // global state of sound
+    /**
+     * True once the mixer was started. Until then nothing plays, so stopping
+     * and pausing return at once instead of opening a line, e.g. when muted.
+     */
+    private static volatile boolean started = false;
     private static volatile String currentLooping = null;
-    private static final Map<String, java.util.List<Clip>> PLAY_MAP = new ConcurrentHashMap<>();
-    private static final Map<String, Clip> SINGLE_LOOP_MAP = new ConcurrentHashMap<>();
     private static final int MAX_SIMULTANEOUS = 8;
-    private static final Map<String, List<Clip>> POOL = new ConcurrentHashMap<>();
-    private static final Map<String, Clip> SINGLE_LOOP_CHANNEL_MAP =
-            new ConcurrentHashMap<>();
 
-    public static void play(String resourcePath) {
-        if (muted) return;
+    /** Priorities of the voices, frequent hits are stolen first and loops last. */
+    private static final int PRIORITY_POOLED = 0;
+    private static final int PRIORITY_EFFECT = 1;
+    private static final int PRIORITY_LOOP = 2;
+    /** Voice name prefix of looping sounds; one-shot sounds go by their path. */
+    private static final String LOOP_PREFIX = "loop:";
+
+    /** Length of a music crossfade, half a second. */
+    private static final int MUSIC_FADE_FRAMES = (int) (AudioMixer.SAMPLE_RATE / 2);
+    /** Frames of a prepared track brought into memory ahead, two seconds. */
+    private static final int PREFETCH_FRAMES = (int) (AudioMixer.SAMPLE_RATE * 2);
+    /** Tracks opened ahead by {@link #prepareMusic}, each played once. */
+    private static final Map<String, MusicStream> PREPARED = new ConcurrentHashMap<>();
+    /** Tracks that could not be opened, not tried again. */
+    private static final Set<String> MISSING_MUSIC = ConcurrentHashMap.newKeySet();
+    /** Opens prepared tracks at low priority, away from the game and audio threads. */
+    private static final ExecutorService PREFETCH = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Music prefetch");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    /** Mixer and its commands, started on first use. */
+    private static final class MixerHolder {
+        private static final AudioCommandQueue COMMANDS =
+                new AudioCommandQueue(AudioMixer.COMMAND_CAPACITY, SoundManager::sample, SoundManager::track);
+        private static final AudioMixer MIXER = startMixer(COMMANDS);
+    }
 
+    private static AudioMixer startMixer(final AudioCommandQueue commands) {
+        AudioMixer mixer = new AudioMixer();
+        mixer.setCommands(commands);
         try {
-            byte[] audioData = AUDIO_CACHE.computeIfAbsent(resourcePath, SoundManager::loadAudioData);
-            if (audioData == null) return;
-
-            Clip clip = AudioSystem.getClip();
-            AudioInputStream ais = AudioSystem.getAudioInputStream(new ByteArrayInputStream(audioData));
-            clip.open(ais);
-
-            // PLAY_MAP에 등록
-            PLAY_MAP.computeIfAbsent(resourcePath, k -> new java.util.ArrayList<>()).add(clip);
+            mixer.start(new LineSink());
+        } catch (LineUnavailableException e) {
+            System.err.println("[Sound] No output line, mixing to a null sink -> " + e.getMessage());
+            try {
+                mixer.start(OfflineSink.discarding());
+            } catch (LineUnavailableException impossible) {
+                throw new IllegalStateException(impossible);
+            }
+        }
+        started = true;
+        return mixer;
+    }
 
-            clip.addLineListener(event -> {
-                LineEvent.Type type = event.getType();
-                if (type == LineEvent.Type.STOP || type == LineEvent.Type.CLOSE) {
+    /** Getter for the commands of the mixer, starting it on first use. */
+    private static AudioCommandQueue commands() {
+        return MixerHolder.COMMANDS;
+    }
 
-                    List<Clip> l = PLAY_MAP.get(resourcePath);
-                    if (l != null) {
-                        l.remove(clip);
-                    }
-                    try {
-                        clip.close();
-                    } catch (Exception ignore) {}
+    public static void play(String resourcePath) {
+        if (muted) return;
+        commands().play(resourcePath, resourcePath, PRIORITY_EFFECT, false, AudioCommandQueue.UNLIMITED);
+    }
 
-                    try {
-                        ais.close();
-                    } catch (Exception ignore) {}
-                }
-            });
+    /**
+     * Decodes every sound file into the cache on the asset loader, one
+     * task per file, so the first play of each sound does not touch the disk.
+     * Also opens the output line now rather than on the first sound,
+     * unless the sound is muted.
+     */
+    public static void preload(AssetLoader assets) {
+        if (!muted) commands();
+        File[] files = new File(SFX_DIR).listFiles((dir, name) -> name.endsWith(".wav"));
+        if (files == null) return;
+        for (File file : files) {
+            String resourcePath = "sfx/" + file.getName();
+            assets.submit(resourcePath, AssetLoader.Kind.AUDIO, () -> sample(resourcePath));
+        }
+    }
 
-            clip.start();
+    /**
+     * Getter for a decoded sound, decoding it on first use. Called on the
+     * audio thread for sounds played before they were preloaded.
+     */
+    static PcmSample sample(String resourcePath) {
+        return SAMPLES.computeIfAbsent(resourcePath, SoundManager::loadSample);
+    }
 
+    private static PcmSample loadSample(String resourcePath) {
+        String p = resourcePath.startsWith("/") ? resourcePath : "/" + resourcePath;
+        InputStream is = SoundManager.class.getResourceAsStream(p);
+        if (is == null) {
+            System.err.println("[Sound] Load failed: " + p);
+            return PcmSample.EMPTY;
+        }
+        try (BufferedInputStream bis = new BufferedInputStream(is)) {
+            return PcmSample.decode(bis.readAllBytes());
         } catch (Exception e) {
-            System.err.println("[Sound] Play failed: " + resourcePath + " -> " + e.getMessage());
+            System.err.println("[Sound] Load failed: " + p + " -> " + e);
+            return PcmSample.EMPTY;
         }
     }
 
-    private static byte[] loadAudioData(String resourcePath) {
-        String p = resourcePath.startsWith("/") ? resourcePath : "/" + resourcePath;
-        try (InputStream is = SoundManager.class.getResourceAsStream(p);
-             BufferedInputStream bis = new BufferedInputStream(is)) {
-            return bis.readAllBytes();
+    /**
+     * Getter for the music track of a resource, the prepared one if any.
+     * Called on the audio thread.
+     *
+     * @return The track, null if it cannot be played.
+     */
+    private static MusicStream track(String resourcePath) {
+        MusicStream prepared = PREPARED.remove(resourcePath);
+        if (prepared != null) return prepared;
+        return openTrack(resourcePath);
+    }
+
+    private static MusicStream openTrack(String resourcePath) {
+        if (MISSING_MUSIC.contains(resourcePath)) return null;
+        try {
+            return MusicStream.open(resourcePath);
         } catch (Exception e) {
-            System.err.println("[Sound] Load failed: " + p);
+            System.err.println("[Sound] Load failed: " + resourcePath + " -> " + e);
+            MISSING_MUSIC.add(resourcePath);
             return null;
         }
     }
 
-    private static Clip loadClip(String path) {
-        String p = path.startsWith("/") ? path : "/" + path;
-        try (InputStream raw = SoundManager.class.getResourceAsStream(p)) {
-            if (raw == null) throw new IllegalArgumentException("Resource not found: " + p);
-            try (BufferedInputStream in = new BufferedInputStream(raw);
-                 AudioInputStream ais = AudioSystem.getAudioInputStream(in)) {
-                Clip clip = AudioSystem.getClip();
-                clip.open(ais);
-                return clip;
+    /**
+     * Opens a music track ahead and brings its start into memory on a
+     * background thread, so that playing it later starts at once, e.g.
+     * the next level's music while the shop is open.
+     */
+    public static void prepareMusic(String resourcePath) {
+        if (PREPARED.containsKey(resourcePath) || MISSING_MUSIC.contains(resourcePath)) return;
+        PREFETCH.execute(() -> {
+            MusicStream track = openTrack(resourcePath);
+            if (track != null) {
+                track.prefetch(PREFETCH_FRAMES);
+                PREPARED.put(resourcePath, track);
             }
-        } catch (Exception e) {
-            System.err.println("[Sound] Load failed: " + p + " -> " + e);
-            return null;
-        }
+        });
     }
 
+    /** Path of the music of a level. */
+    public static String levelMusic(int level) {
+        return "sfx/level" + level + ".wav";
+    }
 
+    /** Plays a music track in a loop, crossfading from the current one. */
     public static void playLoop(String resourcePath) {
         if (muted) return;  // no sound played
-        try {
-            Clip c = CACHE.computeIfAbsent(resourcePath, SoundManager::loadClip);
-            if (c == null) return;
-            c.setFramePosition(0);
-            c.loop(Clip.LOOP_CONTINUOUSLY);
-            c.start();
-            currentLooping = resourcePath;  // useful for unmute
-        } catch (Exception e) {
-            System.err.println("[Sound] Loop failed: " + resourcePath + " -> " + e.getMessage());
-        }
+        commands().playMusic(resourcePath, MUSIC_FADE_FRAMES);
+        currentLooping = resourcePath;  // useful for unmute
     }
 
     public static void cutBGM() {
         muted = true;
-        if (currentLooping != null) {
-            Clip c = CACHE.get(currentLooping);
-            c.stop();
-            setVolume(c, -80.0f);
-        }
+        if (started) commands().setMusicPaused(true);
         System.out.println("[Sound] Global sound muted.");
     }
 
@@ -118,198 +195,72 @@ public class SoundManager {
         System.out.println("[Sound] Global sound unmuted");
         System.out.println("[Sound] current looping : " + currentLooping);
 
+        commands().setMusicPaused(false);
         if (currentLooping != null) {
-            Clip c = CACHE.get(currentLooping);
-            c.start();
-            setVolume(c, 0.0f);
-            c.loop(Clip.LOOP_CONTINUOUSLY);
+            // Keeps the resumed music, or starts it over if it was stopped meanwhile.
+            commands().playMusic(currentLooping, MUSIC_FADE_FRAMES);
         }
     }
 
+    /** Stops every instance of a one-shot sound, pooled or not. */
     public static void stop(String resourcePath) {
-        try {
-            java.util.List<Clip> list = PLAY_MAP.get(resourcePath);
-            if (list == null) return;
-
-            for (Clip c : list) {
-                if (c != null) {
-                    c.stop();
-                    c.flush();
-                    c.setFramePosition(0);
-                }
-            }
-
-            list.clear();
-
-        } catch (Exception e) {
-            System.err.println("[Sound] Stop failed: " + resourcePath + " -> " + e.getMessage());
-        }
+        if (!started) return;
+        commands().stop(resourcePath);
     }
 
-
+    /** Fades out the music. */
     public static void stopAll() {
-        for (Clip c : CACHE.values()) {
-            if (c.isRunning()) c.stop();
-        }
+        if (!started) return;
+        commands().stopMusic(MUSIC_FADE_FRAMES);
     }
 
+	/**
+	 * Stops every sound and fades out the music, so the next track
+	 * crossfades from it; the decoded sounds are kept for the next screen.
+	 */
 	public static void disposeAll(){
-		// 1) BGM in CACHE
-		for (Clip c : CACHE.values()) {
-			closeClipSafely(c, false);
-		}
-		CACHE.clear();
-
-		// 2) SINGLE_LOOP_MAP
-		for (Clip c : SINGLE_LOOP_MAP.values()) {
-			closeClipSafely(c, true);
-		}
-		SINGLE_LOOP_MAP.clear();
-
-		// 3) SINGLE_LOOP_CHANNEL_MAP
-		for (Clip c : SINGLE_LOOP_CHANNEL_MAP.values()) {
-			closeClipSafely(c, true);
-		}
-		SINGLE_LOOP_CHANNEL_MAP.clear();
-
-		// 4) PLAY_MAP (use snapshot to avoid ConcurrentModificationException)
-		for (List<Clip> list : PLAY_MAP.values()) {
-			if (list == null) continue;
-			List<Clip> snapshot = new ArrayList<>(list); // copy first
-			list.clear();                                // detach all
-			for (Clip c : snapshot) {
-				closeClipSafely(c, true);
-			}
-		}
-		PLAY_MAP.clear();
-
-		// 5) POOL
-		for (List<Clip> list : POOL.values()) {
-			if (list == null) continue;
-			List<Clip> snapshot = new ArrayList<>(list);
-			list.clear();
-			for (Clip c : snapshot) {
-				closeClipSafely(c, true);
-			}
-		}
-		POOL.clear();
+		if (!started) return;
+		commands().stopAll();
+		commands().stopMusic(MUSIC_FADE_FRAMES);
 	}
 
-	/** Stop and close the given clip safely. */
-	private static void closeClipSafely(Clip c, boolean flushBeforeClose) {
-		if (c == null) return;
-		try { if (c.isRunning()) c.stop(); } catch (Exception ignored) {}
-		try { if (flushBeforeClose) c.flush(); } catch (Exception ignored) {}
-		try { c.close(); } catch (Exception ignored) {}
-	}
-
-    public static void setVolume(Clip clip, float dB) {
-        try {
-            FloatControl gain = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-            gain.setValue(dB);
-        }
-        catch (Exception e) {
-            System.err.println("[Sound] Volume control failed: " + e.getMessage());
-        }
+    /**
+     * Silences every sound without touching the current BGM state,
+     * used when the game runs without an audio device. While muted and
+     * before any sound played, no output line is opened.
+     */
+    public static void setMuted(boolean value) {
+        muted = value;
     }
 
     public static boolean isCurrentLoop(String path) {
         return currentLooping != null && currentLooping.equals(path);
     }
+
     public static void playSingleLoop(String path) {
         if (muted) return;
-
-        try {
-            Clip c = SINGLE_LOOP_MAP.get(path);
-
-            if (c == null) {
-                c = loadClip(path);
-                if (c == null) return;
-                SINGLE_LOOP_MAP.put(path, c);
-            }
-
-            if (!c.isRunning()) {
-                c.setFramePosition(0);
-                c.loop(Clip.LOOP_CONTINUOUSLY);
-                c.start();
-            }
-
-        } catch (Exception e) {
-            System.err.println("[Sound] playSingleLoop fail: " + e);
-        }
+        commands().play(path, LOOP_PREFIX + path, PRIORITY_LOOP, true, 1);
     }
 
     public static void stopSingleLoop(String path) {
-        Clip c = SINGLE_LOOP_MAP.get(path);
-        if (c != null && c.isRunning()) {
-            c.stop();
-            c.flush();
-            c.setFramePosition(0);
-        }
+        if (!started) return;
+        commands().stop(LOOP_PREFIX + path);
     }
+
+    /** Plays a one-shot sound unless {@value #MAX_SIMULTANEOUS} of it are already playing. */
     public static void playPooled(String path) {
         if (muted) return;
-
-        try {
-            List<Clip> list = POOL.computeIfAbsent(path, k -> new java.util.ArrayList<>());
-            Clip target = null;
-            for (Clip c : list) {
-                if (!c.isRunning()) {
-                    target = c;
-                    break;
-                }
-            }
-            if (target == null && list.size() < MAX_SIMULTANEOUS) {
-                target = loadClip(path);
-                if (target != null) list.add(target);
-            }
-
-            if (target != null) {
-                target.setFramePosition(0);
-                target.start();
-            }
-
-        } catch (Exception e) {
-            System.err.println("[Sound] playPooled fail : " + e);
-        }
+        commands().play(path, path, PRIORITY_POOLED, false, MAX_SIMULTANEOUS);
     }
+
     public static void playSingleLoopChannel(String path, String channel) {
         if (muted) return;
-
-        try {
-            String key = path + "#" + channel;
-
-            Clip c = SINGLE_LOOP_CHANNEL_MAP.get(key);
-
-            if (c == null) {
-                c = loadClip(path);
-                if (c == null) return;
-
-                SINGLE_LOOP_CHANNEL_MAP.put(key, c);
-            }
-
-            if (!c.isRunning()) {
-                c.setFramePosition(0);
-                c.loop(Clip.LOOP_CONTINUOUSLY);
-                c.start();
-            }
-
-        } catch (Exception e) {
-            System.err.println("[Sound] playSingleLoopChannel fail: " + e);
-        }
+        commands().play(path, LOOP_PREFIX + path + "#" + channel, PRIORITY_LOOP, true, 1);
     }
 
     public static void stopSingleLoopChannel(String path, String channel) {
-
-        String key = path + "#" + channel;
-
-        Clip c = SINGLE_LOOP_CHANNEL_MAP.get(key);
-
-        if (c != null && c.isRunning()) {
-            c.stop();
-            c.flush();
-            c.setFramePosition(0);
-        }
+        if (!started) return;
+        commands().stop(LOOP_PREFIX + path + "#" + channel);
     }
 
 }
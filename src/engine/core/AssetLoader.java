@@ -0,0 +1,217 @@
+package engine.core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Decodes the game assets in parallel at startup.
+ * Images, fonts and audio are submitted as named tasks to a bounded pool
+ * while the main thread shows a loading splash from {@link #getProgress()}.
+ * Every task records how long it took, which thread ran it and whether it
+ * failed, so the slow assets of a cold start can be read from the report.
+ *
+ * Setting the system property {@value #REPORT_PROPERTY} to a file name
+ * also writes the report to that file.
+ */
+public final class AssetLoader {
+
+	/** Kinds of assets, as shown in the report. */
+	public enum Kind {
+		IMAGE,
+		FONT,
+		AUDIO
+	}
+
+	/** Default number of decoding threads. */
+	public static final int DEFAULT_THREADS =
+			Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+	/** System property naming the file to write the load-time report to. */
+	public static final String REPORT_PROPERTY = "invaders.assets.report";
+
+	/** Load time of a single asset. */
+	private static final class Timing {
+		private final String name;
+		private final Kind kind;
+		private final long nanos;
+		private final String thread;
+		private final boolean failed;
+
+		private Timing(final String name, final Kind kind, final long nanos, final String thread,
+				final boolean failed) {
+			this.name = name;
+			this.kind = kind;
+			this.nanos = nanos;
+			this.thread = thread;
+			this.failed = failed;
+		}
+	}
+
+	/** Application logger. */
+	private static final Logger LOGGER = Core.getLogger();
+
+	/** Pool the assets are decoded on. */
+	private final ExecutorService executor;
+	/** Number of submitted tasks. */
+	private final AtomicInteger submitted = new AtomicInteger();
+	/** Number of finished tasks, failed ones included. */
+	private final AtomicInteger completed = new AtomicInteger();
+	/** Timings of the finished tasks. */
+	private final Queue<Timing> timings = new ConcurrentLinkedQueue<>();
+	/** Creation time of the loader. */
+	private final long startNanos = System.nanoTime();
+
+	/**
+	 * Constructor, starts an idle pool.
+	 *
+	 * @param threads
+	 *            Number of decoding threads.
+	 */
+	public AssetLoader(final int threads) {
+		AtomicInteger number = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+			Thread thread = new Thread(runnable, "AssetLoader-" + number.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Schedules the loading of an asset.
+	 *
+	 * @param name
+	 *            Name of the asset in the report.
+	 * @param kind
+	 *            Kind of the asset.
+	 * @param task
+	 *            Loads the asset.
+	 * @return Pending result of the task.
+	 */
+	public <T> Future<T> submit(final String name, final Kind kind, final Callable<T> task) {
+		this.submitted.incrementAndGet();
+		return this.executor.submit(() -> {
+			long start = System.nanoTime();
+			boolean failed = true;
+			try {
+				T result = task.call();
+				failed = false;
+				return result;
+			} finally {
+				this.timings.add(new Timing(name, kind, System.nanoTime() - start,
+						Thread.currentThread().getName(), failed));
+				this.completed.incrementAndGet();
+			}
+		});
+	}
+
+	/**
+	 * Waits for an asset, logging instead of throwing if it failed.
+	 *
+	 * @param future
+	 *            Pending asset, as returned by submit.
+	 * @param name
+	 *            Name of the asset in the log.
+	 * @return The asset, null if it could not be loaded.
+	 */
+	public static <T> T await(final Future<T> future, final String name) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			LOGGER.warning("[AssetLoader] Failed to load " + name + ": " + e.getCause());
+		}
+		return null;
+	}
+
+	public int getSubmitted() {
+		return this.submitted.get();
+	}
+
+	public int getCompleted() {
+		return this.completed.get();
+	}
+
+	/**
+	 * Getter for the loading progress.
+	 *
+	 * @return Share of the submitted tasks that finished, 1 if none is left.
+	 */
+	public float getProgress() {
+		int total = this.submitted.get();
+		return total == 0 ? 1f : Math.min(1f, (float) this.completed.get() / total);
+	}
+
+	/**
+	 * Checks whether every submitted task finished.
+	 *
+	 * @return True when nothing is left to load.
+	 */
+	public boolean isDone() {
+		return this.completed.get() >= this.submitted.get();
+	}
+
+	/**
+	 * Stops the pool once the submitted tasks finished.
+	 */
+	public void shutdown() {
+		this.executor.shutdown();
+	}
+
+	/**
+	 * Builds the load-time report: one line per asset, slowest first,
+	 * followed by the wall time since the loader was created and the sum of
+	 * the asset times.
+	 *
+	 * @return Report lines.
+	 */
+	public List<String> report() {
+		List<Timing> sorted = new ArrayList<>(this.timings);
+		sorted.sort((a, b) -> Long.compare(b.nanos, a.nanos));
+
+		List<String> lines = new ArrayList<>(sorted.size() + 2);
+		long sum = 0;
+		for (Timing timing : sorted) {
+			sum += timing.nanos;
+			lines.add(String.format(Locale.ROOT, "%8.2f ms  %-5s  %-14s  %s%s", timing.nanos / 1e6,
+					timing.kind, timing.thread, timing.name, timing.failed ? "  (failed)" : ""));
+		}
+		lines.add(String.format(Locale.ROOT, "%d assets in %.2f ms wall time, %.2f ms decoding",
+				sorted.size(), (System.nanoTime() - this.startNanos) / 1e6, sum / 1e6));
+		return lines;
+	}
+
+	/**
+	 * Logs the report, and writes it to the file named by
+	 * {@value #REPORT_PROPERTY} if set.
+	 */
+	public void logReport() {
+		List<String> lines = report();
+		LOGGER.info("[AssetLoader] " + lines.get(lines.size() - 1));
+		for (String line : lines.subList(0, lines.size() - 1)) {
+			LOGGER.fine("[AssetLoader] " + line);
+		}
+
+		String reportFile = System.getProperty(REPORT_PROPERTY);
+		if (reportFile != null && !reportFile.isEmpty()) {
+			try {
+				Files.write(Path.of(reportFile), lines, StandardCharsets.UTF_8);
+			} catch (IOException e) {
+				LOGGER.warning("[AssetLoader] Could not write the report: " + e.getMessage());
+			}
+		}
+	}
+}
@@ -2,6 +2,7 @@ package engine.core;
 
 /**
  * Imposes a cooldown period between two actions.
+ * Time is read from the {@link SimulationClock}.
  * 
  * @author <a href="mailto:RobertoIA1987@gmail.com">Roberto Izquierdo Amo</a>
  * 
@@ -54,7 +55,7 @@ public class Cooldown {
 	 */
 	public final boolean checkFinished() {
 		if ((this.time == 0)
-				|| this.time + this.duration < System.currentTimeMillis())
+				|| this.time + this.duration < SimulationClock.currentTimeMillis())
 			return true;
 		return false;
 	}
@@ -63,7 +64,7 @@ public class Cooldown {
 	 * Restarts the cooldown.
 	 */
 	public final void reset() {
-		this.time = System.currentTimeMillis();
+		this.time = SimulationClock.currentTimeMillis();
 		if (this.variance != 0)
 			this.duration = (this.milliseconds - this.variance)
 					+ (int) (Math.random()
@@ -86,7 +87,7 @@ public class Cooldown {
     public final long getRemaining() {
         if (this.time == 0)
             return 0;
-        long remaining = (this.time + this.duration) - System.currentTimeMillis();
+        long remaining = (this.time + this.duration) - SimulationClock.currentTimeMillis();
         return Math.max(0, remaining);
     }
     public final int getTotal() {
@@ -3,6 +3,7 @@ package engine.core;
 import audio.SoundManager;
 
 import java.awt.*;
+import java.io.IOException;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
 import java.util.logging.Handler;
@@ -10,6 +11,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import engine.view.DrawManager;
+import entity.item.ShopItem;
 import entity.level.LevelManager;
 import entity.GameConstant;
 import screen.*;
@@ -31,6 +33,8 @@ public final class Core {
     private static final int MAX_LIVES = 7;
     /** Levels between extra life. */
     private static final int EXTRA_LIFE_FRECUENCY = 3;
+    /** System property resuming the game saved between levels instead of starting a new one. */
+    public static final String RESUME_PROPERTY = "invaders.resume";
 
     /** Frame to draw the screen on. */
     private static engine.core.Frame frame;
@@ -79,6 +83,10 @@ public final class Core {
         double scaleX = (double) FRAME_WIDTH_TOTAL / 1228.0;
         double scaleY = (double) FRAME_HEIGHT_TOTAL / 777.0;
 
+        // Assets decode in the background while the window opens, then behind the loading splash.
+        AssetLoader assets = new AssetLoader(AssetLoader.DEFAULT_THREADS);
+        SoundManager.preload(assets);
+        DrawManager.getInstance().loadAssets(assets);
         DrawManager.getInstance().setScale(scaleX, scaleY);
 
         frame = new Frame(FRAME_WIDTH_TOTAL, FRAME_HEIGHT_TOTAL);
@@ -86,9 +94,13 @@ public final class Core {
         FRAME_WIDTH = frame.getWidth();
         FRAME_HEIGHT = frame.getHeight();
         GameConstant.initialize(FRAME_WIDTH, FRAME_HEIGHT);
+        showLoading(assets);
 
         levelManager = new LevelManager();
-        GameState gameState = new GameState(1, 0, 0, 0, MAX_LIVES, MAX_LIVES, 0, 0,0);
+        GameState gameState = resumeSavedGame();
+        if (gameState == null) {
+            gameState = new GameState(1, 0, 0, 0, MAX_LIVES, MAX_LIVES, 0, 0,0);
+        }
 
         if (GameConstant.isTest){
             while (true) {
@@ -120,7 +132,7 @@ public final class Core {
 
                         // Music for each level
                         SoundManager.disposeAll();
-                        SoundManager.playLoop("sfx/level" + gameState.getLevel() + ".wav");
+                        SoundManager.playLoop(SoundManager.levelMusic(gameState.getLevel()));
 
                         entity.level.Level currentLevel = levelManager.getLevel(gameState.getLevel());
 
@@ -161,12 +173,14 @@ public final class Core {
                             LOGGER.info("Closing shop screen.");
 
                             gameState.setLevel(gameState.getLevel() + 1);
+                            getFileManager().saveGame(gameState);
                         }
                         // Loop while player still has lives and levels remaining
                     } while (gameState.getLivesRemaining() > 0 || gameState.getLivesRemainingP2() > 0);
 
                     SoundManager.disposeAll();
                     SoundManager.play("sfx/gameover.wav");
+                    getFileManager().deleteSavedGame();
 
                     LOGGER.info("Starting " + Core.FRAME_WIDTH + "x" + Core.FRAME_HEIGHT
                             + " score screen at " + GameConstant.FPS + " fps, with a score of "
@@ -229,6 +243,26 @@ public final class Core {
         System.exit(0);
     }
 
+    /**
+     * Resumes the game saved between levels, with its shop upgrades, if
+     * {@value #RESUME_PROPERTY} is set.
+     *
+     * @return State of the saved game, null to start a new one.
+     */
+    private static GameState resumeSavedGame() {
+        if (!Boolean.getBoolean(RESUME_PROPERTY)) return null;
+        try {
+            GameSnapshot saved = getFileManager().loadGame();
+            if (saved == null) return null;
+            ShopItem.setLevels(saved.getUpgradeLevels());
+            LOGGER.info("Resuming the game saved before level " + saved.getLevel() + ".");
+            return saved.toGameState();
+        } catch (IOException e) {
+            LOGGER.warning("Couldn't resume the saved game: " + e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Constructor, not called.
      */
@@ -236,6 +270,30 @@ public final class Core {
 
     }
 
+    /**
+     * Shows the loading splash until every asset is decoded, then collects
+     * them and logs the load-time report.
+     *
+     * @param assets
+     *            Loader the assets are decoded on.
+     */
+    private static void showLoading(final AssetLoader assets) {
+        DrawManager drawManager = DrawManager.getInstance();
+        while (!assets.isDone()) {
+            drawManager.drawLoading(FRAME_WIDTH, FRAME_HEIGHT, assets.getProgress());
+            try {
+                Thread.sleep(1000 / GameConstant.FPS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        drawManager.drawLoading(FRAME_WIDTH, FRAME_HEIGHT, 1f);
+        drawManager.awaitAssets();
+        assets.shutdown();
+        assets.logReport();
+    }
+
     /**
      * Controls access to the logger.
      *
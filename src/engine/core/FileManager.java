@@ -2,22 +2,27 @@ package engine.core;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.net.URLDecoder;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.logging.Logger;
@@ -25,11 +30,15 @@ import java.util.logging.Logger;
 import engine.view.Score;
 import engine.view.DrawManager.SpriteType;
 import entity.achievement.Achievement;
+import entity.item.ShopItem;
 
 import javax.imageio.ImageIO;
+import javax.imageio.stream.MemoryCacheImageInputStream;
 
 /**
- * Manages files used in the application.
+ * Manages files used in the application. Save files are written in the
+ * background by the {@link SaveService}, and read back from it while
+ * their last contents are not on disk yet.
  * 
  * @author <a href="mailto:RobertoIA1987@gmail.com">Roberto Izquierdo Amo</a>
  * 
@@ -42,6 +51,16 @@ public final class FileManager {
 	private static Logger logger;
 	/** Max number of high scores. */
 	private static final int MAX_SCORES = 7;
+	/** File of the achievement unlock status, in the working directory. */
+	private static final String ACHIEVEMENTS_FILE = "achievements.dat";
+	/** File of the game saved between levels, in the working directory. */
+	private static final String SAVED_GAME_FILE = "savegame.dat";
+	/** Classpath location of the packed sprite atlas made by the packSprites task. */
+	private static final String SPRITE_ATLAS_IMAGE = "atlas/sprites.png";
+	/** Classpath location of the index of the packed sprite atlas. */
+	private static final String SPRITE_ATLAS_INDEX = "atlas/sprites.idx";
+	/** Font file decoded once, every size is derived from it. */
+	private volatile Font baseFont;
 
 	/**
 	 * private constructor.
@@ -71,30 +90,120 @@ public final class FileManager {
 	 *             In case of loading problems.
 	 */
     public void loadSprite(final Map<SpriteType, BufferedImage> spriteMap) throws IOException {
-
-        File dir = new File("res/images");
-        File[] files = dir.listFiles((d, name) -> name.endsWith(".png"));
-
-        if (files == null) return;
-
-        for (File file : files) {
+        for (Map.Entry<SpriteType, File> sprite : listSprites().entrySet()) {
+            if (spriteMap.containsKey(sprite.getKey())) continue;
             try {
-                BufferedImage img = ImageIO.read(file);
-                String fileName = file.getName().replace(".png", "");
-                for (SpriteType type : SpriteType.values()) {
-                    if (type.name().equalsIgnoreCase(fileName)) {
-                        spriteMap.put(type, img);
-                        break;
-                    }
-                }
+                spriteMap.put(sprite.getKey(), ImageIO.read(sprite.getValue()));
             } catch (IOException e) {
-                logger.warning("Failed to load sprite " + file.getName() + ": " + e.getMessage());
+                logger.warning("Failed to load sprite " + sprite.getValue().getName() + ": " + e.getMessage());
             }
         }
     }
 
 	/**
-	 * Loads a font of a given size.
+	 * Lists the sprite files on disk, without decoding them.
+	 *
+	 * @return Sprite files by the type named after them, empty if there is
+	 *         no sprite directory.
+	 */
+	public Map<SpriteType, File> listSprites() {
+		File dir = new File("res/images");
+		File[] files = dir.listFiles((d, name) -> name.endsWith(".png"));
+		Map<SpriteType, File> sprites = new HashMap<>();
+		if (files == null) return sprites;
+
+		Map<String, SpriteType> types = new HashMap<>();
+		for (SpriteType type : SpriteType.values()) {
+			types.put(type.name().toLowerCase(Locale.ROOT), type);
+		}
+		for (File file : files) {
+			SpriteType type = types.get(file.getName().replace(".png", "").toLowerCase(Locale.ROOT));
+			if (type != null) sprites.put(type, file);
+		}
+		return sprites;
+	}
+
+	/**
+	 * Loads sprites from the packed atlas, if the build produced one.
+	 * The atlas image is decoded once and every sprite is a sub-image of
+	 * it, looked up by the ordinal stored in the index.
+	 *
+	 * @param spriteMap
+	 *            Receives the packed sprites.
+	 * @return False if there is no packed atlas on the classpath.
+	 * @throws IOException
+	 *             In case of loading problems.
+	 */
+	public boolean loadSpriteAtlas(final Map<SpriteType, BufferedImage> spriteMap) throws IOException {
+		Map<SpriteType, Rectangle> index = loadSpriteAtlasIndex();
+		if (index.isEmpty()) return false;
+		BufferedImage atlas = loadSpriteAtlasImage();
+		if (atlas == null) return false;
+
+		for (Map.Entry<SpriteType, Rectangle> sprite : index.entrySet()) {
+			Rectangle r = sprite.getValue();
+			spriteMap.put(sprite.getKey(), atlas.getSubimage(r.x, r.y, r.width, r.height));
+		}
+		logger.info("Loaded " + index.size() + " sprites from the packed atlas.");
+		return true;
+	}
+
+	/**
+	 * Reads the index of the packed atlas, without decoding the atlas.
+	 *
+	 * @return Place of each packed sprite in the atlas, empty if there is no
+	 *         packed atlas on the classpath.
+	 * @throws IOException
+	 *             In case of loading problems.
+	 */
+	public Map<SpriteType, Rectangle> loadSpriteAtlasIndex() throws IOException {
+		Map<SpriteType, Rectangle> index = new HashMap<>();
+		InputStream indexStream = FileManager.class.getClassLoader().getResourceAsStream(SPRITE_ATLAS_INDEX);
+		if (indexStream == null) return index;
+
+		SpriteType[] types = SpriteType.values();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(indexStream, Charset.forName("UTF-8")))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isEmpty() || line.startsWith("#")) continue;
+				String[] fields = line.trim().split(" ");
+				int ordinal = Integer.parseInt(fields[0]);
+				// An atlas from an older build may have other ordinals; the name settles it.
+				SpriteType type = ordinal < types.length && types[ordinal].name().equals(fields[1])
+						? types[ordinal] : findSpriteType(fields[1]);
+				if (type == null) continue;
+				index.put(type, new Rectangle(Integer.parseInt(fields[2]), Integer.parseInt(fields[3]),
+						Integer.parseInt(fields[4]), Integer.parseInt(fields[5])));
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Decodes the packed atlas image.
+	 *
+	 * @return Atlas image, null if there is no packed atlas on the classpath.
+	 * @throws IOException
+	 *             In case of loading problems.
+	 */
+	public BufferedImage loadSpriteAtlasImage() throws IOException {
+		try (InputStream imageStream = FileManager.class.getClassLoader().getResourceAsStream(SPRITE_ATLAS_IMAGE)) {
+			if (imageStream == null) return null;
+			// Decoded from memory, ImageIO would otherwise spool the stream to a temporary file first.
+			return ImageIO.read(new MemoryCacheImageInputStream(new BufferedInputStream(imageStream)));
+		}
+	}
+
+	private static SpriteType findSpriteType(final String name) {
+		for (SpriteType type : SpriteType.values()) {
+			if (type.name().equals(name)) return type;
+		}
+		return null;
+	}
+
+	/**
+	 * Loads a font of a given size. The font file is only decoded the
+	 * first time, later sizes are derived from it.
 	 * 
 	 * @param size
 	 *            Point size of the font.
@@ -106,21 +215,22 @@ public final class FileManager {
 	 */
 	public Font loadFont(final float size) throws IOException,
 			FontFormatException {
-		InputStream inputStream = null;
-		Font font;
-
-		try {
-			// Font loading.
-			inputStream = FileManager.class.getClassLoader()
-					.getResourceAsStream("font.ttf");
-			font = Font.createFont(Font.TRUETYPE_FONT, inputStream).deriveFont(
-					size);
-		} finally {
-			if (inputStream != null)
-				inputStream.close();
+		Font font = baseFont;
+		if (font == null) {
+			InputStream inputStream = null;
+			try {
+				// Font loading.
+				inputStream = FileManager.class.getClassLoader()
+						.getResourceAsStream("font.ttf");
+				font = Font.createFont(Font.TRUETYPE_FONT, inputStream);
+			} finally {
+				if (inputStream != null)
+					inputStream.close();
+			}
+			baseFont = font;
 		}
 
-		return font;
+		return font.deriveFont(size);
 	}
 
 	/**
@@ -174,16 +284,9 @@ public final class FileManager {
 		BufferedReader bufferedReader = null;
 
 		try {
-			String jarPath = FileManager.class.getProtectionDomain()
-					.getCodeSource().getLocation().getPath();
-			jarPath = URLDecoder.decode(jarPath, "UTF-8");
-
-			String scoresPath = new File(jarPath).getParent();
-			scoresPath += File.separator;
-			scoresPath += "scores";
-
-			File scoresFile = new File(scoresPath);
-			inputStream = new FileInputStream(scoresFile);
+			File scoresFile = getScoresFile();
+			byte[] pending = SaveService.getInstance().getPending(scoresFile.toPath());
+			inputStream = pending != null ? new ByteArrayInputStream(pending) : new FileInputStream(scoresFile);
 			bufferedReader = new BufferedReader(new InputStreamReader(
 					inputStream, Charset.forName("UTF-8")));
 
@@ -214,7 +317,26 @@ public final class FileManager {
 	}
 
 	/**
-	 * Saves user high scores to disk.
+	 * Returns the user high scores file, next to the application jar.
+	 *
+	 * @return High scores file.
+	 * @throws IOException
+	 *             In case the jar path cannot be read.
+	 */
+	private File getScoresFile() throws IOException {
+		String jarPath = FileManager.class.getProtectionDomain()
+				.getCodeSource().getLocation().getPath();
+		jarPath = URLDecoder.decode(jarPath, "UTF-8");
+
+		String scoresPath = new File(jarPath).getParent();
+		scoresPath += File.separator;
+		scoresPath += "scores";
+
+		return new File(scoresPath);
+	}
+
+	/**
+	 * Saves user high scores to disk, in the background.
 	 * 
 	 * @param highScores
 	 *            High scores to save.
@@ -223,24 +345,12 @@ public final class FileManager {
 	 */
 	public void saveHighScores(final List<Score> highScores) 
 			throws IOException {
-		OutputStream outputStream = null;
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 		BufferedWriter bufferedWriter = null;
 
 		try {
-			String jarPath = FileManager.class.getProtectionDomain()
-					.getCodeSource().getLocation().getPath();
-			jarPath = URLDecoder.decode(jarPath, "UTF-8");
-
-			String scoresPath = new File(jarPath).getParent();
-			scoresPath += File.separator;
-			scoresPath += "scores";
-
-			File scoresFile = new File(scoresPath);
-
-			if (!scoresFile.exists())
-				scoresFile.createNewFile();
+			File scoresFile = getScoresFile();
 
-			outputStream = new FileOutputStream(scoresFile);
 			bufferedWriter = new BufferedWriter(new OutputStreamWriter(
 					outputStream, Charset.forName("UTF-8")));
 
@@ -257,6 +367,8 @@ public final class FileManager {
 				bufferedWriter.newLine();
 				savedCount++;
 			}
+			bufferedWriter.flush();
+			SaveService.getInstance().write(scoresFile.toPath(), outputStream.toByteArray());
 
 		} finally {
 			if (bufferedWriter != null)
@@ -272,9 +384,11 @@ public final class FileManager {
 	 */
 	public Map<String, Boolean> loadAchievements() throws IOException {
 		Map<String, Boolean> unlockedStatus = new HashMap<>();
-		String path = "achievements.dat";
+		File file = new File(ACHIEVEMENTS_FILE);
+		byte[] pending = SaveService.getInstance().getPending(file.toPath());
 
-		try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(path), "UTF-8"))) {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				pending != null ? new ByteArrayInputStream(pending) : new FileInputStream(file), "UTF-8"))) {
 			logger.info("load saved achieving file");
 			String line;
 			while ((line = reader.readLine()) != null) {
@@ -292,7 +406,9 @@ public final class FileManager {
 		return unlockedStatus;
 	}
 	/**
-	 * Saves current achievements and their unlock status to disk.
+	 * Saves current achievements and their unlock status to disk, in the
+	 * background, so an achievement unlocked during a frame does not wait
+	 * for the disk.
 	 *
 	 * @param achievements
 	 *            List of achievements to save.
@@ -300,17 +416,52 @@ public final class FileManager {
 	 *             In case of saving problems.
 	 */
 	public void saveAchievements(final List<Achievement> achievements) throws IOException {
-		String path = "achievements.dat";
-		try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(path), "UTF-8"))) {
-			logger.info("Saving achievements to file");
-
+		ByteArrayOutputStream contents = new ByteArrayOutputStream();
+		try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(contents, "UTF-8"))) {
+			// Not logged here: the log file is written on the calling thread, the writer logs instead.
 			for (Achievement achievement : achievements) {
 
 				writer.write(achievement.getName() + ":" + achievement.isUnlocked());
 				writer.newLine();
 			}
 		}
+		SaveService.getInstance().write(new File(ACHIEVEMENTS_FILE).toPath(), contents.toByteArray());
 	}
 
+	/**
+	 * Saves the game between levels, with the shop upgrade levels, as a
+	 * {@link GameSnapshot} written in the background.
+	 *
+	 * @param gameState
+	 *            State of the game before its next level.
+	 */
+	public void saveGame(final GameState gameState) {
+		SaveService.getInstance().write(Path.of(SAVED_GAME_FILE),
+				GameSnapshot.encode(gameState, ShopItem.getLevels()));
+	}
 
+	/**
+	 * Loads the game saved between levels, mapping the file.
+	 *
+	 * @return The saved game, null if there is none.
+	 * @throws IOException
+	 *             If the saved game cannot be read or is damaged.
+	 */
+	public GameSnapshot loadGame() throws IOException {
+		Path file = Path.of(SAVED_GAME_FILE);
+		SaveService saves = SaveService.getInstance();
+		if (saves.isDeleted(file)) return null;
+		byte[] pending = saves.getPending(file);
+		if (pending != null) return GameSnapshot.read(ByteBuffer.wrap(pending));
+		if (!Files.exists(file)) return null;
+		// Read whole rather than mapped, so the file can be replaced by the next save.
+		return GameSnapshot.read(ByteBuffer.wrap(Files.readAllBytes(file)));
+	}
+
+	/**
+	 * Deletes the game saved between levels, once it is over.
+	 */
+	public void deleteSavedGame() {
+		SaveService.getInstance().delete(Path.of(SAVED_GAME_FILE));
+	}
 }
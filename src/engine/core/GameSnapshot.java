@@ -0,0 +1,202 @@
+package engine.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * The state of a game between levels, in a compact binary form that can
+ * be saved and resumed: the {@link GameState} and the shop upgrade levels.
+ *
+ * A snapshot of the five shop upgrades is 62 bytes, in big-endian order:
+ * <pre>
+ *  0  int    magic "INVS"
+ *  4  short  format version
+ *  6  short  length of the fields in bytes
+ *  8  int[]  level, score, scoreP1, scoreP2, livesRemaining,
+ *            livesRemainingP2, bulletsShot, shipsKill, coin,
+ *            hittingCnt, deathCnt
+ * 52  byte   number of upgrades
+ * 53  byte[] upgrade levels
+ * 58  int    CRC32 of everything before it
+ * </pre>
+ * Fields are only ever added at the end, so a reader of any version reads
+ * the fields it knows from a newer snapshot, and reads 0 for those an
+ * older snapshot does not have.
+ *
+ * The snapshot reads its fields straight from the buffer it was given,
+ * a mapped file included, without copying them.
+ */
+public final class GameSnapshot {
+
+	/** "INVS". */
+	private static final int MAGIC = 0x494E5653;
+	/** Format version written. */
+	public static final short VERSION = 1;
+	/** Bytes before the fields: magic, version and length. */
+	private static final int HEADER = 8;
+	/** Bytes of the checksum after the fields. */
+	private static final int CHECKSUM = 4;
+
+	/** Order of the int fields. */
+	private static final int LEVEL = 0;
+	private static final int SCORE = 1;
+	private static final int SCORE_P1 = 2;
+	private static final int SCORE_P2 = 3;
+	private static final int LIVES = 4;
+	private static final int LIVES_P2 = 5;
+	private static final int BULLETS_SHOT = 6;
+	private static final int SHIPS_KILL = 7;
+	private static final int COIN = 8;
+	private static final int HITTING_CNT = 9;
+	private static final int DEATH_CNT = 10;
+	private static final int INT_FIELDS = 11;
+	/** Offset of the number of upgrades, from the start of the fields. */
+	private static final int UPGRADES = INT_FIELDS * 4;
+
+	/** Snapshot bytes, from the magic to the checksum. */
+	private final ByteBuffer buffer;
+	/** Length of the fields in bytes. */
+	private final int length;
+
+	private GameSnapshot(final ByteBuffer buffer, final int length) {
+		this.buffer = buffer;
+		this.length = length;
+	}
+
+	/**
+	 * Writes the state of a game into a new snapshot.
+	 *
+	 * @param state
+	 *            State of the game.
+	 * @param upgradeLevels
+	 *            Shop upgrade levels, at most 255 of 0 to 127.
+	 * @return The snapshot bytes.
+	 */
+	public static byte[] encode(final GameState state, final int[] upgradeLevels) {
+		int length = UPGRADES + 1 + upgradeLevels.length;
+		ByteBuffer out = ByteBuffer.allocate(HEADER + length + CHECKSUM);
+		out.putInt(MAGIC).putShort(VERSION).putShort((short) length);
+		out.putInt(state.getLevel())
+				.putInt(state.getScore())
+				.putInt(state.getScoreP1())
+				.putInt(state.getScoreP2())
+				.putInt(state.getLivesRemaining())
+				.putInt(state.getLivesRemainingP2())
+				.putInt(state.getBulletsShot())
+				.putInt(state.getShipsKill())
+				.putInt(state.getCoin())
+				.putInt(state.getHittingCnt())
+				.putInt(state.getDeathCnt());
+		out.put((byte) upgradeLevels.length);
+		for (int level : upgradeLevels) {
+			out.put((byte) level);
+		}
+		out.putInt(checksum(out, HEADER + length));
+		return out.array();
+	}
+
+	/**
+	 * Reads a snapshot from a buffer, checking it first.
+	 *
+	 * @param source
+	 *            Snapshot bytes from its position on; not copied.
+	 * @return The snapshot.
+	 * @throws IOException
+	 *             If the bytes are not a snapshot, are damaged, or come from
+	 *             a version that cannot be read.
+	 */
+	public static GameSnapshot read(final ByteBuffer source) throws IOException {
+		ByteBuffer buffer = source.slice();
+		if (buffer.remaining() < HEADER + CHECKSUM || buffer.getInt(0) != MAGIC) {
+			throw new IOException("Not a saved game");
+		}
+		short version = buffer.getShort(4);
+		if (version < 1) {
+			throw new IOException("Unknown saved game version " + version);
+		}
+		int length = buffer.getShort(6) & 0xFFFF;
+		if (buffer.remaining() < HEADER + length + CHECKSUM) {
+			throw new IOException("Saved game is truncated");
+		}
+		if (buffer.getInt(HEADER + length) != checksum(buffer, HEADER + length)) {
+			throw new IOException("Saved game is damaged");
+		}
+		return new GameSnapshot(buffer, length);
+	}
+
+	/**
+	 * Maps a saved game file and reads the snapshot in it without copying.
+	 * The mapping lasts until the snapshot is collected, and on some systems
+	 * the file cannot be replaced until then, so this is meant for tests and
+	 * benchmarks; the game reads its saved game whole with {@link #read}.
+	 *
+	 * @param file
+	 *            File written from {@link #encode}.
+	 * @return The snapshot.
+	 * @throws IOException
+	 *             If the file cannot be read or holds no valid snapshot.
+	 */
+	public static GameSnapshot map(final Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	/** CRC32 of the first bytes of a buffer, read in place. */
+	private static int checksum(final ByteBuffer buffer, final int end) {
+		CRC32 crc = new CRC32();
+		crc.update(buffer.duplicate().position(0).limit(end));
+		return (int) crc.getValue();
+	}
+
+	/** Int field of the given order, 0 if the snapshot is too old to have it. */
+	private int intField(final int index) {
+		return index * 4 + 4 <= length ? buffer.getInt(HEADER + index * 4) : 0;
+	}
+
+	/** Format version of the snapshot. */
+	public int getVersion() {
+		return buffer.getShort(4);
+	}
+
+	public int getLevel() {
+		return intField(LEVEL);
+	}
+
+	public int getCoin() {
+		return intField(COIN);
+	}
+
+	/**
+	 * Getter for the shop upgrade levels.
+	 *
+	 * @return The levels, in the order they were saved.
+	 */
+	public int[] getUpgradeLevels() {
+		if (UPGRADES >= length) return new int[0];
+		int count = Math.min(buffer.get(HEADER + UPGRADES) & 0xFF, length - UPGRADES - 1);
+		int[] levels = new int[count];
+		for (int i = 0; i < count; i++) {
+			levels[i] = buffer.get(HEADER + UPGRADES + 1 + i);
+		}
+		return levels;
+	}
+
+	/**
+	 * Builds the state of the game saved in the snapshot.
+	 *
+	 * @return A new game state.
+	 */
+	public GameState toGameState() {
+		GameState state = new GameState(intField(LEVEL), intField(SCORE), intField(SCORE_P1),
+				intField(SCORE_P2), intField(LIVES), intField(LIVES_P2), intField(BULLETS_SHOT),
+				intField(SHIPS_KILL), intField(COIN));
+		state.setHittingCnt(intField(HITTING_CNT));
+		state.setDeathCnt(intField(DEATH_CNT));
+		return state;
+	}
+}
@@ -0,0 +1,245 @@
+package engine.core;
+
+import audio.SoundManager;
+import entity.GameConstant;
+import entity.GameModel;
+import entity.bullet.BulletPool;
+import entity.level.Level;
+import entity.level.LevelManager;
+import entity.ship.Ship;
+
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.logging.Logger;
+
+/**
+ * Runs the game logic without a window, audio or input devices.
+ * Builds a GameModel for a level, feeds it scripted or random input and
+ * steps it on the simulation clock as fast as possible, reporting how many
+ * ticks per second the logic sustains.
+ *
+ * Usage: HeadlessRunner [--level N] [--ticks N] [--input random|idle|CMD,CMD,...]
+ *                       [--seed N] [--report N] [--profile FILE.csv] [--verbose]
+ * Script commands are movement directions (e.g. LEFT, RIGHT_UP), FIRE or IDLE;
+ * one command is applied per tick to both players, cycling through the list.
+ * With --profile, the phase timings of every tick are dumped to a CSV file
+ * and their percentiles printed at the end.
+ */
+public final class HeadlessRunner {
+
+    /** Reference screen size the game is designed for. */
+    private static final int SCREEN_WIDTH = 1228;
+    private static final int SCREEN_HEIGHT = 777;
+    /** Max lives, same as Core. */
+    private static final int MAX_LIVES = 7;
+    /** Directions accepted by GameModel.playerMoveOrTeleport. */
+    private static final String[] DIRECTIONS = {
+            "RIGHT_UP", "RIGHT_DOWN", "LEFT_UP", "LEFT_DOWN", "RIGHT", "LEFT", "UP", "DOWN"
+    };
+
+    /** Level played first and after every game over. */
+    private int startLevel = 1;
+    /** Number of ticks to simulate. */
+    private long ticks = 60L * 60 * 5;
+    /** Ticks between progress lines, 0 to disable. */
+    private long reportInterval = 60L * 60;
+    /** Script commands, or null for random input. */
+    private String[] script;
+    /** Source of random input. */
+    private Random random = new Random(0);
+    /** Disables all input. */
+    private boolean idle;
+    /** Keeps the game's own log output. */
+    private boolean verbose;
+    /** Destination of the per-tick profile, or null. */
+    private String profileFile;
+
+    private LevelManager levelManager;
+    private GameState gameState;
+    private GameModel model;
+    /** Levels completed during the run. */
+    private int levelsCompleted;
+    /** Games lost during the run. */
+    private int gameOvers;
+
+    /**
+     * Constructor, not called from outside.
+     */
+    private HeadlessRunner() {
+
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args
+     *            Command line options, see class description.
+     */
+    public static void main(final String[] args) {
+        HeadlessRunner runner = new HeadlessRunner();
+        try {
+            runner.parseArgs(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+        runner.run();
+        System.exit(0);
+    }
+
+    private void parseArgs(final String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--level" -> this.startLevel = Integer.parseInt(value(args, ++i, arg));
+                case "--ticks" -> this.ticks = Long.parseLong(value(args, ++i, arg));
+                case "--report" -> this.reportInterval = Long.parseLong(value(args, ++i, arg));
+                case "--seed" -> this.random = new Random(Long.parseLong(value(args, ++i, arg)));
+                case "--verbose" -> this.verbose = true;
+                case "--profile" -> this.profileFile = value(args, ++i, arg);
+                case "--input" -> {
+                    String input = value(args, ++i, arg);
+                    if ("idle".equalsIgnoreCase(input)) {
+                        this.idle = true;
+                    } else if (!"random".equalsIgnoreCase(input)) {
+                        this.script = input.toUpperCase().split(",");
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+    }
+
+    private static String value(final String[] args, final int index, final String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    /**
+     * Simulates the requested number of ticks and prints the results.
+     */
+    private void run() {
+        Logger logger = Core.getLogger();
+        if (!this.verbose) {
+            logger.setLevel(java.util.logging.Level.WARNING);
+        }
+        SoundManager.setMuted(true);
+        GameConstant.initialize(SCREEN_WIDTH, SCREEN_HEIGHT);
+        this.levelManager = new LevelManager();
+        this.gameState = newGameState();
+        startLevel();
+
+        TickProfiler profiler = TickProfiler.getInstance();
+        if (this.profileFile != null && !profiler.startCsv(Paths.get(this.profileFile))) {
+            System.err.println("Could not write profile to " + this.profileFile);
+        }
+
+        final long tickNanos = SimulationClock.tickNanos(GameConstant.FPS);
+        SimulationClock.takeOwnership();
+
+        long start = System.nanoTime();
+        long lastReport = start;
+        for (long tick = 1; tick <= this.ticks; tick++) {
+            SimulationClock.advance(tickNanos);
+            profiler.beginFrame();
+            step(tick);
+            profiler.endFrame();
+
+            if (this.reportInterval > 0 && tick % this.reportInterval == 0) {
+                long now = System.nanoTime();
+                System.out.printf("tick %d: %.0f ticks/s, level %d, score %d%n",
+                        tick, this.reportInterval * 1e9 / (now - lastReport),
+                        this.model.getLevel(), this.model.getScoreP1() + this.model.getScoreP2());
+                lastReport = now;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double seconds = elapsed / 1e9;
+        double simulated = this.ticks / (double) GameConstant.FPS;
+        System.out.printf("Simulated %d ticks (%.1f s of game time) in %.2f s%n", this.ticks, simulated, seconds);
+        System.out.printf("Throughput: %.0f ticks/s (%.1fx real time)%n", this.ticks / seconds, simulated / seconds);
+        System.out.printf("Levels completed: %d, game overs: %d%n", this.levelsCompleted, this.gameOvers);
+        System.out.println(BulletPool.statsReport());
+        if (profiler.isDumpingCsv()) {
+            profiler.stopCsv();
+            System.out.println("Tick profile written to " + this.profileFile + ":");
+            for (String line : profiler.overlayLines()) {
+                System.out.println(line);
+            }
+        }
+    }
+
+    /**
+     * Runs one tick, mirroring the controller logic of GameScreen.update.
+     */
+    private void step(final long tick) {
+        if (!this.model.isLevelFinished()) {
+            if (!this.model.isTimerRunning()) {
+                this.model.startTimer();
+            }
+            feedInput(1, this.model.getShip(), this.model.getLivesP1(), tick);
+            feedInput(2, this.model.getShipP2(), this.model.getLivesP2(), tick);
+            this.model.updateGameWorld();
+        }
+
+        if (this.model.isTimerRunning()) {
+            this.model.updateElapsedTime();
+        }
+
+        if (this.model.isGameOver() && !this.model.isLevelFinished()) {
+            this.model.setGameOver();
+        }
+
+        if (this.model.isLevelFinished() && this.model.getScreenFinishedCooldown().checkFinished()) {
+            this.model.processLevelCompletion();
+            this.model.calculateFinalScore();
+            this.gameState = this.model.getGameState();
+
+            if (this.gameState.getLivesRemaining() > 0 || this.gameState.getLivesRemainingP2() > 0) {
+                this.levelsCompleted++;
+                int next = this.gameState.getLevel() + 1;
+                this.gameState.setLevel(this.levelManager.getLevel(next) != null ? next : this.startLevel);
+            } else {
+                this.gameOvers++;
+                this.gameState = newGameState();
+            }
+            startLevel();
+        }
+    }
+
+    private void feedInput(final int player, final Ship ship, final int lives, final long tick) {
+        if (this.idle || ship == null || lives <= 0 || ship.isDestroyed()) return;
+
+        if (this.script != null) {
+            String command = this.script[(int) (tick % this.script.length)];
+            if ("FIRE".equals(command)) {
+                this.model.playerFire(player);
+            } else if (!"IDLE".equals(command)) {
+                this.model.playerMoveOrTeleport(player, command, false);
+            }
+            return;
+        }
+
+        this.model.playerMoveOrTeleport(player, DIRECTIONS[this.random.nextInt(DIRECTIONS.length)], false);
+        if (this.random.nextInt(4) == 0) {
+            this.model.playerFire(player);
+        }
+    }
+
+    private GameState newGameState() {
+        return new GameState(this.startLevel, 0, 0, 0, MAX_LIVES, MAX_LIVES, 0, 0, 0);
+    }
+
+    private void startLevel() {
+        Level level = this.levelManager.getLevel(this.gameState.getLevel());
+        if (level == null) {
+            throw new IllegalStateException("Level " + this.gameState.getLevel() + " not found.");
+        }
+        this.model = new GameModel(this.gameState, level, false, MAX_LIVES,
+                SCREEN_WIDTH, GameConstant.ITEMS_SEPARATION_LINE_HEIGHT);
+        this.model.initialize();
+    }
+}
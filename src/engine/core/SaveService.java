@@ -0,0 +1,208 @@
+package engine.core;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Writes the save files of the game in the background.
+ * Callers hand over the whole new contents of a file and return at once;
+ * the contents stay in memory, where reads find them, until a writer
+ * thread has put them on disk. Saves arriving within
+ * {@link #DEFAULT_DELAY_MILLIS} of each other are written together, and
+ * only the last contents of a file are written. Each file is written to a
+ * temporary file first and renamed over the old one, so a crash leaves
+ * either the old or the new file, never half of one.
+ *
+ * Files still waiting are written when the application exits.
+ */
+public final class SaveService {
+
+	/** Time a save waits for others to be written with it. */
+	public static final long DEFAULT_DELAY_MILLIS = 250;
+	/** Suffix of the temporary file written before the rename. */
+	private static final String TEMP_SUFFIX = ".tmp";
+	/** Contents standing for a file to delete, told apart by identity. */
+	private static final byte[] DELETED = new byte[0];
+
+	/** Singleton instance of the class. */
+	private static SaveService instance;
+	/** Application logger. */
+	private static final Logger LOGGER = Core.getLogger();
+
+	/** Contents waiting to be written, by file. */
+	private final Map<Path, byte[]> pending = new ConcurrentHashMap<>();
+	/** True while a write of the pending files is scheduled. */
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+	/** Thread writing the files. */
+	private final ScheduledExecutorService writer;
+	/** Time a save waits for others. */
+	private final long delayMillis;
+	/** Number of files written. */
+	private final AtomicLong writes = new AtomicLong();
+
+	/**
+	 * Constructor, starts an idle writer.
+	 *
+	 * @param delayMillis
+	 *            Time a save waits for others to be written with it.
+	 */
+	public SaveService(final long delayMillis) {
+		this.delayMillis = delayMillis;
+		this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "Save writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Returns shared instance of SaveService, which writes the files still
+	 * waiting when the application exits.
+	 *
+	 * @return Shared instance of SaveService.
+	 */
+	public static synchronized SaveService getInstance() {
+		if (instance == null) {
+			instance = new SaveService(DEFAULT_DELAY_MILLIS);
+			Runtime.getRuntime().addShutdownHook(new Thread(instance::close, "Save flush"));
+		}
+		return instance;
+	}
+
+	/**
+	 * Replaces the contents of a file, in the background.
+	 *
+	 * @param file
+	 *            File to write.
+	 * @param contents
+	 *            Whole new contents of the file, not to be changed afterwards.
+	 */
+	public void write(final Path file, final byte[] contents) {
+		pending.put(key(file), contents);
+		if (scheduled.compareAndSet(false, true)) {
+			try {
+				writer.schedule(this::writePending, delayMillis, TimeUnit.MILLISECONDS);
+			} catch (RejectedExecutionException e) {
+				// Closed: the contents are written by the caller instead.
+				scheduled.set(false);
+				writePending();
+			}
+		}
+	}
+
+	/**
+	 * Deletes a file, in the background, after the saves before it.
+	 *
+	 * @param file
+	 *            File to delete.
+	 */
+	public void delete(final Path file) {
+		write(file, DELETED);
+	}
+
+	/**
+	 * Getter for the contents of a file not yet on disk.
+	 *
+	 * @param file
+	 *            File to read.
+	 * @return Contents waiting to be written, null if the file on disk is current.
+	 */
+	public byte[] getPending(final Path file) {
+		return pending.get(key(file));
+	}
+
+	/**
+	 * Checks whether a file is waiting to be deleted.
+	 *
+	 * @param file
+	 *            File to read.
+	 * @return True if the file is deleted, even if still on disk.
+	 */
+	public boolean isDeleted(final Path file) {
+		return pending.get(key(file)) == DELETED;
+	}
+
+	/** Same key for every path naming the same file. */
+	private static Path key(final Path file) {
+		return file.toAbsolutePath().normalize();
+	}
+
+	/**
+	 * Writes every waiting file and waits until they are on disk.
+	 */
+	public void flush() {
+		try {
+			writer.submit(this::writePending).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException | RejectedExecutionException e) {
+			writePending();
+		}
+	}
+
+	/**
+	 * Writes every waiting file and stops the writer. Later saves are
+	 * written at once by the caller.
+	 */
+	public void close() {
+		flush();
+		writer.shutdown();
+	}
+
+	/** Number of files written so far. */
+	public long getWrites() {
+		return writes.get();
+	}
+
+	/**
+	 * Writes the waiting files. A file saved again meanwhile stays waiting
+	 * with its newer contents.
+	 */
+	private synchronized void writePending() {
+		scheduled.set(false);
+		for (Map.Entry<Path, byte[]> entry : pending.entrySet()) {
+			Path file = entry.getKey();
+			byte[] contents = entry.getValue();
+			try {
+				if (contents == DELETED) {
+					Files.deleteIfExists(file);
+				} else {
+					writeAtomically(file, contents);
+					writes.incrementAndGet();
+					LOGGER.info("Saved " + file.getFileName());
+				}
+			} catch (IOException e) {
+				LOGGER.warning("Couldn't save " + file + ": " + e.getMessage());
+			}
+			// Kept until written, so reads never miss it; dropped even if failing, to not retry forever.
+			pending.remove(file, contents);
+		}
+	}
+
+	/**
+	 * Writes a file to a temporary file next to it, then renames it over
+	 * the file.
+	 */
+	private static void writeAtomically(final Path file, final byte[] contents) throws IOException {
+		Path temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+		Files.write(temp, contents);
+		try {
+			Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package engine.core;
+
+/**
+ * Time source for all game logic.
+ * Until a game loop takes ownership, the clock follows {@link System#nanoTime()}.
+ * Once stepped, it only moves when the loop advances it by one fixed tick,
+ * so logic runs on simulated time that can catch up under load or run
+ * faster than real time when no display is attached.
+ */
+public final class SimulationClock {
+
+	/** Nanoseconds in a millisecond. */
+	private static final long NANOS_PER_MILLI = 1_000_000L;
+	/** Wall-clock time when the clock was created, keeps values compatible with epoch timestamps. */
+	private static final long EPOCH_MILLIS = System.currentTimeMillis();
+	/** Monotonic reference matching EPOCH_MILLIS. */
+	private static final long ORIGIN_NANOS = System.nanoTime();
+
+	/** True once a game loop advances the clock itself. */
+	private static volatile boolean stepped = false;
+	/** Simulated nanoseconds since the origin. */
+	private static volatile long elapsedNanos = 0;
+	/** Difference between simulated and real time after the clock is released. */
+	private static volatile long offsetNanos = 0;
+
+	/**
+	 * Constructor, not called.
+	 */
+	private SimulationClock() {
+
+	}
+
+	/**
+	 * Getter for the current simulation time.
+	 *
+	 * @return Simulation time in nanoseconds, only meaningful as a difference.
+	 */
+	public static long nanoTime() {
+		if (stepped) return elapsedNanos;
+		return System.nanoTime() - ORIGIN_NANOS + offsetNanos;
+	}
+
+	/**
+	 * Getter for the current simulation time as an epoch-based timestamp.
+	 *
+	 * @return Simulation time in milliseconds.
+	 */
+	public static long currentTimeMillis() {
+		return EPOCH_MILLIS + nanoTime() / NANOS_PER_MILLI;
+	}
+
+	/**
+	 * Hands the clock over to a game loop. From now on time only passes
+	 * through {@link #advance(long)}.
+	 */
+	public static void takeOwnership() {
+		if (!stepped) {
+			elapsedNanos = nanoTime();
+			stepped = true;
+		}
+	}
+
+	/**
+	 * Lets the clock follow real time again, continuing from the current
+	 * simulated time so it never runs backwards.
+	 */
+	public static void releaseOwnership() {
+		if (stepped) {
+			offsetNanos = elapsedNanos - (System.nanoTime() - ORIGIN_NANOS);
+			stepped = false;
+		}
+	}
+
+	/**
+	 * Advances the stepped clock by one tick.
+	 *
+	 * @param nanos
+	 *            Length of the tick in nanoseconds.
+	 */
+	public static void advance(final long nanos) {
+		if (!stepped) takeOwnership();
+		elapsedNanos += nanos;
+	}
+
+	/**
+	 * Checks whether a game loop owns the clock.
+	 *
+	 * @return True if time is advanced by ticks.
+	 */
+	public static boolean isStepped() {
+		return stepped;
+	}
+
+	/**
+	 * Length of a fixed tick for the given rate.
+	 *
+	 * @param ticksPerSecond
+	 *            Simulation rate.
+	 * @return Tick length in nanoseconds.
+	 */
+	public static long tickNanos(final int ticksPerSecond) {
+		return 1_000_000_000L / ticksPerSecond;
+	}
+}
@@ -0,0 +1,450 @@
+package engine.core;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Logger;
+
+/**
+ * Measures where the time of every frame goes.
+ * The game loop opens a frame with {@link #beginFrame()}, brackets each
+ * phase with {@link #begin()} and {@link #end(Phase, long)}, and closes it
+ * with {@link #endFrame()}, which stores the frame's timings, entity counts
+ * and allocated bytes in a ring buffer of the last {@link #WINDOW} frames,
+ * from which rolling percentiles are read, and optionally appends them as
+ * a row to a CSV file.
+ * While disabled, every call returns right away without reading the clock.
+ * Phases may be timed from the render thread while the simulation thread
+ * owns the frame; their time is counted in the frame that closes next.
+ *
+ * Setting the system property {@value #CSV_PROPERTY} to a file name enables
+ * the profiler and dumps every frame to that file.
+ */
+public final class TickProfiler {
+
+	/** Timed sections of a frame. */
+	public enum Phase {
+		/** Movement and logic of all entities. */
+		UPDATE,
+		/** Collisions between entities. */
+		COLLISIONS,
+		/** Collisions of charging lasers. */
+		LASER_COLLISIONS,
+		/** Removal of destroyed and off-screen entities. */
+		CLEANUP,
+		/** Copying the world into the snapshot handed to the render thread. */
+		SNAPSHOT,
+		/** Clearing the back buffer. */
+		RENDER_BEGIN,
+		/** Bosses, lasers, black holes and explosions. */
+		RENDER_WORLD,
+		/** Ships, bullets and items. */
+		RENDER_ENTITIES,
+		/** Cutscene of the origin skill, drawn instead of the entities. */
+		RENDER_SPECIAL,
+		/** Score, lives, time and item HUD. */
+		RENDER_HUD,
+		/** Separator lines, skill gauges, countdown and this overlay. */
+		RENDER_UI,
+		/** Copying the back buffer to the window. */
+		PRESENT,
+		/** The whole frame from beginFrame to endFrame, including untimed work. */
+		FRAME
+	}
+
+	/** Counted entity categories. */
+	public enum Category {
+		BULLETS,
+		BOSS_BULLETS,
+		LASERS,
+		ITEMS,
+		EXPLOSIONS,
+		BLACK_HOLES,
+		MID_BOSS_MOBS
+	}
+
+	/** Number of frames the percentiles are computed over. */
+	public static final int WINDOW = 240;
+	/** System property naming the CSV file to dump every frame to. */
+	public static final String CSV_PROPERTY = "invaders.profile.csv";
+
+	private static final int PHASES = Phase.values().length;
+	private static final int CATEGORIES = Category.values().length;
+	private static final Phase[] PHASE_VALUES = Phase.values();
+	private static final Category[] CATEGORY_VALUES = Category.values();
+
+	/** Singleton instance of the class. */
+	private static TickProfiler instance;
+
+	/** Application logger. */
+	private final Logger logger;
+	/** Thread bean able to report allocated bytes, null if unsupported. */
+	private final com.sun.management.ThreadMXBean allocationBean;
+
+	/** True while measuring. */
+	private volatile boolean enabled;
+	/** True while the on-screen overlay is shown. */
+	private volatile boolean overlayVisible;
+	/** Nanoseconds spent in each phase since the last frame closed, added to from any thread. */
+	private final AtomicLongArray current = new AtomicLongArray(PHASES);
+	/** Entities of each category counted during the current frame. */
+	private final int[] counts = new int[CATEGORIES];
+	/** Start of the current frame. */
+	private long frameStart;
+	/** Bytes allocated by the thread when the current frame started. */
+	private long allocationStart;
+
+	/** Phase timings of the last frames, indexed by phase then slot. */
+	private final long[][] history = new long[PHASES][WINDOW];
+	/** Allocated bytes of the last frames. */
+	private final long[] allocationHistory = new long[WINDOW];
+	/** Entity counts of the last frame. */
+	private final int[] lastCounts = new int[CATEGORIES];
+	/** Slot the next frame is written to. */
+	private int head;
+	/** Number of valid slots. */
+	private int filled;
+	/** Frames recorded since the profiler was enabled. */
+	private long frameNumber;
+	/** Sorting space for percentiles. */
+	private final long[] scratch = new long[WINDOW];
+
+	/** Destination of the CSV dump, null when not dumping. */
+	private BufferedWriter csv;
+	/** Reused row builder of the CSV dump. */
+	private final StringBuilder row = new StringBuilder(256);
+
+	/**
+	 * Constructor, creates a disabled profiler.
+	 */
+	TickProfiler() {
+		this.logger = Core.getLogger();
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		com.sun.management.ThreadMXBean allocation = null;
+		if (bean instanceof com.sun.management.ThreadMXBean sunBean
+				&& sunBean.isThreadAllocatedMemorySupported()) {
+			sunBean.setThreadAllocatedMemoryEnabled(true);
+			allocation = sunBean;
+		}
+		this.allocationBean = allocation;
+	}
+
+	/**
+	 * Returns shared instance of TickProfiler, enabling the CSV dump if
+	 * {@value #CSV_PROPERTY} is set.
+	 *
+	 * @return Shared instance of TickProfiler.
+	 */
+	public static synchronized TickProfiler getInstance() {
+		if (instance == null) {
+			instance = new TickProfiler();
+			String csvFile = System.getProperty(CSV_PROPERTY);
+			if (csvFile != null && !csvFile.isEmpty()) {
+				instance.startCsv(Paths.get(csvFile));
+				Runtime.getRuntime().addShutdownHook(new Thread(instance::stopCsv, "TickProfiler CSV"));
+			}
+		}
+		return instance;
+	}
+
+	/**
+	 * Starts or stops measuring. Recorded history is kept.
+	 *
+	 * @param enabled
+	 *            True to measure.
+	 */
+	public void setEnabled(final boolean enabled) {
+		this.enabled = enabled;
+		this.frameStart = 0L;
+		for (int p = 0; p < PHASES; p++) {
+			this.current.set(p, 0L);
+		}
+	}
+
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/**
+	 * Shows or hides the on-screen overlay. The profiler measures while the
+	 * overlay is shown or a CSV dump is running.
+	 */
+	public void toggleOverlay() {
+		this.overlayVisible = !this.overlayVisible;
+		setEnabled(this.overlayVisible || this.csv != null);
+	}
+
+	public boolean isOverlayVisible() {
+		return this.overlayVisible;
+	}
+
+	/**
+	 * Opens a frame, discarding the entity counts of the last one. Phase
+	 * time measured since the last frame closed, such as a frame drawn by
+	 * the render thread in between, is kept and counted in this one.
+	 */
+	public void beginFrame() {
+		if (!this.enabled) return;
+		Arrays.fill(this.counts, 0);
+		this.frameStart = System.nanoTime();
+		this.allocationStart = allocatedBytes();
+	}
+
+	/**
+	 * Marks the start of a phase.
+	 *
+	 * @return Timestamp to pass to {@link #end(Phase, long)}, 0 while disabled.
+	 */
+	public long begin() {
+		return this.enabled ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Adds the time since begin to a phase of the current frame.
+	 *
+	 * @param phase
+	 *            Phase that ended.
+	 * @param start
+	 *            Value returned by {@link #begin()}.
+	 */
+	public void end(final Phase phase, final long start) {
+		if (!this.enabled || start == 0L) return;
+		this.current.addAndGet(phase.ordinal(), System.nanoTime() - start);
+	}
+
+	/**
+	 * Adds a duration measured elsewhere to a phase of the current frame.
+	 *
+	 * @param phase
+	 *            Measured phase.
+	 * @param nanos
+	 *            Duration in nanoseconds.
+	 */
+	public void add(final Phase phase, final long nanos) {
+		if (!this.enabled) return;
+		this.current.addAndGet(phase.ordinal(), nanos);
+	}
+
+	/**
+	 * Records the number of entities of a category in the current frame.
+	 *
+	 * @param category
+	 *            Counted category.
+	 * @param count
+	 *            Number of entities.
+	 */
+	public void count(final Category category, final int count) {
+		if (!this.enabled) return;
+		this.counts[category.ordinal()] = count;
+	}
+
+	/**
+	 * Closes the current frame, storing its measurements. Does nothing if
+	 * the profiler was enabled after the frame began.
+	 */
+	public void endFrame() {
+		if (!this.enabled || this.frameStart == 0L) return;
+		long allocated = allocatedBytes();
+		this.current.set(Phase.FRAME.ordinal(), System.nanoTime() - this.frameStart);
+
+		for (int p = 0; p < PHASES; p++) {
+			this.history[p][this.head] = this.current.getAndSet(p, 0L);
+		}
+		this.allocationHistory[this.head] = allocated - this.allocationStart;
+		System.arraycopy(this.counts, 0, this.lastCounts, 0, CATEGORIES);
+		this.frameNumber++;
+		if (this.csv != null) {
+			writeRow(this.head);
+		}
+
+		this.head = (this.head + 1) % WINDOW;
+		if (this.filled < WINDOW) this.filled++;
+		this.frameStart = 0L;
+	}
+
+	/**
+	 * Forgets all recorded frames.
+	 */
+	public void reset() {
+		for (long[] phase : this.history) Arrays.fill(phase, 0);
+		Arrays.fill(this.allocationHistory, 0);
+		Arrays.fill(this.lastCounts, 0);
+		this.head = 0;
+		this.filled = 0;
+		this.frameNumber = 0;
+	}
+
+	/**
+	 * Getter for the number of frames the percentiles cover.
+	 *
+	 * @return Recorded frames, at most {@link #WINDOW}.
+	 */
+	public int getRecordedFrames() {
+		return this.filled;
+	}
+
+	/**
+	 * Getter for a phase timing of the last recorded frame.
+	 *
+	 * @param phase
+	 *            Requested phase.
+	 * @return Nanoseconds, 0 if no frame was recorded.
+	 */
+	public long getLast(final Phase phase) {
+		if (this.filled == 0) return 0L;
+		return this.history[phase.ordinal()][(this.head + WINDOW - 1) % WINDOW];
+	}
+
+	/**
+	 * Rolling percentile of a phase over the recorded frames.
+	 *
+	 * @param phase
+	 *            Requested phase.
+	 * @param percentile
+	 *            Percentile between 0 and 100.
+	 * @return Nanoseconds, 0 if no frame was recorded.
+	 */
+	public long getPercentile(final Phase phase, final double percentile) {
+		return percentile(this.history[phase.ordinal()], percentile);
+	}
+
+	/**
+	 * Rolling percentile of the bytes allocated per frame.
+	 *
+	 * @param percentile
+	 *            Percentile between 0 and 100.
+	 * @return Bytes, 0 if no frame was recorded or the JVM cannot measure it.
+	 */
+	public long getAllocationPercentile(final double percentile) {
+		return percentile(this.allocationHistory, percentile);
+	}
+
+	/**
+	 * Getter for an entity count of the last recorded frame.
+	 *
+	 * @param category
+	 *            Requested category.
+	 * @return Number of entities.
+	 */
+	public int getLastCount(final Category category) {
+		return this.lastCounts[category.ordinal()];
+	}
+
+	/**
+	 * Builds the lines of the on-screen overlay: last, p50 and p99 of every
+	 * phase, allocations and entity counts.
+	 *
+	 * @return Overlay text, one entry per line.
+	 */
+	public String[] overlayLines() {
+		String[] lines = new String[PHASES + 3];
+		lines[0] = String.format(Locale.ROOT, "%-16s %7s %7s %7s (%d frames)",
+				"phase", "last", "p50", "p99", this.filled);
+		for (int p = 0; p < PHASES; p++) {
+			Phase phase = PHASE_VALUES[p];
+			lines[p + 1] = String.format(Locale.ROOT, "%-16s %7.3f %7.3f %7.3f ms",
+					phase.name().toLowerCase(Locale.ROOT), getLast(phase) / 1e6,
+					getPercentile(phase, 50) / 1e6, getPercentile(phase, 99) / 1e6);
+		}
+		lines[PHASES + 1] = String.format(Locale.ROOT, "alloc/frame p50 %d KB  p99 %d KB",
+				getAllocationPercentile(50) / 1024, getAllocationPercentile(99) / 1024);
+		StringBuilder entities = new StringBuilder();
+		for (int c = 0; c < CATEGORIES; c++) {
+			if (c > 0) entities.append(' ');
+			entities.append(CATEGORY_VALUES[c].name().toLowerCase(Locale.ROOT)).append('=').append(this.lastCounts[c]);
+		}
+		lines[PHASES + 2] = entities.toString();
+		return lines;
+	}
+
+	/**
+	 * Starts dumping every frame to a CSV file, enabling the profiler.
+	 * Any previous dump is closed first.
+	 *
+	 * @param file
+	 *            Destination, overwritten.
+	 * @return True if the file could be opened.
+	 */
+	public boolean startCsv(final Path file) {
+		stopCsv();
+		try {
+			this.csv = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+			StringBuilder header = new StringBuilder("frame");
+			for (Phase phase : PHASE_VALUES) {
+				header.append(',').append(phase.name().toLowerCase(Locale.ROOT)).append("_ns");
+			}
+			header.append(",alloc_bytes");
+			for (Category category : CATEGORY_VALUES) {
+				header.append(',').append(category.name().toLowerCase(Locale.ROOT));
+			}
+			this.csv.write(header.toString());
+			this.csv.newLine();
+		} catch (IOException e) {
+			this.logger.warning("Could not open profiler CSV " + file + ": " + e.getMessage());
+			this.csv = null;
+			return false;
+		}
+		setEnabled(true);
+		this.logger.info("Dumping frame profile to " + file);
+		return true;
+	}
+
+	/**
+	 * Flushes and closes the CSV dump, if any.
+	 */
+	public synchronized void stopCsv() {
+		if (this.csv == null) return;
+		try {
+			this.csv.close();
+		} catch (IOException e) {
+			this.logger.warning("Could not close profiler CSV: " + e.getMessage());
+		}
+		this.csv = null;
+	}
+
+	public boolean isDumpingCsv() {
+		return this.csv != null;
+	}
+
+	private synchronized void writeRow(final int slot) {
+		if (this.csv == null) return;
+		StringBuilder row = this.row;
+		row.setLength(0);
+		row.append(this.frameNumber);
+		for (int p = 0; p < PHASES; p++) {
+			row.append(',').append(this.history[p][slot]);
+		}
+		row.append(',').append(this.allocationHistory[slot]);
+		for (int c = 0; c < CATEGORIES; c++) {
+			row.append(',').append(this.lastCounts[c]);
+		}
+		try {
+			this.csv.append(row);
+			this.csv.newLine();
+		} catch (IOException e) {
+			this.logger.warning("Could not write profiler CSV, dump stopped: " + e.getMessage());
+			stopCsv();
+		}
+	}
+
+	private long percentile(final long[] values, final double percentile) {
+		int n = this.filled;
+		if (n == 0) return 0L;
+		// The ring is full or filled from slot 0, so the first n slots are the valid ones.
+		System.arraycopy(values, 0, this.scratch, 0, n);
+		Arrays.sort(this.scratch, 0, n);
+		int index = (int) Math.ceil(percentile / 100.0 * n) - 1;
+		return this.scratch[Math.max(0, Math.min(n - 1, index))];
+	}
+
+	private long allocatedBytes() {
+		return this.allocationBean != null ? this.allocationBean.getCurrentThreadAllocatedBytes() : 0L;
+	}
+}
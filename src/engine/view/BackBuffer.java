@@ -1,50 +1,156 @@
 package engine.view;
 
 import engine.core.Frame;
+import engine.core.SimulationClock;
+import entity.GameConstant;
 
 import java.awt.Color;
 import java.awt.Graphics;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
 import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
 
+/**
+ * Off-screen image every frame is drawn on before it is copied to the window.
+ * The image is created once and reused for every frame; it is only rebuilt
+ * when the screen size changes or the display invalidates it. It is an
+ * accelerated VolatileImage when the frame can provide one, and a plain
+ * BufferedImage otherwise, e.g. before the window is shown.
+ */
 public final class BackBuffer {
 
     private final Frame frame;
+    /** Accelerated back buffer, null when unavailable. */
+    private VolatileImage volatileBuffer;
+    /** Fallback back buffer, used when no accelerated image can be created. */
     private BufferedImage buffer;
-    private Graphics graphics;
+    /** Size of the current back buffer. */
+    private int bufferWidth;
+    private int bufferHeight;
     private Graphics backGraphics;
-    private int shakeDuration;
-    private int shakeIntensity;
+    /** Graphics of the cached layer being drawn, null while drawing on the back buffer. */
+    private Graphics layerGraphics;
+    /** Simulation time the screen shake ends at, set by the simulation and read when presenting. */
+    private volatile long shakeEndNanos;
+    private volatile int shakeIntensity;
 
     public BackBuffer(Frame frame) {
         this.frame = frame;
     }
 
+    /**
+     * Prepares the back buffer for a new frame and clears it.
+     */
     public void initDraw(final int screenWidth, final int screenHeight) {
-        buffer = new BufferedImage(screenWidth, screenHeight, BufferedImage.TYPE_INT_RGB);
-        graphics = frame.getGraphics();
-        backGraphics = buffer.getGraphics();
+        if (backGraphics != null) {
+            backGraphics.dispose();
+        }
+        ensureBuffer(screenWidth, screenHeight);
+        // A fresh context per frame, so state left by renderers does not leak into the next one.
+        backGraphics = volatileBuffer != null ? volatileBuffer.createGraphics() : buffer.createGraphics();
 
         backGraphics.setColor(Color.BLACK);
         backGraphics.fillRect(0, 0, screenWidth, screenHeight);
     }
+
+    /**
+     * Shakes the screen for a number of simulation ticks, however many
+     * frames are presented meanwhile.
+     */
     public void setShake(int shakeDuration, int shakeIntensity){
-        this.shakeDuration = shakeDuration;
         this.shakeIntensity = shakeIntensity;
+        this.shakeEndNanos = SimulationClock.nanoTime()
+                + shakeDuration * SimulationClock.tickNanos(GameConstant.FPS);
     }
 
+    /**
+     * Copies the back buffer to the window, offset by the screen shake.
+     * If the display dropped the accelerated image meanwhile, the frame is
+     * skipped and the next one is drawn on a restored image.
+     */
     public void end() {
         int offsetX = 0;
         int offsetY = 0;
 
-        if (shakeDuration > 0) {
+        if (SimulationClock.nanoTime() < shakeEndNanos) {
             offsetX = (int)(Math.random() * shakeIntensity * 2 - shakeIntensity);
             offsetY = (int)(Math.random() * shakeIntensity * 2 - shakeIntensity);
-            shakeDuration--;
         }
-        graphics.drawImage(buffer, frame.getInsets().left + offsetX, frame.getInsets().top + offsetY, frame);
+        if (volatileBuffer != null && volatileBuffer.contentsLost()) {
+            return;
+        }
+        Image image = volatileBuffer != null ? volatileBuffer : buffer;
+        Graphics graphics = frame.getGraphics();
+        if (image == null || graphics == null) {
+            return;
+        }
+        graphics.drawImage(image, frame.getInsets().left + offsetX, frame.getInsets().top + offsetY, frame);
+        graphics.dispose();
     }
 
+    /**
+     * Getter for the graphics renderers draw on: the back buffer, or a
+     * cached layer while one is drawn.
+     */
     public Graphics getGraphics() {
-        return backGraphics;
+        return layerGraphics != null ? layerGraphics : backGraphics;
+    }
+
+    /**
+     * Makes renderers draw on a cached layer instead of the back buffer
+     * until {@link #endLayer(Graphics)}. Layers can be nested.
+     *
+     * @return Graphics drawn on before, to give back to endLayer.
+     */
+    public Graphics beginLayer(final Graphics graphics) {
+        Graphics previous = layerGraphics;
+        layerGraphics = graphics;
+        return previous;
+    }
+
+    /**
+     * Makes renderers draw where they drew before the layer began.
+     *
+     * @param previous
+     *            Graphics returned by {@link #beginLayer(Graphics)}.
+     */
+    public void endLayer(final Graphics previous) {
+        layerGraphics = previous;
+    }
+
+    /**
+     * Makes sure a back buffer of the given size is ready, reusing the
+     * current one when possible.
+     */
+    private void ensureBuffer(final int width, final int height) {
+        boolean sizeChanged = width != bufferWidth || height != bufferHeight;
+        if (volatileBuffer != null) {
+            GraphicsConfiguration configuration = frame.getGraphicsConfiguration();
+            if (sizeChanged || configuration == null
+                    || volatileBuffer.validate(configuration) == VolatileImage.IMAGE_INCOMPATIBLE) {
+                volatileBuffer.flush();
+                volatileBuffer = null;
+            } else {
+                return;
+            }
+        }
+        if (buffer != null && !sizeChanged) {
+            // Keep trying to move to an accelerated image once the window can provide one.
+            volatileBuffer = createVolatile(width, height);
+            if (volatileBuffer != null) buffer = null;
+            return;
+        }
+
+        bufferWidth = width;
+        bufferHeight = height;
+        volatileBuffer = createVolatile(width, height);
+        buffer = volatileBuffer == null
+                ? new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB) : null;
+    }
+
+    private VolatileImage createVolatile(final int width, final int height) {
+        if (!frame.isDisplayable()) return null;
+        return frame.createVolatileImage(width, height);
     }
 }
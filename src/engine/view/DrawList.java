@@ -0,0 +1,210 @@
+package engine.view;
+
+import engine.view.DrawManager.SpriteType;
+
+import java.util.Arrays;
+
+/**
+ * Draw commands recorded by the simulation for the render thread.
+ * Every command is a kind plus a fixed set of plain values stored in
+ * parallel arrays, so a snapshot holds no reference to a live entity and
+ * recording a frame allocates nothing once the arrays have grown to the
+ * busiest frame seen. What each value means depends on the kind.
+ * Commands of moving entities also keep the position of the previous
+ * snapshot, so the render thread can draw them between the two.
+ */
+final class DrawList {
+
+    /** Kinds of draw commands. */
+    enum Kind {
+        /** Sprite at x, y, recoloured with data when it is a sound toggle. */
+        SPRITE,
+        /** Half-scale sprite of a sub ship at x, y. */
+        SUB_SHIP,
+        /** Guided bullet of size w, h at x, y, rotated by value radians. */
+        GUIDED_BULLET,
+        /** Dropped item sprite at x, y. */
+        ITEM,
+        /** Dash path from x, y towards x2, y2. */
+        DASH_PATH,
+        /** Apocalypse warning columns, data is the safe column. */
+        APOCALYPSE_WARNING,
+        /** Apocalypse attack frames, data is the safe column. */
+        APOCALYPSE_ATTACK,
+        /** Black hole centred on x, y with radius data. */
+        BLACK_HOLE,
+        /** Boss health bar filled to the ratio in value. */
+        BOSS_HEALTH,
+        /** Boss name in text. */
+        BOSS_NAME,
+        /** Boss laser from x, y to x2, y2, drawn as a plain line if data is 1. */
+        LASER,
+        /** Explosion warning of bounds x, y, w, h grown to the ratio in value. */
+        EXPLOSION_WARNING,
+        /** Explosion blast of bounds x, y, w, h. */
+        EXPLOSION,
+        /** Teleport of player data from x, y to x2, y2 for a ship of w, h; value counts teleports. */
+        TELEPORT,
+        /** Shield around the ship of bounds x, y, w, h, faded to the ratio in value. */
+        SHIELD,
+        /** Charging bar of width w at x, y, filled to the ratio in value. */
+        CHARGING_BAR,
+        /** Charging laser centred on x from the top of the screen down to y, w wide, h the screen height. */
+        CHARGING_LASER
+    }
+
+    /** Commands a new list has room for. */
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Kind[] kind = new Kind[INITIAL_CAPACITY];
+    private SpriteType[] sprite = new SpriteType[INITIAL_CAPACITY];
+    private int[] x = new int[INITIAL_CAPACITY];
+    private int[] y = new int[INITIAL_CAPACITY];
+    private int[] w = new int[INITIAL_CAPACITY];
+    private int[] h = new int[INITIAL_CAPACITY];
+    private int[] x2 = new int[INITIAL_CAPACITY];
+    private int[] y2 = new int[INITIAL_CAPACITY];
+    private int[] data = new int[INITIAL_CAPACITY];
+    private double[] value = new double[INITIAL_CAPACITY];
+    private String[] text = new String[INITIAL_CAPACITY];
+    /** Exact positions in the previous and in this snapshot, x and y unless interpolated. */
+    private double[] fromX = new double[INITIAL_CAPACITY];
+    private double[] fromY = new double[INITIAL_CAPACITY];
+    private double[] toX = new double[INITIAL_CAPACITY];
+    private double[] toY = new double[INITIAL_CAPACITY];
+    /** Number of recorded commands. */
+    private int size;
+
+    /**
+     * Records a command.
+     *
+     * @return Index of the command.
+     */
+    int add(final Kind kind, final SpriteType sprite, final int x, final int y, final int w, final int h,
+            final int x2, final int y2, final int data, final double value, final String text) {
+        if (this.size == this.kind.length) {
+            grow();
+        }
+        int i = this.size++;
+        this.kind[i] = kind;
+        this.sprite[i] = sprite;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.w[i] = w;
+        this.h[i] = h;
+        this.x2[i] = x2;
+        this.y2[i] = y2;
+        this.data[i] = data;
+        this.value[i] = value;
+        this.text[i] = text;
+        this.fromX[i] = x;
+        this.fromY[i] = y;
+        this.toX[i] = x;
+        this.toY[i] = y;
+        return i;
+    }
+
+    /**
+     * Makes a command move from one position to another while the render
+     * thread waits for the next snapshot. The x and y of the command are
+     * kept, offsets from them move along.
+     *
+     * @param i
+     *            Index of the command.
+     */
+    void interpolate(final int i, final double previousX, final double previousY,
+            final double currentX, final double currentY) {
+        this.fromX[i] = previousX;
+        this.fromY[i] = previousY;
+        this.toX[i] = currentX;
+        this.toY[i] = currentY;
+    }
+
+    /** Records a sprite command. */
+    int addSprite(final Kind kind, final SpriteType sprite, final int x, final int y, final int data) {
+        return add(kind, sprite, x, y, 0, 0, 0, 0, data, 0.0, null);
+    }
+
+    /** Records a command drawn over the bounds x, y, w, h. */
+    int addBounds(final Kind kind, final int x, final int y, final int w, final int h, final double value) {
+        return add(kind, null, x, y, w, h, 0, 0, 0, value, null);
+    }
+
+    /** Records a command drawn from x, y to x2, y2. */
+    int addLine(final Kind kind, final int x, final int y, final int x2, final int y2, final int data) {
+        return add(kind, null, x, y, 0, 0, x2, y2, data, 0.0, null);
+    }
+
+    /** Records a command carrying a single value. */
+    int addValue(final Kind kind, final int data, final double value, final String text) {
+        return add(kind, null, 0, 0, 0, 0, 0, 0, data, value, text);
+    }
+
+    /**
+     * Forgets every command, keeping the arrays.
+     */
+    void clear() {
+        Arrays.fill(this.text, 0, this.size, null);
+        this.size = 0;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    Kind kind(final int i) { return this.kind[i]; }
+    SpriteType sprite(final int i) { return this.sprite[i]; }
+    int x(final int i) { return this.x[i]; }
+    int y(final int i) { return this.y[i]; }
+    int w(final int i) { return this.w[i]; }
+    int h(final int i) { return this.h[i]; }
+    int x2(final int i) { return this.x2[i]; }
+    int y2(final int i) { return this.y2[i]; }
+    int data(final int i) { return this.data[i]; }
+    double value(final int i) { return this.value[i]; }
+    String text(final int i) { return this.text[i]; }
+
+    /**
+     * Exact x of a command at a point between the snapshots.
+     *
+     * @param alpha
+     *            0 for the previous snapshot, 1 for this one.
+     */
+    double x(final int i, final double alpha) {
+        return this.fromX[i] + (this.toX[i] - this.fromX[i]) * alpha;
+    }
+
+    /** Exact y of a command at a point between the snapshots. */
+    double y(final int i, final double alpha) {
+        return this.fromY[i] + (this.toY[i] - this.fromY[i]) * alpha;
+    }
+
+    /** Pixel x of a command at a point between the snapshots, x itself at alpha 1. */
+    int drawX(final int i, final double alpha) {
+        return this.x[i] + (int) Math.round(x(i, alpha) - this.toX[i]);
+    }
+
+    /** Pixel y of a command at a point between the snapshots, y itself at alpha 1. */
+    int drawY(final int i, final double alpha) {
+        return this.y[i] + (int) Math.round(y(i, alpha) - this.toY[i]);
+    }
+
+    private void grow() {
+        int capacity = this.kind.length * 2;
+        this.kind = Arrays.copyOf(this.kind, capacity);
+        this.sprite = Arrays.copyOf(this.sprite, capacity);
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.w = Arrays.copyOf(this.w, capacity);
+        this.h = Arrays.copyOf(this.h, capacity);
+        this.x2 = Arrays.copyOf(this.x2, capacity);
+        this.y2 = Arrays.copyOf(this.y2, capacity);
+        this.data = Arrays.copyOf(this.data, capacity);
+        this.value = Arrays.copyOf(this.value, capacity);
+        this.text = Arrays.copyOf(this.text, capacity);
+        this.fromX = Arrays.copyOf(this.fromX, capacity);
+        this.fromY = Arrays.copyOf(this.fromY, capacity);
+        this.toX = Arrays.copyOf(this.toX, capacity);
+        this.toY = Arrays.copyOf(this.toY, capacity);
+    }
+}
@@ -1,6 +1,7 @@
 package engine.view;
 
 import java.awt.Color;
+import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
 import java.util.List;
@@ -9,6 +10,7 @@ import java.util.logging.Logger;
 
 import audio.SoundManager;
 import engine.view.renderer.AnimationLoader;
+import engine.core.AssetLoader;
 import engine.core.FileManager;
 import engine.core.Core;
 import engine.core.Frame;
@@ -43,6 +45,7 @@ public final class DrawManager {
     private UIRenderer uiRenderer;
 	private ItemRenderer itemRenderer;
     private SpecialAnimationRenderer specialAnimationRenderer;
+    private BackgroundRenderer backgroundRenderer;
 	private double scale;
     private final AnimationLoader loader;
     /** Sprite types mapped to their images. */
@@ -66,13 +69,61 @@ public final class DrawManager {
 	 */
 	private DrawManager() {
         fileManager = Core.getFileManager();
-        logger.info("Started initializing DrawManager...");
-        spriteAtlas = new SpriteAtlas(fileManager);
-        logger.info("Sprite atlas loaded!");
         logger.info("DrawManager initialized successfully");
         this.loader = new AnimationLoader();
     }
 
+	/**
+	 * Starts decoding the sprites, animation frames and font on the asset
+	 * loader. {@link #awaitAssets()} collects them.
+	 *
+	 * @param assets
+	 *            Loader the assets are decoded on.
+	 */
+	public void loadAssets(final AssetLoader assets) {
+		spriteAtlas = new SpriteAtlas(fileManager, assets);
+		loader.preload(EntityRenderer.APOCALYPSE_FRAMES, assets);
+		assets.submit("font.ttf", AssetLoader.Kind.FONT, () -> fileManager.loadFont(18f));
+	}
+
+	/**
+	 * Waits for the assets started by {@link #loadAssets(AssetLoader)},
+	 * loading them on the calling thread if they were never started.
+	 */
+	public void awaitAssets() {
+		if (spriteAtlas == null) {
+			logger.info("Loading sprites without the asset loader...");
+			spriteAtlas = new SpriteAtlas(fileManager);
+		}
+		spriteAtlas.awaitLoaded();
+		logger.info("Sprite atlas loaded!");
+	}
+
+	/**
+	 * Draws the loading splash with a progress bar, before the fonts and
+	 * renderers are ready.
+	 *
+	 * @param progress
+	 *            Share of the assets loaded, between 0 and 1.
+	 */
+	public void drawLoading(final int screenWidth, final int screenHeight, final float progress) {
+		if (backBuffer == null) return;
+		backBuffer.initDraw(screenWidth, screenHeight);
+		Graphics g = backBuffer.getGraphics();
+		int barWidth = screenWidth / 2;
+		int barHeight = Math.max(4, screenHeight / 60);
+		int x = (screenWidth - barWidth) / 2;
+		int y = screenHeight / 2;
+
+		g.setColor(Color.GREEN);
+		g.setFont(new Font(Font.MONOSPACED, Font.BOLD, Math.max(12, screenHeight / 30)));
+		String text = "LOADING " + Math.round(progress * 100) + "%";
+		g.drawString(text, (screenWidth - g.getFontMetrics().stringWidth(text)) / 2, y - barHeight * 2);
+		g.drawRect(x, y, barWidth, barHeight);
+		g.fillRect(x, y, Math.round(barWidth * Math.max(0f, Math.min(1f, progress))), barHeight);
+		backBuffer.end();
+	}
+
 	/**
 	 * Returns shared instance of DrawManager.
 	 */
@@ -101,13 +152,16 @@ public final class DrawManager {
         }
         backBuffer.initDraw(screenWidth, screenHeight);
         if(fontPack == null){
+            awaitAssets();
             fontPack = new FontPack(backBuffer.getGraphics(), fileManager);
-            entityRenderer = new EntityRenderer(spriteAtlas.getSpriteMap(),backBuffer,this.scale, this.loader);
-			itemRenderer = new ItemRenderer(backBuffer, spriteAtlas.getSpriteMap(), this.scale);
+            spriteAtlas.prescale(this.scale);
+            entityRenderer = new EntityRenderer(spriteAtlas, backBuffer, this.scale, this.loader);
+			itemRenderer = new ItemRenderer(backBuffer, spriteAtlas);
 			hudRenderer = new HUDRenderer(backBuffer, fontPack, entityRenderer,spriteAtlas.getSpriteMap());
             shopRenderer = new ShopRenderer(backBuffer,fontPack);
             uiRenderer = new UIRenderer(backBuffer,fontPack);
             specialAnimationRenderer = new SpecialAnimationRenderer(backBuffer);
+            backgroundRenderer = new BackgroundRenderer(backBuffer);
         }
     }
 
@@ -123,7 +177,9 @@ public final class DrawManager {
 	}
 
     public void startShake(int duration, int intensity) {
-        backBuffer.setShake(duration, intensity);
+        if (backBuffer != null) {
+            backBuffer.setShake(duration, intensity);
+        }
         SoundManager.play("sfx/shaking.wav");
     }
 
@@ -136,36 +192,24 @@ public final class DrawManager {
 	 *            Current rotation angle.
 	 */
 	public void drawStars(final int screenWidth, final int screenHeight, final List<Star> stars, final float angle) {
-        Graphics g = backBuffer.getGraphics();
-		final int centerX = screenWidth / 2;
-		final int centerY = screenHeight / 2;
-		final double angleRad = Math.toRadians(angle);
-		final double cosAngle = Math.cos(angleRad);
-		final double sinAngle = Math.sin(angleRad);
-
-		for (Star star : stars) {
-			float relX = star.baseX - centerX;
-			float relY = star.baseY - centerY;
-
-			double rotatedX = relX * cosAngle - relY * sinAngle;
-			double rotatedY = relX * sinAngle + relY * cosAngle;
-
-			int screenX = (int) (rotatedX + centerX);
-			int screenY = (int) (rotatedY + centerY);
-
-			// Use star's brightness to set its color for twinkling effect
-			float b = star.brightness;
-			if (b < 0) b = 0;
-			if (b > 1) b = 1;
-			g.setColor(new Color(b, b, b));
-			g.drawRect(screenX, screenY, 1, 1);
-		}
+		backgroundRenderer.drawStars(screenWidth, screenHeight, stars, angle);
 	}
     public void setScale(double scaleX, double scaleY){
         this.scale = Math.min(scaleX, scaleY);
     }
 
-    public void drawShootingStars(final List<ShootingStar> shootingStars, final float angle) {    }
+	/**
+	 * Draws the shooting stars over the starfield.
+	 *
+	 * @param shootingStars
+	 *            List of shooting stars to draw.
+	 * @param angle
+	 *            Current rotation angle.
+	 */
+    public void drawShootingStars(final int screenWidth, final int screenHeight,
+            final List<ShootingStar> shootingStars, final float angle) {
+        backgroundRenderer.drawShootingStars(screenWidth, screenHeight, shootingStars, angle);
+    }
 
     public ShopRenderer getShopRenderer() {
         return shopRenderer;
@@ -179,6 +223,8 @@ public final class DrawManager {
 
     public UIRenderer getUIRenderer() { return uiRenderer; }
 
+    public BackgroundRenderer getBackgroundRenderer() { return backgroundRenderer; }
+
 	public ItemRenderer getItemRenderer() { return itemRenderer; }
 
     public SpecialAnimationRenderer getSpecialAnimationRenderer() {
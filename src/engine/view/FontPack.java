@@ -7,6 +7,8 @@ import java.awt.FontFormatException;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class FontPack {
     private final Font fontRegular;
@@ -18,6 +20,8 @@ public final class FontPack {
     private final FontMetrics bigMetrics;
     private final FontMetrics smallMetrics;
     private final FontMetrics smallBigMetrics;
+    /** Metrics of fonts outside the pack, looked up once per font. */
+    private final Map<Font, FontMetrics> otherMetrics = new ConcurrentHashMap<>();
 
     public FontPack(Graphics graphics, FileManager fm) {
         try {
@@ -43,4 +47,17 @@ public final class FontPack {
     public FontMetrics getBigMetrics() {return bigMetrics;}
     public FontMetrics getSmallMetrics() {return smallMetrics;}
     public FontMetrics getSmallBigMetrics() {return smallBigMetrics;}
+
+    /**
+     * Getter for the metrics of the current font of a graphics context,
+     * cached instead of being looked up by the context on every call.
+     */
+    public FontMetrics getMetrics(Graphics graphics) {
+        Font font = graphics.getFont();
+        if (font == fontRegular) return regularMetrics;
+        if (font == fontBig) return bigMetrics;
+        if (font == fontSmall) return smallMetrics;
+        if (font == fontSmallBig) return smallBigMetrics;
+        return otherMetrics.computeIfAbsent(font, graphics::getFontMetrics);
+    }
 }
@@ -0,0 +1,62 @@
+package engine.view;
+
+import engine.DTO.HUDInfoDTO;
+import entity.item.DropItem;
+import entity.item.ItemHUDManager;
+
+/**
+ * Everything the render thread needs to draw one frame of the game,
+ * captured by the simulation at the end of a tick.
+ * A snapshot is filled by the simulation thread only while it owns it and
+ * read by the render thread only after it was handed over, so it is never
+ * changed while it is drawn. Snapshots are recycled between ticks.
+ */
+final class FrameSnapshot {
+
+    /** Number of the tick the snapshot was captured at, 0 if never filled. */
+    long sequence;
+    /** System.nanoTime() when the snapshot was published. */
+    long publishedNanos;
+
+    /** HUD values of the tick. */
+    HUDInfoDTO hud;
+    /** Current level number. */
+    int level;
+    /** True while the origin cutscene replaces the entities. */
+    boolean originActive;
+
+    /** Black holes, boss bars and names, lasers and explosions. */
+    final DrawList world = new DrawList();
+    /** Teleports, shields, boss patterns, entities and items, ships last. */
+    final DrawList entities = new DrawList();
+    /** Charging bars and lasers, drawn over the HUD. */
+    final DrawList charging = new DrawList();
+
+    /** Dropped items shown in the item HUD, oldest first, copied in place every tick. */
+    final DropItem.ItemType[] droppedItems = new DropItem.ItemType[ItemHUDManager.MAX_DYNAMIC_ITEMS];
+    /** Number of dropped items in the array. */
+    int droppedItemCount;
+    /** True while the achievement popup is shown. */
+    boolean achievementPopup;
+    /** True while the health popup is shown. */
+    boolean healthPopup;
+    /** True while the countdown before the level is shown. */
+    boolean countdownActive;
+    /** Seconds left on the countdown. */
+    int countdown;
+    /** True if the level awards a bonus life. */
+    boolean bonusLife;
+    /** Profiler overlay text, null while the overlay is hidden. */
+    String[] profilerLines;
+
+    /**
+     * Empties the snapshot before it is filled again.
+     */
+    void clear() {
+        this.hud = null;
+        this.world.clear();
+        this.entities.clear();
+        this.charging.clear();
+        this.profilerLines = null;
+    }
+}
@@ -1,14 +1,31 @@
 package engine.view;
 
 import engine.DTO.HUDInfoDTO;
+import engine.core.SimulationClock;
+import engine.core.TickProfiler;
+import engine.view.DrawList.Kind;
+import engine.view.renderer.EntityRenderer;
+import engine.view.renderer.ItemRenderer;
 import entity.*;
+import entity.base.BossEntity;
+import entity.boss.FinalBoss;
 import entity.boss.GammaBoss;
+import entity.boss.MidBoss;
+import entity.boss.ZetaBoss;
+import entity.bullet.GuidedBullet;
 import entity.bullet.LaserBeam;
 import entity.item.DropItem;
 import entity.item.Explosion;
+import entity.item.ItemHUDManager;
+import entity.item.SubShip;
+import entity.pattern.ApocalypseAttackPattern;
 import entity.pattern.BlackHole;
+import entity.pattern.BossPattern;
+import entity.pattern.DashPattern;
 import entity.ship.Ship;
+import screen.HealthBar;
 
+import java.awt.Color;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -19,191 +36,451 @@ import java.util.List;
  * - Does not depend on the Controller (GameScreen) or any Screen objects
  * - Receives HUD data from HUDInfoDTO
  *   and directly gets the list of entities to render from the Model
+ *
+ * Drawing is split in two halves: capture() reads the Model on the
+ * simulation thread and records what to draw into a FrameSnapshot, and
+ * render(FrameSnapshot) draws that snapshot without touching the Model,
+ * so it can run on the RenderThread. Moving entities are recorded with
+ * their position in the previous snapshot, and render draws them at the
+ * point between the two given by the render alpha, so motion stays smooth
+ * when the display refreshes faster than the simulation ticks.
  */
 public class GameView {
 
     private final GameModel model;
     private final DrawManager drawManager;
     private final List<Entity> shipRenderQueue = new ArrayList<>();
+    private final TickProfiler profiler = TickProfiler.getInstance();
+
+    /** Number of the snapshot being captured. */
+    private long frameNumber;
+    /** Health bar of the current boss, kept by the simulation side. */
+    private HealthBar bossHealthBar;
+    /** Teleports of each player seen by capture. */
+    private int teleportsP1;
+    private int teleportsP2;
+    /** Teleports of each player already drawn by render. */
+    private int drawnTeleportsP1;
+    private int drawnTeleportsP2;
+    /** True once render played the origin cutscene to its end. */
+    private boolean originDone;
+    /** Set by render when the cutscene ended, cleared by the controller. */
+    private volatile boolean originFinished;
+    /** Snapshot used when a frame is drawn on the calling thread. */
+    private FrameSnapshot localSnapshot;
 
     public GameView(GameModel model, DrawManager drawManager) {
         this.model = model;
         this.drawManager = drawManager;
     }
 
+    /**
+     * Captures and draws a frame on the calling thread.
+     */
     public void render(final HUDInfoDTO dto) {
+        if (localSnapshot == null) {
+            localSnapshot = new FrameSnapshot();
+        }
+        localSnapshot.clear();
+        capture(dto, localSnapshot);
+        render(localSnapshot, 1.0);
+    }
 
-        /** frame initialize */
-        drawManager.initDrawing(dto.getWidth(), dto.getHeight());
+    /**
+     * Checks whether the origin cutscene ended since the last call. The
+     * controller then clears the skill on the Model, which the view no
+     * longer writes to.
+     *
+     * @return True once per played cutscene.
+     */
+    public boolean consumeOriginFinished() {
+        if (!originFinished) return false;
+        originFinished = false;
+        return true;
+    }
 
-		/** draw configures */
-	    if (!model.getBlackHoles().isEmpty()) {
-		    for(BlackHole bkh : model.getBlackHoles()) {
-			    drawManager.getEntityRenderer().drawBlackHole(bkh);
-		    }
-	    }
+    /**
+     * Records everything a frame shows into a snapshot. Simulation thread only.
+     *
+     * @param dto
+     *            HUD values of the tick.
+     * @param snapshot
+     *            Cleared snapshot to fill.
+     */
+    void capture(final HUDInfoDTO dto, final FrameSnapshot snapshot) {
+        long start = profiler.begin();
+        frameNumber++;
+        snapshot.hud = dto;
+        snapshot.level = model.getCurrentLevel().getLevel();
+        snapshot.originActive = model.getOrigin_skill_activated();
+
+        /** world */
+        DrawList world = snapshot.world;
+        for (BlackHole bkh : model.getBlackHoles()) {
+            world.add(Kind.BLACK_HOLE, null, bkh.getPositionCX(), bkh.getPositionCY(), 0, 0, 0, 0,
+                    bkh.getRadius(), 0.0, null);
+        }
         if (model.getOmegaBoss() != null) {
-            drawManager.getEntityRenderer().drawHealthBarWithHP(model.getOmegaBoss());
-            drawManager.getUIRenderer().drawBossName("Omega");
+            captureBossBar(world, model.getOmegaBoss(), "Omega");
         }
         if (model.getFinalBoss() != null) {
-            drawManager.getEntityRenderer().drawHealthBarWithHP(model.getFinalBoss());
-            drawManager.getUIRenderer().drawBossName("???");
+            captureBossBar(world, model.getFinalBoss(), "???");
         }
         if (model.getZetaBoss() != null) {
-            drawManager.getEntityRenderer().drawHealthBarWithHP(model.getZetaBoss());
-            drawManager.getUIRenderer().drawBossName("Zeta");
+            captureBossBar(world, model.getZetaBoss(), "Zeta");
         }
         if (model.getGammaBoss() != null) {
-            drawManager.getEntityRenderer().drawHealthBarWithHP(model.getGammaBoss());
-            drawManager.getEntityRenderer().drawGammaBoss((GammaBoss) model.getGammaBoss());
-            drawManager.getUIRenderer().drawBossName("Gamma");
+            GammaBoss gammaBoss = (GammaBoss) model.getGammaBoss();
+            captureBossBar(world, gammaBoss, null);
+            if (gammaBoss.isShowingPath()) {
+                int[] targetPoint = gammaBoss.getDashEndPoint();
+                world.addLine(Kind.DASH_PATH,
+                        gammaBoss.getPositionX() + gammaBoss.getWidth() / 2,
+                        gammaBoss.getPositionY() + gammaBoss.getHeight() / 2,
+                        targetPoint[0], targetPoint[1], 0);
+            }
+            interpolate(world, world.addSprite(Kind.SPRITE, gammaBoss.getSpriteType(),
+                    gammaBoss.getPositionX(), gammaBoss.getPositionY(), argb(gammaBoss)), gammaBoss);
+            world.addValue(Kind.BOSS_NAME, 0, 0.0, "Gamma");
         }
         if (model.getBossLasers() != null) {
             for (LaserBeam laser : model.getBossLasers()) {
-                drawManager.getEntityRenderer().drawLaser(laser);
+                world.addLine(Kind.LASER, laser.getStartPosition().x, laser.getStartPosition().y,
+                        laser.getEndPosition().x, laser.getEndPosition().y,
+                        laser.getColor() == Color.GREEN ? 1 : 0);
             }
         }
-	    if(model.getExplosions() != null){
-		    for(Explosion ex : model.getExplosions()){
-			    drawManager.getEntityRenderer().drawExplosion(
-					    ex.isBoom(),
-					    ex,
-					    ex.getWarningProgress()
-			    );
-		    }
-	    }
-
-	    if (model.getOrigin_skill_activated()) {
-            drawManager.getSpecialAnimationRenderer().update(model.getCurrentLevel().getLevel());
-            drawManager.getSpecialAnimationRenderer().draw();
-
-            if (drawManager.getSpecialAnimationRenderer().isFinished()) {
-                model.setOrigin_skill_activated(false);
+        if (model.getExplosions() != null) {
+            for (Explosion ex : model.getExplosions()) {
+                world.addBounds(ex.isBoom() ? Kind.EXPLOSION : Kind.EXPLOSION_WARNING,
+                        ex.getPositionX(), ex.getPositionY(), ex.getWidth(), ex.getHeight(),
+                        ex.getWarningProgress());
             }
         }
 
-        else {
-            drawManager.getEntityRenderer().drawTeleport(model.getTeleportFromP1X(), dto.getShipP1().getWidth(), model.getTeleportFromP1Y(), dto.getShipP1().getHeight(), model.getIsTeleportP1(),1,model.getAfterTeleportFromP1X(),model.getAfterTeleportFromP1Y());
-            drawManager.getEntityRenderer().drawTeleport(model.getTeleportFromP2X(), dto.getShipP2().getWidth(), model.getTeleportFromP2Y(), dto.getShipP2().getHeight(), model.getIsTeleportP2(),2,model.getAfterTeleportFromP2X(),model.getAfterTeleportFromP2Y());
+        /** entities */
+        DrawList entities = snapshot.entities;
+        if (model.getIsTeleportP1()) teleportsP1++;
+        if (model.getIsTeleportP2()) teleportsP2++;
+        entities.add(Kind.TELEPORT, null, model.getTeleportFromP1X(), model.getTeleportFromP1Y(),
+                dto.getShipP1().getWidth(), dto.getShipP1().getHeight(),
+                model.getAfterTeleportFromP1X(), model.getAfterTeleportFromP1Y(), 1, teleportsP1, null);
+        entities.add(Kind.TELEPORT, null, model.getTeleportFromP2X(), model.getTeleportFromP2Y(),
+                dto.getShipP2().getWidth(), dto.getShipP2().getHeight(),
+                model.getAfterTeleportFromP2X(), model.getAfterTeleportFromP2Y(), 2, teleportsP2, null);
+        captureShield(entities, dto.getShipP1());
+        captureShield(entities, dto.getShipP2());
 
-            if (dto.getShipP1().isInvincible()) {
-                drawManager.getEntityRenderer().drawShield(dto.getShipP1().getPositionX(), dto.getShipP1().getWidth(), dto.getShipP1().getPositionY(), dto.getShipP1().getHeight(), dto.getShipP1().getInvincibilityRatio());
-            }
-            if (dto.getShipP2().isInvincible()) {
-                drawManager.getEntityRenderer().drawShield(dto.getShipP2().getPositionX(), dto.getShipP2().getWidth(), dto.getShipP2().getPositionY(), dto.getShipP2().getHeight(), dto.getShipP2().getInvincibilityRatio());
-            }
+        shipRenderQueue.clear();
+        if (model.getEntitiesToRender() != null) {
+            for (int i = 0; i < model.getEntitiesToRender().size(); i++) {
+                var e = model.getEntitiesToRender().get(i);
 
-            shipRenderQueue.clear();
-            /** Entity Rendering */
-            if (model.getEntitiesToRender() != null) {
-                for (int i = 0; i < model.getEntitiesToRender().size(); i++) {
-                    var e = model.getEntitiesToRender().get(i);
-
-                    if (e instanceof DropItem) {
-                        drawManager.getItemRenderer().render((DropItem) e);
-                        continue;
-                    }
-                    if (e instanceof Ship) {
-                        shipRenderQueue.add(e);
-                        continue;
-                    }
-                    drawManager.getEntityRenderer().drawEntity(e);
+                if (e instanceof DropItem item) {
+                    interpolate(entities, entities.addSprite(Kind.ITEM, ItemRenderer.spriteFor(item.getItemType()),
+                            item.getPositionX(), item.getPositionY(), 0), item);
+                    continue;
                 }
-                for (Entity s : shipRenderQueue) {
-                    drawManager.getEntityRenderer().drawEntity(s);
+                if (e instanceof Ship) {
+                    shipRenderQueue.add(e);
+                    continue;
                 }
+                captureEntity(entities, e);
+            }
+            for (Entity s : shipRenderQueue) {
+                captureEntity(entities, s);
             }
         }
+
+        /** HUD and UI */
+        snapshot.droppedItemCount = ItemHUDManager.getInstance().getDroppedItems(snapshot.droppedItems);
+        snapshot.achievementPopup = dto.getAchievementText() != null
+                && !model.getAchievementPopupCooldown().checkFinished();
+        snapshot.healthPopup = dto.getHealthPopupText() != null
+                && !model.getHealthPopupCooldown().checkFinished();
+
+        if (model.getShip() != null) {
+            captureChargingSkill(snapshot.charging, model.getShip(), dto.getHeight());
+        }
+        if (model.getShipP2() != null) {
+            captureChargingSkill(snapshot.charging, model.getShipP2(), dto.getHeight());
+        }
+
+        snapshot.countdownActive = !model.isInputDelayFinished();
+        if (snapshot.countdownActive) {
+            snapshot.countdown = (int) ((GameModel.INPUT_DELAY
+                    - (SimulationClock.currentTimeMillis() - model.getGameStartTime())) / 1000);
+            snapshot.bonusLife = model.isBonusLife();
+        }
+        snapshot.profilerLines = profiler.isOverlayVisible() ? profiler.overlayLines() : null;
+        profiler.end(TickProfiler.Phase.SNAPSHOT, start);
+    }
+
+    /**
+     * Draws a captured frame. Never reads the Model, so it may run on
+     * another thread than capture.
+     *
+     * @param snapshot
+     *            Frame to draw, not modified.
+     * @param alpha
+     *            Share of the tick elapsed since the snapshot was captured,
+     *            0 draws moving entities where they were in the previous
+     *            snapshot and 1 where they are in this one.
+     */
+    void render(final FrameSnapshot snapshot, final double alpha) {
+        final HUDInfoDTO dto = snapshot.hud;
+        final EntityRenderer entityRenderer = drawManager.getEntityRenderer();
+
+        /** frame initialize */
+        long start = profiler.begin();
+        drawManager.initDrawing(dto.getWidth(), dto.getHeight());
+        profiler.end(TickProfiler.Phase.RENDER_BEGIN, start);
+
+		/** draw configures */
+        start = profiler.begin();
+        drawList(snapshot.world, entityRenderer, alpha);
+        profiler.end(TickProfiler.Phase.RENDER_WORLD, start);
+
+        start = profiler.begin();
+        if (!snapshot.originActive) {
+            originDone = false;
+        }
+	    if (snapshot.originActive && !originDone) {
+            drawManager.getSpecialAnimationRenderer().update(snapshot.level);
+            drawManager.getSpecialAnimationRenderer().draw();
+
+            if (drawManager.getSpecialAnimationRenderer().isFinished()) {
+                // Later snapshots may still show the skill active until the controller clears it.
+                originDone = true;
+                originFinished = true;
+            }
+            profiler.end(TickProfiler.Phase.RENDER_SPECIAL, start);
+        }
+
+        else {
+            if (!dto.getOriginUsed()) {
+                drawManager.getSpecialAnimationRenderer().prefetch();
+            }
+            drawList(snapshot.entities, entityRenderer, alpha);
+            profiler.end(TickProfiler.Phase.RENDER_ENTITIES, start);
+        }
+        start = profiler.begin();
         drawManager.getHUDRenderer().drawScore(dto.getWidth(), dto.getScoreP1(), 25, 1);
         drawManager.getHUDRenderer().drawScore(dto.getWidth(), dto.getScoreP2(), 50, 2);
         drawManager.getHUDRenderer().drawCoin(dto.getWidth(), dto.getHeight(), dto.getCoin());
         drawManager.getHUDRenderer().drawLivesP1(dto.getLivesP1());
         drawManager.getHUDRenderer().drawLivesP2(dto.getLivesP2());
         drawManager.getHUDRenderer().drawTime(GameConstant.ITEMS_SEPARATION_LINE_HEIGHT, dto.getElapsedTimeMillis());
-        drawManager.getHUDRenderer().drawItemsHUD(dto.getWidth(), dto.getHeight());
+        drawManager.getHUDRenderer().drawItemsHUD(dto.getWidth(), dto.getHeight(), snapshot.droppedItems,
+                snapshot.droppedItemCount);
         drawManager.getHUDRenderer().drawLevel(GameConstant.ITEMS_SEPARATION_LINE_HEIGHT, dto.getLevelName());
         drawManager.getHUDRenderer().drawTeleportCooldowns(dto.getWidth(), dto.getHeight(), dto.teleportCooldownP1, dto.teleportCooldownP2,dto.getOriginUsed());
 //        if (dto.isOriginUsed()){
 //            drawManager.getHUDRenderer().drawOriginUsed();
 //        }
 
+        profiler.end(TickProfiler.Phase.RENDER_HUD, start);
+
         /** draw Line */
+        start = profiler.begin();
         drawManager.getUIRenderer().drawHorizontalLine(dto.getWidth(), GameConstant.STAT_SEPARATION_LINE_HEIGHT - 1);
         drawManager.getUIRenderer().drawHorizontalLine(dto.getWidth(), GameConstant.ITEMS_SEPARATION_LINE_HEIGHT);
 
         /** achievement popup */
-        if (dto.getAchievementText() != null && !model.getAchievementPopupCooldown().checkFinished()) {
+        if (snapshot.achievementPopup) {
             drawManager.getHUDRenderer().drawAchievementPopup(dto.getWidth(), dto.getAchievementText());
         }
 
         /** health popup */
-        if (dto.getHealthPopupText() != null && !model.getHealthPopupCooldown().checkFinished()) {
+        if (snapshot.healthPopup) {
             drawManager.getHUDRenderer().drawHealthPopup(dto.getWidth(), dto.getHealthPopupText());
         }
 
-
-        /** Charging skill visualization for Player 1 */
-        if (model.getShip() != null) {
-            drawChargingSkill(model.getShip(), dto.getWidth(), dto.getHeight());
-        }
-
-        /** Charging skill visualization for Player 2 */
-        if (model.getShipP2() != null) {
-            drawChargingSkill(model.getShipP2(), dto.getWidth(), dto.getHeight());
-        }
+        /** Charging skill visualization for both players */
+        drawList(snapshot.charging, entityRenderer, alpha);
 
         /** countdown */
-        if (!model.isInputDelayFinished()) {
-            int countdown = (int) ((GameModel.INPUT_DELAY
-                    - (System.currentTimeMillis() - model.getGameStartTime())) / 1000);
-
+        if (snapshot.countdownActive) {
             drawManager.getUIRenderer().drawCountDown(
                     dto.getWidth(),
                     dto.getHeight(),
                     dto.getLevel(),
-                    countdown,
-                    model.isBonusLife()
+                    snapshot.countdown,
+                    snapshot.bonusLife
             );
 
             drawManager.getUIRenderer().drawHorizontalLine(dto.getWidth(), dto.getHeight() / 2 - dto.getHeight() / 12);
             drawManager.getUIRenderer().drawHorizontalLine(dto.getWidth(), dto.getHeight() / 2 + dto.getHeight() / 12);
         }
 
-
-
+        /** profiler overlay */
+        if (snapshot.profilerLines != null) {
+            drawManager.getUIRenderer().drawProfilerOverlay(snapshot.profilerLines);
+        }
+        profiler.end(TickProfiler.Phase.RENDER_UI, start);
 
         /** frame complete */
+        start = profiler.begin();
         drawManager.completeDrawing();
+        profiler.end(TickProfiler.Phase.PRESENT, start);
+    }
+
+    /**
+     * Records the health bar and name of a boss. The bar is created the
+     * first time the boss is seen and only drawn from the next frame on.
+     */
+    private void captureBossBar(final DrawList world, final BossEntity boss, final String name) {
+        if (bossHealthBar == null) {
+            bossHealthBar = new HealthBar(boss.getHealPoint());
+        }
+        else {
+            bossHealthBar.setCurrent_HP(boss.getHealPoint());
+            world.addValue(Kind.BOSS_HEALTH, 0, bossHealthBar.getRatio_HP(), null);
+        }
+        if (boss.isDestroyed()) {
+            bossHealthBar = null;
+        }
+        if (name != null) {
+            world.addValue(Kind.BOSS_NAME, 0, 0.0, name);
+        }
+    }
+
+    private void captureShield(final DrawList entities, final Ship ship) {
+        if (ship.isInvincible()) {
+            interpolate(entities, entities.addBounds(Kind.SHIELD, ship.getPositionX(), ship.getPositionY(),
+                    ship.getWidth(), ship.getHeight(), ship.getInvincibilityRatio()), ship);
+        }
+    }
+
+    /**
+     * Makes a recorded command follow an entity from its position in the
+     * previous snapshot.
+     */
+    private void interpolate(final DrawList list, final int index, final Entity entity) {
+        entity.capturePosition(frameNumber);
+        list.interpolate(index, entity.getPreviousX(), entity.getPreviousY(),
+                entity.getPreciseX(), entity.getPreciseY());
+    }
+
+    /**
+     * Records an entity, preceded by the visuals of the boss pattern it is running.
+     */
+    private void captureEntity(final DrawList entities, final Entity entity) {
+        if (entity instanceof ZetaBoss zetaBoss) {
+            if (zetaBoss.getBossPattern() != null) {
+                captureBossPattern(entities, zetaBoss, zetaBoss.getBossPattern().getActivePattern());
+            }
+        }
+        else if (entity instanceof FinalBoss finalBoss) {
+            captureBossPattern(entities, finalBoss, finalBoss.getApocalypsePattern());
+            captureBossPattern(entities, finalBoss, finalBoss.getDashPattern());
+        }
+        else if (entity instanceof GuidedBullet gb) {
+            interpolate(entities, entities.add(Kind.GUIDED_BULLET, gb.getSpriteType(), gb.getPositionX(),
+                    gb.getPositionY(), gb.getWidth(), gb.getHeight(), 0, 0, 0, gb.getAngle(), null), gb);
+            return;
+        }
+        interpolate(entities, entities.addSprite(entity instanceof SubShip ? Kind.SUB_SHIP : Kind.SPRITE,
+                entity.getSpriteType(), entity.getPositionX(), entity.getPositionY(), argb(entity)), entity);
+    }
+
+    private static int argb(final Entity entity) {
+        Color color = entity.getColor();
+        return color == null ? 0 : color.getRGB();
+    }
+
+    private void captureBossPattern(final DrawList entities, final MidBoss boss, final BossPattern pattern) {
+        if (pattern instanceof DashPattern dashPattern) {
+            if (dashPattern.isShowingPath()) {
+                int[] targetPoint = dashPattern.getDashEndPoint(boss.getWidth(), boss.getHeight());
+                entities.addLine(Kind.DASH_PATH,
+                        boss.getPositionX() + boss.getWidth() / 2, boss.getPositionY() + boss.getHeight() / 2,
+                        targetPoint[0], targetPoint[1], 0);
+            }
+        }
+        else if (pattern instanceof ApocalypseAttackPattern apocalypse) {
+            if (apocalypse.isWarningActive()) {
+                entities.addValue(Kind.APOCALYPSE_WARNING, apocalypse.getSafeZoneColumn(), 0.0, null);
+            }
+            else if (apocalypse.isAttacking()) {
+                entities.addValue(Kind.APOCALYPSE_ATTACK, apocalypse.getSafeZoneColumn(), 0.0, null);
+            }
+        }
     }
 
     /**
-     * Draws the charging skill UI elements including charge bar and laser beam.
+     * Records the charging skill UI elements including charge bar and laser beam.
      * @param ship The ship to draw charging skill for
-     * @param screenWidth Screen width
      * @param screenHeight Screen height
      */
-    private void drawChargingSkill(Ship ship, int screenWidth, int screenHeight) {
+    private void captureChargingSkill(final DrawList charging, final Ship ship, final int screenHeight) {
         // Draw charging progress bar
         if (ship.isCharging()) {
-            double progress = ship.getChargeProgress();
-            drawManager.getEntityRenderer().drawChargingBar(
-                    ship.getPositionX(),
-                    ship.getPositionY() - 10,
-                    ship.getWidth(),
-                    progress
-            );
+            interpolate(charging, charging.add(Kind.CHARGING_BAR, null, ship.getPositionX(),
+                    ship.getPositionY() - 10, ship.getWidth(), 0, 0, 0, 0, ship.getChargeProgress(), null), ship);
         }
 
         // Draw laser beam when active
         if (ship.isLaserActive()) {
-            drawManager.getEntityRenderer().drawChargingLaser(
-                    ship.getPositionX() + ship.getWidth() / 2,
-                    ship.getPositionY(),
-                    ship.getWidth(),
-                    screenHeight
-            );
+            interpolate(charging, charging.add(Kind.CHARGING_LASER, null, ship.getPositionX() + ship.getWidth() / 2,
+                    ship.getPositionY(), ship.getWidth(), screenHeight, 0, 0, 0, 0.0, null), ship);
         }
     }
-}
 
+    /**
+     * Draws every command of a list in recording order, moving entities
+     * at the given point between the snapshots.
+     */
+    private void drawList(final DrawList list, final EntityRenderer entityRenderer, final double alpha) {
+        for (int i = 0; i < list.size(); i++) {
+            switch (list.kind(i)) {
+                case SPRITE -> entityRenderer.drawSprite(list.sprite(i), false, list.data(i),
+                        list.drawX(i, alpha), list.drawY(i, alpha));
+                case SUB_SHIP -> entityRenderer.drawSprite(list.sprite(i), true, list.data(i),
+                        list.drawX(i, alpha), list.drawY(i, alpha));
+                case GUIDED_BULLET -> entityRenderer.drawGuidedBullet(list.sprite(i), list.x(i, alpha),
+                        list.y(i, alpha), list.w(i), list.h(i), list.value(i));
+                case ITEM -> drawManager.getItemRenderer().render(list.sprite(i), list.drawX(i, alpha),
+                        list.drawY(i, alpha));
+                case DASH_PATH -> entityRenderer.drawDashPathTowards(list.x(i), list.y(i), list.x2(i), list.y2(i));
+                case APOCALYPSE_WARNING -> entityRenderer.drawApocalypse(true, list.data(i));
+                case APOCALYPSE_ATTACK -> entityRenderer.drawApocalypse(false, list.data(i));
+                case BLACK_HOLE -> entityRenderer.drawBlackHole(list.x(i), list.y(i), list.data(i));
+                case BOSS_HEALTH -> entityRenderer.drawBossHealthBar((float) list.value(i));
+                case BOSS_NAME -> drawManager.getUIRenderer().drawBossName(list.text(i));
+                case LASER -> entityRenderer.drawLaser(list.x(i), list.y(i), list.x2(i), list.y2(i),
+                        list.data(i) == 1);
+                case EXPLOSION_WARNING -> entityRenderer.drawExplosion(false, list.x(i), list.y(i),
+                        list.w(i), list.h(i), list.value(i));
+                case EXPLOSION -> entityRenderer.drawExplosion(true, list.x(i), list.y(i),
+                        list.w(i), list.h(i), list.value(i));
+                case TELEPORT -> drawTeleport(list, i, entityRenderer);
+                case SHIELD -> entityRenderer.drawShield(list.drawX(i, alpha), list.w(i), list.drawY(i, alpha),
+                        list.h(i), list.value(i));
+                case CHARGING_BAR -> entityRenderer.drawChargingBar(list.drawX(i, alpha), list.drawY(i, alpha),
+                        list.w(i), list.value(i));
+                case CHARGING_LASER -> entityRenderer.drawChargingLaser(list.drawX(i, alpha), list.drawY(i, alpha),
+                        list.w(i), list.h(i));
+            }
+        }
+    }
+
+    /**
+     * Draws a teleport, restarting its fade when the player teleported
+     * since the last drawn frame, whichever tick the teleport happened in.
+     */
+    private void drawTeleport(final DrawList list, final int i, final EntityRenderer entityRenderer) {
+        int playerId = list.data(i);
+        int teleports = (int) list.value(i);
+        boolean isTeleport;
+        if (playerId == 1) {
+            isTeleport = teleports != drawnTeleportsP1;
+            drawnTeleportsP1 = teleports;
+        } else {
+            isTeleport = teleports != drawnTeleportsP2;
+            drawnTeleportsP2 = teleports;
+        }
+        entityRenderer.drawTeleport(list.x(i), list.w(i), list.y(i), list.h(i), isTeleport, playerId,
+                list.x2(i), list.y2(i));
+    }
+}
@@ -0,0 +1,188 @@
+package engine.view;
+
+import engine.DTO.HUDInfoDTO;
+import engine.core.Core;
+
+import java.awt.DisplayMode;
+import java.awt.GraphicsEnvironment;
+import java.awt.HeadlessException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Draws the game on its own thread, so a slow frame does not hold back
+ * the simulation and the simulation does not wait for the display.
+ * The simulation publishes a snapshot at the end of every tick; the render
+ * thread draws the newest one once per display refresh, skipping those
+ * published while it was busy, and moves the entities along from their
+ * previous positions by the share of the tick elapsed since publishing.
+ * Three snapshots are exchanged: the back one, filled by the simulation,
+ * the front one, drawn by the render thread, and the last published one
+ * waiting in between. Publishing swaps the back and published snapshots,
+ * and taking a frame swaps the published and front ones, both under a
+ * lock held only for the swap, so neither side ever sees the other writing
+ * or reading a snapshot.
+ *
+ * Frames are drawn at the refresh rate of the screen. Setting the system
+ * property {@value #RATE_PROPERTY} overrides it.
+ */
+public final class RenderThread {
+
+    /** System property setting the number of frames drawn per second. */
+    public static final String RATE_PROPERTY = "invaders.render.hz";
+    /** Frames drawn per second when the screen does not report its refresh rate. */
+    public static final int DEFAULT_RATE = 60;
+    /** Time given to the render thread to finish its frame when stopped. */
+    private static final long STOP_TIMEOUT_MILLIS = 1000;
+
+    /** Application logger. */
+    private static final Logger LOGGER = Core.getLogger();
+
+    /** View capturing and drawing the frames. */
+    private final GameView view;
+    /** Duration of a simulation tick. */
+    private final long tickNanos;
+    /** Time between two drawn frames. */
+    private final long frameNanos;
+    /** Guards the exchange of snapshots. */
+    private final Object lock = new Object();
+    /** Snapshot being filled, owned by the simulation. */
+    private FrameSnapshot back = new FrameSnapshot();
+    /** Newest complete snapshot, not yet taken by the render thread. */
+    private FrameSnapshot published = new FrameSnapshot();
+    /** Snapshot being drawn, owned by the render thread. */
+    private FrameSnapshot front = new FrameSnapshot();
+    /** Number of the last published tick. */
+    private long sequence;
+    /** Thread drawing the frames, null until started. */
+    private Thread thread;
+    /** True while frames are drawn. */
+    private volatile boolean running;
+
+    /**
+     * Constructor, the thread is started separately.
+     *
+     * @param view
+     *            View capturing and drawing the frames.
+     * @param ticksPerSecond
+     *            Rate at which the simulation publishes snapshots.
+     */
+    public RenderThread(final GameView view, final int ticksPerSecond) {
+        this.view = view;
+        this.tickNanos = TimeUnit.SECONDS.toNanos(1) / ticksPerSecond;
+        this.frameNanos = TimeUnit.SECONDS.toNanos(1) / refreshRate();
+    }
+
+    /**
+     * Getter for the number of frames drawn per second.
+     *
+     * @return The rate set by {@value #RATE_PROPERTY}, else the refresh
+     *         rate of the screen, else {@value #DEFAULT_RATE}.
+     */
+    public static int refreshRate() {
+        Integer configured = Integer.getInteger(RATE_PROPERTY);
+        if (configured != null && configured > 0) return configured;
+        if (!GraphicsEnvironment.isHeadless()) {
+            try {
+                int rate = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                        .getDefaultScreenDevice().getDisplayMode().getRefreshRate();
+                if (rate != DisplayMode.REFRESH_RATE_UNKNOWN && rate > 0) return rate;
+            } catch (HeadlessException e) {
+                // No screen to ask, use the default.
+            }
+        }
+        return DEFAULT_RATE;
+    }
+
+    /**
+     * Starts drawing published frames.
+     */
+    public void start() {
+        this.running = true;
+        this.thread = new Thread(this::run, "Render");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Captures the current state of the game and hands it to the render
+     * thread. Called by the simulation at the end of every tick.
+     *
+     * @param dto
+     *            HUD values of the tick.
+     */
+    public void publish(final HUDInfoDTO dto) {
+        this.back.clear();
+        this.view.capture(dto, this.back);
+        this.back.sequence = ++this.sequence;
+        this.back.publishedNanos = System.nanoTime();
+        synchronized (this.lock) {
+            FrameSnapshot filled = this.back;
+            this.back = this.published;
+            this.published = filled;
+            this.lock.notifyAll();
+        }
+    }
+
+    /**
+     * Stops the render thread once it finished its current frame, so the
+     * caller can draw on the window again.
+     */
+    public void stop() {
+        this.running = false;
+        synchronized (this.lock) {
+            this.lock.notifyAll();
+        }
+        if (this.thread == null) return;
+        try {
+            this.thread.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (this.thread.isAlive()) {
+            LOGGER.warning("[RenderThread] Still drawing after " + STOP_TIMEOUT_MILLIS + " ms");
+        }
+        this.thread = null;
+    }
+
+    private void run() {
+        long nextFrame = System.nanoTime();
+        while (this.running) {
+            synchronized (this.lock) {
+                // Nothing to draw before the first snapshot.
+                while (this.running && this.published.sequence == 0 && this.front.sequence == 0) {
+                    try {
+                        this.lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (!this.running) return;
+                if (this.published.sequence > this.front.sequence) {
+                    FrameSnapshot next = this.published;
+                    this.published = this.front;
+                    this.front = next;
+                }
+            }
+
+            double alpha = (double) (System.nanoTime() - this.front.publishedNanos) / this.tickNanos;
+            try {
+                this.view.render(this.front, Math.max(0.0, Math.min(1.0, alpha)));
+            } catch (RuntimeException e) {
+                // Keep the game running, the next snapshot may draw fine.
+                LOGGER.log(Level.SEVERE, "[RenderThread] Frame " + this.front.sequence + " failed", e);
+            }
+
+            nextFrame += this.frameNanos;
+            long wait = nextFrame - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else {
+                // Too slow for the display, draw the next frame right away without catching up.
+                nextFrame = System.nanoTime();
+            }
+        }
+    }
+}
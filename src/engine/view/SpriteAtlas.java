@@ -2,112 +2,208 @@ package engine.view;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Future;
+
+import javax.imageio.ImageIO;
 
 import engine.view.DrawManager.SpriteType;
+import engine.core.AssetLoader;
 import engine.core.FileManager;
 import engine.core.Core;
 
 public final class SpriteAtlas {
 
+    /** Sprites drawn at the size of their entity instead of the sprite scale, never pre-scaled. */
+    private static final Set<SpriteType> UNSCALED = EnumSet.of(SpriteType.BlackHole1, SpriteType.BlackHole2);
+    /** Sprites that also get a half-scale copy, drawn by sub ships. */
+    private static final Set<SpriteType> HALF_SCALED = EnumSet.of(SpriteType.SubShipP1, SpriteType.SubShipP2);
+
     private Map<SpriteType, BufferedImage> spriteMap = new LinkedHashMap<>();
+    /** Sprites resized to the current scale, ready to be drawn 1:1. */
+    private final Map<SpriteType, BufferedImage> scaledMap = new EnumMap<>(SpriteType.class);
+    /** Half-scale copies of the sub ship sprites. */
+    private final Map<SpriteType, BufferedImage> halfScaledMap = new EnumMap<>(SpriteType.class);
+    /** Scale the pre-scaled sprites were made for, 0 if none. */
+    private double preparedScale;
+
+    private final FileManager fileManager;
+    /** Place of the packed sprites in the atlas being decoded, empty without an atlas. */
+    private Map<SpriteType, Rectangle> atlasIndex = new EnumMap<>(SpriteType.class);
+    /** Packed atlas being decoded, null once collected or without an atlas. */
+    private Future<BufferedImage> pendingAtlas;
+    /** Sprites left out of the atlas being decoded, empty once collected. */
+    private final Map<SpriteType, Future<BufferedImage>> pendingSprites = new EnumMap<>(SpriteType.class);
+    /** True once the sprites are collected and completed. */
+    private boolean loaded;
 
+    /**
+     * Constructor, loads every sprite on the calling thread.
+     */
     public SpriteAtlas(FileManager fileManager) {
+        this.fileManager = fileManager;
         try {
-            spriteMap = new LinkedHashMap<SpriteType, BufferedImage>();
-            spriteMap.put(SpriteType.ShipP1, new BufferedImage(25,31,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.ShipP2, new BufferedImage(25,31,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.ShipP1Move, new BufferedImage(25,43,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.ShipP2Move, new BufferedImage(25,42,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.ShipP2Explosion1, new BufferedImage(25,31,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.ShipP2Explosion2, new BufferedImage(31,31,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.ShipP2Explosion3, new BufferedImage(31,31,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.Life, new BufferedImage(8,8,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.ShipP1Explosion1, new BufferedImage(25,31,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.ShipP1Explosion2, new BufferedImage(31,31,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.ShipP1Explosion3, new BufferedImage(31,31,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.Bullet, new BufferedImage(3,5,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.EnemyBullet, new BufferedImage(3,5,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.EnemyShipA1, new BufferedImage(25,25,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.EnemyShipA2, new BufferedImage(25,25,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.EnemyShipB1, new BufferedImage(12,8,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.EnemyShipB2, new BufferedImage(12,8,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.EnemyShipC1, new BufferedImage(12,8,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.EnemyShipC2, new BufferedImage(12,8,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.EnemyShipSpecial, new BufferedImage(30,38,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.EnemySpecialExplosion, new BufferedImage(38,38,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.Explosion, new BufferedImage(25,25,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.SoundOn, new BufferedImage(15,15,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.SoundOff, new BufferedImage(15,15,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.Item_Stop, new BufferedImage(20,20,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.Item_Shield, new BufferedImage(20,20,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.Item_Heal, new BufferedImage(20,20,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.Shield, new BufferedImage(61,61,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.FinalBoss1, new BufferedImage(50,40,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.FinalBoss2, new BufferedImage(50,40,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.PinnedBossPatternBullet,new BufferedImage(6,10,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.FinalBossDeath, new BufferedImage(50,40,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.OmegaBoss1, new BufferedImage(70,51,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.OmegaBoss2, new BufferedImage(70,51,BufferedImage.TYPE_INT_ARGB));
-
-            spriteMap.put(SpriteType.OmegaBossHitting, new BufferedImage(32,32,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.OmegaBossMoving1, new BufferedImage(32,32,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.OmegaBossMoving2, new BufferedImage(32,32,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.OmegaBossDash1, new BufferedImage(32,32,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.OmegaBossDash2, new BufferedImage(32,32,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.OmegaBossDeath, new BufferedImage(16,16,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.ZigZagAngryPatternBullet, new BufferedImage(16,16,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.Laser, new BufferedImage(5,13,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.BlackHole1, new BufferedImage(1024,1024,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.BlackHole2, new BufferedImage(1024,1024,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.ZetaBoss1, new BufferedImage(70,51,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.ZetaBoss2, new BufferedImage(70,51,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.ZetaBossMoving1, new BufferedImage(70,51,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.ZetaBossMoving2, new BufferedImage(70,51,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.ZetaBossDash1, new BufferedImage(70,51,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.ZetaBossDash2, new BufferedImage(70,51,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.Teleport, new BufferedImage(70,51,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.TeleportCool, new BufferedImage(70,51,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.Bomb1, new BufferedImage(70,51,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.Bomb2, new BufferedImage(70,51,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.BombExplosion, new BufferedImage(70,51,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.Item_Bomb, new BufferedImage(20,20 ,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.BombBullet, new BufferedImage(15,40,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.Item_Coin, new BufferedImage(20,20,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.SubShipP1, new BufferedImage(50,31,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.SubShipP2, new BufferedImage(50,31,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.BasicBackGroundPatternBullet, new BufferedImage(6,13,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.GammaBoss1, new BufferedImage(50,70,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.GammaBoss2, new BufferedImage(50,70,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.GammaBossDash1, new BufferedImage(50,70,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.GammaBossDash2, new BufferedImage(50,70,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.GammaBossDashing1, new BufferedImage(50,70,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.GammaBossDashing2, new BufferedImage(50,70,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.GuidedBullet1, new BufferedImage(30,30,BufferedImage.TYPE_INT_ARGB));
-            spriteMap.put(SpriteType.GuidedBullet2, new BufferedImage(30,30,BufferedImage.TYPE_INT_ARGB));
+            // The packed atlas is decoded in one go; PNGs left out of it, or all of them without an atlas, are read on their own.
+            fileManager.loadSpriteAtlas(spriteMap);
             fileManager.loadSprite(spriteMap);
-            //symatric sprite
-            spriteMap.put(SpriteType.OmegaBossDash3, mirrorSprite(spriteMap.get(SpriteType.OmegaBossDash1)));
-            spriteMap.put(SpriteType.OmegaBossDash4, mirrorSprite(spriteMap.get(SpriteType.OmegaBossDash2)));
-            spriteMap.put(SpriteType.EnemyShipSpecialLeft, mirrorSprite(spriteMap.get(SpriteType.EnemyShipSpecial)));
-            spriteMap.put(SpriteType.ZetaBossRight1, mirrorSprite(spriteMap.get(SpriteType.ZetaBoss1)));
-            spriteMap.put(SpriteType.ZetaBossRight2, mirrorSprite(spriteMap.get(SpriteType.ZetaBoss2)));
-            spriteMap.put(SpriteType.ZetaBossMovingRight1, mirrorSprite(spriteMap.get(SpriteType.ZetaBossMoving1)));
-            spriteMap.put(SpriteType.ZetaBossMovingRight2, mirrorSprite(spriteMap.get(SpriteType.ZetaBossMoving2)));
-            spriteMap.put(SpriteType.ZetaBossDashRight1, mirrorSprite(spriteMap.get(SpriteType.ZetaBossDash1)));
-            spriteMap.put(SpriteType.ZetaBossDashRight2, mirrorSprite(spriteMap.get(SpriteType.ZetaBossDash2)));
-            spriteMap.put(SpriteType.GammaBoss1Left, mirrorSprite(spriteMap.get(SpriteType.GammaBoss1)));
-            spriteMap.put(SpriteType.GammaBoss2Left, mirrorSprite(spriteMap.get(SpriteType.GammaBoss2)));
-            spriteMap.put(SpriteType.GammaBossDash1Left, mirrorSprite(spriteMap.get(SpriteType.GammaBossDash1)));
-            spriteMap.put(SpriteType.GammaBossDash2Left, mirrorSprite(spriteMap.get(SpriteType.GammaBossDash2)));
-            spriteMap.put(SpriteType.GammaBossDashing1Left, mirrorSprite(spriteMap.get(SpriteType.GammaBossDashing1)));
-            spriteMap.put(SpriteType.GammaBossDashing2Left, mirrorSprite(spriteMap.get(SpriteType.GammaBossDashing2)));
+        } catch (IOException e) {
+            Core.getLogger().warning("[SpriteAtlas] Failed to load sprites: " + e.getMessage());
+        }
+        complete();
+    }
+
+    /**
+     * Constructor, starts decoding the sprites on the asset loader: the
+     * packed atlas and every sprite left out of it are separate tasks, so
+     * the large loose sprites decode alongside the atlas.
+     * {@link #awaitLoaded()} collects them.
+     */
+    public SpriteAtlas(FileManager fileManager, AssetLoader assets) {
+        this.fileManager = fileManager;
+        try {
+            Map<SpriteType, Rectangle> index = fileManager.loadSpriteAtlasIndex();
+            if (!index.isEmpty()) {
+                atlasIndex.putAll(index);
+                pendingAtlas = assets.submit("atlas/sprites.png", AssetLoader.Kind.IMAGE, fileManager::loadSpriteAtlasImage);
+            }
+        } catch (IOException e) {
+            Core.getLogger().warning("[SpriteAtlas] Failed to read the atlas index: " + e.getMessage());
+        }
+        for (Map.Entry<SpriteType, File> sprite : fileManager.listSprites().entrySet()) {
+            if (atlasIndex.containsKey(sprite.getKey())) continue;
+            File file = sprite.getValue();
+            pendingSprites.put(sprite.getKey(), assets.submit(file.getName(), AssetLoader.Kind.IMAGE, () -> ImageIO.read(file)));
+        }
+    }
 
+    /**
+     * Waits for the sprites submitted by the constructor and completes the
+     * atlas. Does nothing if the sprites are already loaded.
+     */
+    public void awaitLoaded() {
+        if (loaded) return;
+        if (pendingAtlas != null) {
+            BufferedImage atlas = AssetLoader.await(pendingAtlas, "sprite atlas");
+            if (atlas != null) {
+                for (Map.Entry<SpriteType, Rectangle> sprite : atlasIndex.entrySet()) {
+                    Rectangle r = sprite.getValue();
+                    spriteMap.put(sprite.getKey(), atlas.getSubimage(r.x, r.y, r.width, r.height));
+                }
+            }
+            pendingAtlas = null;
+        }
+        for (Map.Entry<SpriteType, Future<BufferedImage>> sprite : pendingSprites.entrySet()) {
+            BufferedImage image = AssetLoader.await(sprite.getValue(), sprite.getKey().name());
+            if (image != null) spriteMap.put(sprite.getKey(), image);
+        }
+        pendingSprites.clear();
+        try {
+            // Anything the tasks could not provide, e.g. a broken atlas, is read from its own file.
+            fileManager.loadSprite(spriteMap);
         } catch (IOException e) {
             Core.getLogger().warning("[SpriteAtlas] Failed to load sprites: " + e.getMessage());
         }
+        complete();
+    }
+
+    /**
+     * Adds placeholders for missing sprites and the mirrored sprites.
+     */
+    private void complete() {
+        // Blank sprites of the expected size for anything missing from the resources.
+        placeholder(SpriteType.ShipP1, 25, 31);
+        placeholder(SpriteType.ShipP2, 25, 31);
+        placeholder(SpriteType.ShipP1Move, 25, 43);
+        placeholder(SpriteType.ShipP2Move, 25, 42);
+        placeholder(SpriteType.ShipP2Explosion1, 25, 31);
+        placeholder(SpriteType.ShipP2Explosion2, 31, 31);
+        placeholder(SpriteType.ShipP2Explosion3, 31, 31);
+        placeholder(SpriteType.Life, 8, 8);
+        placeholder(SpriteType.ShipP1Explosion1, 25, 31);
+        placeholder(SpriteType.ShipP1Explosion2, 31, 31);
+        placeholder(SpriteType.ShipP1Explosion3, 31, 31);
+        placeholder(SpriteType.Bullet, 3, 5);
+        placeholder(SpriteType.EnemyBullet, 3, 5);
+        placeholder(SpriteType.EnemyShipA1, 25, 25);
+        placeholder(SpriteType.EnemyShipA2, 25, 25);
+        placeholder(SpriteType.EnemyShipB1, 12, 8);
+        placeholder(SpriteType.EnemyShipB2, 12, 8);
+        placeholder(SpriteType.EnemyShipC1, 12, 8);
+        placeholder(SpriteType.EnemyShipC2, 12, 8);
+        placeholder(SpriteType.EnemyShipSpecial, 30, 38);
+        placeholder(SpriteType.EnemySpecialExplosion, 38, 38);
+        placeholder(SpriteType.Explosion, 25, 25);
+        placeholder(SpriteType.SoundOn, 15, 15);
+        placeholder(SpriteType.SoundOff, 15, 15);
+        placeholder(SpriteType.Item_Stop, 20, 20);
+        placeholder(SpriteType.Item_Shield, 20, 20);
+        placeholder(SpriteType.Item_Heal, 20, 20);
+        placeholder(SpriteType.Shield, 61, 61);
+        placeholder(SpriteType.FinalBoss1, 50, 40);
+        placeholder(SpriteType.FinalBoss2, 50, 40);
+        placeholder(SpriteType.PinnedBossPatternBullet, 6, 10);
+        placeholder(SpriteType.FinalBossDeath, 50, 40);
+        placeholder(SpriteType.OmegaBoss1, 70, 51);
+        placeholder(SpriteType.OmegaBoss2, 70, 51);
+
+        placeholder(SpriteType.OmegaBossHitting, 32, 32);
+        placeholder(SpriteType.OmegaBossMoving1, 32, 32);
+        placeholder(SpriteType.OmegaBossMoving2, 32, 32);
+        placeholder(SpriteType.OmegaBossDash1, 32, 32);
+        placeholder(SpriteType.OmegaBossDash2, 32, 32);
+        placeholder(SpriteType.OmegaBossDeath, 16, 16);
+        placeholder(SpriteType.ZigZagAngryPatternBullet, 16, 16);
+        placeholder(SpriteType.Laser, 5, 13);
+        placeholder(SpriteType.BlackHole1, 1024, 1024);
+        placeholder(SpriteType.BlackHole2, 1024, 1024);
+        placeholder(SpriteType.ZetaBoss1, 70, 51);
+        placeholder(SpriteType.ZetaBoss2, 70, 51);
+        placeholder(SpriteType.ZetaBossMoving1, 70, 51);
+        placeholder(SpriteType.ZetaBossMoving2, 70, 51);
+        placeholder(SpriteType.ZetaBossDash1, 70, 51);
+        placeholder(SpriteType.ZetaBossDash2, 70, 51);
+        placeholder(SpriteType.Teleport, 70, 51);
+        placeholder(SpriteType.TeleportCool, 70, 51);
+        placeholder(SpriteType.Bomb1, 70, 51);
+        placeholder(SpriteType.Bomb2, 70, 51);
+        placeholder(SpriteType.BombExplosion, 70, 51);
+        placeholder(SpriteType.Item_Bomb, 20, 20);
+        placeholder(SpriteType.BombBullet, 15, 40);
+        placeholder(SpriteType.Item_Coin, 20, 20);
+        placeholder(SpriteType.SubShipP1, 50, 31);
+        placeholder(SpriteType.SubShipP2, 50, 31);
+        placeholder(SpriteType.BasicBackGroundPatternBullet, 6, 13);
+        placeholder(SpriteType.GammaBoss1, 50, 70);
+        placeholder(SpriteType.GammaBoss2, 50, 70);
+        placeholder(SpriteType.GammaBossDash1, 50, 70);
+        placeholder(SpriteType.GammaBossDash2, 50, 70);
+        placeholder(SpriteType.GammaBossDashing1, 50, 70);
+        placeholder(SpriteType.GammaBossDashing2, 50, 70);
+        placeholder(SpriteType.GuidedBullet1, 30, 30);
+        placeholder(SpriteType.GuidedBullet2, 30, 30);
+        //symatric sprite
+        spriteMap.put(SpriteType.OmegaBossDash3, mirrorSprite(spriteMap.get(SpriteType.OmegaBossDash1)));
+        spriteMap.put(SpriteType.OmegaBossDash4, mirrorSprite(spriteMap.get(SpriteType.OmegaBossDash2)));
+        spriteMap.put(SpriteType.EnemyShipSpecialLeft, mirrorSprite(spriteMap.get(SpriteType.EnemyShipSpecial)));
+        spriteMap.put(SpriteType.ZetaBossRight1, mirrorSprite(spriteMap.get(SpriteType.ZetaBoss1)));
+        spriteMap.put(SpriteType.ZetaBossRight2, mirrorSprite(spriteMap.get(SpriteType.ZetaBoss2)));
+        spriteMap.put(SpriteType.ZetaBossMovingRight1, mirrorSprite(spriteMap.get(SpriteType.ZetaBossMoving1)));
+        spriteMap.put(SpriteType.ZetaBossMovingRight2, mirrorSprite(spriteMap.get(SpriteType.ZetaBossMoving2)));
+        spriteMap.put(SpriteType.ZetaBossDashRight1, mirrorSprite(spriteMap.get(SpriteType.ZetaBossDash1)));
+        spriteMap.put(SpriteType.ZetaBossDashRight2, mirrorSprite(spriteMap.get(SpriteType.ZetaBossDash2)));
+        spriteMap.put(SpriteType.GammaBoss1Left, mirrorSprite(spriteMap.get(SpriteType.GammaBoss1)));
+        spriteMap.put(SpriteType.GammaBoss2Left, mirrorSprite(spriteMap.get(SpriteType.GammaBoss2)));
+        spriteMap.put(SpriteType.GammaBossDash1Left, mirrorSprite(spriteMap.get(SpriteType.GammaBossDash1)));
+        spriteMap.put(SpriteType.GammaBossDash2Left, mirrorSprite(spriteMap.get(SpriteType.GammaBossDash2)));
+        spriteMap.put(SpriteType.GammaBossDashing1Left, mirrorSprite(spriteMap.get(SpriteType.GammaBossDashing1)));
+        spriteMap.put(SpriteType.GammaBossDashing2Left, mirrorSprite(spriteMap.get(SpriteType.GammaBossDashing2)));
+        loaded = true;
     }
 
     public BufferedImage get(SpriteType type) {
@@ -118,6 +214,83 @@ public final class SpriteAtlas {
         return java.util.Collections.unmodifiableMap(spriteMap);
     }
 
+    /**
+     * Resizes every sprite once to the given scale, the same size renderers
+     * used to stretch them to on every draw, so they can be drawn 1:1.
+     * The copies are compatible with the display when there is one.
+     * Does nothing if the sprites were already prepared for this scale.
+     *
+     * @param scale
+     *            Sprite scale of the DrawManager.
+     */
+    public void prescale(final double scale) {
+        if (scale <= 0 || scale == preparedScale) return;
+        GraphicsConfiguration configuration = GraphicsEnvironment.isHeadless() ? null
+                : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+
+        scaledMap.clear();
+        halfScaledMap.clear();
+        for (Map.Entry<SpriteType, BufferedImage> entry : spriteMap.entrySet()) {
+            if (UNSCALED.contains(entry.getKey())) continue;
+            scaledMap.put(entry.getKey(), resize(entry.getValue(), scale, configuration));
+            if (HALF_SCALED.contains(entry.getKey())) {
+                halfScaledMap.put(entry.getKey(), resize(entry.getValue(), scale * 0.5, configuration));
+            }
+        }
+        preparedScale = scale;
+        Core.getLogger().info("[SpriteAtlas] Pre-scaled " + scaledMap.size() + " sprites to scale " + scale);
+    }
+
+    /**
+     * Returns a sprite resized to the scale given to {@link #prescale(double)}.
+     *
+     * @param type
+     *            Requested sprite.
+     * @return Scaled sprite, null if it was not pre-scaled.
+     */
+    public BufferedImage getScaled(SpriteType type) {
+        return scaledMap.get(type);
+    }
+
+    /**
+     * Returns the half-scale copy of a sub ship sprite.
+     *
+     * @param type
+     *            Requested sprite.
+     * @return Scaled sprite, null if the sprite has no half-scale copy.
+     */
+    public BufferedImage getHalfScaled(SpriteType type) {
+        return halfScaledMap.get(type);
+    }
+
+    /**
+     * Size of a sprite side at a scale, same rounding as the renderers.
+     */
+    static int scaledSize(final int size, final double scale) {
+        return Math.max(1, (int) (size * scale * 2));
+    }
+
+    private static BufferedImage resize(BufferedImage source, double scale, GraphicsConfiguration configuration) {
+        int w = scaledSize(source.getWidth(), scale);
+        int h = scaledSize(source.getHeight(), scale);
+        BufferedImage scaled = configuration != null
+                ? configuration.createCompatibleImage(w, h, Transparency.TRANSLUCENT)
+                : new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        g.drawImage(source, 0, 0, w, h, null);
+        g.dispose();
+        return scaled;
+    }
+
+    /**
+     * Puts a blank sprite of the given size unless the sprite was loaded.
+     */
+    private void placeholder(SpriteType type, int width, int height) {
+        if (!spriteMap.containsKey(type)) {
+            spriteMap.put(type, new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB));
+        }
+    }
+
     private BufferedImage mirrorSprite(BufferedImage original) {
         int w = original.getWidth();
         int h = original.getHeight();
@@ -0,0 +1,160 @@
+package engine.view;
+
+import engine.view.DrawManager.SpriteType;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Packs the sprite PNGs into a single atlas image and an index, run at
+ * build time by the 'packSprites' Gradle task.
+ * Every PNG whose name matches a SpriteType is placed on shelves sorted by
+ * height, with a pixel of padding between sprites. The index has one line
+ * per sprite: ordinal, name, x, y, width and height in the atlas.
+ * Sprites larger than {@value #MAX_PACKED_SIZE} pixels on a side, like the
+ * black holes, would mostly add empty atlas space to decode and are left
+ * as separate files.
+ *
+ * Usage: SpriteAtlasPacker SOURCE_DIR OUTPUT_DIR
+ */
+public final class SpriteAtlasPacker {
+
+    /** Name of the packed image, relative to the output directory. */
+    public static final String IMAGE_FILE = "sprites.png";
+    /** Name of the index, relative to the output directory. */
+    public static final String INDEX_FILE = "sprites.idx";
+    /** Largest sprite side packed into the atlas. */
+    public static final int MAX_PACKED_SIZE = 256;
+    /** Transparent pixels left between sprites. */
+    private static final int PADDING = 1;
+
+    /** A sprite and its place in the atlas. */
+    private static final class Placement {
+        private final SpriteType type;
+        private final BufferedImage image;
+        private int x;
+        private int y;
+
+        private Placement(final SpriteType type, final BufferedImage image) {
+            this.type = type;
+            this.image = image;
+        }
+    }
+
+    /**
+     * Constructor, not called.
+     */
+    private SpriteAtlasPacker() {
+
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args
+     *            Source directory of the PNGs and output directory.
+     * @throws IOException
+     *             In case of reading or writing problems.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: SpriteAtlasPacker SOURCE_DIR OUTPUT_DIR");
+            System.exit(1);
+        }
+        File source = new File(args[0]);
+        File output = new File(args[1]);
+        int packed = pack(source, output);
+        System.out.println("Packed " + packed + " sprites into " + new File(output, IMAGE_FILE));
+    }
+
+    /**
+     * Packs the sprites of a directory.
+     *
+     * @param sourceDir
+     *            Directory of the sprite PNGs, named after their SpriteType.
+     * @param outputDir
+     *            Directory receiving the atlas image and index.
+     * @return Number of packed sprites.
+     * @throws IOException
+     *             In case of reading or writing problems.
+     */
+    public static int pack(final File sourceDir, final File outputDir) throws IOException {
+        File[] files = sourceDir.listFiles((d, name) -> name.endsWith(".png"));
+        if (files == null) {
+            throw new IOException("Sprite directory not found: " + sourceDir);
+        }
+        Map<String, SpriteType> types = new HashMap<>();
+        for (SpriteType type : SpriteType.values()) {
+            types.put(type.name().toLowerCase(Locale.ROOT), type);
+        }
+
+        List<Placement> sprites = new ArrayList<>();
+        long area = 0;
+        int widest = 0;
+        for (File file : files) {
+            SpriteType type = types.get(file.getName().replace(".png", "").toLowerCase(Locale.ROOT));
+            if (type == null) continue;
+            BufferedImage image = ImageIO.read(file);
+            if (image == null) {
+                throw new IOException("Not a readable image: " + file);
+            }
+            if (image.getWidth() > MAX_PACKED_SIZE || image.getHeight() > MAX_PACKED_SIZE) continue;
+            sprites.add(new Placement(type, image));
+            area += (long) (image.getWidth() + PADDING) * (image.getHeight() + PADDING);
+            widest = Math.max(widest, image.getWidth() + PADDING);
+        }
+        // Tallest first, so each shelf wastes little height; ordinal keeps the layout reproducible.
+        sprites.sort((a, b) -> a.image.getHeight() != b.image.getHeight()
+                ? b.image.getHeight() - a.image.getHeight()
+                : a.type.ordinal() - b.type.ordinal());
+
+        int atlasWidth = Math.max(widest, Integer.highestOneBit((int) Math.ceil(Math.sqrt(area)) * 2 - 1));
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        for (Placement sprite : sprites) {
+            int w = sprite.image.getWidth() + PADDING;
+            if (x + w > atlasWidth) {
+                x = 0;
+                y += shelfHeight;
+                shelfHeight = 0;
+            }
+            sprite.x = x;
+            sprite.y = y;
+            x += w;
+            shelfHeight = Math.max(shelfHeight, sprite.image.getHeight() + PADDING);
+        }
+        int atlasHeight = Math.max(1, y + shelfHeight);
+
+        BufferedImage atlas = new BufferedImage(atlasWidth, atlasHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = atlas.createGraphics();
+        for (Placement sprite : sprites) {
+            g.drawImage(sprite.image, sprite.x, sprite.y, null);
+        }
+        g.dispose();
+
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("Could not create " + outputDir);
+        }
+        ImageIO.write(atlas, "png", new File(outputDir, IMAGE_FILE));
+        sprites.sort((a, b) -> a.type.ordinal() - b.type.ordinal());
+        try (PrintWriter index = new PrintWriter(new File(outputDir, INDEX_FILE), StandardCharsets.UTF_8)) {
+            index.println("# ordinal name x y width height");
+            for (Placement sprite : sprites) {
+                index.println(sprite.type.ordinal() + " " + sprite.type.name() + " " + sprite.x + " " + sprite.y
+                        + " " + sprite.image.getWidth() + " " + sprite.image.getHeight());
+            }
+        }
+        return sprites.size();
+    }
+}
@@ -1,27 +1,49 @@
 package engine.view.renderer;
 
+import engine.core.AssetLoader;
+
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
 
 public class  AnimationLoader {
 
-    public BufferedImage[] load(String folderPath) {
-        File folder = new File(folderPath);
+    /** Frames submitted by preload and not collected yet, by folder. */
+    private final Map<String, List<Future<BufferedImage>>> preloaded = new HashMap<>();
 
-        File[] files = folder.listFiles((dir, name) -> {
-            String lower = name.toLowerCase();
-            return lower.endsWith(".png") || lower.endsWith(".jpg");
-        });
+    /**
+     * Starts decoding the frames of a folder on the asset loader, one task
+     * per frame. A later load of the same folder collects them.
+     */
+    public void preload(String folderPath, AssetLoader assets) {
+        List<Future<BufferedImage>> frames = new ArrayList<>();
+        for (File file : list(folderPath)) {
+            frames.add(assets.submit(folderPath + "/" + file.getName(), AssetLoader.Kind.IMAGE, () -> decode(file)));
+        }
+        preloaded.put(folderPath, frames);
+    }
 
-        if (files == null || files.length == 0) {
-            System.out.println("[AnimationLoader] No frames found in " + folderPath);
-            return new BufferedImage[0];
+    public BufferedImage[] load(String folderPath) {
+        List<Future<BufferedImage>> pending = preloaded.remove(folderPath);
+        if (pending != null) {
+            BufferedImage[] frames = new BufferedImage[pending.size()];
+            for (int i = 0; i < frames.length; i++) {
+                frames[i] = AssetLoader.await(pending.get(i), folderPath);
+            }
+            return frames;
         }
 
-        // 파일 이름 순
-        Arrays.sort(files);
+        File[] files = list(folderPath);
+        if (files.length == 0) {
+            return new BufferedImage[0];
+        }
 
         BufferedImage[] frames = new BufferedImage[files.length];
 
@@ -35,4 +57,32 @@ public class  AnimationLoader {
 
         return frames;
     }
+
+    /**
+     * Lists the frame files of a folder in playing order, without decoding them.
+     */
+    public File[] list(String folderPath) {
+        File folder = new File(folderPath);
+
+        File[] files = folder.listFiles((dir, name) -> {
+            String lower = name.toLowerCase();
+            return lower.endsWith(".png") || lower.endsWith(".jpg");
+        });
+
+        if (files == null || files.length == 0) {
+            System.out.println("[AnimationLoader] No frames found in " + folderPath);
+            return new File[0];
+        }
+
+        // 파일 이름 순
+        Arrays.sort(files);
+        return files;
+    }
+
+    /**
+     * Decodes a single frame file.
+     */
+    public BufferedImage decode(File file) throws IOException {
+        return ImageIO.read(file);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,188 @@
+package engine.view.renderer;
+
+import engine.view.BackBuffer;
+import screen.TitleScreen.ShootingStar;
+import screen.TitleScreen.Star;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+/**
+ * Draws the backgrounds of the menu screens in layers.
+ * The static layer, everything that only changes when the screen does,
+ * is drawn once to an image and copied to the back buffer every frame.
+ * Only the animated layer, the twinkling stars and the shooting stars, is
+ * drawn per frame, with colours taken from a palette built once, and the
+ * rotation of the starfield is only recomputed when its angle changes.
+ */
+public final class BackgroundRenderer {
+
+	/** Number of grey levels in the palette. */
+	public static final int GREY_LEVELS = 256;
+	/** Number of fading segments in the trail of a shooting star. */
+	private static final int TRAIL_SEGMENTS = 4;
+
+	/** Greys from black to white, indexed by brightness. */
+	private static final Color[] GREYS = new Color[GREY_LEVELS];
+
+	static {
+		for (int i = 0; i < GREY_LEVELS; i++) {
+			GREYS[i] = new Color(i, i, i);
+		}
+	}
+
+	private final BackBuffer backBuffer;
+
+	/** Cached static layer, null until first drawn. */
+	private BufferedImage staticLayer;
+	/** What the static layer was drawn for. */
+	private Object staticKey;
+	/** Number of times the static layer was drawn. */
+	private int staticBuilds;
+
+	/** Angle the rotation below was computed for. */
+	private float rotationAngle;
+	private double cosAngle = 1.0;
+	private double sinAngle = 0.0;
+
+	public BackgroundRenderer(final BackBuffer backBuffer) {
+		this.backBuffer = backBuffer;
+	}
+
+	/**
+	 * Getter for a grey of the palette.
+	 *
+	 * @param brightness
+	 *            Brightness between 0 and 1, clamped.
+	 * @return Shared grey of that brightness.
+	 */
+	public static Color grey(final float brightness) {
+		int level = Math.round(brightness * (GREY_LEVELS - 1));
+		return GREYS[Math.max(0, Math.min(GREY_LEVELS - 1, level))];
+	}
+
+	/**
+	 * Copies the static layer of a screen to the back buffer, drawing it
+	 * first if the screen, its content or the screen size changed.
+	 *
+	 * @param key
+	 *            Identifies the content of the layer; the layer is drawn
+	 *            again when a key not equal to the previous one is given.
+	 * @param painter
+	 *            Draws the layer through the usual renderers.
+	 */
+	public void drawStaticLayer(final Object key, final int screenWidth, final int screenHeight,
+			final Runnable painter) {
+		BufferedImage layer = staticLayer(key, screenWidth, screenHeight, painter);
+		backBuffer.getGraphics().drawImage(layer, 0, 0, null);
+	}
+
+	/**
+	 * Getter for the static layer of a screen, drawn on a black background
+	 * when it is not cached yet.
+	 *
+	 * @see #drawStaticLayer(Object, int, int, Runnable)
+	 */
+	public BufferedImage staticLayer(final Object key, final int screenWidth, final int screenHeight,
+			final Runnable painter) {
+		if (staticLayer != null && staticLayer.getWidth() == screenWidth
+				&& staticLayer.getHeight() == screenHeight && key.equals(staticKey)) {
+			return staticLayer;
+		}
+		if (staticLayer == null || staticLayer.getWidth() != screenWidth
+				|| staticLayer.getHeight() != screenHeight) {
+			staticLayer = new BufferedImage(screenWidth, screenHeight, BufferedImage.TYPE_INT_RGB);
+		}
+		Graphics g = staticLayer.createGraphics();
+		try {
+			g.setColor(Color.BLACK);
+			g.fillRect(0, 0, screenWidth, screenHeight);
+			Graphics previous = backBuffer.beginLayer(g);
+			try {
+				painter.run();
+			} finally {
+				backBuffer.endLayer(previous);
+			}
+		} finally {
+			g.dispose();
+		}
+		staticKey = key;
+		staticBuilds++;
+		return staticLayer;
+	}
+
+	/**
+	 * Getter for the number of times the static layer was drawn.
+	 */
+	public int getStaticBuilds() {
+		return staticBuilds;
+	}
+
+	/**
+	 * Draws the starfield, rotated around the centre of the screen.
+	 *
+	 * @param stars
+	 *            Stars to draw, with their current brightness.
+	 * @param angle
+	 *            Rotation of the starfield in degrees.
+	 */
+	public void drawStars(final int screenWidth, final int screenHeight, final List<Star> stars, final float angle) {
+		Graphics g = backBuffer.getGraphics();
+		updateRotation(angle);
+		final int centerX = screenWidth / 2;
+		final int centerY = screenHeight / 2;
+
+		for (Star star : stars) {
+			float relX = star.baseX - centerX;
+			float relY = star.baseY - centerY;
+			int screenX = (int) (relX * cosAngle - relY * sinAngle + centerX);
+			int screenY = (int) (relX * sinAngle + relY * cosAngle + centerY);
+
+			g.setColor(grey(star.brightness));
+			g.fillRect(screenX, screenY, 2, 2);
+		}
+	}
+
+	/**
+	 * Draws the shooting stars with a fading trail behind them, rotated
+	 * like the starfield.
+	 *
+	 * @param shootingStars
+	 *            Shooting stars to draw.
+	 * @param angle
+	 *            Rotation of the starfield in degrees.
+	 */
+	public void drawShootingStars(final int screenWidth, final int screenHeight,
+			final List<ShootingStar> shootingStars, final float angle) {
+		Graphics g = backBuffer.getGraphics();
+		updateRotation(angle);
+		final int centerX = screenWidth / 2;
+		final int centerY = screenHeight / 2;
+
+		for (ShootingStar star : shootingStars) {
+			float relX = star.x - centerX;
+			float relY = star.y - centerY;
+			double headX = relX * cosAngle - relY * sinAngle + centerX;
+			double headY = relX * sinAngle + relY * cosAngle + centerY;
+			// The trail covers the distance travelled in the last tick.
+			double stepX = (star.speedX * cosAngle - star.speedY * sinAngle) / TRAIL_SEGMENTS;
+			double stepY = (star.speedX * sinAngle + star.speedY * cosAngle) / TRAIL_SEGMENTS;
+
+			for (int i = 0; i < TRAIL_SEGMENTS; i++) {
+				g.setColor(grey(1f - (float) i / TRAIL_SEGMENTS));
+				g.drawLine((int) (headX - stepX * i), (int) (headY - stepY * i),
+						(int) (headX - stepX * (i + 1)), (int) (headY - stepY * (i + 1)));
+			}
+		}
+	}
+
+	private void updateRotation(final float angle) {
+		if (angle == rotationAngle) return;
+		double angleRad = Math.toRadians(angle);
+		cosAngle = Math.cos(angleRad);
+		sinAngle = Math.sin(angleRad);
+		rotationAngle = angle;
+	}
+}
@@ -9,30 +9,23 @@ import java.util.Map;
 
 import engine.core.Cooldown;
 import engine.view.BackBuffer;
+import engine.view.SpriteAtlas;
 import entity.*;
 import engine.view.DrawManager.SpriteType;
-import entity.base.BossEntity;
-import entity.base.HasBounds;
-import entity.base.HasCircleBounds;
-import entity.base.LaserInfo;
-import entity.boss.FinalBoss;
-import entity.boss.GammaBoss;
-import entity.boss.MidBoss;
-import entity.boss.ZetaBoss;
-import entity.bullet.GuidedBullet;
 import entity.item.SubShip;
 import entity.pattern.ApocalypseAttackPattern;
-import entity.pattern.BossPattern;
-import entity.pattern.DashPattern;
-import entity.pattern.MidBossMob;
-import screen.HealthBar;
 
 /**
  * Handles rendering of all game entities using the shared back buffer.
  * Acts as a sub-view in MVC architecture.
+ * The game draws from plain values captured by GameView, so apart from
+ * drawEntity(Entity, int, int), used by the menus, nothing here reads a
+ * live entity.
  */
 public final class EntityRenderer {
     private final Map<SpriteType, BufferedImage> spriteMap;
+    /** Source of the pre-scaled sprites drawn 1:1. */
+    private final SpriteAtlas spriteAtlas;
     private final BackBuffer backBuffer;
     private final double scale;
     private final Cooldown blackholeAnimationCooldown = new Cooldown(100);
@@ -41,6 +34,8 @@ public final class EntityRenderer {
     private final Cooldown BombImageCooldown = new Cooldown(200);
     private SpriteType blackHoleType = SpriteType.BlackHole1;
     private final Cooldown frameCooldown;
+    /** Folder of the frames drawn during the apocalypse attack. */
+    public static final String APOCALYPSE_FRAMES = "res/images/apo1";
     private BufferedImage[] apo;
     private int apoFrameIndex = 0;
     private static final double RED_YELLOW_THRESHOLD = 1.0 / 3.0;
@@ -55,84 +50,58 @@ public final class EntityRenderer {
     private double[] sparkleVY = new double[SPARKLE_COUNT];
 
     private boolean sparkleInitialized = false;
-    private Color[] colorPalette = {
-            new Color( 0xFF4081),
-            new Color( 0xFCDD8A),
-            new Color( 0xFF5722),
-            new Color( 0x8BC34A),
-            new Color( 0x9C27B0),
-            new Color( 0x6A89FF),
-            new Color( 0x6756C9),
-            new Color( 0xF2606F),
-            new Color( 0xF5A5A5),
-            new Color( 0x6F5E77),
-            new Color( 0x32A9B3),
-            new Color( 0x8303EE)
-    };
-    private HealthBar bossHealthBar;
-
-    public EntityRenderer(Map<SpriteType, BufferedImage> spriteMap, BackBuffer backBuffer, double scale ,AnimationLoader loader) {
-        this.spriteMap = spriteMap;
+    /** Tint of the second player's life icons. */
+    private static final Color P2_LIFE_TINT = new Color(20, 74, 246, 180);
+    /** Font of the text over a full charging bar. */
+    private static final Font READY_FONT = new Font("Monospaced", Font.BOLD, 12);
+    /** Recoloured and faded sprites, derived once and reused across frames. */
+    private final TintedSpriteCache tintCache = new TintedSpriteCache();
+
+    public EntityRenderer(SpriteAtlas spriteAtlas, BackBuffer backBuffer, double scale ,AnimationLoader loader) {
+        this.spriteAtlas = spriteAtlas;
+        this.spriteMap = spriteAtlas.getSpriteMap();
         this.backBuffer = backBuffer;
         this.scale = scale;
         this.frameCooldown = new Cooldown(70);
-        this.apo = loader.load("res/images/apo1");
+        this.apo = loader.load(APOCALYPSE_FRAMES);
     }
 
     /** Draws a single entity on the back buffer. */
     public void drawEntity(final Entity entity, final int positionX, final int positionY) {
+        Color color = entity.getColor();
+        drawSprite(entity.getSpriteType(), entity instanceof SubShip, color == null ? 0 : color.getRGB(),
+                positionX, positionY);
+    }
+
+    /**
+     * Draws a sprite on the back buffer.
+     * @param type Sprite to draw
+     * @param half True for the half-scale sprite of a sub ship
+     * @param argb Colour of the sound toggle sprites, ignored by the others
+     * @param positionX Left edge
+     * @param positionY Top edge
+     */
+    public void drawSprite(final SpriteType type, final boolean half, final int argb,
+                           final int positionX, final int positionY) {
         Graphics2D g2d = (Graphics2D) backBuffer.getGraphics();
-        BufferedImage img = spriteMap.get(entity.getSpriteType());
+        BufferedImage img = half
+                ? spriteAtlas.getHalfScaled(type)
+                : spriteAtlas.getScaled(type);
         if (img == null) {
             return;
         }
-        boolean isSubShip = (entity instanceof SubShip);
-        double currentScale = isSubShip ? this.scale * 0.5 : this.scale;
-
-        int originalW = img.getWidth();
-        int originalH = img.getHeight();
-        int scaledW = (int) (originalW * currentScale * 2);
-        int scaledH = (int) (originalH * currentScale * 2);
-
-        if (entity.getSpriteType() == SpriteType.SoundOn ||
-                entity.getSpriteType() == SpriteType.SoundOff) {
 
-            img = tintImage(img, entity.getColor());
+        if (type == SpriteType.SoundOn || type == SpriteType.SoundOff) {
+            img = tintCache.get(type, img, TintedSpriteCache.Mode.RECOLOR, argb);
         }
-        int drawX = positionX;
-        int drawY = positionY;
-        g2d.drawImage(img, drawX, drawY, scaledW, scaledH, null);
+        g2d.drawImage(img, positionX, positionY, null);
     }
 
-    private BufferedImage tintImage(BufferedImage src, Color color) {
-        int w = src.getWidth();
-        int h = src.getHeight();
-
-        BufferedImage tinted = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
-
-        for (int x = 0; x < w; x++) {
-            for (int y = 0; y < h; y++) {
-                int argb = src.getRGB(x, y);
-
-
-                if ((argb >> 24) == 0) continue;
-
-
-                int alpha = (argb >> 24) & 0xFF;
-                int rgb = (color.getRGB() & 0x00FFFFFF) | (alpha << 24);
-                tinted.setRGB(x, y, rgb);
-            }
-        }
-        return tinted;
-    }
     public void drawShield(int shipX,int shipWidth, int shipY, int shipHeight, double ratio) {
-        BufferedImage shield = spriteMap.get(SpriteType.Shield);
+        BufferedImage shield = spriteAtlas.getScaled(SpriteType.Shield);
         if (shield == null) return;
-        int sw = shield.getWidth();
-        int sh = shield.getHeight();
-
-        int scaledW = (int) (sw * scale * 2);
-        int scaledH = (int) (sh * scale * 2);
+        int scaledW = shield.getWidth();
+        int scaledH = shield.getHeight();
 
         int centerX = shipX + shipWidth / 2;
         int centerY = shipY + shipHeight / 2;
@@ -142,187 +111,56 @@ public final class EntityRenderer {
 
         int alpha = (int) (255 * ratio);
         if (alpha < 30) alpha = 30;
-        BufferedImage tinted = tintAlpha(shield, alpha);
+        BufferedImage tinted = tintCache.get(SpriteType.Shield, shield, TintedSpriteCache.Mode.FADE, alpha);
 
         Graphics2D g2d = (Graphics2D) backBuffer.getGraphics();
-        g2d.drawImage(tinted, drawX, drawY, scaledW, scaledH, null);
+        g2d.drawImage(tinted, drawX, drawY, null);
     }
 
-    private BufferedImage tintAlpha(BufferedImage src, int alpha) {
-        int w = src.getWidth();
-        int h = src.getHeight();
-        BufferedImage result = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
-        for (int x = 0; x < w; x++) {
-            for (int y = 0; y < h; y++) {
-                int argb = src.getRGB(x, y);
-
-                int originalAlpha = (argb >> 24) & 0xFF;
-                if (originalAlpha == 0) continue;
-
-                int newAlpha = Math.min(alpha, originalAlpha);
-
-                int rgb = (argb & 0x00FFFFFF) | (newAlpha << 24);
-
-                result.setRGB(x, y, rgb);
-            }
-        }
-
-        return result;
-    }
-    public void drawHealthBarWithHP(final BossEntity boss) {
-        if(bossHealthBar==null) {
-            bossHealthBar = new HealthBar(boss.getHealPoint());
-        }
-        else {
-            Graphics2D g2 = (Graphics2D) backBuffer.getGraphics();
-            int height = GameConstant.STAT_SEPARATION_LINE_HEIGHT;
-            int barWidth = GameConstant.SCREEN_WIDTH * 3 / 10;
-            int barHeight = height / 2;
-            int barY = (height - barHeight) / 2;
-            int barX = GameConstant.SCREEN_WIDTH * 4 / 10;
-            bossHealthBar.setCurrent_HP(boss.getHealPoint());
-            float ratio_hp = bossHealthBar.getRatio_HP();
-
-            int greenWidth = (int) (barWidth * ratio_hp);
-            int redWidth = barWidth - greenWidth;
-
-            Stroke oldStroke = g2.getStroke();
-            g2.setStroke(new BasicStroke(8));
-            g2.setColor(Color.LIGHT_GRAY);
-            g2.drawRect(barX, barY, barWidth, barHeight);
-            g2.setStroke(oldStroke);
-
-            g2.setColor(Color.GREEN);
-            g2.fillRect(barX + 1, barY + 1, greenWidth - 1, barHeight - 1);
-
-            if (redWidth > 0 && redWidth < barWidth) {
-                g2.setColor(Color.RED);
-                g2.fillRect(barX + greenWidth, barY + 1, redWidth - 1, barHeight - 1);
-            }
-        }
-        if(boss.isDestroyed()) {
-            bossHealthBar = null;
-        }
-
-    }
-
-	public void drawEntity(final Entity entity) {
-		if (entity instanceof ZetaBoss) {
-           ZetaBoss zetaBoss = (ZetaBoss) entity;
-           drawZetaBoss(zetaBoss);
-        }
-		else if (entity instanceof FinalBoss finalBoss){
-			drawFinalBoss(finalBoss);
-		}
-		else if (entity instanceof MidBossMob) {
-			MidBossMob midBossMob = (MidBossMob) entity;
-			drawMidBossMob(midBossMob);
-		}
-        else if (entity instanceof GuidedBullet gb) {
-            drawGuidedRotated(gb);
-            return;
-        }
-		drawEntity(entity, entity.getPositionX(), entity.getPositionY());
-	}
-
-    private void drawZetaBoss(ZetaBoss zetaBoss) {
-
-        // 2. Draw pattern effects
-        if (zetaBoss.getBossPattern() != null) {
-            BossPattern activePattern = zetaBoss.getBossPattern().getActivePattern();
-            if (activePattern != null) {
-                drawBossPattern(zetaBoss, activePattern);
-            }
-        }
-    }
-
-	private void drawFinalBoss(FinalBoss finalBoss) {
-
-		// 1. Draw pattern effects
-		BossPattern apocalypsePattern = finalBoss.getApocalypsePattern();
-		BossPattern dashPattern = finalBoss.getDashPattern();
-		if (apocalypsePattern != null) {
-			drawBossPattern(finalBoss, apocalypsePattern);
-		}
-		if (dashPattern != null) {
-			drawBossPattern(finalBoss, dashPattern);
-		}
-	}
-
-    /**
-     * Draws GammaBoss entity with pattern-specific visualizations.
-     */
-    public void drawGammaBoss(GammaBoss gammaBoss) {
-        // Check if showing dash path and draw it
-        if (gammaBoss.isShowingPath()) {
-            int[] targetPoint = gammaBoss.getDashEndPoint();
-            int bossWidth = gammaBoss.getWidth();
-            int bossHeight = gammaBoss.getHeight();
-            int startX = gammaBoss.getPositionX() + bossWidth / 2;
-            int startY = gammaBoss.getPositionY() + bossHeight / 2;
-            int targetX = targetPoint[0];
-            int targetY = targetPoint[1];
-
-            // Calculate direction vector and extend to long endpoint
-            double dx = targetX - startX;
-            double dy = targetY - startY;
-            double len = Math.sqrt(dx * dx + dy * dy);
-
-            if (len > 0) {
-                dx /= len;
-                dy /= len;
-
-                // Extend to sufficient distance (beyond screen)
-                double extendDistance = 2000.0;
-                int endX = (int) Math.round(startX + dx * extendDistance);
-                int endY = (int) Math.round(startY + dy * extendDistance);
-
-                // Draw path
-                drawDashPath(startX, startY, endX, endY);
-            }
-        }
-
-        drawEntity(gammaBoss, gammaBoss.getPositionX(), gammaBoss.getPositionY());
-    }
-
-    private void drawMidBossMob(MidBossMob midBossMob) {
-        int colorID = midBossMob.getColorID();
-        midBossMob.setColor(colorPalette[colorID%colorPalette.length]);
-        drawEntity(midBossMob, midBossMob.getPositionX(), midBossMob.getPositionY());
-    }
     /**
-     * Draws pattern-specific visualizations based on pattern type.
+     * Draws the boss health bar at the top of the screen.
+     * @param ratio_hp Share of the health left, between 0 and 1
      */
-    private void drawBossPattern(MidBoss boss, BossPattern pattern) {
-        if (pattern instanceof DashPattern) {
-            drawDashPatternVisual(boss, (DashPattern) pattern);
-        }
-
-        else if (pattern instanceof ApocalypseAttackPattern) {
-            drawApocalypseVisual((ApocalypseAttackPattern) pattern);
+    public void drawBossHealthBar(final float ratio_hp) {
+        Graphics2D g2 = (Graphics2D) backBuffer.getGraphics();
+        int height = GameConstant.STAT_SEPARATION_LINE_HEIGHT;
+        int barWidth = GameConstant.SCREEN_WIDTH * 3 / 10;
+        int barHeight = height / 2;
+        int barY = (height - barHeight) / 2;
+        int barX = GameConstant.SCREEN_WIDTH * 4 / 10;
+
+        int greenWidth = (int) (barWidth * ratio_hp);
+        int redWidth = barWidth - greenWidth;
+
+        Stroke oldStroke = g2.getStroke();
+        g2.setStroke(new BasicStroke(8));
+        g2.setColor(Color.LIGHT_GRAY);
+        g2.drawRect(barX, barY, barWidth, barHeight);
+        g2.setStroke(oldStroke);
+
+        g2.setColor(Color.GREEN);
+        g2.fillRect(barX + 1, barY + 1, greenWidth - 1, barHeight - 1);
+
+        if (redWidth > 0 && redWidth < barWidth) {
+            g2.setColor(Color.RED);
+            g2.fillRect(barX + greenWidth, barY + 1, redWidth - 1, barHeight - 1);
         }
-        // Add more pattern types here as needed
-        // else if (pattern instanceof ex1Pattern) {
-        //     drawLaserPatternVisual(boss, (ex1Pattern) pattern);
-        // }
-        // else if (pattern instanceof ex2Pattern) {
-        //     drawCirclePatternVisual(boss, (ex2Pattern) pattern);
-        // }
     }
 
     /**
      * [Added] Apocalypse Pattern Visualization Method
      * (Ported logic from existing GameView/UIRenderer)
+     * @param warning True while the warning is shown, false while attacking
+     * @param safeZoneColumn Column left untouched by the attack
      */
-    private void drawApocalypseVisual(ApocalypseAttackPattern pattern) {
+    public void drawApocalypse(final boolean warning, final int safeZoneColumn) {
         Graphics g = backBuffer.getGraphics();
         int screenWidth = GameConstant.SCREEN_WIDTH;
         int screenHeight = GameConstant.SCREEN_HEIGHT;
-        int safeZoneColumn = pattern.getSafeZoneColumn();
         int totalColumns = ApocalypseAttackPattern.TOTAL_COLUMNS;
         int columnWidth = screenWidth / totalColumns;
 
-        if (pattern.isWarningActive()) {
+        if (warning) {
             // Draw warning screen (Red translucent)
             Color attackColor = new Color(255, 0, 0, 100);
             Color safeColor = new Color(255, 255, 255, 100);
@@ -336,7 +174,7 @@ public final class EntityRenderer {
                 g.fillRect(i * columnWidth, 0, columnWidth, screenHeight);
             }
         }
-        else if (pattern.isAttacking()) {
+        else {
             if (frameCooldown.checkFinished()) {
                 frameCooldown.reset();
                 apoFrameIndex = (apoFrameIndex + 1) % apo.length;
@@ -352,25 +190,10 @@ public final class EntityRenderer {
     }
 
     /**
-     * Draws visualization for DashPattern.
+     * Draws a dash path from the boss centre through its target, extended
+     * beyond the screen.
      */
-    private void drawDashPatternVisual(MidBoss boss, DashPattern dashPattern) {
-        if (!dashPattern.isShowingPath()) {
-            return;
-        }
-
-        int[] targetPoint;
-		targetPoint = dashPattern.getDashEndPoint(boss.getWidth(), boss.getHeight());
-
-
-        // Calculate boss center point
-        int bossWidth = boss.getWidth();
-        int bossHeight = boss.getHeight();
-        int startX = boss.getPositionX() + bossWidth / 2;
-        int startY = boss.getPositionY() + bossHeight / 2;
-        int targetX = targetPoint[0];
-        int targetY = targetPoint[1];
-
+    public void drawDashPathTowards(int startX, int startY, int targetX, int targetY) {
         // Calculate direction vector and extend to long endpoint
         double dx = targetX - startX;
         double dy = targetY - startY;
@@ -413,21 +236,20 @@ public final class EntityRenderer {
     //     // Implement Ex3 pattern visualization here
     // }
 
-	public void drawLaser(LaserInfo laser) {
+	/**
+	 * Draws a boss laser.
+	 * @param plain True to draw a plain green line instead of the laser sprite
+	 */
+	public void drawLaser(int sx, int sy, int ex, int ey, boolean plain) {
 		Graphics g = backBuffer.getGraphics();
 		g.setColor(Color.green);
 
-		int sx = laser.getStartPosition().x;
-		int sy = laser.getStartPosition().y;
-		int ex = laser.getEndPosition().x;
-		int ey = laser.getEndPosition().y;
-
 		double len = Math.sqrt((ex-sx)*(ex-sx) + (ey-sy)*(ey-sy));
 		if (len == 0) {
 			return;
 		}
 
-        if (laser.getColor() == Color.GREEN){
+        if (plain){
             g.drawLine(sx, sy, ex, ey);
         }
         else {
@@ -448,13 +270,18 @@ public final class EntityRenderer {
     }
     public void drawLife(final int positionX, final int positionY, final int playerId){
         Graphics2D g2d = (Graphics2D) backBuffer.getGraphics();
-        BufferedImage image = spriteMap.get(SpriteType.Life);
+        g2d.drawImage(getLifeImage(playerId), positionX, positionY, null);
+    }
+
+    /**
+     * Getter for the life icon of a player, tinted for player 2.
+     */
+    public BufferedImage getLifeImage(final int playerId) {
+        BufferedImage image = spriteAtlas.getScaled(SpriteType.Life);
         if (playerId == 2){
-            image = this.tint(image, new Color(20, 74, 246, 180));
+            image = tintCache.get(SpriteType.Life, image, TintedSpriteCache.Mode.SOLID, P2_LIFE_TINT.getRGB());
         }
-        int scaledW = (int) (image.getWidth() * scale * 2);
-        int scaledH = (int) (image.getHeight() * scale * 2);
-        g2d.drawImage(image, positionX, positionY, scaledW, scaledH, null);
+        return image;
     }
 
 
@@ -498,31 +325,17 @@ public final class EntityRenderer {
         g2d.drawLine(endX, endY, x2, y2);
     }
 
+    /**
+     * Paints every visible pixel of an image with a colour. Not cached,
+     * renderers drawing every frame use the sprite cache instead.
+     */
     public BufferedImage tint(BufferedImage src, Color newColor) {
-        int width = src.getWidth();
-        int height = src.getHeight();
-
-        BufferedImage tinted = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                int rgba = src.getRGB(x, y);
-                int alpha = (rgba >> 24) & 0xff;
-
-                if (alpha == 0) continue;
-
-                tinted.setRGB(x, y, newColor.getRGB());
-            }
-        }
-
-        return tinted;
+        return TintedSpriteCache.derive(src, TintedSpriteCache.Mode.SOLID, newColor.getRGB());
     }
 
     /** Draw circle for pull_attack pattern */
-    public void drawBlackHole(HasCircleBounds blackHole) {
-		int cx = blackHole.getPositionCX();
-		int cy =  blackHole.getPositionCY();
-		int size = blackHole.getRadius() / 2;
+    public void drawBlackHole(int cx, int cy, int radius) {
+		int size = radius / 2;
         Graphics2D g2d = (Graphics2D) backBuffer.getGraphics();
 
         if (this.blackholeAnimationCooldown.checkFinished()) {
@@ -549,28 +362,25 @@ public final class EntityRenderer {
     /**
      * Renders the explosion visual, displaying either an expanding warning circle or the final blast.
      * */
-    public void drawExplosion(boolean isBoom, HasBounds boom, double time) {
+    public void drawExplosion(boolean isBoom, int boomX, int boomY, int boomWidth, int boomHeight, double time) {
         Graphics g = backBuffer.getGraphics();
         if (!isBoom) {
             g.setColor(new Color(255,0,0,100));
-            g.drawOval(boom.getPositionX(),boom.getPositionY(),boom.getWidth(),boom.getHeight());
-            int currentWidth = (int) (boom.getWidth() * time);
-            int currentHeight = (int) (boom.getHeight() * time);
-            int offsetX = (boom.getWidth() - currentWidth) / 2;
-            int offsetY = (boom.getHeight() - currentHeight) / 2;
-
-            g.fillOval(boom.getPositionX() + offsetX, boom.getPositionY() + offsetY, currentWidth, currentHeight);
+            g.drawOval(boomX, boomY, boomWidth, boomHeight);
+            int currentWidth = (int) (boomWidth * time);
+            int currentHeight = (int) (boomHeight * time);
+            int offsetX = (boomWidth - currentWidth) / 2;
+            int offsetY = (boomHeight - currentHeight) / 2;
 
-            BufferedImage bomb1 = spriteMap.get(SpriteType.Bomb1);
-            BufferedImage bomb2 = spriteMap.get(SpriteType.Bomb2);
-            int sw = bomb1.getWidth();
-            int sh = bomb1.getHeight();
+            g.fillOval(boomX + offsetX, boomY + offsetY, currentWidth, currentHeight);
 
-            int scaledW = (int) (sw * scale * 2);
-            int scaledH = (int) (sh * scale * 2);
+            BufferedImage bomb1 = spriteAtlas.getScaled(SpriteType.Bomb1);
+            BufferedImage bomb2 = spriteAtlas.getScaled(SpriteType.Bomb2);
+            int scaledW = bomb1.getWidth();
+            int scaledH = bomb1.getHeight();
 
-            int centerX = boom.getPositionX() + boom.getWidth() / 2;
-            int centerY = boom.getPositionY() + boom.getHeight() / 2;
+            int centerX = boomX + boomWidth / 2;
+            int centerY = boomY + boomHeight / 2;
 
             int drawX = centerX - scaledW / 2;
             int drawY = centerY - scaledH / 2;
@@ -580,20 +390,18 @@ public final class EntityRenderer {
                 bombToggle = !bombToggle;
             }
 
-            g.drawImage(bombToggle ? bomb1 : bomb2, drawX, drawY, scaledW, scaledH, null);
+            g.drawImage(bombToggle ? bomb1 : bomb2, drawX, drawY, null);
 
         }
         else {
-            BufferedImage bombexplosion = spriteMap.get(SpriteType.BombExplosion);
-            int sw = bombexplosion.getWidth();
-            int sh = bombexplosion.getHeight();
-            int scaledW = (int) (sw * scale * 2);
-            int scaledH = (int) (sh * scale * 2);
-            int centerX = boom.getPositionX() + boom.getWidth() / 2;
-            int centerY = boom.getPositionY() + boom.getHeight() / 2;
+            BufferedImage bombexplosion = spriteAtlas.getScaled(SpriteType.BombExplosion);
+            int scaledW = bombexplosion.getWidth();
+            int scaledH = bombexplosion.getHeight();
+            int centerX = boomX + boomWidth / 2;
+            int centerY = boomY + boomHeight / 2;
             int drawX = centerX - scaledW / 2;
             int drawY = centerY - scaledH / 2;
-            g.drawImage(bombexplosion, drawX, drawY, scaledW, scaledH, null);
+            g.drawImage(bombexplosion, drawX, drawY, null);
         }
     }
 
@@ -647,7 +455,7 @@ public final class EntityRenderer {
         // Draw charging text
         if (progress >= 1.0) {
             g2d.setColor(new Color(0, 255, 255));
-            g2d.setFont(new Font("Monospaced", Font.BOLD, 12));
+            g2d.setFont(READY_FONT);
             String text = "READY!";
             FontMetrics fm = g2d.getFontMetrics();
             int textWidth = fm.stringWidth(text);
@@ -729,9 +537,9 @@ public final class EntityRenderer {
         if (!cd.checkFinished()) {
             Graphics2D g2d = (Graphics2D) backBuffer.getGraphics();
 
-            BufferedImage hole = spriteMap.get(SpriteType.Teleport);
-            int drawW = (int) (hole.getWidth() * scale * 2);
-            int drawH = (int) (hole.getHeight() * scale * 2);
+            BufferedImage hole = spriteAtlas.getScaled(SpriteType.Teleport);
+            int drawW = hole.getWidth();
+            int drawH = hole.getHeight();
 
             // --- BEFORE position (centered)
             int cx = positionX + width / 2;
@@ -754,8 +562,8 @@ public final class EntityRenderer {
             int alpha = (int)(255 * fade);
             if (alpha < 0) alpha = 0;
 
-            BufferedImage tinted = tintAlpha(hole, alpha);
-            g2d.drawImage(tinted, drawX, drawY, drawW, drawH, null);
+            BufferedImage tinted = tintCache.get(SpriteType.Teleport, hole, TintedSpriteCache.Mode.FADE, alpha);
+            g2d.drawImage(tinted, drawX, drawY, null);
             drawFlashDust(g2d, cx, cy, drawW, fade);
             drawFlashDust(g2d, acx, acy, drawW, fade);
 
@@ -837,10 +645,16 @@ public final class EntityRenderer {
         }
     }
 
-    private void drawGuidedRotated(GuidedBullet bullet) {
+    /**
+     * Draws a guided bullet turned towards its heading, at its exact
+     * position rather than the nearest pixel.
+     * @param angle Heading in radians
+     */
+    public void drawGuidedBullet(SpriteType type, double positionX, double positionY, int width, int height,
+                                 double angle) {
 
         Graphics2D g2d = (Graphics2D) backBuffer.getGraphics();
-        BufferedImage img = spriteMap.get(bullet.getSpriteType());
+        BufferedImage img = spriteMap.get(type);
         if (img == null) return;
 
         double scaleValue = scale * 2;
@@ -848,15 +662,15 @@ public final class EntityRenderer {
         int drawW = (int) (img.getWidth() * scaleValue);
         int drawH = (int) (img.getHeight() * scaleValue);
 
-        int cx = bullet.getPositionX() + bullet.getWidth() / 2;
-        int cy = bullet.getPositionY() + bullet.getHeight() / 2;
+        double cx = positionX + width / 2;
+        double cy = positionY + height / 2;
 
         AffineTransform old = g2d.getTransform();
 
         AffineTransform at = new AffineTransform();
 
         at.translate(cx, cy);
-        at.rotate(bullet.getAngle());
+        at.rotate(angle);
         at.translate(-drawW / 2.0, -drawH / 2.0);
         at.scale(scaleValue, scaleValue);
 
@@ -0,0 +1,151 @@
+package engine.view.renderer;
+
+import engine.core.Core;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Frames of an animation decoded on demand.
+ * Only the file list is read up front. Frames are decoded by shared
+ * background threads a bounded window ahead of the one being shown, and
+ * the ones behind it are dropped, so a long animation never has more than
+ * a window of frames in memory.
+ */
+public final class FrameStream {
+
+	/** Frames decoded ahead of the shown one. */
+	public static final int DEFAULT_WINDOW = 12;
+
+	/** Decodes frames of every stream at low priority, leaving a core to the game loop. */
+	private static final ExecutorService DECODER = Executors.newFixedThreadPool(
+			Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() - 1)), runnable -> {
+				Thread thread = new Thread(runnable, "FrameStream decoder");
+				thread.setDaemon(true);
+				thread.setPriority(Thread.MIN_PRIORITY);
+				return thread;
+			});
+
+	/** Loader reading the frame files. */
+	private final AnimationLoader loader;
+	/** Frame files in playing order. */
+	private final File[] files;
+	/** Decoded or decoding frames, null outside the window. */
+	private final Future<BufferedImage>[] frames;
+	/** Number of frames kept ahead of the shown one. */
+	private final int window;
+	/** Frame returned by the last get, shown again while the next one decodes. */
+	private BufferedImage lastShown;
+
+	/**
+	 * Constructor, lists the frames of a folder without decoding them.
+	 *
+	 * @param loader
+	 *            Loader reading the frame files.
+	 * @param folderPath
+	 *            Folder of the frames, played in file name order.
+	 * @param window
+	 *            Number of frames kept ahead of the shown one.
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public FrameStream(final AnimationLoader loader, final String folderPath, final int window) {
+		this.loader = loader;
+		this.files = loader.list(folderPath);
+		this.frames = new Future[this.files.length];
+		this.window = Math.max(1, window);
+	}
+
+	/**
+	 * Getter for the number of frames.
+	 *
+	 * @return Number of frame files.
+	 */
+	public int length() {
+		return this.files.length;
+	}
+
+	/**
+	 * Schedules the decoding of the window starting at a frame.
+	 *
+	 * @param from
+	 *            First frame of the window.
+	 */
+	public void prefetch(final int from) {
+		int end = Math.min(this.files.length, Math.max(0, from) + this.window);
+		for (int i = Math.max(0, from); i < end; i++) {
+			if (this.frames[i] == null) {
+				final File file = this.files[i];
+				this.frames[i] = DECODER.submit(() -> this.loader.decode(file));
+			}
+		}
+	}
+
+	/**
+	 * Returns a frame, keeping the window ahead of it filled and dropping
+	 * the frames before it. If the frame is still being decoded, the frame
+	 * shown last is returned again, so the game only waits for the decoder
+	 * when there is nothing to show yet.
+	 *
+	 * @param index
+	 *            Requested frame.
+	 * @return Frame to show, null if the index is out of range or the frame
+	 *         cannot be decoded.
+	 */
+	public BufferedImage get(final int index) {
+		if (index < 0 || index >= this.files.length) return null;
+		release(0, index);
+		prefetch(index);
+
+		Future<BufferedImage> frame = this.frames[index];
+		if (frame.isDone() || this.lastShown == null) {
+			BufferedImage image = result(frame);
+			if (image != null) this.lastShown = image;
+		}
+		return this.lastShown;
+	}
+
+	/**
+	 * Drops every frame, cancelling pending decodes.
+	 */
+	public void releaseAll() {
+		release(0, this.files.length);
+		this.lastShown = null;
+	}
+
+	/**
+	 * Getter for the number of frames currently held or being decoded.
+	 *
+	 * @return Frames in the window.
+	 */
+	public int getResidentFrames() {
+		int count = 0;
+		for (Future<BufferedImage> frame : this.frames) {
+			if (frame != null) count++;
+		}
+		return count;
+	}
+
+	private void release(final int from, final int to) {
+		for (int i = Math.max(0, from); i < Math.min(to, this.files.length); i++) {
+			if (this.frames[i] != null) {
+				this.frames[i].cancel(false);
+				this.frames[i] = null;
+			}
+		}
+	}
+
+	private BufferedImage result(final Future<BufferedImage> frame) {
+		try {
+			return frame.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			Core.getLogger().warning("[FrameStream] Could not decode frame: " + e.getCause());
+		}
+		return null;
+	}
+}
@@ -3,6 +3,7 @@ package engine.view.renderer;
 import engine.view.BackBuffer;
 import engine.view.DrawManager;
 import engine.view.FontPack;
+import entity.item.DropItem;
 import entity.item.ItemHUDManager;
 
 import java.awt.*;
@@ -13,6 +14,9 @@ import java.util.Map;
 /**
  * Handles all on-screen HUD rendering such as scores, coins, and timers.
  * Acts as a sub-view in the MVC structure.
+ * Every widget is kept in a {@link HUDWidgetCache} image and only drawn
+ * again when the values it shows change; the rest of the time a frame
+ * copies the cached images.
  */
 
 
@@ -27,6 +31,33 @@ public final class HUDRenderer {
 	private static final int P2_COOLDOWN_X_OFFSET = 100;
 	private static final int COOLDOWN_Y_OFFSET = 50;
 	private static final int TELEPORT_GAUGE_RADIUS = 26;
+
+    /** Widgets of the HUD, each cached in its own image. */
+    private static final int WIDGET_SCORE_P1 = 0;
+    private static final int WIDGET_SCORE_P2 = 1;
+    private static final int WIDGET_COIN = 2;
+    private static final int WIDGET_LIVES_P1 = 3;
+    private static final int WIDGET_LIVES_P2 = 4;
+    private static final int WIDGET_TIME = 5;
+    private static final int WIDGET_ITEMS = 6;
+    private static final int WIDGET_LEVEL = 7;
+    private static final int WIDGET_COOLDOWN_P1 = 8;
+    private static final int WIDGET_COOLDOWN_P2 = 9;
+    private static final int WIDGET_SKILLS = 10;
+    private static final int WIDGET_COUNT = 11;
+    /** Distance of the scores from the right edge of the screen. */
+    private static final int SCORE_WIDTH = 120;
+    /** Width kept for the coins, centred on the screen. */
+    private static final int COIN_WIDTH = 200;
+    /** Room left around text for glyphs reaching past their advance. */
+    private static final int TEXT_MARGIN = 2;
+    /** Background of the popups. */
+    private static final Color POPUP_BACKGROUND = new Color(0, 0, 0, 200);
+    private static final Color HEAL_COLOR = new Color(50, 255, 50);
+    private static final Color DAMAGE_COLOR = new Color(255, 50, 50);
+
+    /** Cached widget images. */
+    private final HUDWidgetCache widgets;
     private int originIconP1X;
     private int originIconP2X;
 
@@ -41,94 +72,159 @@ public final class HUDRenderer {
         this.fontPack = fontPack;
         this.entityRenderer = entityRenderer;
         this.spriteMap = spriteMap;
-
+        this.widgets = new HUDWidgetCache(backBuffer, WIDGET_COUNT);
     }
 
     /** Draw score. */
     public void drawScore(final int screenWidth, final int score, final int y, final int playerId) {
-        Graphics g = backBuffer.getGraphics();
-        Font font = fontPack.getRegular();
-        g.setFont(font);
-        g.setColor(Color.WHITE);
-        String scoreString = String.format("P%d:%04d",playerId, score);
-
-
-        g.drawString(scoreString, screenWidth - 120, y);
+        int widget = playerId == 1 ? WIDGET_SCORE_P1 : WIDGET_SCORE_P2;
+        FontMetrics fm = fontPack.getRegularMetrics();
+        int x = screenWidth - SCORE_WIDTH;
+        int top = textTop(fm, y);
+        if (!widgets.isCurrent(widget, x, top, score, null)) {
+            widgets.beginRepaint(widget, x, top, SCORE_WIDTH, textHeight(fm), score, null);
+            try {
+                Graphics g = backBuffer.getGraphics();
+                g.setFont(fontPack.getRegular());
+                g.setColor(Color.WHITE);
+                g.drawString(String.format("P%d:%04d", playerId, score), x, y);
+            } finally {
+                widgets.endRepaint();
+            }
+        }
+        widgets.draw(widget);
     }
 
     /** Draw elapsed time on screen. */
     public void drawTime(final int screenHeight, final long milliseconds) {
-        Graphics g = backBuffer.getGraphics();
-        g.setFont(fontPack.getRegular());
-        g.setColor(Color.GRAY);
-
+        FontMetrics fm = fontPack.getRegularMetrics();
         long seconds = milliseconds / 1000;
-        long minutes = seconds / 60;
-        seconds %= 60;
-        FontMetrics fm = g.getFontMetrics();
-        int fontHeight = fm.getHeight();
-        int y = screenHeight + 2 * fontHeight;
-        String timeString = String.format("Time: %02d:%02d", minutes, seconds);
-        g.drawString(timeString, 10, y);
+        int x = 10;
+        int y = screenHeight + 2 * fm.getHeight();
+        int top = textTop(fm, y);
+        if (!widgets.isCurrent(WIDGET_TIME, x, top, seconds, null)) {
+            String timeString = String.format("Time: %02d:%02d", seconds / 60, seconds % 60);
+            widgets.beginRepaint(WIDGET_TIME, x, top, textWidth(fm, timeString), textHeight(fm), seconds, null);
+            try {
+                Graphics g = backBuffer.getGraphics();
+                g.setFont(fontPack.getRegular());
+                g.setColor(Color.GRAY);
+                g.drawString(timeString, x, y);
+            } finally {
+                widgets.endRepaint();
+            }
+        }
+        widgets.draw(WIDGET_TIME);
     }
 
     /** Draw current coin count on screen (bottom-center). */
     public void drawCoin(final int screenWidth, final int screenHeight, final int coin) {
-        Graphics g = backBuffer.getGraphics();
-        g.setFont(fontPack.getRegular());
-        g.setColor(Color.YELLOW);
-        FontMetrics fm = g.getFontMetrics();
-        int fontHeight = fm.getHeight();
-
-        String coinString = String.format("%03d$", coin);
-        int textWidth = fontPack.getRegularMetrics().stringWidth(coinString);
-        int x = screenWidth / 2 - textWidth / 2;
-        int y = screenHeight - fontHeight;
-
-        g.drawString(coinString, x, y);
+        FontMetrics fm = fontPack.getRegularMetrics();
+        int left = screenWidth / 2 - COIN_WIDTH / 2;
+        int y = screenHeight - fm.getHeight();
+        int top = textTop(fm, y);
+        if (!widgets.isCurrent(WIDGET_COIN, left, top, coin, null)) {
+            widgets.beginRepaint(WIDGET_COIN, left, top, COIN_WIDTH, textHeight(fm), coin, null);
+            try {
+                Graphics g = backBuffer.getGraphics();
+                g.setFont(fontPack.getRegular());
+                g.setColor(Color.YELLOW);
+                String coinString = String.format("%03d$", coin);
+                g.drawString(coinString, screenWidth / 2 - fm.stringWidth(coinString) / 2, y);
+            } finally {
+                widgets.endRepaint();
+            }
+        }
+        widgets.draw(WIDGET_COIN);
     }
 
     /** Draw number of remaining lives for Player 1. */
     public void drawLivesP1(final int lives) {
-        Graphics g = backBuffer.getGraphics();
-        g.setFont(fontPack.getRegular());
-        g.setColor(Color.WHITE);
-        g.drawString("P1:", 10, 25);
-        for (int i = 0; i < lives; i++) {
-            entityRenderer.drawLife(50 + 35 * i, 10, 1);
-        }
+        drawLives(WIDGET_LIVES_P1, "P1:", 25, 10, 1, lives);
     }
 
     /** Draw number of remaining lives for Player 2. */
     public void drawLivesP2(final int lives) {
-        Graphics g = backBuffer.getGraphics();
-        g.setFont(fontPack.getRegular());
-        g.setColor(Color.WHITE);
-        g.drawString("P2:", 10, 55);
-        for (int i = 0; i < lives; i++) {
-            entityRenderer.drawLife(50 + 35 * i, 40, 2);
+        drawLives(WIDGET_LIVES_P2, "P2:", 55, 40, 2, lives);
+    }
+
+    private void drawLives(final int widget, final String label, final int labelY, final int iconY,
+            final int playerId, final int lives) {
+        FontMetrics fm = fontPack.getRegularMetrics();
+        int x = 10;
+        int top = Math.min(textTop(fm, labelY), iconY);
+        if (!widgets.isCurrent(widget, x, top, lives, null)) {
+            BufferedImage icon = entityRenderer.getLifeImage(playerId);
+            int right = Math.max(x + textWidth(fm, label), 50 + 35 * Math.max(lives, 0) + icon.getWidth());
+            int bottom = Math.max(labelY + fm.getMaxDescent(), iconY + icon.getHeight());
+            widgets.beginRepaint(widget, x, top, right - x, bottom - top, lives, null);
+            try {
+                Graphics g = backBuffer.getGraphics();
+                g.setFont(fontPack.getRegular());
+                g.setColor(Color.WHITE);
+                g.drawString(label, x, labelY);
+                for (int i = 0; i < lives; i++) {
+                    entityRenderer.drawLife(50 + 35 * i, iconY, playerId);
+                }
+            } finally {
+                widgets.endRepaint();
+            }
         }
+        widgets.draw(widget);
     }
 
-    /** Draw all item icons on HUD. */
-    public void drawItemsHUD(final int screenWidth, final int screenHeight) {
-        Graphics g = backBuffer.getGraphics();
+    /** Draw all item icons on HUD, with the dropped items captured by the simulation. */
+    public void drawItemsHUD(final int screenWidth, final int screenHeight,
+                             final DropItem.ItemType[] droppedItems, final int droppedItemCount) {
         ItemHUDManager hud = ItemHUDManager.getInstance();
         hud.setHUDPositions(screenHeight);
         hud.initialize(screenWidth);
-        hud.drawItems(g);
+        long key = hud.getStateKey(droppedItems, droppedItemCount);
+        if (!widgets.isCurrent(WIDGET_ITEMS, hud.getHUDX(), hud.getHUDY(), key, null)) {
+            widgets.beginRepaint(WIDGET_ITEMS, hud.getHUDX(), hud.getHUDY(),
+                    hud.getHUDWidth(), hud.getHUDHeight(), key, null);
+            try {
+                hud.drawItems(backBuffer.getGraphics(), droppedItems, droppedItemCount);
+            } finally {
+                widgets.endRepaint();
+            }
+        }
+        widgets.draw(WIDGET_ITEMS);
     }
 
     /** Draw current level name (bottom-left). */
     public void drawLevel(final int seperateLine, final String levelName) {
-        Graphics g = backBuffer.getGraphics();
-        g.setFont(fontPack.getRegular());
-        g.setColor(Color.WHITE);
-        FontMetrics fm = g.getFontMetrics();
-        int fontHeight = fm.getHeight();
+        FontMetrics fm = fontPack.getRegularMetrics();
+        int x = 20;
+        int y = seperateLine + fm.getHeight();
+        int top = textTop(fm, y);
+        if (!widgets.isCurrent(WIDGET_LEVEL, x, top, 0, levelName)) {
+            widgets.beginRepaint(WIDGET_LEVEL, x, top, textWidth(fm, levelName), textHeight(fm), 0, levelName);
+            try {
+                Graphics g = backBuffer.getGraphics();
+                g.setFont(fontPack.getRegular());
+                g.setColor(Color.WHITE);
+                g.drawString(levelName, x, y);
+            } finally {
+                widgets.endRepaint();
+            }
+        }
+        widgets.draw(WIDGET_LEVEL);
+    }
+
+    /** Top of the area text drawn on a baseline can cover. */
+    private static int textTop(final FontMetrics fm, final int baseline) {
+        return baseline - fm.getMaxAscent() - TEXT_MARGIN;
+    }
 
-        int y = seperateLine + fontHeight;
-        g.drawString(levelName, 20, y);
+    /** Height of the area text drawn on a baseline can cover. */
+    private static int textHeight(final FontMetrics fm) {
+        return fm.getMaxAscent() + fm.getMaxDescent() + 2 * TEXT_MARGIN;
+    }
+
+    /** Width of the area a text can cover. */
+    private static int textWidth(final FontMetrics fm, final String text) {
+        return fm.stringWidth(text) + 4 * TEXT_MARGIN;
     }
 
     /** Draw achievement popup at the top center of the screen. */
@@ -138,7 +234,7 @@ public final class HUDRenderer {
         int x = screenWidth / 2 - popupWidth / 2;
         int y = 80;
 
-        g.setColor(new Color(0, 0, 0, 200));
+        g.setColor(POPUP_BACKGROUND);
         g.fillRoundRect(x, y, popupWidth, popupHeight, 15, 15);
 
         g.setColor(Color.YELLOW);
@@ -157,10 +253,10 @@ public final class HUDRenderer {
         int x = screenWidth / 2 - popupWidth / 2;
         int y = 100;
 
-        g.setColor(new Color(0, 0, 0, 200));
+        g.setColor(POPUP_BACKGROUND);
         g.fillRoundRect(x, y, popupWidth, popupHeight, 15, 15);
 
-        g.setColor(text.startsWith("+") ? new Color(50, 255, 50) : new Color(255, 50, 50));
+        g.setColor(text.startsWith("+") ? HEAL_COLOR : DAMAGE_COLOR);
         g.setFont(fontPack.getFontBig());
         int textWidth = fontPack.getBigMetrics().stringWidth(text);
         g.drawString(text, (screenWidth - textWidth) / 2, y + popupHeight / 2 + 5);
@@ -191,7 +287,7 @@ public final class HUDRenderer {
             String text = seconds + "";
 
             g.setFont(fontPack.getRegular());
-            FontMetrics fm = g.getFontMetrics();
+            FontMetrics fm = fontPack.getMetrics(g);
 
             int textX = x + (r - fm.stringWidth(text)) / 2;
             int textY = y + (r + fm.getAscent()) / 2 - 3;
@@ -204,40 +300,70 @@ public final class HUDRenderer {
         }
     }
 
-    /** Draw teleport cooldowns for P1 and P2 */
     /** Draw teleport cooldowns for P1 and P2 */
     public void drawTeleportCooldowns(int screenWidth, int screenHeight, double cooldownP1, double cooldownP2, boolean originUsed) {
-        Graphics2D g = (Graphics2D) backBuffer.getGraphics();
         int r = TELEPORT_GAUGE_RADIUS;
         int y = screenHeight - COOLDOWN_Y_OFFSET;
 
         // -------- P1 --------
         int p1X = P1_COOLDOWN_X;
-        int p1CenterX = p1X + r / 2;
-        int p1CenterY = y + r / 2;
-
-        drawTeleportCooldown(g, p1X, y, cooldownP1);
-
-        drawExplainP1Skill(
-                p1CenterX,
-                p1CenterY,
-                y,
-                y + r
-        );
+        drawCachedTeleportCooldown(WIDGET_COOLDOWN_P1, p1X, y, cooldownP1);
 
         // -------- P2 --------
         int p2X = screenWidth / 2 + P2_COOLDOWN_X_OFFSET;
-        int p2CenterX = p2X + r / 2;
-        int p2CenterY = y + r / 2;
-
-        drawTeleportCooldown(g, p2X, y, cooldownP2);
+        drawCachedTeleportCooldown(WIDGET_COOLDOWN_P2, p2X, y, cooldownP2);
+
+        // -------- Key explanations, only drawn again if the screen changes --------
+        FontMetrics fmTop = fontPack.getSmallBigMetrics();
+        int top = y - fmTop.getHeight() / 2 - fmTop.getMaxAscent() - TEXT_MARGIN;
+        if (!widgets.isCurrent(WIDGET_SKILLS, 0, top, screenWidth, null)) {
+            int bottom = Math.max(y + r + fmTop.getHeight() + fmTop.getMaxDescent(), y + maxIconHeight()) + TEXT_MARGIN;
+            widgets.beginRepaint(WIDGET_SKILLS, 0, top, screenWidth, bottom - top, screenWidth, null);
+            try {
+                drawExplainP1Skill(p1X + r / 2, y + r / 2, y, y + r);
+                drawExplainP2Skill(p2X + r / 2, y + r / 2, y, y + r);
+            } finally {
+                widgets.endRepaint();
+            }
+        }
+        widgets.draw(WIDGET_SKILLS);
 
-        drawExplainP2Skill(p2CenterX, p2CenterY, y, y + r);
         if (originUsed) {
             drawOriginUsed(y);
         }
     }
 
+    /** Draw a teleport cooldown gauge, cached until its fill or countdown changes. */
+    private void drawCachedTeleportCooldown(final int widget, final int x, final int y, final double ratio) {
+        int r = TELEPORT_GAUGE_RADIUS;
+        long key = ratio < 1.0
+                ? (long) (r * ratio) << 8 | Math.max(1, (int) Math.ceil((1.0 - ratio) * 5))
+                : -1;
+        if (!widgets.isCurrent(widget, x, y, key, null)) {
+            widgets.beginRepaint(widget, x, y, r, r, key, null);
+            try {
+                drawTeleportCooldown((Graphics2D) backBuffer.getGraphics(), x, y, ratio);
+            } finally {
+                widgets.endRepaint();
+            }
+        }
+        widgets.draw(widget);
+    }
+
+    /** Height of the tallest key explanation icon. */
+    private int maxIconHeight() {
+        int height = 0;
+        DrawManager.SpriteType[] icons = {
+                DrawManager.SpriteType.ChargingLaserP1Icon, DrawManager.SpriteType.ShootP1Icon,
+                DrawManager.SpriteType.ChargingLaserP2Icon, DrawManager.SpriteType.ShootP2Icon,
+                DrawManager.SpriteType.OriginIcon };
+        for (DrawManager.SpriteType icon : icons) {
+            BufferedImage image = spriteMap.get(icon);
+            if (image != null) height = Math.max(height, image.getHeight());
+        }
+        return height;
+    }
+
 
     private void drawPlayerSkillExplain(int centerX, int centerY, int topLineY, int bottomLineY, Color labelColor, String playerLabel, String topMainText, String[] topTexts, String[] bottomTexts, BufferedImage[] icons, boolean isP1) {
         Graphics2D g = (Graphics2D) backBuffer.getGraphics();
@@ -246,14 +372,14 @@ public final class HUDRenderer {
         g.setFont(fontPack.getRegular());
         g.setColor(labelColor);
 
-        FontMetrics fmLabel = g.getFontMetrics();
+        FontMetrics fmLabel = fontPack.getMetrics(g);
 
         g.drawString(playerLabel, centerX - TELEPORT_GAUGE_RADIUS - fmLabel.stringWidth(playerLabel) - 5, centerY + fmLabel.getAscent() / 2);
         // Main texts
         g.setFont(fontPack.getFontSmallBig());
         g.setColor(Color.WHITE);
 
-        FontMetrics fmTop = g.getFontMetrics();
+        FontMetrics fmTop = fontPack.getMetrics(g);
 
         int topX = centerX - fmTop.stringWidth(topMainText) / 2;
         int topY = topLineY - fmTop.getHeight() / 2;
@@ -262,7 +388,7 @@ public final class HUDRenderer {
 
         String teleport = "teleport";
 
-        FontMetrics fmSmall = g.getFontMetrics();
+        FontMetrics fmSmall = fontPack.getMetrics(g);
 
         int bottomX = centerX - fmSmall.stringWidth(teleport) / 2;
         int bottomY = bottomLineY + fmSmall.getHeight();
@@ -274,7 +400,7 @@ public final class HUDRenderer {
 
         for (int i = 0; i < topTexts.length; i++) {
 
-            FontMetrics fm = g.getFontMetrics();
+            FontMetrics fm = fontPack.getMetrics(g);
             String t = topTexts[i];
             int tWidth = fm.stringWidth(t);
 
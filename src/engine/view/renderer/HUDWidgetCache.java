@@ -0,0 +1,168 @@
+package engine.view.renderer;
+
+import engine.view.BackBuffer;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+
+/**
+ * Cached images of the HUD widgets, such as a score or a lives counter.
+ * Every widget is drawn once to its own transparent image, covering only
+ * its bounds, and that image is copied to the back buffer every frame.
+ * A widget is drawn again only when the values it shows change, given as
+ * a number and an optional text, so a quiet HUD costs a few image copies
+ * per frame instead of laying out its text again.
+ *
+ * A widget is repainted through the usual renderer code: between
+ * {@link #beginRepaint} and {@link #endRepaint()} the back buffer hands
+ * out the graphics of the widget image, translated so screen coordinates
+ * land inside the widget bounds.
+ */
+public final class HUDWidgetCache {
+
+	/** One cached widget. */
+	private static final class Widget {
+		private BufferedImage image;
+		private int x;
+		private int y;
+		private long key;
+		private String text;
+		private boolean painted;
+	}
+
+	private final BackBuffer backBuffer;
+	private final Widget[] widgets;
+	/** Widget being repainted, null otherwise. */
+	private Widget repainting;
+	/** Graphics of the widget being repainted. */
+	private Graphics2D repaintGraphics;
+	/** Graphics drawn on before the repaint began. */
+	private Graphics previousGraphics;
+	/** Number of times a widget was repainted. */
+	private int repaints;
+
+	/**
+	 * Constructor, creates an empty cache.
+	 *
+	 * @param widgetCount
+	 *            Number of widgets, identified from 0 to widgetCount - 1.
+	 */
+	public HUDWidgetCache(final BackBuffer backBuffer, final int widgetCount) {
+		this.backBuffer = backBuffer;
+		this.widgets = new Widget[widgetCount];
+		for (int i = 0; i < widgetCount; i++) {
+			this.widgets[i] = new Widget();
+		}
+	}
+
+	/**
+	 * Checks if a widget still shows the given values at the given place.
+	 *
+	 * @param id
+	 *            Widget to check.
+	 * @param x
+	 *            Left edge of the widget bounds on screen.
+	 * @param y
+	 *            Top edge of the widget bounds on screen.
+	 * @param key
+	 *            Values shown by the widget, packed in a number.
+	 * @param text
+	 *            Text shown by the widget, null if none.
+	 * @return True if the cached image can be drawn as it is.
+	 */
+	public boolean isCurrent(final int id, final int x, final int y, final long key, final String text) {
+		Widget widget = widgets[id];
+		return widget.painted && widget.x == x && widget.y == y
+				&& widget.key == key && Objects.equals(widget.text, text);
+	}
+
+	/**
+	 * Clears a widget and makes the renderers draw on it until
+	 * {@link #endRepaint()}.
+	 *
+	 * @param id
+	 *            Widget to repaint.
+	 * @param x
+	 *            Left edge of the widget bounds on screen.
+	 * @param y
+	 *            Top edge of the widget bounds on screen.
+	 * @param width
+	 *            Width of the widget bounds, anything drawn outside is cut.
+	 * @param height
+	 *            Height of the widget bounds, anything drawn outside is cut.
+	 * @param key
+	 *            Values the widget is repainted for.
+	 * @param text
+	 *            Text the widget is repainted for, null if none.
+	 */
+	public void beginRepaint(final int id, final int x, final int y, final int width, final int height,
+			final long key, final String text) {
+		Widget widget = widgets[id];
+		int w = Math.max(1, width);
+		int h = Math.max(1, height);
+		if (widget.image == null || widget.image.getWidth() != w || widget.image.getHeight() != h) {
+			widget.image = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+		}
+		Graphics2D g = widget.image.createGraphics();
+		Composite composite = g.getComposite();
+		g.setComposite(AlphaComposite.Clear);
+		g.fillRect(0, 0, w, h);
+		g.setComposite(composite);
+		g.translate(-x, -y);
+
+		widget.x = x;
+		widget.y = y;
+		widget.key = key;
+		widget.text = text;
+		widget.painted = true;
+		repainting = widget;
+		repaintGraphics = g;
+		previousGraphics = backBuffer.beginLayer(g);
+		repaints++;
+	}
+
+	/**
+	 * Makes the renderers draw where they drew before the repaint.
+	 */
+	public void endRepaint() {
+		if (repainting == null) return;
+		backBuffer.endLayer(previousGraphics);
+		repaintGraphics.dispose();
+		repainting = null;
+		repaintGraphics = null;
+		previousGraphics = null;
+	}
+
+	/**
+	 * Copies a widget to where the renderers currently draw.
+	 *
+	 * @param id
+	 *            Widget to draw, ignored if it was never painted.
+	 */
+	public void draw(final int id) {
+		Widget widget = widgets[id];
+		if (!widget.painted) return;
+		backBuffer.getGraphics().drawImage(widget.image, widget.x, widget.y, null);
+	}
+
+	/**
+	 * Forgets every widget, so they are all repainted when next drawn.
+	 */
+	public void invalidate() {
+		for (Widget widget : widgets) {
+			widget.painted = false;
+			widget.text = null;
+		}
+	}
+
+	/**
+	 * Getter for the number of times a widget was repainted.
+	 */
+	public int getRepaints() {
+		return repaints;
+	}
+}
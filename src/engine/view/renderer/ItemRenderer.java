@@ -2,45 +2,44 @@ package engine.view.renderer;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.Map;
 
 import engine.view.BackBuffer;
+import engine.view.SpriteAtlas;
 import engine.view.DrawManager.SpriteType;
 import entity.item.DropItem;
 
 public class ItemRenderer {
 
 	private final BackBuffer backBuffer;
-	private final Map<SpriteType, BufferedImage> spriteMap;
-	private final double scale;
+	/** Source of the pre-scaled item sprites. */
+	private final SpriteAtlas spriteAtlas;
 
-	public ItemRenderer(BackBuffer backBuffer, Map<SpriteType, BufferedImage> spriteMap, double scale) {
+	public ItemRenderer(BackBuffer backBuffer, SpriteAtlas spriteAtlas) {
 		this.backBuffer = backBuffer;
-		this.spriteMap = spriteMap;
-		this.scale = scale;
+		this.spriteAtlas = spriteAtlas;
 	}
 
 	public void render(DropItem item) {
-		Graphics2D g2d = (Graphics2D) backBuffer.getGraphics();
-
+		render(spriteFor(item.getItemType()), item.getPositionX(), item.getPositionY());
+	}
 
+	/** Draws an item sprite with its top-left corner at the given position. */
+	public void render(SpriteType sprite, int positionX, int positionY) {
+		Graphics2D g2d = (Graphics2D) backBuffer.getGraphics();
 
-		BufferedImage img = spriteMap.get(this.getSprite(item.getItemType()));
+		BufferedImage img = spriteAtlas.getScaled(sprite);
 		if (img == null) {
 			return;
 		}
-		int originalW = img.getWidth();
-		int originalH = img.getHeight();
-		int scaledW = (int) (originalW * scale * 2);
-		int scaledH = (int) (originalH * scale * 2);
-
-		int drawX = item.getPositionX(); // middle alignment: int drawX = positionX- scaledW / 2
-		int drawY = item.getPositionY(); // middle alignment: int drawY = positionY - scaledH / 2
-		g2d.drawImage(img, drawX, drawY, scaledW, scaledH, null);
+
+		int drawX = positionX; // middle alignment: int drawX = positionX- img.getWidth() / 2
+		int drawY = positionY; // middle alignment: int drawY = positionY - img.getHeight() / 2
+		g2d.drawImage(img, drawX, drawY, null);
 	}
 
 
-	private SpriteType getSprite(DropItem.ItemType type) {
+	/** Sprite of a dropped item type. */
+	public static SpriteType spriteFor(DropItem.ItemType type) {
 		switch (type) {
 
 			case SubShip:
@@ -21,7 +21,7 @@ public final class ShopRenderer {
     {
         Graphics g = backBuffer.getGraphics();
         g.setFont(fontPack.getRegular());
-        FontMetrics metrics = g.getFontMetrics();
+        FontMetrics metrics = fontPack.getMetrics(g);
 
         // --- Title ---
         g.setColor(Color.GREEN);
@@ -66,7 +66,7 @@ public final class ShopRenderer {
         }
 
         // --- Exit ---
-        FontMetrics fm = g.getFontMetrics();
+        FontMetrics fm = fontPack.getMetrics(g);
         int fontHeight = fm.getHeight();
         int exitY = dto.getScreenHeight() - fontHeight;
         g.setColor((dto.getSelectedItem() == dto.getTotalItems() && dto.getSelectionMode() == 0) ? Color.GREEN : Color.WHITE);
@@ -92,7 +92,7 @@ public final class ShopRenderer {
     ) {
         Graphics g = backBuffer.getGraphics();
         g.setFont(fontPack.getRegular());
-        FontMetrics metrics = g.getFontMetrics();
+        FontMetrics metrics = fontPack.getMetrics(g);
 
         g.setColor(isSelected || isLevelSelection ? Color.GREEN : Color.WHITE);
         // item name + level info
@@ -104,7 +104,7 @@ public final class ShopRenderer {
         // instruction
         if (isSelected || isLevelSelection) {
             g.setColor(Color.GRAY);
-            FontMetrics fm = g.getFontMetrics();
+            FontMetrics fm = fontPack.getMetrics(g);
             int fontHeight = fm.getHeight();
             g.drawString(description, 30, yPosition + fontHeight);
         }
@@ -113,7 +113,7 @@ public final class ShopRenderer {
         if (isLevelSelection) {
             int levelStartX = 30;
             int currX = levelStartX;
-            FontMetrics fm = g.getFontMetrics();
+            FontMetrics fm = fontPack.getMetrics(g);
             int currY = yPosition + 2 * fm.getHeight();
             int maxWidth = screenWidth - 60;
             int spaceBetween = 18;
@@ -155,7 +155,7 @@ public final class ShopRenderer {
     public void drawShopFeedback(final int screenWidth, final String message) {
         Graphics g = backBuffer.getGraphics();
         g.setFont(fontPack.getRegular());
-        FontMetrics fm = g.getFontMetrics();
+        FontMetrics fm = fontPack.getMetrics(g);
         int popupWidth = fm.stringWidth(message) + 50;
         int popupHeight = fm.getHeight() + 50;
         int x = screenWidth / 2 - popupWidth / 2;
@@ -183,7 +183,7 @@ public final class ShopRenderer {
     private void drawCenteredString(final int screenWidth, String text, int y, Font font) {
         Graphics g = backBuffer.getGraphics();
         g.setFont(font);
-        FontMetrics metrics = g.getFontMetrics();
+        FontMetrics metrics = fontPack.getMetrics(g);
         int x = (screenWidth - metrics.stringWidth(text)) / 2;
         g.drawString(text, x, y);
     }
@@ -17,12 +17,13 @@ public class SpecialAnimationRenderer {
 
     private final AnimationLoader loader;
 
-    private final BufferedImage[] shipFrames;
-    private final BufferedImage[] humanFrames;
-    private final BufferedImage[] buttonFrames;
-    private final BufferedImage[] fireFrames;
+    /** Cutscene frames, decoded on demand a window ahead of the shown one. */
+    private final FrameStream shipFrames;
+    private final FrameStream humanFrames;
+    private final FrameStream buttonFrames;
+    private final FrameStream fireFrames;
 
-    private BufferedImage[] currentFrames;
+    private FrameStream currentFrames;
     private int imgHeight = GameConstant.ITEMS_SEPARATION_LINE_HEIGHT - GameConstant.STAT_SEPARATION_LINE_HEIGHT;
     private int imgWidth = GameConstant.SCREEN_WIDTH;
 
@@ -35,38 +36,64 @@ public class SpecialAnimationRenderer {
     public SpecialAnimationRenderer(BackBuffer backBuffer) {
         this.loader = new AnimationLoader();
         this.backBuffer = backBuffer;
-        this.shipFrames = loader.load("res/images/Animation/01_ship");
-        this.humanFrames = loader.load("res/images/Animation/02_human");
-        this.buttonFrames = loader.load("res/images/Animation/03_button");
-        this.fireFrames = loader.load("res/images/Animation/04_fire");
+        this.shipFrames = new FrameStream(loader, "res/images/Animation/01_ship", FrameStream.DEFAULT_WINDOW);
+        this.humanFrames = new FrameStream(loader, "res/images/Animation/02_human", FrameStream.DEFAULT_WINDOW);
+        this.buttonFrames = new FrameStream(loader, "res/images/Animation/03_button", FrameStream.DEFAULT_WINDOW);
+        this.fireFrames = new FrameStream(loader, "res/images/Animation/04_fire", FrameStream.DEFAULT_WINDOW);
         this.soundPlay = false;
         this.currentFrames = shipFrames;
         this.frameCooldown = new Cooldown(60);
-        start(shipFrames);
+        this.frame = 0;
 
     }
 
-    private void start(BufferedImage[] frames) {
+    /**
+     * Starts decoding the first frames of the cutscene in the background,
+     * so it can start without a hitch. Cheap to call every frame.
+     */
+    public void prefetch() {
+        // Before the cutscene first plays, or after it ended and its frames were released.
+        if (phase == Phase.END || (phase == Phase.SHIP && frame == 0)) {
+            shipFrames.prefetch(0);
+        }
+    }
+
+    private void start(FrameStream frames, FrameStream next) {
 
         this.currentFrames = frames;
         this.frame = 0;
         this.finished = false;
+        frames.prefetch(0);
+        // The next phase decodes meanwhile, so it does not start on an empty window.
+        if (next != null) {
+            next.prefetch(0);
+        }
         frameCooldown.reset();
     }
 
+    private void releaseFrames() {
+        shipFrames.releaseAll();
+        humanFrames.releaseAll();
+        buttonFrames.releaseAll();
+        fireFrames.releaseAll();
+    }
+
     public void update(int currentLevel) {
 
         if (phase == Phase.END) {
             this.resetAnimation();
         }
+        if (phase == Phase.SHIP && frame == 0) {
+            humanFrames.prefetch(0);
+        }
 
 
         if (!finished && frameCooldown.checkFinished()) {
             frameCooldown.reset();
             frame++;
 
-            if (frame >= currentFrames.length) {
-                frame = currentFrames.length - 1;
+            if (frame >= currentFrames.length()) {
+                frame = currentFrames.length() - 1;
                 finished = true;
             }
         }
@@ -77,22 +104,23 @@ public class SpecialAnimationRenderer {
             switch (phase) {
                 case SHIP:
                     phase = Phase.HUMAN;
-                    start(humanFrames);
+                    start(humanFrames, buttonFrames);
                     break;
 
                 case HUMAN:
                     phase = Phase.BUTTON;
-                    start(buttonFrames);
+                    start(buttonFrames, fireFrames);
                     break;
 
                 case BUTTON:
                     phase = Phase.FIRE;
-                    start(fireFrames);
+                    start(fireFrames, null);
                     break;
 
                 case FIRE:
                     phase = Phase.END;
-                    SoundManager.playLoop("sfx/level" + currentLevel + ".wav");
+                    releaseFrames();
+                    SoundManager.playLoop(SoundManager.levelMusic(currentLevel));
                     break;
             }
         }
@@ -101,13 +129,16 @@ public class SpecialAnimationRenderer {
         this.phase = Phase.SHIP;
         this.frame = 0;
         this.finished = false;
-        start(shipFrames);
+        start(shipFrames, humanFrames);
         soundPlay = false;
     }
 
     public void draw() {
         if (phase != Phase.END) {
-            backBuffer.getGraphics().drawImage(currentFrames[frame], 0, GameConstant.STAT_SEPARATION_LINE_HEIGHT, imgWidth, imgHeight, null);
+            BufferedImage image = currentFrames.get(frame);
+            if (image != null) {
+                backBuffer.getGraphics().drawImage(image, 0, GameConstant.STAT_SEPARATION_LINE_HEIGHT, imgWidth, imgHeight, null);
+            }
             if (currentFrames == shipFrames && !soundPlay){
                 SoundManager.stopAll();
                 SoundManager.play("sfx/OriginBgm.wav");
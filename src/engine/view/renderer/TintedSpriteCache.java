@@ -0,0 +1,265 @@
+package engine.view.renderer;
+
+import engine.view.DrawManager.SpriteType;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * Bounded least-recently-used cache of recoloured and faded sprites.
+ * Derived sprites are keyed by sprite type, derivation and colour, with
+ * alpha values quantised to {@link #ALPHA_LEVELS} levels, so effects that
+ * fade every frame reuse a handful of images instead of building a new
+ * one per draw. Each derivation reads and writes the whole raster in a
+ * single bulk call.
+ *
+ * Keys are plain longs looked up in an open-addressed table, and entries
+ * are kept in parallel arrays linked in access order, so a repeated draw
+ * costs a lookup without allocating.
+ */
+public final class TintedSpriteCache {
+
+	/** How a derived sprite is computed from its source. */
+	public enum Mode {
+		/** Replaces the colour of every visible pixel, keeping its alpha. */
+		RECOLOR,
+		/** Caps the alpha of every visible pixel, keeping its colour. */
+		FADE,
+		/** Replaces every visible pixel with the given colour, alpha included. */
+		SOLID
+	}
+
+	/** Derived sprites kept by default. */
+	public static final int DEFAULT_CAPACITY = 64;
+	/** Number of distinct alpha values a faded sprite can have. */
+	public static final int ALPHA_LEVELS = 32;
+
+	/** Key of each entry: sprite type, mode and colour or alpha. */
+	private final long[] keys;
+	/** Source each entry was derived from. */
+	private final BufferedImage[] sources;
+	/** Derived sprite of each entry. */
+	private final BufferedImage[] images;
+	/** Entry used just before each entry, -1 for the least recently used. */
+	private final int[] older;
+	/** Entry used just after each entry, -1 for the most recently used. */
+	private final int[] newer;
+	/** Least recently used entry, -1 when empty. */
+	private int oldest = -1;
+	/** Most recently used entry, -1 when empty. */
+	private int newest = -1;
+	/** Number of entries in use. */
+	private int size;
+	/** Entry index plus one of each key by hash, 0 for a free slot, probed linearly. */
+	private final int[] table;
+	private final int mask;
+	/** Number of lookups served from the cache. */
+	private long hits;
+	/** Number of lookups that had to derive a sprite. */
+	private long misses;
+
+	/**
+	 * Constructor, creates a cache of the default capacity.
+	 */
+	public TintedSpriteCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructor, creates an empty cache.
+	 *
+	 * @param capacity
+	 *            Maximum number of derived sprites kept.
+	 */
+	public TintedSpriteCache(final int capacity) {
+		int entries = Math.max(1, capacity);
+		this.keys = new long[entries];
+		this.sources = new BufferedImage[entries];
+		this.images = new BufferedImage[entries];
+		this.older = new int[entries];
+		this.newer = new int[entries];
+		// At most half full, so probes stay short.
+		this.table = new int[Integer.highestOneBit(entries * 2 - 1) << 1];
+		this.mask = this.table.length - 1;
+	}
+
+	/**
+	 * Returns the derived version of a sprite, computing it on first use.
+	 *
+	 * @param type
+	 *            Type of the source sprite.
+	 * @param source
+	 *            Source sprite.
+	 * @param mode
+	 *            Derivation to apply.
+	 * @param argb
+	 *            Colour for RECOLOR and SOLID, or the alpha (0-255) for FADE.
+	 * @return Derived sprite, shared between callers and not to be modified.
+	 */
+	public BufferedImage get(final SpriteType type, final BufferedImage source, final Mode mode, final int argb) {
+		int value = mode == Mode.FADE ? quantizeAlpha(argb) : argb;
+		long key = ((long) type.ordinal() << 40) | ((long) mode.ordinal() << 32) | (value & 0xFFFFFFFFL);
+		int slot = slotOf(key);
+		int index = slot < 0 ? -1 : this.table[slot] - 1;
+		if (index >= 0 && this.sources[index] == source) {
+			this.hits++;
+			markUsed(index);
+			return this.images[index];
+		}
+		this.misses++;
+		BufferedImage image = derive(source, mode, value);
+		if (index < 0) {
+			index = newEntry();
+			this.keys[index] = key;
+			int free = home(key);
+			while (this.table[free] != 0) free = (free + 1) & this.mask;
+			this.table[free] = index + 1;
+		}
+		this.sources[index] = source;
+		this.images[index] = image;
+		markUsed(index);
+		return image;
+	}
+
+	/** Table slot of a key, -1 if it is not cached. */
+	private int slotOf(final long key) {
+		for (int slot = home(key); this.table[slot] != 0; slot = (slot + 1) & this.mask) {
+			if (this.keys[this.table[slot] - 1] == key) return slot;
+		}
+		return -1;
+	}
+
+	/** First table slot probed for a key. */
+	private int home(final long key) {
+		return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & this.mask;
+	}
+
+	/**
+	 * Returns a free entry, evicting the least recently used one when full.
+	 */
+	private int newEntry() {
+		if (this.size < this.keys.length) {
+			this.older[this.size] = -1;
+			this.newer[this.size] = -1;
+			return this.size++;
+		}
+		int index = this.oldest;
+		unlink(index);
+		removeSlot(slotOf(this.keys[index]));
+		this.sources[index] = null;
+		this.images[index] = null;
+		return index;
+	}
+
+	/**
+	 * Frees a table slot, moving later keys of the same probe run back so
+	 * that every key stays reachable from its home slot.
+	 */
+	private void removeSlot(int slot) {
+		this.table[slot] = 0;
+		for (int next = (slot + 1) & this.mask; this.table[next] != 0; next = (next + 1) & this.mask) {
+			int home = home(this.keys[this.table[next] - 1]);
+			if (((next - home) & this.mask) >= ((next - slot) & this.mask)) {
+				this.table[slot] = this.table[next];
+				this.table[next] = 0;
+				slot = next;
+			}
+		}
+	}
+
+	/** Makes an entry the most recently used. */
+	private void markUsed(final int index) {
+		if (index == this.newest) return;
+		// Entries other than the newest are linked to a newer one, new entries to none.
+		if (this.newer[index] != -1) unlink(index);
+		this.older[index] = this.newest;
+		this.newer[index] = -1;
+		if (this.newest != -1) this.newer[this.newest] = index;
+		this.newest = index;
+		if (this.oldest == -1) this.oldest = index;
+	}
+
+	/** Takes an entry out of the access order. */
+	private void unlink(final int index) {
+		int before = this.older[index];
+		int after = this.newer[index];
+		if (before != -1) this.newer[before] = after; else this.oldest = after;
+		if (after != -1) this.older[after] = before; else this.newest = before;
+		this.older[index] = -1;
+		this.newer[index] = -1;
+	}
+
+	/**
+	 * Computes a derived sprite without caching it.
+	 *
+	 * @param source
+	 *            Source sprite.
+	 * @param mode
+	 *            Derivation to apply.
+	 * @param argb
+	 *            Colour for RECOLOR and SOLID, or the alpha (0-255) for FADE.
+	 * @return New ARGB image of the same size as the source.
+	 */
+	public static BufferedImage derive(final BufferedImage source, final Mode mode, final int argb) {
+		int width = source.getWidth();
+		int height = source.getHeight();
+		int[] pixels = source.getRGB(0, 0, width, height, null, 0, width);
+		int color = argb & 0x00FFFFFF;
+		int alpha = argb & 0xFF;
+
+		for (int i = 0; i < pixels.length; i++) {
+			int pixel = pixels[i];
+			int pixelAlpha = pixel >>> 24;
+			if (pixelAlpha == 0) {
+				pixels[i] = 0;
+				continue;
+			}
+			switch (mode) {
+				case RECOLOR -> pixels[i] = color | (pixelAlpha << 24);
+				case FADE -> pixels[i] = (pixel & 0x00FFFFFF) | (Math.min(alpha, pixelAlpha) << 24);
+				case SOLID -> pixels[i] = argb;
+			}
+		}
+
+		BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		result.setRGB(0, 0, width, height, pixels, 0, width);
+		return result;
+	}
+
+	/**
+	 * Rounds an alpha value to the nearest of the cached levels.
+	 *
+	 * @param alpha
+	 *            Alpha between 0 and 255, clamped if outside.
+	 * @return Quantised alpha, 0 and 255 are kept exactly.
+	 */
+	public static int quantizeAlpha(final int alpha) {
+		int clamped = Math.max(0, Math.min(255, alpha));
+		int level = Math.round(clamped * (ALPHA_LEVELS - 1) / 255f);
+		return level * 255 / (ALPHA_LEVELS - 1);
+	}
+
+	/**
+	 * Drops every derived sprite.
+	 */
+	public void clear() {
+		Arrays.fill(this.table, 0);
+		Arrays.fill(this.sources, null);
+		Arrays.fill(this.images, null);
+		this.oldest = -1;
+		this.newest = -1;
+		this.size = 0;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	public long getHits() {
+		return this.hits;
+	}
+
+	public long getMisses() {
+		return this.misses;
+	}
+}
@@ -8,10 +8,16 @@ import entity.GameConstant;
 
 import java.util.List;
 import java.awt.Color;
+import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 
 public final class UIRenderer {
+    /** Fixed-width font of the profiler overlay, keeps its columns aligned. */
+    private static final Font OVERLAY_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    /** Background of the profiler overlay. */
+    private static final Color OVERLAY_BACKGROUND = new Color(0, 0, 0, 180);
+
     private final BackBuffer backBuffer;
     private final FontPack fontPack;
 
@@ -33,7 +39,7 @@ public final class UIRenderer {
         g.setFont(fontPack.getFontBig());
         g.setColor(Color.GREEN);
         String title = "Space Invaders extension";
-        FontMetrics fm = g.getFontMetrics();
+        FontMetrics fm = fontPack.getMetrics(g);
         int textWidth = fm.stringWidth(title);
         int x = (screenWidth - textWidth) / 2;
         int y = screenHeight / 3;
@@ -42,7 +48,7 @@ public final class UIRenderer {
         g.setFont(fontPack.getRegular());
         g.setColor(Color.GREEN);
         String str = "with temp";
-        fm = g.getFontMetrics();
+        fm = fontPack.getMetrics(g);
         textWidth = fm.stringWidth(str);
         x = (screenWidth - textWidth) / 2 + 200;
         y = screenHeight / 3 + 30;
@@ -52,14 +58,14 @@ public final class UIRenderer {
         g.setColor(Color.YELLOW);
         String explain1 = "Player 1: move: W.A.S.D / shoot: space";
 
-        fm = g.getFontMetrics();
+        fm = fontPack.getMetrics(g);
         textWidth = fm.stringWidth(explain1);
         x = (screenWidth - textWidth) / 2;
         y = screenHeight / 2;
         g.drawString(explain1, x, y);
 
         String explain2 = "Player 2: move: arrow keys / shoot: enter";
-        fm = g.getFontMetrics();
+        fm = fontPack.getMetrics(g);
         textWidth = fm.stringWidth(explain2);
         x = (screenWidth - textWidth) / 2;
         y = screenHeight / 2 + 30;
@@ -246,14 +252,14 @@ public final class UIRenderer {
         g.setColor(Color.GREEN);
         String creditsString = "Credits";
         g.drawString(creditsString,
-                (screenWidth - g.getFontMetrics().stringWidth(creditsString)) / 2,
+                (screenWidth - fontPack.getMetrics(g).stringWidth(creditsString)) / 2,
                 screenHeight / 8);
 
         g.setFont(fontPack.getRegular());
         g.setColor(Color.GRAY);
         String instructionsString = "Press Space to return";
         g.drawString(instructionsString,
-                (screenWidth - g.getFontMetrics().stringWidth(instructionsString)) / 2,
+                (screenWidth - fontPack.getMetrics(g).stringWidth(instructionsString)) / 2,
                 screenHeight / 5);
     }
 
@@ -278,7 +284,7 @@ public final class UIRenderer {
         Graphics g = backBuffer.getGraphics();
         g.setFont(fontPack.getRegular());
         g.setColor(Color.WHITE);
-        int x = (screenWidth - g.getFontMetrics().stringWidth(text)) / 2;
+        int x = (screenWidth - fontPack.getMetrics(g).stringWidth(text)) / 2;
         g.drawString(text, x, y);
     }
 
@@ -287,7 +293,7 @@ public final class UIRenderer {
         Graphics g = backBuffer.getGraphics();
         g.setFont(fontPack.getFontBig());
         g.setColor(Color.WHITE);
-        int x = (screenWidth - g.getFontMetrics().stringWidth(text)) / 2;
+        int x = (screenWidth - fontPack.getMetrics(g).stringWidth(text)) / 2;
         g.drawString(text, x, y);
     }
 
@@ -317,7 +323,7 @@ public final class UIRenderer {
             text = "GO!";
         }
 
-        FontMetrics metrics = g.getFontMetrics();
+        FontMetrics metrics = fontPack.getMetrics(g);
         int textX = (screenWidth - metrics.stringWidth(text)) / 2;
         int textY = screenHeight / 2 + metrics.getHeight() / 3;
 
@@ -328,14 +334,14 @@ public final class UIRenderer {
 
     // center text horizontally
     private int centerX(final int screenWidth, Graphics g, String text) {
-        return (screenWidth - g.getFontMetrics().stringWidth(text)) / 2;
+        return (screenWidth - fontPack.getMetrics(g).stringWidth(text)) / 2;
     }
 
     public void drawBossName(String bossName) {
         Graphics g = backBuffer.getGraphics();
         g.setFont(fontPack.getFontBig());
         g.setColor(Color.GREEN);
-        FontMetrics fm = g.getFontMetrics();
+        FontMetrics fm = fontPack.getMetrics(g);
         int textWidth = fm.stringWidth(bossName);
         int padding = 10;
 
@@ -351,4 +357,30 @@ public final class UIRenderer {
 
 
     }
+
+    /**
+     * Draws the profiler overlay in the top left corner of the play area.
+     *
+     * @param lines
+     *            Overlay text, one entry per line.
+     */
+    public void drawProfilerOverlay(final String[] lines) {
+        Graphics g = backBuffer.getGraphics();
+        g.setFont(OVERLAY_FONT);
+        FontMetrics metrics = fontPack.getMetrics(g);
+        int lineHeight = metrics.getHeight();
+        int width = 0;
+        for (String line : lines) {
+            width = Math.max(width, metrics.stringWidth(line));
+        }
+        int x = 10;
+        int y = GameConstant.STAT_SEPARATION_LINE_HEIGHT + 10;
+
+        g.setColor(OVERLAY_BACKGROUND);
+        g.fillRect(x - 5, y - 5, width + 10, lines.length * lineHeight + 10);
+        g.setColor(Color.GREEN);
+        for (int i = 0; i < lines.length; i++) {
+            g.drawString(lines[i], x, y + metrics.getAscent() + i * lineHeight);
+        }
+    }
 }
@@ -27,6 +27,17 @@ public class Entity implements Collidable, HasBounds {
 	/** Sprite type assigned to the entity. */
 	protected SpriteType spriteType;
 
+	/** Largest move per tick drawn as motion, longer jumps like teleports are drawn at once. */
+	public static final int MAX_INTERPOLATED_STEP = 32;
+	/** Position in the previous frame snapshot, where drawing interpolates from. */
+	private double previousX;
+	private double previousY;
+	/** Position in the last frame snapshot. */
+	private double capturedX;
+	private double capturedY;
+	/** Number of the last frame snapshot the entity was in, -1 if none. */
+	private long capturedFrame = -1;
+
 	/**
 	 * Constructor, establishes the entity's generic properties.
 	 *
@@ -75,7 +86,7 @@ public class Entity implements Collidable, HasBounds {
 	 * @param positionX
 	 *            New position of the entity in the X axis.
 	 */
-	public final void setPositionX(final int positionX) {
+	public void setPositionX(final int positionX) {
 		this.positionX = positionX;
 	}
 
@@ -85,7 +96,7 @@ public class Entity implements Collidable, HasBounds {
 	 * @param positionY
 	 *            New position of the entity in the Y axis.
 	 */
-	public final void setPositionY(final int positionY) {
+	public void setPositionY(final int positionY) {
 		this.positionY = positionY;
 	}
     public void setWidth(int width){
@@ -120,6 +131,79 @@ public class Entity implements Collidable, HasBounds {
 		return this.width;
 	}
 
+	/**
+	 * Getter for the exact X position the entity is drawn at, for entities
+	 * moving by fractions of a pixel.
+	 *
+	 * @return Position in the x-axis of the upper left corner.
+	 */
+	public double getPreciseX() {
+		return getPositionX();
+	}
+
+	/**
+	 * Getter for the exact Y position the entity is drawn at.
+	 *
+	 * @return Position in the y-axis of the upper left corner.
+	 */
+	public double getPreciseY() {
+		return getPositionY();
+	}
+
+	/**
+	 * Records the position of the entity in a frame snapshot, keeping the
+	 * one of the previous snapshot to interpolate from. An entity missing
+	 * from the previous snapshot, or that jumped further than
+	 * {@link #MAX_INTERPOLATED_STEP}, starts where it is. Recording the
+	 * same frame twice keeps the first result.
+	 *
+	 * @param frame
+	 *            Number of the snapshot, increasing by one per snapshot.
+	 */
+	public final void capturePosition(final long frame) {
+		if (this.capturedFrame == frame) return;
+		double x = getPreciseX();
+		double y = getPreciseY();
+		if (this.capturedFrame == frame - 1
+				&& Math.abs(x - this.capturedX) <= MAX_INTERPOLATED_STEP
+				&& Math.abs(y - this.capturedY) <= MAX_INTERPOLATED_STEP) {
+			this.previousX = this.capturedX;
+			this.previousY = this.capturedY;
+		} else {
+			this.previousX = x;
+			this.previousY = y;
+		}
+		this.capturedX = x;
+		this.capturedY = y;
+		this.capturedFrame = frame;
+	}
+
+	/**
+	 * Forgets the recorded positions, so a reused entity does not appear
+	 * to move from where it was last drawn.
+	 */
+	public final void resetCapturedPosition() {
+		this.capturedFrame = -1;
+	}
+
+	/**
+	 * Getter for the X position in the previous frame snapshot.
+	 *
+	 * @return Position set by the last capturePosition.
+	 */
+	public final double getPreviousX() {
+		return this.previousX;
+	}
+
+	/**
+	 * Getter for the Y position in the previous frame snapshot.
+	 *
+	 * @return Position set by the last capturePosition.
+	 */
+	public final double getPreviousY() {
+		return this.previousY;
+	}
+
 	@Override
 	public int getHeight() {
 		return this.height;
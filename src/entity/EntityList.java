@@ -0,0 +1,168 @@
+package entity;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Ordered, array-backed container for the entities of a tick.
+ * Iteration follows insertion order, so every run of the same inputs
+ * visits entities in the same order. Removing an entity only clears its
+ * slot, which makes removal safe while the list is being iterated; the
+ * cleared slots are squeezed out in place by {@link #compact()} at the end
+ * of the tick. Entities are compared by identity and added at most once;
+ * a map from each entity to its slot keeps add, remove and contains at
+ * constant time, so re-adding a boss's whole bullet list every tick
+ * stays cheap.
+ *
+ * @param <T>
+ *            Type of the stored entities.
+ */
+public final class EntityList<T> extends AbstractSet<T> {
+
+	/** Stored entities, removed ones are null until the next compaction. */
+	private Object[] items;
+	/** Number of slots in use, including removed ones. */
+	private int end;
+	/** Number of entities in the list. */
+	private int size;
+	/** Slot of each entity in the list. */
+	private final IdentityHashMap<Object, Integer> slots;
+
+	/**
+	 * Constructor, creates an empty list.
+	 */
+	public EntityList() {
+		this(16);
+	}
+
+	/**
+	 * Constructor, creates an empty list.
+	 *
+	 * @param initialCapacity
+	 *            Initial number of slots.
+	 */
+	public EntityList(final int initialCapacity) {
+		this.items = new Object[Math.max(1, initialCapacity)];
+		this.slots = new IdentityHashMap<>(Math.max(1, initialCapacity));
+	}
+
+	@Override
+	public boolean add(final T entity) {
+		if (entity == null || indexOf(entity) >= 0) return false;
+		if (this.end == this.items.length) {
+			this.items = Arrays.copyOf(this.items, this.end * 2);
+		}
+		this.slots.put(entity, this.end);
+		this.items[this.end++] = entity;
+		this.size++;
+		return true;
+	}
+
+	/**
+	 * Removes an entity. Its slot is cleared right away and reclaimed by
+	 * the next {@link #compact()}, so running iterations are not disturbed.
+	 */
+	@Override
+	public boolean remove(final Object o) {
+		int index = indexOf(o);
+		if (index < 0) return false;
+		removeAt(index);
+		return true;
+	}
+
+	@Override
+	public boolean contains(final Object o) {
+		return o != null && indexOf(o) >= 0;
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(this.items, 0, this.end, null);
+		this.slots.clear();
+		this.end = 0;
+		this.size = 0;
+	}
+
+	/**
+	 * Moves the remaining entities over the removed ones, keeping their order.
+	 */
+	public void compact() {
+		if (this.size == this.end) return;
+		int write = 0;
+		for (int read = 0; read < this.end; read++) {
+			Object item = this.items[read];
+			if (item == null) continue;
+			if (read != write) this.slots.put(item, write);
+			this.items[write++] = item;
+		}
+		Arrays.fill(this.items, write, this.end, null);
+		this.end = write;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(final Consumer<? super T> action) {
+		for (int i = 0; i < this.end; i++) {
+			Object item = this.items[i];
+			if (item != null) action.accept((T) item);
+		}
+	}
+
+	/**
+	 * Iterates in insertion order. Entities added meanwhile are visited too,
+	 * removed ones are skipped.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private int cursor = skipRemoved(0);
+			private int last = -1;
+
+			@Override
+			public boolean hasNext() {
+				this.cursor = skipRemoved(this.cursor);
+				return this.cursor < end;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public T next() {
+				if (!hasNext()) throw new NoSuchElementException();
+				this.last = this.cursor++;
+				return (T) items[this.last];
+			}
+
+			@Override
+			public void remove() {
+				if (this.last < 0 || items[this.last] == null) throw new IllegalStateException();
+				removeAt(this.last);
+				this.last = -1;
+			}
+		};
+	}
+
+	private int skipRemoved(int index) {
+		while (index < this.end && this.items[index] == null) index++;
+		return index;
+	}
+
+	private int indexOf(final Object o) {
+		Integer index = this.slots.get(o);
+		return index == null ? -1 : index;
+	}
+
+	private void removeAt(final int index) {
+		this.slots.remove(this.items[index]);
+		this.items[index] = null;
+		this.size--;
+	}
+}
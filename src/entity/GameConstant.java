@@ -45,4 +45,8 @@ public final class GameConstant {
 
         initialized = true;
     }
+
+    public static boolean isInitialized() {
+        return initialized;
+    }
 }
@@ -10,10 +10,13 @@ import java.util.*;
 
 import entity.achievement.AchievementManager;
 import entity.base.BossEntity;
+import entity.base.CollisionLayer;
 import entity.base.HasBounds;
 import entity.base.LaserInfo;
 import entity.boss.*;
 import entity.bullet.*;
+import entity.collision.CollisionGrid;
+import entity.collision.CollisionStats;
 import entity.pattern.ApocalypseAttackPattern;
 
 import java.util.List;
@@ -49,6 +52,9 @@ public class GameModel {
     private static final int BOSS_EXPLOSION = 600;
     /** Time from finishing the level to screen change. */
     private static final int SCREEN_CHANGE_INTERVAL = 1500;
+    /** Layers of the bullets kept in the projectile store. */
+    private static final CollisionLayer[] STORED_BULLET_LAYERS = {
+            CollisionLayer.PLAYER_BULLET, CollisionLayer.ENEMY_BULLET };
 
     private static boolean origin_skill_activated = false;
     private static boolean used_origin = false;
@@ -83,10 +89,10 @@ public class GameModel {
     private MidBoss zetaBoss;
     /** GammaBoss */
     private MidBoss gammaBoss;
-    /** Set of all bullets fired by on-screen ships. */
-    private Set<Bullet> bullets;
+    /** Set of all bullets fired by on-screen ships, stored as parallel arrays. */
+    private ProjectileStore bullets;
     /** Set of all dropItems dropped by on screen ships. */
-    private Set<DropItem> dropItems;
+    private EntityList<DropItem> dropItems;
     /** List of subship */
     private List<SubShip> subShips;
     /** Current score. */
@@ -115,8 +121,8 @@ public class GameModel {
     private int coin;
 
     /** bossBullets carry bullets which Boss fires */
-    private Set<Bullet> bossBullets;
-	private Set<LaserBeam> bossLasers;
+    private EntityList<Bullet> bossBullets;
+	private EntityList<LaserBeam> bossLasers;
     /** Is the bullet on the screen erased */
     private boolean is_cleared = false;
     /** Timer to track elapsed time. */
@@ -144,9 +150,17 @@ public class GameModel {
     private int FinalSkillCnt;
 
     private List<Ship> ships;
-	private Set<BlackHole> blackHoles;
-	private Set<MidBossMob> midBossMobs;
-    private Set<Explosion> explosions;
+	private EntityList<BlackHole> blackHoles;
+	private EntityList<MidBossMob> midBossMobs;
+    private EntityList<Explosion> explosions;
+    /** Entities taking part in the collision pass, reused every tick. */
+    private final List<Entity> collisionEntities = new ArrayList<>();
+    /** Bombs checked by processBombBulletCollisions, reused every tick. */
+    private final List<BombBullet> bombScratch = new ArrayList<>();
+    /** Bombs that exploded or left the screen this tick. */
+    private final List<BombBullet> explodedBombs = new ArrayList<>();
+    /** Stored bullets overlapping one target, reused every tick. */
+    private final List<Bullet> bulletHits = new ArrayList<>();
 
     private int teleportFromP1X;
     private int teleportFromP1Y;
@@ -157,6 +171,10 @@ public class GameModel {
     private int afterTeleportFromP2X;
     private int afterTeleportFromP2Y;
 
+    /** Broad phase used to find nearby entity pairs. */
+    private CollisionGrid collisionGrid;
+    /** Pair counters of the last collision pass. */
+    private final CollisionStats collisionStats = new CollisionStats();
 
     public GameModel(GameState gameState, Level level, boolean bonusLife, int maxLives, int width, int height) {
         this.logger = Core.getLogger();
@@ -190,11 +208,11 @@ public class GameModel {
      */
     public final void initialize() {
         /** Initialize the bullet Boss fired */
-        this.bossBullets = new HashSet<>();
-		this.bossLasers = new HashSet<>();
-		this.blackHoles = new HashSet<>();
-		this.midBossMobs = new HashSet<>();
-		this.explosions = new HashSet<>();
+        this.bossBullets = new EntityList<>(256);
+		this.bossLasers = new EntityList<>();
+		this.blackHoles = new EntityList<>();
+		this.midBossMobs = new EntityList<>();
+		this.explosions = new EntityList<>();
 
         enemyShipFormationModel = new EnemyShipFormationModel(this.currentLevel, width);
         this.enemyShipFormationModel.applyEnemyColor(this.currentLevel.getColorForLevel());
@@ -219,11 +237,11 @@ public class GameModel {
                 new Cooldown(BONUS_SHIP_EXPLOSION));
         this.bossExplosionCooldown = new Cooldown(BOSS_EXPLOSION);
         this.screenFinishedCooldown = new Cooldown(SCREEN_CHANGE_INTERVAL);
-        this.bullets = new HashSet<Bullet>();
-        this.dropItems = new HashSet<DropItem>();
+        this.bullets = new ProjectileStore();
+        this.dropItems = new EntityList<DropItem>();
 
         // Special input delay / countdown.
-        this.gameStartTime = System.currentTimeMillis();
+        this.gameStartTime = SimulationClock.currentTimeMillis();
         this.inputDelay = new Cooldown(INPUT_DELAY);
         this.inputDelay.reset();
 
@@ -243,6 +261,11 @@ public class GameModel {
 
         this.ship.setModel(this);
         this.shipP2.setModel(this);
+
+        int gridWidth = GameConstant.SCREEN_WIDTH > 0 ? GameConstant.SCREEN_WIDTH : this.width;
+        int gridHeight = GameConstant.ITEMS_SEPARATION_LINE_HEIGHT > 0 ? GameConstant.ITEMS_SEPARATION_LINE_HEIGHT : this.height;
+        this.collisionGrid = new CollisionGrid(gridWidth, gridHeight, CollisionGrid.DEFAULT_CELL_SIZE);
+        BulletPool.prewarm();
     }
 
     /**
@@ -318,17 +341,44 @@ public class GameModel {
     }
 
     public void updateGameWorld() {
+        TickProfiler profiler = TickProfiler.getInstance();
+
         // Phase 1: Update state/position of ALL entities
+        long start = profiler.begin();
         this.updateAllEntities();
+        profiler.end(TickProfiler.Phase.UPDATE, start);
 
         // Phase 2: Process interactions and collisions
+        start = profiler.begin();
         this.processAllCollisions();
+        profiler.end(TickProfiler.Phase.COLLISIONS, start);
 
         // Phase 2.5: Process charging laser collisions
+        start = profiler.begin();
         this.processChargingLaserCollisions();
+        profiler.end(TickProfiler.Phase.LASER_COLLISIONS, start);
 
         // Phase 3: Clean up destroyed or off-screen entities
+        start = profiler.begin();
         this.cleanupAllEntities();
+        profiler.end(TickProfiler.Phase.CLEANUP, start);
+
+        if (profiler.isEnabled()) {
+            countEntities(profiler);
+        }
+    }
+
+    /**
+     * Reports the number of live entities of each category to the profiler.
+     */
+    private void countEntities(final TickProfiler profiler) {
+        profiler.count(TickProfiler.Category.BULLETS, this.bullets.size());
+        profiler.count(TickProfiler.Category.BOSS_BULLETS, this.bossBullets.size());
+        profiler.count(TickProfiler.Category.LASERS, this.bossLasers.size());
+        profiler.count(TickProfiler.Category.ITEMS, this.dropItems.size());
+        profiler.count(TickProfiler.Category.EXPLOSIONS, this.explosions.size());
+        profiler.count(TickProfiler.Category.BLACK_HOLES, this.blackHoles.size());
+        profiler.count(TickProfiler.Category.MID_BOSS_MOBS, this.midBossMobs.size());
     }
 
     /**
@@ -383,7 +433,8 @@ public class GameModel {
 
                     // Handle BlackHole pattern for visualization
 	                if(this.zetaBoss.getCurrentBlackHole()!=null && this.zetaBoss.getCurrentBlackHole().getBlackHoles()!=null){
-		                this.blackHoles = this.zetaBoss.getCurrentBlackHole().getBlackHoles();
+		                this.blackHoles.clear();
+		                this.blackHoles.addAll(this.zetaBoss.getCurrentBlackHole().getBlackHoles());
 	                }
 
                     // Handle Apocalypse pattern damage
@@ -455,9 +506,7 @@ public class GameModel {
         // special enemy update
         this.enemyShipSpecialFormation.update();
 
-        for (Bullet bullet : this.bullets) {
-            bullet.update();
-        }
+        this.bullets.update();
 
         for (DropItem dropItem : this.dropItems) {
             dropItem.update();
@@ -485,11 +534,17 @@ public class GameModel {
 	 */
 	private void processBombBulletCollisions() {
 
-		// Snapshot used to safely iterate (BombBullet may remove itself during explosion)
-		List<Bullet> snapshot = new ArrayList<>(bullets);
+		// Bombs are gathered first, explosions may change the bullet store
+		List<BombBullet> bombs = this.bombScratch;
+		bombs.clear();
+		for (Bullet b : bullets) {
+			if (b instanceof BombBullet bomb) bombs.add(bomb);
+		}
+		if (bombs.isEmpty()) return;
 
-		// Separate removal set
-		Set<BombBullet> toRemove = new HashSet<>();
+		// Separate removal list
+		List<BombBullet> toRemove = this.explodedBombs;
+		toRemove.clear();
 
 		// Prepare enemy formations list
 		List<Iterable<EnemyShip>> enemyFormations = new ArrayList<>();
@@ -503,10 +558,7 @@ public class GameModel {
 		if (finalBoss != null) bosses.add(finalBoss);
         if (gammaBoss != null) bosses.add(gammaBoss);
 
-		for (Bullet b : snapshot) {
-
-			if (!(b instanceof BombBullet)) continue;
-			BombBullet bomb = (BombBullet) b;
+		for (BombBullet bomb : bombs) {
 			boolean exploded = false;
 
 			// --- Check Enemy Formations ---
@@ -542,16 +594,21 @@ public class GameModel {
 			}
 		}
 		// Safe removal after iteration
-		bullets.removeAll(toRemove);
+		for (BombBullet bomb : toRemove) {
+			if (bullets.remove(bomb)) BulletPool.recycleBomb(bomb);
+		}
+		bombs.clear();
+		toRemove.clear();
 	}
 
 	/**
 	 * Detects collisions between all active entities.
-	 * Each pair of collidables is checked, and their collision handlers are invoked.
+	 * Each pair of nearby collidables is checked, and their collision handlers are invoked.
 	 */
-	private void processAllCollisions() {
+	void processAllCollisions() {
 
-		List<Entity> entities = new ArrayList<>();
+		List<Entity> entities = this.collisionEntities;
+		entities.clear();
 
 		if (ship != null && livesP1 > 0 && !ship.isDestroyed()) {
 			entities.add(ship);
@@ -579,33 +636,45 @@ public class GameModel {
         if (zetaBoss != null && !zetaBoss.isDestroyed()) entities.add(zetaBoss);
         if (gammaBoss != null && !gammaBoss.isDestroyed()) entities.add(gammaBoss);
 
-        if (midBossMobs != null){ entities.addAll(midBossMobs); }
-        if (explosions != null) entities.addAll(explosions);
+        for (MidBossMob mob : midBossMobs) entities.add(mob);
+        for (Explosion explosion : explosions) entities.add(explosion);
 		// First, handle BombBullet collisions separately because they do NOT participate in normal collision logic.
 		processBombBulletCollisions();
 
-		// Add only regular bullets to the collision entity list.
-		bullets.stream()
-				.filter(b -> !(b instanceof BombBullet))
-				.forEach(entities::add);
-		entities.addAll(bossBullets);
-		entities.addAll(dropItems);
+		// Bullets of the store are tested from its arrays after the grid pass.
+		for (Bullet b : bossBullets) entities.add(b);
+		for (DropItem item : dropItems) entities.add(item);
+
+		collisionStats.reset();
 
+		// Only pairs sharing a grid cell can overlap; they come back in the same order as a full pairwise scan.
+		collisionGrid.build(entities);
 		for (int i = 0; i < entities.size(); i++) {
 			Entity a = entities.get(i);
+			int candidateCount = collisionGrid.collectCandidates(i);
+			collisionStats.addCandidates(candidateCount);
 
-			for (int j = i + 1; j < entities.size(); j++) {
-				Entity b = entities.get(j);
+			for (int k = 0; k < candidateCount; k++) {
+				Entity b = entities.get(collisionGrid.candidateAt(k));
 
+				// Skip pairs whose handlers would ignore each other anyway.
+				if (!CollisionLayer.canCollide(a, b)) {
+					collisionStats.countSkippedByLayer();
+					continue;
+				}
+				collisionStats.countTested();
 				if (checkCollision(a, b)) {
+					collisionStats.countHit();
 					a.onCollision(b, this);
 					b.onCollision(a, this);
 				}
 			}
 		}
+		processStoredBulletCollisions(entities);
 		for (LaserBeam laser : bossLasers){
+			if (!laser.isActive()) continue;
 			for (Entity a : entities) {
-				if(laser.isActive() && checkLaserRotatedCollision(a, laser)){
+				if (CollisionLayer.canCollide(a, laser) && checkLaserRotatedCollision(a, laser)){
 					a.onCollision(laser, this);
 				}
 			}
@@ -613,11 +682,39 @@ public class GameModel {
 		entities.clear();
 	}
 
+	/**
+	 * Detects collisions between the bullets of the store and the other
+	 * entities. The overlap test walks the store's arrays once per target;
+	 * bullet handles are only used to dispatch a hit.
+	 */
+	private void processStoredBulletCollisions(List<Entity> targets) {
+		List<Bullet> hits = this.bulletHits;
+		for (int i = 0; i < targets.size(); i++) {
+			Entity target = targets.get(i);
+			for (CollisionLayer layer : STORED_BULLET_LAYERS) {
+				if (!CollisionLayer.canCollide(target, layer)) continue;
+				hits.clear();
+				int found = bullets.collectOverlapping(target, layer, hits);
+				collisionStats.addCandidates(found);
+				for (int k = 0; k < found; k++) {
+					Bullet b = hits.get(k);
+					// Bombs only explode in processBombBulletCollisions.
+					if (b instanceof BombBullet) continue;
+					collisionStats.countTested();
+					collisionStats.countHit();
+					target.onCollision(b, this);
+					b.onCollision(target, this);
+				}
+			}
+		}
+		hits.clear();
+	}
+
     /**
      * Processes collisions between charging laser beams and enemies.
      * The laser beam destroys all enemies in its vertical path.
      */
-    private void processChargingLaserCollisions() {
+    void processChargingLaserCollisions() {
         // Process Player 1's laser
         if (ship != null && livesP1 > 0 && !ship.isDestroyed() && ship.isLaserActive()) {
             processLaserCollision(ship, 1);
@@ -845,7 +942,7 @@ public class GameModel {
 		}
 
 		if (!bullet.penetration()) {
-			bullets.remove(bullet);
+			removeBullet(bullet);
 		}
 	}
 
@@ -890,11 +987,23 @@ public class GameModel {
 	}
 
 	public void requestRemoveBullet(Bullet bullet) {
-		bullets.remove(bullet);
+		removeBullet(bullet);
+	}
+
+	/**
+	 * Removes a bullet from play and returns it to the pool.
+	 * Bullets that were already removed are ignored so none is pooled twice.
+	 */
+	private void removeBullet(Bullet bullet) {
+		if (bullets.remove(bullet)) {
+			BulletPool.recycle(bullet);
+		}
 	}
 
 	public void requestRemoveBossBullet(BossBullet bullet) {
-		bossBullets.remove(bullet);
+		if (bossBullets.remove(bullet)) {
+			BulletPool.recycle(bullet);
+		}
 	}
 
 
@@ -904,7 +1013,7 @@ public class GameModel {
 		boss.takeDamage(GameConstant.PLAYER_BULLET_DAMAGE);
         this.hittingCnt++;
 		if (!bullet.penetration()) {
-			bullets.remove(bullet);
+			removeBullet(bullet);
 		}
 
 		if (boss.getHealPoint() <= 0) {
@@ -1028,9 +1137,22 @@ public class GameModel {
 
 
 
-    private void cleanupAllEntities() {
+    void cleanupAllEntities() {
         cleanBullets();
         cleanItems();
+        compactEntityLists();
+    }
+
+    /**
+     * Reclaims the slots of entities removed during this tick.
+     */
+    private void compactEntityLists() {
+        this.dropItems.compact();
+        this.bossBullets.compact();
+        this.bossLasers.compact();
+        this.blackHoles.compact();
+        this.midBossMobs.compact();
+        this.explosions.compact();
     }
 
     /**
@@ -1123,25 +1245,7 @@ public class GameModel {
      * Cleans bullets that go off screen.
      */
     private void cleanBullets() {
-        Set<Bullet> recyclable = new HashSet<Bullet>();
-        for (Bullet bullet : this.bullets) {
-            if (bullet.getPositionY() < GameConstant.STAT_SEPARATION_LINE_HEIGHT
-                    || bullet.getPositionY() > this.height){
-				recyclable.add(bullet);
-			}
-        }
-        this.bullets.removeAll(recyclable);
-		Set<Bullet> normalBullets = new HashSet<>();
-
-		for (Bullet b : recyclable) {
-			if (b instanceof BombBullet) {
-				BulletPool.recycleBomb((BombBullet) b);
-			} else {
-				normalBullets.add(b);
-			}
-		}
-
-		BulletPool.recycle(normalBullets);
+        this.bullets.removeOutside(GameConstant.STAT_SEPARATION_LINE_HEIGHT, this.height, BulletPool::recycle);
     }
 
     /**
@@ -1149,14 +1253,15 @@ public class GameModel {
      */
 
     private void cleanItems() {
-        Set<DropItem> recyclable = new HashSet<DropItem>();
-        for (DropItem dropItem : this.dropItems) {
+        Iterator<DropItem> iterator = this.dropItems.iterator();
+        while (iterator.hasNext()) {
+            DropItem dropItem = iterator.next();
             if (dropItem.getPositionY() < GameConstant.STAT_SEPARATION_LINE_HEIGHT
-                    || dropItem.getPositionY() > this.height)
-                recyclable.add(dropItem);
+                    || dropItem.getPositionY() > this.height) {
+                iterator.remove();
+                ItemPool.recycle(dropItem);
+            }
         }
-        this.dropItems.removeAll(recyclable);
-        ItemPool.recycle(recyclable);
     }
 
 	private boolean inRange(Entity e, int cx, int cy, int radius) {
@@ -1374,9 +1479,12 @@ public class GameModel {
 	        }
 			this.bossBullets.addAll(this.finalBoss.getBullets());
 	        this.bossLasers.addAll(this.finalBoss.getLasers());
-	        this.blackHoles = new HashSet<>(this.finalBoss.getBlackHoles());
-	        this.explosions = new HashSet<>(this.finalBoss.getBoom());
-	        this.midBossMobs = new HashSet<>(this.finalBoss.getChildShips());
+	        this.blackHoles.clear();
+	        this.blackHoles.addAll(this.finalBoss.getBlackHoles());
+	        this.explosions.clear();
+	        this.explosions.addAll(this.finalBoss.getBoom());
+	        this.midBossMobs.clear();
+	        this.midBossMobs.addAll(this.finalBoss.getChildShips());
         }
         if (this.finalBoss != null && this.finalBoss.isDestroyed()) {
             this.levelFinished = true;
@@ -1385,33 +1493,28 @@ public class GameModel {
     }
 
 	private void validateBossBulletsSet() {
-		/** bullets to erase */
-		Set<Bullet> bulletsToRemove = new HashSet<>();
-
-		for (Bullet b : bossBullets) {
+		Iterator<Bullet> iterator = bossBullets.iterator();
+		while (iterator.hasNext()) {
+			Bullet b = iterator.next();
 			b.update();
-			/** If the bullet goes off the screen */
+			/** If the bullet goes off the screen, it goes back to the pool */
 			if (b.isOffScreen(width, height) || b.shouldBeRemoved()) {
-				/** bulletsToRemove carry bullet */
-				bulletsToRemove.add(b);
+				iterator.remove();
+				BulletPool.recycle(b);
 			}
 		}
-		/** all bullets are removed */
-		bossBullets.removeAll(bulletsToRemove);
 	}
 
 	private void validateLaserBeamsSet() {
-		/** Lasers to erase */
-		Set<LaserBeam> lasersToRemove = new HashSet<>();
-
-		for(LaserBeam laser : bossLasers) {
+		Iterator<LaserBeam> iterator = bossLasers.iterator();
+		while (iterator.hasNext()) {
+			LaserBeam laser = iterator.next();
 			laser.update();
 			if(laser.shouldBeRemoved()){
-				lasersToRemove.add(laser);
+				iterator.remove();
+				BulletPool.recycleLaser(laser);
 			}
 		}
-		bossLasers.removeAll(lasersToRemove);
-
 	}
 
 	private void validateExplosionsSet() {
@@ -1565,6 +1668,7 @@ public class GameModel {
 
 //    public boolean isExplosionBoom() { return explosions.isBoom(); }
     public Set<Explosion> getExplosions() { return explosions; }
+    public CollisionStats getCollisionStats() { return collisionStats; }
 //    public double getWarningExplosion() { return explosions.getWarningProgress(); }
 
     public List<Entity> getEntitiesToRender() {
@@ -17,6 +17,20 @@ public interface Collidable {
 	 */
 	void onCollision(Collidable other, GameModel gameModel);
 
+	/**
+	 * Getter for the collision layer this object belongs to.
+	 *
+	 * @return Layer used to filter collision pairs.
+	 */
+	default CollisionLayer getCollisionLayer() { return CollisionLayer.NONE; }
+
+	/**
+	 * Getter for the layers this object can collide with.
+	 *
+	 * @return Mask of accepted layers.
+	 */
+	default int getCollisionMask() { return getCollisionLayer().defaultMask(); }
+
 	default void onHitByPlayerBullet(Bullet bullet, GameModel model) {}
 	default void onHitByEnemyBullet(Bullet bullet, GameModel model) {}
 	default void onHitByBossBullet(BossBullet bullet, GameModel model) {}
@@ -0,0 +1,78 @@
+package entity.base;
+
+/**
+ * Declares which group an entity belongs to for collision filtering.
+ * A pair is only tested when each side's mask accepts the other's layer;
+ * the default masks list every pair whose handlers actually react.
+ */
+public enum CollisionLayer {
+	NONE,
+	PLAYER,
+	PLAYER_BULLET,
+	ENEMY,
+	ENEMY_BULLET,
+	BOSS,
+	ITEM,
+	HAZARD;
+
+	/**
+	 * Getter for the bit representing this layer in a mask.
+	 *
+	 * @return Layer bit, 0 for NONE.
+	 */
+	public int bit() {
+		return this == NONE ? 0 : 1 << (ordinal() - 1);
+	}
+
+	/**
+	 * Getter for the layers this layer interacts with by default.
+	 *
+	 * @return Mask of accepted layers.
+	 */
+	public int defaultMask() {
+		switch (this) {
+			case PLAYER:
+				return ENEMY.bit() | ENEMY_BULLET.bit() | BOSS.bit() | ITEM.bit() | HAZARD.bit();
+			case PLAYER_BULLET:
+				return ENEMY.bit() | ENEMY_BULLET.bit() | BOSS.bit();
+			case ENEMY:
+			case BOSS:
+				return PLAYER.bit() | PLAYER_BULLET.bit();
+			case ENEMY_BULLET:
+			case ITEM:
+			case HAZARD:
+				return PLAYER.bit();
+			default:
+				return 0;
+		}
+	}
+
+	/**
+	 * Checks whether two collidables may interact at all.
+	 *
+	 * @param a
+	 *            First collidable.
+	 * @param b
+	 *            Second collidable.
+	 * @return True if both masks accept the other's layer.
+	 */
+	public static boolean canCollide(final Collidable a, final Collidable b) {
+		return (a.getCollisionMask() & b.getCollisionLayer().bit()) != 0
+				&& (b.getCollisionMask() & a.getCollisionLayer().bit()) != 0;
+	}
+
+	/**
+	 * Checks whether a collidable may interact with the members of a layer
+	 * that use its default mask.
+	 *
+	 * @param a
+	 *            Collidable.
+	 * @param layer
+	 *            Layer of the others.
+	 * @return True if both masks accept the other's layer.
+	 */
+	public static boolean canCollide(final Collidable a, final CollisionLayer layer) {
+		return (a.getCollisionMask() & layer.bit()) != 0
+				&& (layer.defaultMask() & a.getCollisionLayer().bit()) != 0;
+	}
+}
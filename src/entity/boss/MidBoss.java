@@ -7,6 +7,7 @@ import entity.GameModel;
 import entity.base.BossEntity;
 import entity.base.BossInfo;
 import entity.base.Collidable;
+import entity.base.CollisionLayer;
 import entity.pattern.ApocalypseAttackPattern;
 import entity.pattern.BlackHolePattern;
 
@@ -97,6 +98,11 @@ public abstract class MidBoss extends Entity implements BossEntity, BossInfo {
 		other.onCollideWithBoss(this, model);
 	}
 
+	@Override
+	public CollisionLayer getCollisionLayer() {
+		return CollisionLayer.BOSS;
+	}
+
 	@Override
 	public void onHitByPlayerBullet(Bullet bullet, GameModel model) {
 		model.requestBossHitByPlayerBullet(bullet, this);
@@ -19,8 +19,8 @@ public class BombBullet extends Bullet {
     }
 
 	public void reset(int x, int y, int speed) {
-		this.positionX = x;
-		this.positionY = y;
+		setPositionX(x);
+		setPositionY(y);
 		this.setSpeed(speed);
 		this.spriteType = SpriteType.BombBullet;
 		resetPenetration();
@@ -4,6 +4,7 @@ import engine.view.DrawManager;
 import entity.GameModel;
 import entity.ship.Ship;
 import entity.base.Collidable;
+import entity.base.CollisionLayer;
 import entity.pattern.BossPattern;
 
 import java.util.concurrent.ThreadLocalRandom;
@@ -16,7 +17,11 @@ public class BossBullet extends Bullet implements Collidable {
     private int dy;
 
 	private boolean markedForRemoval = false;
-    private DrawManager.SpriteType[] bulletImages;
+    /** Sprites a spread shot bullet picks from. */
+    private static final DrawManager.SpriteType[] SPREAD_SHOT_IMAGES = {
+            DrawManager.SpriteType.PinnedBossPatternBullet,
+            DrawManager.SpriteType.BasicBackGroundPatternBullet,
+            DrawManager.SpriteType.EnemyBullet};
     private final int PINNED_WIDTH  = 6;
     private final int PINNED_HEIGHT = 10;
 
@@ -51,6 +56,22 @@ public class BossBullet extends Bullet implements Collidable {
         applyPattern(patternBulletType);
 
     }
+
+    /**
+     * Reinitializes a pooled boss bullet, same parameters as the constructor.
+     */
+    public void reset(int x, int y, int dx, int dy, int width, int height, BossPattern.PatternBulletType patternBulletType) {
+        this.positionX = x;
+        this.positionY = y;
+        this.width = width * 2;
+        this.height = height * 2;
+        this.dx = dx;
+        this.dy = dy;
+        this.markedForRemoval = false;
+        setSpeed(0);
+        setOwnerId(null);
+        applyPattern(patternBulletType);
+    }
     @Override
     public void setSprite() {
         // do nothing
@@ -58,8 +79,7 @@ public class BossBullet extends Bullet implements Collidable {
 
     private void applyPattern(BossPattern.PatternBulletType type){
         if (type == BossPattern.PatternBulletType.SPREAD_SHOT){
-            this.bulletImages = new DrawManager.SpriteType[]{DrawManager.SpriteType.PinnedBossPatternBullet, DrawManager.SpriteType.BasicBackGroundPatternBullet,DrawManager.SpriteType.EnemyBullet};
-            int index = ThreadLocalRandom.current().nextInt(bulletImages.length);
+            int index = ThreadLocalRandom.current().nextInt(SPREAD_SHOT_IMAGES.length);
             if (index == 0){
                 this.width = PINNED_WIDTH;
                 this.height = PINNED_HEIGHT;
@@ -72,7 +92,7 @@ public class BossBullet extends Bullet implements Collidable {
                 this.width = ENEMYBULLET_WIDTH;
                 this.height = ENEMYBULLET_HEIGHT;
             }
-            this.spriteType = bulletImages[index];
+            this.spriteType = SPREAD_SHOT_IMAGES[index];
         }
         else if (type == BossPattern.PatternBulletType.ZIGZAG_ANGRY){
             this.spriteType = DrawManager.SpriteType.ZigZagAngryPatternBullet;
@@ -98,6 +118,11 @@ public class BossBullet extends Bullet implements Collidable {
 		this.markedForRemoval = true;
 	}
 
+	@Override
+	public CollisionLayer getCollisionLayer() {
+		return CollisionLayer.ENEMY_BULLET;
+	}
+
 	/**
 	 * Handles collision behavior for boss bullets.
 	 * Boss bullets damage the player when they collide.
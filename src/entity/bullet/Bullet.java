@@ -5,6 +5,7 @@ import entity.Entity;
 import entity.GameModel;
 import entity.item.ShopItem;
 import entity.base.Collidable;
+import entity.base.CollisionLayer;
 
 /**
  * Implements a bullet that moves vertically up or down.
@@ -12,12 +13,18 @@ import entity.base.Collidable;
  * @author <a href="mailto:RobertoIA1987@gmail.com">Roberto Izquierdo Amo</a>
  * 
  */
-public class Bullet extends Entity implements Collidable {
+public class Bullet extends Entity implements Collidable, Poolable {
 	// === [ADD] Owner flag: 1 = P1, 2 = P2, null for legacy compatibility ===
 	private Integer ownerId;
 
-    public Integer getOwnerId() { return ownerId; }
-    public void setOwnerId(Integer ownerId) { this.ownerId = ownerId; }
+    public Integer getOwnerId() {
+        if (store != null) return store.owner[slot] == 0 ? null : store.owner[slot];
+        return ownerId;
+    }
+    public void setOwnerId(Integer ownerId) {
+        if (store != null) store.owner[slot] = ownerId == null ? 0 : ownerId;
+        else this.ownerId = ownerId;
+    }
 
 
     /**
@@ -31,6 +38,13 @@ public class Bullet extends Entity implements Collidable {
 	/** Number of possible penetrations */
 	private int maxPenetration;
 
+	/** Store holding this bullet's state, null while the fields above hold it. */
+	ProjectileStore store;
+	/** Slot of this bullet in its store. */
+	int slot = -1;
+	/** True while the bullet waits in its pool. */
+	private boolean pooled;
+
 
 	/**
 	 * Constructor, establishes the bullet's properties.
@@ -56,16 +70,16 @@ public class Bullet extends Entity implements Collidable {
 	 * Sets correct sprite for the bullet, based on speed.
 	 */
 	public void setSprite() {
-		if (speed < 0){
+		if (getSpeed() < 0){
             this.spriteType = SpriteType.Bullet;
-            super.height = 10;
-            super.width = 5;
+            setHeight(10);
+            setWidth(5);
         }
 
 		else{
             this.spriteType = SpriteType.EnemyBullet;
-            super.height = 15;
-            super.width = 5;
+            setHeight(15);
+            setWidth(5);
         }
 
 	}
@@ -74,7 +88,7 @@ public class Bullet extends Entity implements Collidable {
 	 * Updates the bullet's position.
 	 */
 	public void update() {
-		this.positionY += this.speed;
+		setPositionY(getPositionY() + getSpeed());
 	}
 
 	/**
@@ -84,7 +98,8 @@ public class Bullet extends Entity implements Collidable {
 	 *            New speed of the bullet.
 	 */
 	public void setSpeed(final int speed) {
-		this.speed = speed;
+		if (store != null) store.speed[slot] = speed;
+		else this.speed = speed;
 	}
 
 	/**
@@ -93,7 +108,7 @@ public class Bullet extends Entity implements Collidable {
 	 * @return Speed of the bullet.
 	 */
 	public final int getSpeed() {
-		return this.speed;
+		return store != null ? store.speed[slot] : this.speed;
 	}
 
 	/**
@@ -102,6 +117,9 @@ public class Bullet extends Entity implements Collidable {
 	 * @return If true the bullet persists, If false it is deleted.
 	 */
 	public final boolean penetration() {
+		if (store != null) {
+			return ++store.penetration[slot] <= store.maxPenetration[slot];
+		}
 		this.penetrationCount++;
 
 		return this.penetrationCount <= this.maxPenetration;
@@ -113,6 +131,7 @@ public class Bullet extends Entity implements Collidable {
 	 * @return True, Penetrable
 	 */
 	public final boolean canPenetration() {
+		if (store != null) return store.penetration[slot] < store.maxPenetration[slot];
 		return this.penetrationCount < this.maxPenetration;
 	}
 
@@ -120,6 +139,11 @@ public class Bullet extends Entity implements Collidable {
 	 * reset penetration setting
 	 */
 	public final void resetPenetration() {
+		if (store != null) {
+			store.penetration[slot] = 0;
+			store.maxPenetration[slot] = ShopItem.getPenetrationCount();
+			return;
+		}
 		this.penetrationCount = 0;
 		this.maxPenetration = ShopItem.getPenetrationCount();
 	}
@@ -129,15 +153,18 @@ public class Bullet extends Entity implements Collidable {
      * (Used when the sub-ship adjusts penetration based on its own level)
      */
     public void setMaxPenetration(int maxPenetration) {
-        this.maxPenetration = maxPenetration;
+        if (store != null) store.maxPenetration[slot] = maxPenetration;
+        else this.maxPenetration = maxPenetration;
     }
 
 	/**
 	 * does the bullet go off the screen
 	 */
 	public boolean isOffScreen(int screenWidth, int screenHeight) {
-		return positionX < 0 || positionX > screenWidth ||
-				positionY < 0 || positionY > screenHeight;
+		int x = getPositionX();
+		int y = getPositionY();
+		return x < 0 || x > screenWidth ||
+				y < 0 || y > screenHeight;
 	}
 
 	/**
@@ -148,15 +175,116 @@ public class Bullet extends Entity implements Collidable {
 	}
 
 
+	@Override
+	public int getPositionX() {
+		return store != null ? store.x[slot] : this.positionX;
+	}
+
+	@Override
+	public int getPositionY() {
+		return store != null ? store.y[slot] : this.positionY;
+	}
+
+	@Override
+	public void setPositionX(final int positionX) {
+		if (store != null) store.x[slot] = positionX;
+		else this.positionX = positionX;
+	}
+
+	@Override
+	public void setPositionY(final int positionY) {
+		if (store != null) store.y[slot] = positionY;
+		else this.positionY = positionY;
+	}
+
+	@Override
+	public int getWidth() {
+		return store != null ? store.width[slot] : this.width;
+	}
+
+	@Override
+	public int getHeight() {
+		return store != null ? store.height[slot] : this.height;
+	}
+
+	@Override
+	public void setWidth(final int width) {
+		if (store != null) store.width[slot] = width;
+		else this.width = width;
+	}
+
+	@Override
+	public void setHeight(final int height) {
+		if (store != null) store.height[slot] = height;
+		else this.height = height;
+	}
+
+	/**
+	 * Moves this bullet's state into a store slot.
+	 */
+	void attach(final ProjectileStore store, final int slot) {
+		store.x[slot] = this.positionX;
+		store.y[slot] = this.positionY;
+		store.width[slot] = this.width;
+		store.height[slot] = this.height;
+		store.speed[slot] = this.speed;
+		store.owner[slot] = this.ownerId == null ? 0 : this.ownerId;
+		store.penetration[slot] = this.penetrationCount;
+		store.maxPenetration[slot] = this.maxPenetration;
+		this.store = store;
+		this.slot = slot;
+	}
+
+	/**
+	 * Copies the state back from the store, the bullet then owns it again.
+	 */
+	void detach() {
+		this.positionX = store.x[slot];
+		this.positionY = store.y[slot];
+		this.width = store.width[slot];
+		this.height = store.height[slot];
+		this.speed = store.speed[slot];
+		this.ownerId = store.owner[slot] == 0 ? null : store.owner[slot];
+		this.penetrationCount = store.penetration[slot];
+		this.maxPenetration = store.maxPenetration[slot];
+		this.store = null;
+		this.slot = -1;
+	}
+
+	/**
+	 * Updates the slot after the store moved this bullet.
+	 */
+	void moveTo(final int slot) {
+		this.slot = slot;
+	}
+
+	@Override
+	public boolean isPooled() {
+		return this.pooled;
+	}
+
+	@Override
+	public void setPooled(final boolean pooled) {
+		this.pooled = pooled;
+	}
+
+	/**
+	 * Bullets moving up belong to the player, the rest to enemies.
+	 */
+	@Override
+	public CollisionLayer getCollisionLayer() {
+		return getSpeed() < 0 ? CollisionLayer.PLAYER_BULLET : CollisionLayer.ENEMY_BULLET;
+	}
+
 	@Override
 	public void onCollision(Collidable other, GameModel model) {
 
-		if (this.speed < 0) {
+		if (getSpeed() < 0) {
 			other.onHitByPlayerBullet(this, model);
 			return;
 		}
 
-		if (this.speed > 0) {
+		if (getSpeed() > 0) {
 			other.onHitByEnemyBullet(this, model);
 			return;
 		}
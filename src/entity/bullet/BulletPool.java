@@ -1,19 +1,50 @@
 package entity.bullet;
 
-import java.util.HashSet;
-import java.util.Set;
+import entity.pattern.BossPattern;
+import entity.ship.Ship;
+
+import java.awt.Point;
+import java.util.Collection;
 
 /**
  * Implements a pool of recyclable bullets.
+ * Every bullet type, and the lasers of boss patterns, has its own
+ * array-backed pool, so firing and cleaning up projectiles does not
+ * allocate once the pools are warm.
  *
  * @author <a href="mailto:RobertoIA1987@gmail.com">Roberto Izquierdo Amo</a>
  *
  */
 public final class BulletPool {
 
-	/** Set of already created bullets. */
-	private static Set<Bullet> pool = new HashSet<Bullet>();
-	private static Set<BombBullet> bombPool = new HashSet<>();
+	/** Player and enemy bullets kept ready when a game starts. */
+	public static final int DEFAULT_PREWARM_SIZE = 256;
+	/** Bomb bullets kept ready when a game starts. */
+	public static final int DEFAULT_BOMB_PREWARM_SIZE = 8;
+	/** Boss bullets kept ready when a game starts. */
+	public static final int DEFAULT_BOSS_PREWARM_SIZE = 256;
+	/** Guided bullets kept ready when a game starts. */
+	public static final int DEFAULT_GUIDED_PREWARM_SIZE = 16;
+	/** Laser beams kept ready when a game starts. */
+	public static final int DEFAULT_LASER_PREWARM_SIZE = 16;
+
+	/** Standard player and enemy bullets. */
+	private static final ObjectPool<Bullet> pool =
+			new ObjectPool<>("Bullet", () -> new Bullet(0, 0, 0, 5 * 2, 10 * 2), DEFAULT_PREWARM_SIZE);
+	/** Bomb bullets of the player ship. */
+	private static final ObjectPool<BombBullet> bombPool =
+			new ObjectPool<>("BombBullet", () -> new BombBullet(0, 0, 0, 20 * 2, 53 * 2), DEFAULT_BOMB_PREWARM_SIZE);
+	/** Bullets fired by boss patterns. */
+	private static final ObjectPool<BossBullet> bossPool =
+			new ObjectPool<>("BossBullet", () -> new BossBullet(0, 0, 0, 0, 3, 5,
+					BossPattern.PatternBulletType.PINNED), DEFAULT_BOSS_PREWARM_SIZE);
+	/** Missiles following a player ship. */
+	private static final ObjectPool<GuidedBullet> guidedPool =
+			new ObjectPool<>("GuidedBullet", () -> new GuidedBullet(0, 0, null), DEFAULT_GUIDED_PREWARM_SIZE);
+	/** Laser beams of boss patterns. */
+	private static final ObjectPool<LaserBeam> laserPool =
+			new ObjectPool<>("LaserBeam", () -> new LaserBeam(new Point(), new Point(), 0, 0), DEFAULT_LASER_PREWARM_SIZE);
+
 	/**
 	 * Constructor, not called.
 	 */
@@ -21,6 +52,28 @@ public final class BulletPool {
 
 	}
 
+	/**
+	 * Fills every pool up to its default size.
+	 */
+	public static void prewarm() {
+		prewarm(DEFAULT_PREWARM_SIZE);
+	}
+
+	/**
+	 * Fills the standard bullet pool up to the given size and the other
+	 * pools up to their default sizes.
+	 *
+	 * @param bulletCount
+	 *            Number of standard bullets to keep ready.
+	 */
+	public static void prewarm(final int bulletCount) {
+		pool.prewarm(bulletCount);
+		bombPool.prewarm(DEFAULT_BOMB_PREWARM_SIZE);
+		bossPool.prewarm(DEFAULT_BOSS_PREWARM_SIZE);
+		guidedPool.prewarm(DEFAULT_GUIDED_PREWARM_SIZE);
+		laserPool.prewarm(DEFAULT_LASER_PREWARM_SIZE);
+	}
+
 	/**
 	 * Returns a bullet from the pool if one is available, a new one if there
 	 * isn't.
@@ -36,48 +89,126 @@ public final class BulletPool {
 	 */
 	public static Bullet getBullet(final int positionX,
 								   final int positionY, final int speed) {
-		Bullet bullet;
-		if (!pool.isEmpty()) {
-			bullet = pool.iterator().next();
-			pool.remove(bullet);
-			bullet.setPositionX(positionX - bullet.getWidth() / 2);
-			bullet.setPositionY(positionY);
-			bullet.setSpeed(speed);
-			bullet.resetPenetration();
-			bullet.setSprite();
-		} else {
-			bullet = new Bullet(positionX, positionY, speed, 5 * 2 , 10 * 2);
-			bullet.setPositionX(positionX - bullet.getWidth() / 2);
-		}
+		Bullet bullet = pool.acquire();
+		bullet.setSpeed(speed);
+		bullet.setOwnerId(null);
+		bullet.resetPenetration();
+		bullet.setSprite();
+		bullet.setPositionX(positionX - bullet.getWidth() / 2);
+		bullet.setPositionY(positionY);
 		return bullet;
 	}
 
 	public static BombBullet getBombBullet(final int x, final int y, final int speed) {
-		BombBullet b;
+		BombBullet b = bombPool.acquire();
+		b.reset(x, y, speed);
+		b.setOwnerId(null);
+		return b;
+	}
 
-		if (!bombPool.isEmpty()) {
-			b = bombPool.iterator().next();
-			bombPool.remove(b);
-			b.reset(x, y, speed);
-		} else {
-			b = new BombBullet(x, y, speed,20 * 2, 53 *2);
-		}
+	/**
+	 * Returns a boss bullet, same parameters as the BossBullet constructor.
+	 */
+	public static BossBullet getBossBullet(final int x, final int y, final int dx, final int dy,
+										   final int width, final int height,
+										   final BossPattern.PatternBulletType type) {
+		BossBullet b = bossPool.acquire();
+		b.reset(x, y, dx, dy, width, height, type);
+		return b;
+	}
 
+	/**
+	 * Returns a guided missile aimed at the given ship.
+	 */
+	public static GuidedBullet getGuidedBullet(final int x, final int y, final Ship target) {
+		GuidedBullet b = guidedPool.acquire();
+		b.reset(x, y, target);
 		return b;
 	}
 
+	/**
+	 * Returns a laser beam, same parameters as the LaserBeam constructor.
+	 */
+	public static LaserBeam getLaserBeam(final Point startPosition, final Point targetPosition,
+										 final int chargeCooldownMilli, final int remainCooldownMilli) {
+		LaserBeam laser = laserPool.acquire();
+		laser.reset(startPosition, targetPosition, chargeCooldownMilli, remainCooldownMilli);
+		return laser;
+	}
+
+	/**
+	 * Returns a laser beam to the pool.
+	 *
+	 * @param laser
+	 *            Laser beam that left the game.
+	 */
+	public static void recycleLaser(final LaserBeam laser) {
+		if (laser == null) return;
+		laserPool.release(laser);
+	}
+
+	/**
+	 * Returns a bullet of any type to the pool it belongs to.
+	 *
+	 * @param bullet
+	 *            Bullet that left the game.
+	 */
+	public static void recycle(final Bullet bullet) {
+		// Its next user must not be drawn moving in from here.
+		bullet.resetCapturedPosition();
+		if (bullet instanceof GuidedBullet) {
+			guidedPool.release((GuidedBullet) bullet);
+		} else if (bullet instanceof BossBullet) {
+			bossPool.release((BossBullet) bullet);
+		} else if (bullet instanceof BombBullet) {
+			bombPool.release((BombBullet) bullet);
+		} else {
+			pool.release(bullet);
+		}
+	}
+
 	/**
 	 * Adds one or more bullets to the list of available ones.
 	 *
 	 * @param bullet
 	 *            Bullets to recycle.
 	 */
-	public static void recycle(final Set<Bullet> bullet) {
-		pool.addAll(bullet);
+	public static void recycle(final Collection<? extends Bullet> bullet) {
+		for (Bullet b : bullet) {
+			recycle(b);
+		}
 	}
 
 	public static void recycleBomb(final BombBullet b) {
-		bombPool.add(b);
+		// Its next user must not be drawn moving in from here.
+		b.resetCapturedPosition();
+		bombPool.release(b);
+	}
+
+	/**
+	 * Empties every pool and resets its statistics.
+	 */
+	public static void clear() {
+		pool.clear();
+		bombPool.clear();
+		bossPool.clear();
+		guidedPool.clear();
+		laserPool.clear();
 	}
 
+	public static ObjectPool<Bullet> getBulletPool() { return pool; }
+	public static ObjectPool<BombBullet> getBombPool() { return bombPool; }
+	public static ObjectPool<BossBullet> getBossPool() { return bossPool; }
+	public static ObjectPool<GuidedBullet> getGuidedPool() { return guidedPool; }
+	public static ObjectPool<LaserBeam> getLaserPool() { return laserPool; }
+
+	/**
+	 * Summary of all pools, one line each.
+	 *
+	 * @return Statistics of every pool.
+	 */
+	public static String statsReport() {
+		return pool + System.lineSeparator() + bombPool + System.lineSeparator()
+				+ bossPool + System.lineSeparator() + guidedPool + System.lineSeparator() + laserPool;
+	}
 }
@@ -5,6 +5,7 @@ import engine.view.DrawManager;
 import entity.GameModel;
 import entity.ship.Ship;
 import entity.base.Collidable;
+import entity.base.CollisionLayer;
 import entity.pattern.BossPattern;
 
 import java.awt.*;
@@ -39,6 +40,19 @@ public class GuidedBullet extends BossBullet {
         this.animationCooldown = new Cooldown(200);
     }
 
+    /**
+     * Reinitializes a pooled guided bullet, same parameters as the constructor.
+     */
+    public void reset(int x, int y, Ship target) {
+        super.reset(x, y, 0, 0, 30, 30, BossPattern.PatternBulletType.GUIDED);
+        this.target = target;
+        this.preciseX = x;
+        this.preciseY = y;
+        this.angle = 0;
+        this.spriteType = DrawManager.SpriteType.GuidedBullet1;
+        this.animationCooldown.reset();
+    }
+
     public Ship getTarget() {
         return this.target;
     }
@@ -96,6 +110,24 @@ public class GuidedBullet extends BossBullet {
         return angle;
     }
 
+    @Override
+    public double getPreciseX() {
+        return this.preciseX;
+    }
+
+    @Override
+    public double getPreciseY() {
+        return this.preciseY;
+    }
+
+    /**
+     * Guided missiles can also be shot down by player bullets.
+     */
+    @Override
+    public int getCollisionMask() {
+        return super.getCollisionMask() | CollisionLayer.PLAYER_BULLET.bit();
+    }
+
     @Override
     public void onCollision(Collidable other, GameModel model) {
         // Logic for cancellation when colliding with player's bullet
@@ -7,21 +7,26 @@ import entity.GameConstant;
 import entity.GameModel;
 import entity.ship.Ship;
 import entity.base.Collidable;
+import entity.base.CollisionLayer;
 import entity.base.LaserInfo;
 
 import java.awt.*;
 
-public class LaserBeam extends Entity implements LaserInfo {
+public class LaserBeam extends Entity implements LaserInfo, Poolable {
 	private Point startPosition;
 	private Point endPosition;
 	private Point targetPosition;
 	private Cooldown chargeCooldown;
 	private Cooldown remainCooldown;
-	private final int chargeCooldownMilli;
-	private final int remainCooldownMilli;
+	private int chargeCooldownMilli;
+	private int remainCooldownMilli;
+	private boolean chargeStarted = false;
+	private boolean remainStarted = false;
 	private boolean shouldBeRemoved =false;
 	private boolean isActive=false;
     private boolean firedSoundPlayed = false;
+	/** True while the beam waits in its pool. */
+	private boolean pooled;
 
 
     public LaserBeam(Point startPosition, Point targetPosition, int chargeCooldownMilli, int remainCooldownMilli) {
@@ -32,6 +37,24 @@ public class LaserBeam extends Entity implements LaserInfo {
 		extendLaserPoint(startPosition, targetPosition);
 	}
 
+	/**
+	 * Reinitializes a pooled laser beam, same parameters as the constructor.
+	 */
+	public void reset(Point startPosition, Point targetPosition, int chargeCooldownMilli, int remainCooldownMilli) {
+		this.positionX = startPosition.x;
+		this.positionY = startPosition.y;
+		this.color = Color.green;
+		this.targetPosition = targetPosition;
+		this.chargeCooldownMilli = chargeCooldownMilli;
+		this.remainCooldownMilli = remainCooldownMilli;
+		this.chargeStarted = false;
+		this.remainStarted = false;
+		this.shouldBeRemoved = false;
+		this.isActive = false;
+		this.firedSoundPlayed = false;
+		extendLaserPoint(startPosition, targetPosition);
+	}
+
 	/**
 	 * Extend Laser from end to end of the screen.
 	 */
@@ -55,35 +78,46 @@ public class LaserBeam extends Entity implements LaserInfo {
 						Math.pow(GameConstant.SCREEN_HEIGHT, 2)
 		) + 100;
 
+		if (this.startPosition == null) this.startPosition = new Point();
+		if (this.endPosition == null) this.endPosition = new Point();
+
 		// Extend backward
-		this.startPosition = new Point(
+		this.startPosition.setLocation(
 				(int) (startPoint.x - unitX * screenDiag),
 				(int) (startPoint.y - unitY * screenDiag)
 		);
 
 		// Extend forward
-		this.endPosition = new Point(
+		this.endPosition.setLocation(
 				(int) (startPoint.x + unitX * screenDiag),
 				(int) (startPoint.y + unitY * screenDiag)
 		);
 	}
 
 	public void update(){
-		if(this.chargeCooldown==null){
-			this.chargeCooldown = new Cooldown(chargeCooldownMilli);
+		if(!this.chargeStarted){
+			if(this.chargeCooldown==null){
+				this.chargeCooldown = new Cooldown(chargeCooldownMilli);
+			}
+			this.chargeCooldown.setMilliseconds(chargeCooldownMilli);
 			chargeCooldown.reset();
+			this.chargeStarted = true;
 		}
 		if(this.chargeCooldown.checkFinished() && !firedSoundPlayed){
 			this.color = Color.red;
 			this.isActive=true;
             SoundManager.play("sfx/LaserBlaster.wav");
             firedSoundPlayed = true;
-			if(this.remainCooldown==null){
-				this.remainCooldown = new Cooldown(remainCooldownMilli);
+			if(!this.remainStarted){
+				if(this.remainCooldown==null){
+					this.remainCooldown = new Cooldown(remainCooldownMilli);
+				}
+				this.remainCooldown.setMilliseconds(remainCooldownMilli);
 				remainCooldown.reset();
+				this.remainStarted = true;
 			}
 		}
-		if(this.remainCooldown!=null && this.remainCooldown.checkFinished()){
+		if(this.remainStarted && this.remainCooldown.checkFinished()){
 			shouldBeRemoved =true;
 		}
 	}
@@ -98,6 +132,17 @@ public class LaserBeam extends Entity implements LaserInfo {
 	@Override
 	public boolean isActive() { return isActive; }
 
+	@Override
+	public boolean isPooled() { return pooled; }
+
+	@Override
+	public void setPooled(boolean pooled) { this.pooled = pooled; }
+
+	@Override
+	public CollisionLayer getCollisionLayer() {
+		return CollisionLayer.ENEMY_BULLET;
+	}
+
 	@Override
 	public void onCollision(Collidable other, GameModel model) {
 		// The laser is not affected by collisions; the other entity handles it.
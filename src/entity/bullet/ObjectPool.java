@@ -0,0 +1,155 @@
+package entity.bullet;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Array-backed stack of reusable objects of one type.
+ * Acquiring and releasing are O(1) and allocation-free once the backing
+ * array has grown to the peak demand, which pre-warming takes care of.
+ * Each object is marked while it waits in the pool, so releasing it twice
+ * is ignored and counted rather than handing it out to two owners.
+ *
+ * @param <T>
+ *            Type of the pooled objects.
+ */
+public final class ObjectPool<T extends Poolable> {
+
+	/** Name used when reporting statistics. */
+	private final String name;
+	/** Creates a fresh object when the pool is empty. */
+	private final Supplier<? extends T> factory;
+
+	/** Available objects, the top of the stack is at size - 1. */
+	private Object[] items;
+	/** Number of available objects. */
+	private int size;
+
+	/** Acquisitions served from the pool. */
+	private long hits;
+	/** Acquisitions that had to create a new object. */
+	private long misses;
+	/** Objects currently handed out. */
+	private int inUse;
+	/** Largest number of objects handed out at the same time. */
+	private int highWaterMark;
+	/** Releases ignored because the object was already in the pool. */
+	private long doubleReleases;
+
+	/**
+	 * Constructor, creates an empty pool.
+	 *
+	 * @param name
+	 *            Name of the pool, used in statistics.
+	 * @param factory
+	 *            Creates new objects on a miss.
+	 * @param initialCapacity
+	 *            Initial length of the backing array.
+	 */
+	public ObjectPool(final String name, final Supplier<? extends T> factory, final int initialCapacity) {
+		this.name = name;
+		this.factory = factory;
+		this.items = new Object[Math.max(1, initialCapacity)];
+	}
+
+	/**
+	 * Takes an object from the pool, creating one if none is available.
+	 * The caller is responsible for resetting its state.
+	 *
+	 * @return Pooled or new object.
+	 */
+	@SuppressWarnings("unchecked")
+	public T acquire() {
+		T item;
+		if (this.size > 0) {
+			item = (T) this.items[--this.size];
+			this.items[this.size] = null;
+			item.setPooled(false);
+			this.hits++;
+		} else {
+			item = this.factory.get();
+			this.misses++;
+		}
+		if (++this.inUse > this.highWaterMark) {
+			this.highWaterMark = this.inUse;
+		}
+		return item;
+	}
+
+	/**
+	 * Returns an object to the pool. It must not be referenced by the game
+	 * anymore. An object already in the pool is left there once.
+	 *
+	 * @param item
+	 *            Object to make available again.
+	 */
+	public void release(final T item) {
+		if (item == null) return;
+		if (item.isPooled()) {
+			this.doubleReleases++;
+			return;
+		}
+		item.setPooled(true);
+		if (this.size == this.items.length) {
+			this.items = Arrays.copyOf(this.items, this.size * 2);
+		}
+		this.items[this.size++] = item;
+		if (this.inUse > 0) this.inUse--;
+	}
+
+	/**
+	 * Creates objects until at least the given number is available.
+	 *
+	 * @param count
+	 *            Number of objects that should be ready for use.
+	 */
+	public void prewarm(final int count) {
+		if (count > this.items.length) {
+			this.items = Arrays.copyOf(this.items, count);
+		}
+		while (this.size < count) {
+			T item = this.factory.get();
+			item.setPooled(true);
+			this.items[this.size++] = item;
+		}
+	}
+
+	/**
+	 * Drops every available object and resets the statistics.
+	 */
+	@SuppressWarnings("unchecked")
+	public void clear() {
+		for (int i = 0; i < this.size; i++) {
+			((T) this.items[i]).setPooled(false);
+		}
+		Arrays.fill(this.items, 0, this.size, null);
+		this.size = 0;
+		this.inUse = 0;
+		resetStats();
+	}
+
+	/**
+	 * Resets hit, miss, double release and high-water counters.
+	 */
+	public void resetStats() {
+		this.hits = 0;
+		this.misses = 0;
+		this.doubleReleases = 0;
+		this.highWaterMark = this.inUse;
+	}
+
+	public String getName() { return this.name; }
+	public int getAvailable() { return this.size; }
+	public int getInUse() { return this.inUse; }
+	public long getHits() { return this.hits; }
+	public long getMisses() { return this.misses; }
+	public int getHighWaterMark() { return this.highWaterMark; }
+	public long getDoubleReleases() { return this.doubleReleases; }
+
+	@Override
+	public String toString() {
+		return this.name + " pool: available=" + this.size + " inUse=" + this.inUse
+				+ " hits=" + this.hits + " misses=" + this.misses + " highWater=" + this.highWaterMark
+				+ " doubleReleases=" + this.doubleReleases;
+	}
+}
@@ -0,0 +1,25 @@
+package entity.bullet;
+
+/**
+ * An object that can wait in an {@link ObjectPool}. The pool marks it while
+ * it waits there, so that releasing it a second time is caught instead of
+ * handing the same object to two owners.
+ */
+public interface Poolable {
+
+	/**
+	 * Checks whether the object waits in a pool.
+	 *
+	 * @return True between its release and its next acquisition.
+	 */
+	boolean isPooled();
+
+	/**
+	 * Marks the object as waiting in a pool or handed out, only called by
+	 * the pool.
+	 *
+	 * @param pooled
+	 *            True when released, false when acquired.
+	 */
+	void setPooled(boolean pooled);
+}
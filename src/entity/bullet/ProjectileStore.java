@@ -0,0 +1,242 @@
+package entity.bullet;
+
+import entity.base.CollisionLayer;
+import entity.base.HasBounds;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Structure-of-arrays storage for straight-moving bullets.
+ * Position, size, speed, owner and penetration of every bullet live in
+ * parallel int arrays, so the bulk update, culling and overlap queries walk
+ * contiguous memory. The Bullet objects stay as thin handles: while a
+ * bullet is stored its getters and setters read and write its slot, so
+ * renderers and collision handlers keep working on Bullet references.
+ * Removal swaps the last slot into the freed one, so iteration order is
+ * stable between removals but not insertion order.
+ */
+public final class ProjectileStore extends AbstractSet<Bullet> {
+
+	/** Initial number of slots. */
+	private static final int INITIAL_CAPACITY = 256;
+
+	/** Handle of every slot. */
+	Bullet[] handles = new Bullet[INITIAL_CAPACITY];
+	int[] x = new int[INITIAL_CAPACITY];
+	int[] y = new int[INITIAL_CAPACITY];
+	int[] width = new int[INITIAL_CAPACITY];
+	int[] height = new int[INITIAL_CAPACITY];
+	int[] speed = new int[INITIAL_CAPACITY];
+	/** Owning player, 0 when the bullet has no owner. */
+	int[] owner = new int[INITIAL_CAPACITY];
+	/** Targets already penetrated. */
+	int[] penetration = new int[INITIAL_CAPACITY];
+	/** Targets the bullet may penetrate. */
+	int[] maxPenetration = new int[INITIAL_CAPACITY];
+
+	/** Number of slots in use. */
+	private int size;
+	/** Incremented on every structural change, used by iterators. */
+	private int modCount;
+
+	/**
+	 * Stores a bullet, moving its state into the arrays.
+	 * Boss bullets move on their own and cannot be stored.
+	 *
+	 * @param bullet
+	 *            Bullet to store.
+	 * @return False if the bullet was already stored here.
+	 */
+	@Override
+	public boolean add(final Bullet bullet) {
+		if (bullet.store == this) return false;
+		if (bullet.store != null) {
+			throw new IllegalStateException("Bullet is already stored elsewhere.");
+		}
+		if (bullet instanceof BossBullet) {
+			throw new IllegalArgumentException("Boss bullets cannot be stored in a ProjectileStore.");
+		}
+		if (this.size == this.handles.length) {
+			grow();
+		}
+		int slot = this.size++;
+		this.handles[slot] = bullet;
+		bullet.attach(this, slot);
+		this.modCount++;
+		return true;
+	}
+
+	@Override
+	public boolean remove(final Object o) {
+		if (!(o instanceof Bullet bullet) || bullet.store != this) return false;
+		removeAt(bullet.slot);
+		return true;
+	}
+
+	@Override
+	public boolean contains(final Object o) {
+		return o instanceof Bullet bullet && bullet.store == this;
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0; i < this.size; i++) {
+			this.handles[i].detach();
+			this.handles[i] = null;
+		}
+		this.size = 0;
+		this.modCount++;
+	}
+
+	@Override
+	public Iterator<Bullet> iterator() {
+		return new Iterator<Bullet>() {
+			private int cursor;
+			private int last = -1;
+			private int expectedModCount = modCount;
+
+			@Override
+			public boolean hasNext() {
+				return this.cursor < size;
+			}
+
+			@Override
+			public Bullet next() {
+				if (modCount != this.expectedModCount) throw new ConcurrentModificationException();
+				if (this.cursor >= size) throw new NoSuchElementException();
+				this.last = this.cursor++;
+				return handles[this.last];
+			}
+
+			@Override
+			public void remove() {
+				if (this.last < 0) throw new IllegalStateException();
+				if (modCount != this.expectedModCount) throw new ConcurrentModificationException();
+				// The last slot moves into the removed one and still has to be visited.
+				removeAt(this.last);
+				this.cursor = this.last;
+				this.last = -1;
+				this.expectedModCount = modCount;
+			}
+		};
+	}
+
+	/**
+	 * Moves every bullet by its speed along the Y axis, the bulk form of
+	 * {@link Bullet#update()}.
+	 */
+	public void update() {
+		final int[] y = this.y;
+		final int[] speed = this.speed;
+		for (int i = 0; i < this.size; i++) {
+			y[i] += speed[i];
+		}
+	}
+
+	/**
+	 * Removes every bullet above the top or below the bottom limit.
+	 *
+	 * @param top
+	 *            Smallest Y position kept.
+	 * @param bottom
+	 *            Largest Y position kept.
+	 * @param onRemoved
+	 *            Receives each removed bullet, e.g. to recycle it.
+	 * @return Number of removed bullets.
+	 */
+	public int removeOutside(final int top, final int bottom, final Consumer<? super Bullet> onRemoved) {
+		int removed = 0;
+		// Walking backwards, the slot swapped into a freed one has already been checked.
+		for (int i = this.size - 1; i >= 0; i--) {
+			if (this.y[i] < top || this.y[i] > bottom) {
+				Bullet bullet = this.handles[i];
+				removeAt(i);
+				onRemoved.accept(bullet);
+				removed++;
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Collects every bullet of a layer overlapping the given bounds, with
+	 * the same center-distance test as the collision pass. Only the arrays
+	 * are read; the handles of the bullets found are handed out.
+	 *
+	 * @param bounds
+	 *            Area to test.
+	 * @param layer
+	 *            PLAYER_BULLET for bullets moving up, ENEMY_BULLET for the
+	 *            others, as reported by {@link Bullet#getCollisionLayer()}.
+	 * @param out
+	 *            Receives the overlapping bullets, in slot order.
+	 * @return Number of bullets added to out.
+	 */
+	public int collectOverlapping(final HasBounds bounds, final CollisionLayer layer,
+			final Collection<? super Bullet> out) {
+		final boolean playerBullets = layer == CollisionLayer.PLAYER_BULLET;
+		final int boundsCenterX = bounds.getPositionX() + bounds.getWidth() / 2;
+		final int boundsCenterY = bounds.getPositionY() + bounds.getHeight() / 2;
+		final int halfWidth = bounds.getWidth() / 2;
+		final int halfHeight = bounds.getHeight() / 2;
+		int found = 0;
+		for (int i = 0; i < this.size; i++) {
+			if ((this.speed[i] < 0) != playerBullets) continue;
+			int halfBulletWidth = this.width[i] / 2;
+			int halfBulletHeight = this.height[i] / 2;
+			if (Math.abs(boundsCenterX - (this.x[i] + halfBulletWidth)) < halfWidth + halfBulletWidth
+					&& Math.abs(boundsCenterY - (this.y[i] + halfBulletHeight)) < halfHeight + halfBulletHeight) {
+				out.add(this.handles[i]);
+				found++;
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Removes the bullet in a slot, moving the last slot into its place.
+	 */
+	private void removeAt(final int slot) {
+		this.handles[slot].detach();
+		int last = --this.size;
+		if (slot != last) {
+			Bullet moved = this.handles[last];
+			this.handles[slot] = moved;
+			this.x[slot] = this.x[last];
+			this.y[slot] = this.y[last];
+			this.width[slot] = this.width[last];
+			this.height[slot] = this.height[last];
+			this.speed[slot] = this.speed[last];
+			this.owner[slot] = this.owner[last];
+			this.penetration[slot] = this.penetration[last];
+			this.maxPenetration[slot] = this.maxPenetration[last];
+			moved.moveTo(slot);
+		}
+		this.handles[last] = null;
+		this.modCount++;
+	}
+
+	private void grow() {
+		int capacity = this.handles.length * 2;
+		this.handles = Arrays.copyOf(this.handles, capacity);
+		this.x = Arrays.copyOf(this.x, capacity);
+		this.y = Arrays.copyOf(this.y, capacity);
+		this.width = Arrays.copyOf(this.width, capacity);
+		this.height = Arrays.copyOf(this.height, capacity);
+		this.speed = Arrays.copyOf(this.speed, capacity);
+		this.owner = Arrays.copyOf(this.owner, capacity);
+		this.penetration = Arrays.copyOf(this.penetration, capacity);
+		this.maxPenetration = Arrays.copyOf(this.maxPenetration, capacity);
+	}
+}
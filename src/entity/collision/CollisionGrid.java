@@ -0,0 +1,182 @@
+package entity.collision;
+
+import entity.base.HasBounds;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform-grid broad phase for the per-frame collision pass.
+ * Every entity is registered in each cell its bounding box touches, so only
+ * entities that share at least one cell are handed to the narrow phase.
+ * Candidates are returned in ascending index order, which keeps the sequence
+ * of collision callbacks identical to a plain pairwise loop.
+ */
+public final class CollisionGrid {
+
+	/** Default side length of a grid cell, in pixels. */
+	public static final int DEFAULT_CELL_SIZE = 64;
+	/** Marks the end of a cell's entry chain. */
+	private static final int NONE = -1;
+
+	/** Side length of a cell, in pixels. */
+	private final int cellSize;
+	/** Number of cell columns covering the playfield. */
+	private final int columns;
+	/** Number of cell rows covering the playfield. */
+	private final int rows;
+	/** First entry of every cell, or NONE if the cell is empty. */
+	private final int[] cellHead;
+
+	/** Next entry in the same cell. */
+	private int[] entryNext = new int[256];
+	/** Entity index stored in each entry. */
+	private int[] entryEntity = new int[256];
+	/** Number of entries in use. */
+	private int entryCount;
+
+	/** Cell range covered by each entity. */
+	private int[] minColumn = new int[64];
+	private int[] maxColumn = new int[64];
+	private int[] minRow = new int[64];
+	private int[] maxRow = new int[64];
+	/** Last query that reported each entity, used to skip duplicates. */
+	private int[] visitStamp = new int[64];
+	/** Number of entities registered by the last build. */
+	private int entityCount;
+
+	/** Candidates gathered by the last query. */
+	private int[] candidates = new int[64];
+	/** Stamp of the current query. */
+	private int queryStamp;
+
+	/**
+	 * Constructor, lays the grid over the playfield.
+	 *
+	 * @param width
+	 *            Width of the playfield.
+	 * @param height
+	 *            Height of the playfield.
+	 * @param cellSize
+	 *            Side length of a cell.
+	 */
+	public CollisionGrid(final int width, final int height, final int cellSize) {
+		this.cellSize = Math.max(1, cellSize);
+		this.columns = Math.max(1, (width + this.cellSize - 1) / this.cellSize);
+		this.rows = Math.max(1, (height + this.cellSize - 1) / this.cellSize);
+		this.cellHead = new int[this.columns * this.rows];
+		Arrays.fill(this.cellHead, NONE);
+	}
+
+	/**
+	 * Registers all entities for this frame, replacing the previous contents.
+	 * Entities outside the playfield are clamped to the border cells.
+	 *
+	 * @param entities
+	 *            Entities taking part in the collision pass.
+	 */
+	public void build(final List<? extends HasBounds> entities) {
+		Arrays.fill(this.cellHead, NONE);
+		this.entryCount = 0;
+		this.entityCount = entities.size();
+		ensureEntityCapacity(this.entityCount);
+		// Stamps are reset so queries of this frame never match a stale one.
+		Arrays.fill(this.visitStamp, 0, this.entityCount, 0);
+		this.queryStamp = 0;
+
+		for (int i = 0; i < this.entityCount; i++) {
+			HasBounds bounds = entities.get(i);
+			int left = bounds.getPositionX();
+			int top = bounds.getPositionY();
+			int right = left + Math.max(1, bounds.getWidth()) - 1;
+			int bottom = top + Math.max(1, bounds.getHeight()) - 1;
+
+			int c0 = clamp(Math.floorDiv(left, this.cellSize), this.columns);
+			int c1 = clamp(Math.floorDiv(right, this.cellSize), this.columns);
+			int r0 = clamp(Math.floorDiv(top, this.cellSize), this.rows);
+			int r1 = clamp(Math.floorDiv(bottom, this.cellSize), this.rows);
+			this.minColumn[i] = c0;
+			this.maxColumn[i] = c1;
+			this.minRow[i] = r0;
+			this.maxRow[i] = r1;
+
+			for (int r = r0; r <= r1; r++) {
+				for (int c = c0; c <= c1; c++) {
+					addEntry(r * this.columns + c, i);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gathers every entity sharing a cell with the given one and having a
+	 * greater index, sorted ascending.
+	 *
+	 * @param index
+	 *            Index of the entity in the list passed to {@link #build}.
+	 * @return Number of candidates, readable through {@link #candidateAt}.
+	 */
+	public int collectCandidates(final int index) {
+		int stamp = ++this.queryStamp;
+		int count = 0;
+
+		for (int r = this.minRow[index]; r <= this.maxRow[index]; r++) {
+			for (int c = this.minColumn[index]; c <= this.maxColumn[index]; c++) {
+				for (int e = this.cellHead[r * this.columns + c]; e != NONE; e = this.entryNext[e]) {
+					int other = this.entryEntity[e];
+					if (other <= index || this.visitStamp[other] == stamp) continue;
+					this.visitStamp[other] = stamp;
+					if (count == this.candidates.length) {
+						this.candidates = Arrays.copyOf(this.candidates, count * 2);
+					}
+					this.candidates[count++] = other;
+				}
+			}
+		}
+		Arrays.sort(this.candidates, 0, count);
+		return count;
+	}
+
+	/**
+	 * Getter for a candidate found by the last query.
+	 *
+	 * @param position
+	 *            Position in the candidate list.
+	 * @return Index of the candidate entity.
+	 */
+	public int candidateAt(final int position) {
+		return this.candidates[position];
+	}
+
+	public int getColumns() { return this.columns; }
+	public int getRows() { return this.rows; }
+	public int getCellSize() { return this.cellSize; }
+
+	private void addEntry(final int cell, final int entity) {
+		if (this.entryCount == this.entryNext.length) {
+			int capacity = this.entryCount * 2;
+			this.entryNext = Arrays.copyOf(this.entryNext, capacity);
+			this.entryEntity = Arrays.copyOf(this.entryEntity, capacity);
+		}
+		this.entryEntity[this.entryCount] = entity;
+		this.entryNext[this.entryCount] = this.cellHead[cell];
+		this.cellHead[cell] = this.entryCount;
+		this.entryCount++;
+	}
+
+	private void ensureEntityCapacity(final int size) {
+		if (size <= this.minColumn.length) return;
+		int capacity = Math.max(size, this.minColumn.length * 2);
+		this.minColumn = Arrays.copyOf(this.minColumn, capacity);
+		this.maxColumn = Arrays.copyOf(this.maxColumn, capacity);
+		this.minRow = Arrays.copyOf(this.minRow, capacity);
+		this.maxRow = Arrays.copyOf(this.maxRow, capacity);
+		this.visitStamp = Arrays.copyOf(this.visitStamp, capacity);
+	}
+
+	private static int clamp(final int cell, final int cells) {
+		if (cell < 0) return 0;
+		if (cell >= cells) return cells - 1;
+		return cell;
+	}
+}
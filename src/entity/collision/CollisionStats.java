@@ -0,0 +1,45 @@
+package entity.collision;
+
+/**
+ * Per-frame counters for the collision pass.
+ * Shows how many pairs each filtering stage lets through.
+ */
+public final class CollisionStats {
+
+	/** Pairs reported by the broad phase. */
+	private int candidatePairs;
+	/** Pairs dropped because their layers never interact. */
+	private int skippedByLayer;
+	/** Pairs whose bounds were actually compared. */
+	private int testedPairs;
+	/** Pairs that overlapped and had their handlers invoked. */
+	private int hitPairs;
+
+	/**
+	 * Clears all counters at the start of a frame.
+	 */
+	public void reset() {
+		this.candidatePairs = 0;
+		this.skippedByLayer = 0;
+		this.testedPairs = 0;
+		this.hitPairs = 0;
+	}
+
+	public void addCandidates(final int count) { this.candidatePairs += count; }
+	public void countSkippedByLayer() { this.skippedByLayer++; }
+	public void countTested() { this.testedPairs++; }
+	public void countHit() { this.hitPairs++; }
+
+	public int getCandidatePairs() { return this.candidatePairs; }
+	public int getSkippedByLayer() { return this.skippedByLayer; }
+	public int getTestedPairs() { return this.testedPairs; }
+	public int getHitPairs() { return this.hitPairs; }
+
+	@Override
+	public String toString() {
+		return "candidates=" + this.candidatePairs
+				+ " skipped=" + this.skippedByLayer
+				+ " tested=" + this.testedPairs
+				+ " hits=" + this.hitPairs;
+	}
+}
@@ -7,8 +7,10 @@ import java.util.logging.Logger;
 import java.util.Random;
 
 import engine.core.Core;
+import engine.core.SimulationClock;
 import entity.*;
 import entity.base.Collidable;
+import entity.base.CollisionLayer;
 import entity.ship.EnemyShip;
 import entity.ship.EnemyShipFormationModel;
 import entity.ship.Ship;
@@ -110,7 +112,7 @@ public class DropItem extends Entity implements Collidable {
 	 */
 	public static void applyTimeFreezeItem(int durationMillis) {
 		// current Time + duration Time = End Time
-		freezeEndTime = System.currentTimeMillis() + durationMillis;
+		freezeEndTime = SimulationClock.currentTimeMillis() + durationMillis;
 	}
 
 	/**
@@ -119,10 +121,10 @@ public class DropItem extends Entity implements Collidable {
 	 * @return If returning true, don't move all enemy ship except special enemy
 	 */
 	public static boolean isTimeFreezeActive() {
-		if (freezeEndTime > 0 && System.currentTimeMillis() < freezeEndTime) {
+		if (freezeEndTime > 0 && SimulationClock.currentTimeMillis() < freezeEndTime) {
 			return true;
 		}
-		if (freezeEndTime > 0 && System.currentTimeMillis() >= freezeEndTime) {
+		if (freezeEndTime > 0 && SimulationClock.currentTimeMillis() >= freezeEndTime) {
 			freezeEndTime = 0;
 		}
 		return false;
@@ -223,6 +225,11 @@ public class DropItem extends Entity implements Collidable {
 		}
 	}
 
+	@Override
+	public CollisionLayer getCollisionLayer() {
+		return CollisionLayer.ITEM;
+	}
+
 	@Override
 	public void onCollision(Collidable other, GameModel model) {
 		other.onCollideWithDropItem(this, model);
@@ -4,6 +4,7 @@ import entity.Entity;
 import entity.GameModel;
 import entity.ship.Ship;
 import entity.base.Collidable;
+import entity.base.CollisionLayer;
 
 import java.awt.*;
 
@@ -43,6 +44,11 @@ public class Explosion extends Entity {
         isDestroyed = true;
     }
 
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.HAZARD;
+    }
+
     /**
      * Checks for collision with the Ship using Circle-AABB logic and applies damage.
      * */
@@ -1,5 +1,7 @@
 package entity.item;
 
+import engine.core.SimulationClock;
+
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -35,7 +37,7 @@ public class ItemHUDManager {
     private List<DroppedItemInfo> activeDroppedItems;
 
     /** Maximum number of dynamic items that can be displayed */
-    private static final int MAX_DYNAMIC_ITEMS = 6;
+    public static final int MAX_DYNAMIC_ITEMS = 6;
 
     /** Duration to show dropped items (in milliseconds) */
     private static final long DROPPED_ITEM_DISPLAY_DURATION = 10000; // 10 seconds
@@ -50,11 +52,11 @@ public class ItemHUDManager {
 
         public DroppedItemInfo(DropItem.ItemType itemType) {
             this.itemType = itemType;
-            this.displayStartTime = System.currentTimeMillis();
+            this.displayStartTime = SimulationClock.currentTimeMillis();
         }
 
         public boolean isExpired() {
-            return System.currentTimeMillis() - displayStartTime > DROPPED_ITEM_DISPLAY_DURATION;
+            return SimulationClock.currentTimeMillis() - displayStartTime > DROPPED_ITEM_DISPLAY_DURATION;
         }
     }
 
@@ -89,6 +91,50 @@ public class ItemHUDManager {
         this.startX = screenWidth - totalFixedWidth - 20; // 20px margin from right edge
     }
 
+    /** Left edge of the item HUD, once initialized. */
+    public int getHUDX() {
+        return startX;
+    }
+
+    /** Top edge of the item HUD, once positioned. */
+    public int getHUDY() {
+        return dynamicItemsY;
+    }
+
+    /** Width of the item HUD, borders included. */
+    public int getHUDWidth() {
+        return MAX_DYNAMIC_ITEMS * (ITEM_SQUARE_SIZE + SQUARE_SPACING) + 1;
+    }
+
+    /** Height of the item HUD, borders included. */
+    public int getHUDHeight() {
+        return fixedItemsY - dynamicItemsY + ITEM_SQUARE_SIZE + 1;
+    }
+
+    /**
+     * Packs everything the item HUD shows into one number: the dropped
+     * items, then whether each shop item is active and its level. Two
+     * states give the same number only if they look the same.
+     *
+     * @param droppedItems
+     *            Dropped items captured by the simulation, oldest first.
+     * @param count
+     *            Number of dropped items in the array.
+     */
+    public long getStateKey(DropItem.ItemType[] droppedItems, int count) {
+        int shown = Math.min(count, MAX_DYNAMIC_ITEMS);
+        long key = shown;
+        for (int i = 0; i < shown; i++) {
+            key = key << 3 | droppedItems[i].ordinal();
+        }
+        for (ShopItemType itemType : ShopItemType.values()) {
+            key = key << 8
+                    | (isShopItemActive(itemType) ? 0x80 : 0)
+                    | Math.min(Math.max(getShopItemLevel(itemType), 0), 0x7F);
+        }
+        return key;
+    }
+
     /**
      * Add a dropped item to be displayed
      */
@@ -114,16 +160,34 @@ public class ItemHUDManager {
     }
 
     /**
-     * Draw all items on the HUD
+     * Copy the dropped items currently displayed, dropping expired ones.
+     * Called by the simulation, the copy is drawn by the render thread.
+     *
+     * @param out Receives the items, oldest first, as many as it holds
+     * @return Number of items copied
      */
-    public void drawItems(Graphics graphics) {
+    public int getDroppedItems(DropItem.ItemType[] out) {
         cleanupExpiredItems();
 
+        int count = Math.min(activeDroppedItems.size(), out.length);
+        for (int i = 0; i < count; i++) {
+            out[i] = activeDroppedItems.get(i).itemType;
+        }
+        return count;
+    }
+
+    /**
+     * Draw all items on the HUD
+     *
+     * @param droppedItems Dropped items to show, as copied by getDroppedItems
+     * @param count Number of dropped items in the array
+     */
+    public void drawItems(Graphics graphics, DropItem.ItemType[] droppedItems, int count) {
         // Draw fixed shop items (bottom row)
         drawFixedShopItems(graphics);
 
         // Draw dynamic dropped items (top row)
-        drawDynamicDroppedItems(graphics);
+        drawDynamicDroppedItems(graphics, droppedItems, count);
     }
 
     /**
@@ -151,15 +215,14 @@ public class ItemHUDManager {
     /**
      * Draw the 6 dynamic dropped items
      */
-    private void drawDynamicDroppedItems(Graphics graphics) {
+    private void drawDynamicDroppedItems(Graphics graphics, DropItem.ItemType[] droppedItems, int count) {
         int x = startX;
         int y = dynamicItemsY;
 
         // Draw up to 6 dynamic items
         for (int i = 0; i < MAX_DYNAMIC_ITEMS; i++) {
-            if (i < activeDroppedItems.size()) {
-                DroppedItemInfo itemInfo = activeDroppedItems.get(i);
-                drawDroppedItemSquare(graphics, x, y, itemInfo.itemType);
+            if (i < count) {
+                drawDroppedItemSquare(graphics, x, y, droppedItems[i]);
             } else {
                 // Draw empty square
                 drawEmptySquare(graphics, x, y);
@@ -63,4 +63,14 @@ public final class ItemPool {
 	public static void recycle(final Set<DropItem> dropItem) {
 		pool.addAll(dropItem);
 	}
+
+	/**
+	 * Adds a single item to the list of available ones.
+	 *
+	 * @param dropItem
+	 *            item to recycle.
+	 */
+	public static void recycle(final DropItem dropItem) {
+		pool.add(dropItem);
+	}
 }
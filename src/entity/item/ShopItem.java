@@ -297,6 +297,31 @@ public class ShopItem {
 
 	// ==================== Utility Methods ====================
 
+	/**
+	 * Returns the level of every upgrade, to be saved: multi shot, rapid
+	 * fire, penetration, bullet speed and ship speed, in that order.
+	 *
+	 * @return The levels.
+	 */
+	public static int[] getLevels() {
+		return new int[] {multiShotLevel, rapidFireLevel, penetrationLevel, bulletSpeedLevel, shipSpeedLevel};
+	}
+
+	/**
+	 * Restores the upgrade levels saved by {@link #getLevels()}. Levels out
+	 * of range and missing ones are reset.
+	 *
+	 * @param levels The levels, in the order of getLevels.
+	 */
+	public static void setLevels(final int[] levels) {
+		resetAllItems();
+		if (levels.length > 0) setMultiShotLevel(levels[0]);
+		if (levels.length > 1) setRapidFireLevel(levels[1]);
+		if (levels.length > 2) setPenetrationLevel(levels[2]);
+		if (levels.length > 3) setBulletSpeedLevel(levels[3]);
+		if (levels.length > 4) setSHIPSPEED(levels[4]);
+	}
+
 	/**
 	 * Resets all items (for testing or game reset).
 	 */
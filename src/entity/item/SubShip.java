@@ -5,12 +5,14 @@ import java.util.Set;
 
 import audio.SoundManager;
 import engine.core.Cooldown;
+import engine.core.SimulationClock;
 import engine.view.DrawManager.SpriteType;
 import entity.ship.EnemyShip;
 import entity.Entity;
 import entity.GameModel;
 import entity.ship.Ship;
 import entity.base.BossEntity;
+import entity.base.CollisionLayer;
 import entity.bullet.BossBullet;
 import entity.bullet.Bullet;
 import entity.bullet.BulletPool;
@@ -57,7 +59,7 @@ public class SubShip extends Entity {
         int gap = 10;
         this.offsetX = isLeft ? -(this.width + gap) : (owner.getWidth() + gap);
 
-        this.creationTime = System.currentTimeMillis();
+        this.creationTime = SimulationClock.currentTimeMillis();
         this.shootingCooldown = new Cooldown(SHOOTING_INTERVAL); // Basic shooting interval
         this.isDestroyed = false;
 
@@ -70,7 +72,7 @@ public class SubShip extends Entity {
 
     // Reset creation time to current time (extends duration)
     public void resetCreationTime() {
-        this.creationTime = System.currentTimeMillis();
+        this.creationTime = SimulationClock.currentTimeMillis();
     }
 
     // Get creation time (for finding the oldest sub-ship)
@@ -85,7 +87,7 @@ public class SubShip extends Entity {
         if (isDestroyed) return;
 
         // 1. Check Duration
-        if (System.currentTimeMillis() - creationTime > DURATION) {
+        if (SimulationClock.currentTimeMillis() - creationTime > DURATION) {
             this.destroy();
             return;
         }
@@ -152,6 +154,19 @@ public class SubShip extends Entity {
         }
     }
 
+    @Override
+    public CollisionLayer getCollisionLayer() {
+        return CollisionLayer.PLAYER;
+    }
+
+    /**
+     * Sub-ships only react to enemies and their bullets, not items or explosions.
+     */
+    @Override
+    public int getCollisionMask() {
+        return CollisionLayer.ENEMY.bit() | CollisionLayer.ENEMY_BULLET.bit() | CollisionLayer.BOSS.bit();
+    }
+
     @Override
     public void onHitByEnemyBullet(Bullet bullet, GameModel model) {
         // Remove bullet
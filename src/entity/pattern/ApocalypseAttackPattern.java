@@ -2,6 +2,7 @@ package entity.pattern;
 
 import engine.core.Cooldown;
 import engine.core.Core;
+import engine.core.SimulationClock;
 import entity.base.HasBounds;
 
 import java.awt.Point;
@@ -111,7 +112,7 @@ public class ApocalypseAttackPattern extends BossPattern {
             this.isWarning = false;
             this.isAttacking = true;
             this.attackAnimationCooldown.reset();
-            this.attackAnimationStartTime = System.currentTimeMillis();
+            this.attackAnimationStartTime = SimulationClock.currentTimeMillis();
         }
     }
 
@@ -140,7 +141,7 @@ public class ApocalypseAttackPattern extends BossPattern {
         if (!isAttacking()) {
             return 0.0f;
         }
-        long elapsed = System.currentTimeMillis() - this.attackAnimationStartTime;
+        long elapsed = SimulationClock.currentTimeMillis() - this.attackAnimationStartTime;
         float progress = (float) elapsed / ATTACK_ANIMATION_DURATION;
         return Math.min(1.0f, progress); // Ensure it doesn't exceed 1.0
     }
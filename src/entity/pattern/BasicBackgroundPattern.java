@@ -2,6 +2,7 @@ package entity.pattern;
 
 import engine.core.Cooldown;
 import entity.bullet.BossBullet;
+import entity.bullet.BulletPool;
 
 import java.awt.*;
 
@@ -23,7 +24,7 @@ public class BasicBackgroundPattern extends BossPattern {
 		if (this.shootCooldown.checkFinished()) {
 			this.shootCooldown.reset();
 			int randomX = (int) (Math.random() * screenWidth);
-			BossBullet bullet = new BossBullet(randomX, 1, 0, 2,6,10, PatternBulletType.BACKGROUND);
+			BossBullet bullet = BulletPool.getBossBullet(randomX, 1, 0, 2,6,10, PatternBulletType.BACKGROUND);
 			bullets.add(bullet);
 		}
 	}
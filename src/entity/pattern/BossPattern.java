@@ -17,6 +17,9 @@ public abstract class BossPattern implements IBossPattern {
 
 	protected Set<Bullet> bullets;
 	protected Set<LaserBeam> lasers;
+	/** Sets swapped in when bullets or lasers are handed out, so draining does not allocate. */
+	private Set<Bullet> spareBullets = new HashSet<Bullet>();
+	private Set<LaserBeam> spareLasers;
 	protected Set<BlackHole> blackHoles;
 
 	protected boolean validateBackgroundPattern=true;
@@ -35,12 +38,19 @@ public abstract class BossPattern implements IBossPattern {
 
 	public void setCooldown(Cooldown cooldown) { this.shootCooldown=cooldown; }
 	public Point getBossPosition() { return new Point(this.bossPosition); }
+	/**
+	 * Hands out the bullets fired since the last call.
+	 * The returned set is reused by the call after next, so callers must
+	 * copy its contents right away.
+	 */
 	public Set<Bullet> getBullets(){
 		if (this.bullets.isEmpty()) {
 			return java.util.Collections.emptySet();
 		}
 		Set<Bullet> returnBullets = this.bullets;
-		this.bullets = new HashSet<Bullet>();
+		this.spareBullets.clear();
+		this.bullets = this.spareBullets;
+		this.spareBullets = returnBullets;
 		return returnBullets;
 	}
 	public Set<LaserBeam> getLasers() {
@@ -49,6 +59,34 @@ public abstract class BossPattern implements IBossPattern {
 		}
 		return lasers;
 	}
+
+	/**
+	 * Hands out the lasers fired since the last call, with the same reuse
+	 * rules as {@link #getBullets()}.
+	 */
+	public Set<LaserBeam> drainLasers() {
+		if (this.lasers == null || this.lasers.isEmpty()) {
+			return java.util.Collections.emptySet();
+		}
+		if (this.spareLasers == null) {
+			this.spareLasers = new HashSet<LaserBeam>();
+		}
+		Set<LaserBeam> returnLasers = this.lasers;
+		this.spareLasers.clear();
+		this.lasers = this.spareLasers;
+		this.spareLasers = returnLasers;
+		return returnLasers;
+	}
+	/**
+	 * Checks whether a laser fired by this pattern may still be in play.
+	 * Lasers are forgotten once handed out by {@link #drainLasers()}, so
+	 * patterns that keep firing them tell for themselves.
+	 *
+	 * @return True while lasers wait to be handed out.
+	 */
+	public boolean hasLiveLasers() {
+		return this.lasers != null && !this.lasers.isEmpty();
+	}
 	public Set<BlackHole> getBlackHoles() {
 		if (this.blackHoles==null || this.blackHoles.isEmpty()) {
 			return java.util.Collections.emptySet();
@@ -1,6 +1,7 @@
 package entity.pattern;
 
 import engine.core.Core;
+import engine.core.SimulationClock;
 //import engine.view.DrawManager;
 import engine.view.DrawManager;
 import entity.GameConstant;
@@ -33,7 +34,7 @@ public class DashPattern extends BossPattern {
         // Initialize when pattern starts
         if (!dashSkillInitialized) {
             isShowingPath = true;
-            pathShowStartTime = System.currentTimeMillis();
+            pathShowStartTime = SimulationClock.currentTimeMillis();
             dashSkillInitialized = true;
             logger.info("DashPattern : Dash-pattern initiated");
         }
@@ -51,7 +52,7 @@ public class DashPattern extends BossPattern {
 
         // Check time if showing path
         if (isShowingPath) {
-            long elapsedTime = System.currentTimeMillis() - pathShowStartTime;
+            long elapsedTime = SimulationClock.currentTimeMillis() - pathShowStartTime;
 
             if (elapsedTime >= PATH_SHOW_DURATION) {
                 // Calculate dash direction after 2 seconds
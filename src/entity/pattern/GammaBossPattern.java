@@ -10,7 +10,6 @@ import entity.ship.Ship;
 
 import java.awt.*;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -501,7 +500,7 @@ public class GammaBossPattern extends BossPattern implements IBossPattern {
             return java.util.Collections.emptySet();
         }
 
-	    return new HashSet<>(this.attackPattern.getBullets());
+	    return this.attackPattern.getBullets();
     }
 
 	@Override
@@ -509,14 +508,13 @@ public class GammaBossPattern extends BossPattern implements IBossPattern {
 		if (this.attackPattern==null) {
 			return java.util.Collections.emptySet();
 		}
-		Set<LaserBeam> returnLasers = this.attackPattern.getLasers();
+		Set<LaserBeam> returnLasers = this.attackPattern.drainLasers();
 
 		// Track laser count for TimeGapAttackPattern (when in ATTACK state and using TimeGap)
 		if (cycleState == PatternCycleState.ATTACK && !usingZigZag) {
 			lasersFired += returnLasers.size();
 		}
 
-		this.attackPattern.lasers = new HashSet<LaserBeam>();
 		return returnLasers;
 	}
 
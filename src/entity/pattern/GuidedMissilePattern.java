@@ -1,6 +1,7 @@
 package entity.pattern;
 
 import engine.core.Cooldown;
+import entity.bullet.BulletPool;
 import entity.bullet.GuidedBullet;
 import entity.base.HasBounds;
 import entity.ship.Ship;
@@ -39,7 +40,7 @@ public class GuidedMissilePattern extends BossPattern {
                 // Y-coordinate: Top of the screen
                 int startY = 0;
 
-                GuidedBullet missile = new GuidedBullet(startX, startY, target);
+                GuidedBullet missile = BulletPool.getGuidedBullet(startX, startY, target);
                 this.bullets.add(missile);
             }
         }
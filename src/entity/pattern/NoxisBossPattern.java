@@ -74,6 +74,8 @@ public class NoxisBossPattern extends BossPattern implements IBossPattern {
 
 	/** Selected background patterns. */
 	private List<IBossPattern> currentBackPatterns = new ArrayList<>();
+	/** Bullets of all sub-patterns, refilled by every getBullets call. */
+	private final Set<Bullet> collectedBullets = new HashSet<>();
 
 	// Current patterns
 	private BossPattern attackPattern;
@@ -161,7 +163,7 @@ public class NoxisBossPattern extends BossPattern implements IBossPattern {
 	public void update(){
 		if(currentPhase>1){
 			// Priority 1: Check if Apocalypse cooldown finished
-			if (dashState==DashState.COOLDOWN && getLasers().isEmpty() && apocalypseState == ApocalypseState.COOLDOWN && apocalypseCooldownTimer.checkFinished()) {
+			if (dashState==DashState.COOLDOWN && !hasLiveLasers() && apocalypseState == ApocalypseState.COOLDOWN && apocalypseCooldownTimer.checkFinished()) {
 				forceStopBlackHole();
 				forceRemoveChilds();
 				forceRemoveExplosions();
@@ -171,7 +173,7 @@ public class NoxisBossPattern extends BossPattern implements IBossPattern {
 			}
 
 			// Priority 2: Handle active Apocalypse
-			if (dashState==DashState.COOLDOWN && getLasers().isEmpty() && (apocalypseState == ApocalypseState.CHARGING || apocalypseState == ApocalypseState.FIRING)) {
+			if (dashState==DashState.COOLDOWN && !hasLiveLasers() && (apocalypseState == ApocalypseState.CHARGING || apocalypseState == ApocalypseState.FIRING)) {
 				updateApocalypse();
 				stopMovement();
 				return;
@@ -581,7 +583,8 @@ public class NoxisBossPattern extends BossPattern implements IBossPattern {
 	}
 	@Override
 	public Set<Bullet> getBullets() {
-		Set<Bullet> allBullets = new java.util.HashSet<>();
+		Set<Bullet> allBullets = this.collectedBullets;
+		allBullets.clear();
 		if (attackPattern != null) {
 			allBullets.addAll(attackPattern.getBullets());
 		}
@@ -603,12 +606,22 @@ public class NoxisBossPattern extends BossPattern implements IBossPattern {
 		return ships.get(choice);
 	}
 
+	/**
+	 * Hands out the lasers fired since the last call, see
+	 * {@link BossPattern#drainLasers()}.
+	 */
 	@Override
 	public Set<LaserBeam> getLasers() {
 		if (this.attackPattern == null) {
 			return java.util.Collections.emptySet();
 		}
-		return this.attackPattern.getLasers();
+		return this.attackPattern.drainLasers();
+	}
+
+	/** Checks whether a laser of the attack pattern may still be in play. */
+	@Override
+	public boolean hasLiveLasers() {
+		return this.attackPattern != null && this.attackPattern.hasLiveLasers();
 	}
 
 	@Override
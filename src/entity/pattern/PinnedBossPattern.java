@@ -2,6 +2,7 @@ package entity.pattern;
 
 import engine.core.Cooldown;
 import entity.bullet.BossBullet;
+import entity.bullet.BulletPool;
 import entity.bullet.Bullet;
 import entity.base.HasBounds;
 
@@ -42,7 +43,7 @@ public class PinnedBossPattern extends BossPattern {
 			this.shootCooldown.reset();
 			int[] arr = {0,1,-1,2,-2};
 			for (int i : arr){
-				BossBullet bullet = new BossBullet(this.boss.getPositionX() + this.boss.getWidth()/ 2, this.boss.getPositionY() + boss.getHeight(),i,4,6,10,PatternBulletType.PINNED);
+				BossBullet bullet = BulletPool.getBossBullet(this.boss.getPositionX() + this.boss.getWidth()/ 2, this.boss.getPositionY() + boss.getHeight(),i,4,6,10,PatternBulletType.PINNED);
 				bullets.add(bullet);
 			}
 		}
@@ -56,6 +57,6 @@ public class PinnedBossPattern extends BossPattern {
 	@Override
 	public Set<Bullet> getBullets(){
 		this.bullets.addAll(backGroundPattern.getBullets());
-		return bullets;
+		return super.getBullets();
 	}
 }
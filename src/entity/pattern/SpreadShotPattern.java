@@ -5,6 +5,7 @@ import engine.core.Core;
 import entity.*;
 import entity.base.HasBounds;
 import entity.bullet.BossBullet;
+import entity.bullet.BulletPool;
 
 import java.awt.*;
 import java.util.logging.Logger;
@@ -114,7 +115,7 @@ public class SpreadShotPattern extends BossPattern {
 
 		if (vx == 0 && vy == 0) vy = 1;
 
-		BossBullet bullet = new BossBullet(
+		BossBullet bullet = BulletPool.getBossBullet(
 				gunX,
 				gunY,
 				vx,
@@ -2,6 +2,7 @@ package entity.pattern;
 
 import engine.core.Cooldown;
 import entity.base.HasBounds;
+import entity.bullet.BulletPool;
 import entity.bullet.LaserBeam;
 import entity.ship.Ship;
 
@@ -20,6 +21,8 @@ public class TimeGapAttackPattern extends BossPattern {
 	private Point targetPosition;
 
 	private boolean isUpdated=false;
+	/** Runs from the last shot for as long as its laser charges and stays. */
+	private final Cooldown lastLaserCooldown = new Cooldown(0);
 
     private List<Ship> ships;
 
@@ -53,11 +56,22 @@ public class TimeGapAttackPattern extends BossPattern {
 			int randomX = (int) (Math.random() * screenWidth);
 			int randomY = (int) (Math.random() * screenHeight);
 			Point initBulletPosition = new Point(randomX,randomY);
-			LaserBeam laserBeam = new LaserBeam(initBulletPosition, targetPosition, chargeCooldownMilli, remainCooldownMilli);
+			LaserBeam laserBeam = BulletPool.getLaserBeam(initBulletPosition, targetPosition, chargeCooldownMilli, remainCooldownMilli);
 			this.lasers.add(laserBeam);
+			this.lastLaserCooldown.setMilliseconds(chargeCooldownMilli + remainCooldownMilli);
+			this.lastLaserCooldown.reset();
 		}
 	}
 
+	/**
+	 * Checks whether a laser is waiting to be handed out, or was shot
+	 * recently enough to still be charging or firing.
+	 */
+	@Override
+	public boolean hasLiveLasers() {
+		return super.hasLiveLasers() || !this.lastLaserCooldown.checkFinished();
+	}
+
 	@Override
 	public void move() {
 		int targetCenterX = screenWidth  / 2;
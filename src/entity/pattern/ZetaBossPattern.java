@@ -99,6 +99,8 @@ public class ZetaBossPattern extends BossPattern implements IBossPattern {
 
     // Movement pattern
     private BossPattern movementPattern;
+    /** Bullets of all sub-patterns, refilled by every getBullets call. */
+    private final Set<Bullet> collectedBullets = new java.util.HashSet<>();
 
     /**
      * Creates a new Zeta boss pattern controller.
@@ -401,7 +403,8 @@ public class ZetaBossPattern extends BossPattern implements IBossPattern {
 
     @Override
     public Set<Bullet> getBullets() {
-        Set<Bullet> allBullets = new java.util.HashSet<>();
+        Set<Bullet> allBullets = this.collectedBullets;
+        allBullets.clear();
 
         if (movementPattern != null) {
             allBullets.addAll(movementPattern.getBullets());
@@ -2,6 +2,7 @@ package entity.pattern;
 
 import engine.core.Cooldown;
 import entity.bullet.BossBullet;
+import entity.bullet.BulletPool;
 import entity.base.HasBounds;
 
 public class ZigZagAngryPattern extends ZigZagPattern {
@@ -16,8 +17,8 @@ public class ZigZagAngryPattern extends ZigZagPattern {
 	public void attack(){
 		if (this.shootCooldown.checkFinished()) {
 			this.shootCooldown.reset();
-			BossBullet bullet1 = new BossBullet(boss.getPositionX() + boss.getWidth() / 2 - 3 + 70, boss.getPositionY(), 0, 5,6,10, PatternBulletType.ZIGZAG_ANGRY);
-			BossBullet bullet2 = new BossBullet(boss.getPositionX() + boss.getWidth() / 2 - 3 - 70, boss.getPositionY(), 0, 5,6,10, PatternBulletType.ZIGZAG_ANGRY);
+			BossBullet bullet1 = BulletPool.getBossBullet(boss.getPositionX() + boss.getWidth() / 2 - 3 + 70, boss.getPositionY(), 0, 5,6,10, PatternBulletType.ZIGZAG_ANGRY);
+			BossBullet bullet2 = BulletPool.getBossBullet(boss.getPositionX() + boss.getWidth() / 2 - 3 - 70, boss.getPositionY(), 0, 5,6,10, PatternBulletType.ZIGZAG_ANGRY);
 			bullets.add(bullet1);
 			bullets.add(bullet2);
 		}
@@ -7,6 +7,7 @@ import entity.Entity;
 import entity.GameConstant;
 import entity.GameModel;
 import entity.base.Collidable;
+import entity.base.CollisionLayer;
 import entity.bullet.BossBullet;
 import entity.bullet.Bullet;
 
@@ -255,6 +256,11 @@ public class EnemyShip extends Entity implements Collidable {
 		}
 	}
 
+	@Override
+	public CollisionLayer getCollisionLayer() {
+		return CollisionLayer.ENEMY;
+	}
+
 	@Override
 	public void onCollision(Collidable other, GameModel model) {
 		other.onCollideWithEnemyShip(this, model);
@@ -2,12 +2,14 @@ package entity.ship;
 
 import audio.SoundManager;
 import engine.core.Cooldown;
+import engine.core.SimulationClock;
 import engine.view.DrawManager.SpriteType;
 import entity.Entity;
 import entity.GameConstant;
 import entity.GameModel;
 import entity.base.BossEntity;
 import entity.base.Collidable;
+import entity.base.CollisionLayer;
 import entity.bullet.*;
 import entity.item.DropItem;
 import entity.item.ShopItem;
@@ -158,7 +160,7 @@ public class Ship extends Entity implements Collidable {
 
 		if (teleportCooldown.checkFinished()) return 1f;
 
-		long now = System.currentTimeMillis();
+		long now = SimulationClock.currentTimeMillis();
 		long passed = now - teleportCooldown.getStartTime();
 		float ratio = (float) passed / teleportCooldown.getDuration();
 
@@ -244,7 +246,7 @@ public class Ship extends Entity implements Collidable {
                 int bombX = centerX - bombWidth / 2;
                 int bombY = positionY - bombHeight;
 
-                Bullet b = new BombBullet(bombX, bombY, speed, bombWidth ,bombHeight);
+                Bullet b = BulletPool.getBombBullet(bombX, bombY, speed);
 				b.setOwnerId(this.playerId);
 				bullets.add(b);
 
@@ -564,6 +566,11 @@ public class Ship extends Entity implements Collidable {
     }
 
 
+    @Override
+	public CollisionLayer getCollisionLayer() {
+		return CollisionLayer.PLAYER;
+	}
+
     @Override
 	public void onCollision(Collidable other, GameModel model) {
 		if (model.isLevelFinished()) return;
@@ -1,6 +1,7 @@
 package entity.skills;
 
 import audio.SoundManager;
+import engine.core.SimulationClock;
 import entity.ship.Ship;
 import entity.pattern.ISkill;
 
@@ -47,7 +48,7 @@ public class ChargingSkill implements ISkill {
      * Updates the charging skill state, handling charge completion and laser duration.
      */
     public void update() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = SimulationClock.currentTimeMillis();
 
         // Check if charging is complete (5 seconds)
         if (isCharging && (currentTime - chargeStartTime) >= CHARGE_DURATION) {
@@ -68,7 +69,7 @@ public class ChargingSkill implements ISkill {
     public void startCharging() {
         if (ship == null)
             return;
-        long currentTime = System.currentTimeMillis();
+        long currentTime = SimulationClock.currentTimeMillis();
 
         // Check if skill is on cooldown
         if (currentTime - lastChargingSkillUse < COOLDOWN_DURATION) {
@@ -112,7 +113,7 @@ public class ChargingSkill implements ISkill {
         // Stop charging and activate laser
         isCharging = false;
         isLaserActive = true;
-        laserStartTime = System.currentTimeMillis();
+        laserStartTime = SimulationClock.currentTimeMillis();
         lastChargingSkillUse = laserStartTime;
 
         // Play sound effect
@@ -129,7 +130,7 @@ public class ChargingSkill implements ISkill {
             return 0.0;
         }
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = SimulationClock.currentTimeMillis();
         long elapsedTime = currentTime - chargeStartTime;
         double progress = (double) elapsedTime / CHARGE_DURATION;
 
@@ -141,7 +142,7 @@ public class ChargingSkill implements ISkill {
      * @return Cooldown progress percentage (0.0 = ready, 1.0 = just used)
      */
     public double getCooldownProgress() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = SimulationClock.currentTimeMillis();
         long timeSinceUse = currentTime - lastChargingSkillUse;
 
         if (timeSinceUse >= COOLDOWN_DURATION) {
@@ -173,7 +174,7 @@ public class ChargingSkill implements ISkill {
      * @return True if skill is ready
      */
     public boolean isChargingSkillReady() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = SimulationClock.currentTimeMillis();
         return (currentTime - lastChargingSkillUse) >= COOLDOWN_DURATION;
     }
 
@@ -1,6 +1,7 @@
 package entity.skills;
 
 import engine.core.Cooldown;
+import engine.core.SimulationClock;
 import entity.*;
 import entity.pattern.ISkill;
 import entity.ship.EnemyShip;
@@ -42,7 +43,7 @@ public class OriginSkill implements ISkill {
         GameModel.setUsed_origin(true);
         GameModel.setOrigin_skill_activated(true);
 
-        this.startTime = System.currentTimeMillis();
+        this.startTime = SimulationClock.currentTimeMillis();
 
         int instantDamage = (int) (TOTAL_DAMAGE * 0.2);
         applyDamageToAll(instantDamage);
@@ -72,7 +73,7 @@ public class OriginSkill implements ISkill {
     public void update() {
         if (!active) return;
 
-        long now = System.currentTimeMillis();
+        long now = SimulationClock.currentTimeMillis();
         long elapsed = now - startTime;
         if (elapsed >= DURATION_MS) {
             active = false;
@@ -48,7 +48,6 @@ public class AchievementScreen extends Screen {
     @Override
     protected void update() {
         super.update();
-        draw();
         if (inputManager.isKeyDown(KeyEvent.VK_ESCAPE)) {
             this.isRunning = false;
         }
@@ -57,10 +56,14 @@ public class AchievementScreen extends Screen {
     /**
      * Draws the achievements on the screen.
      */
-    private void draw() {
+    @Override
+    protected void draw() {
         drawManager.initDrawing(this.width, this.height);
-        List<Achievement> achievements = AchievementManager.getInstance().getAchievements();
-        drawManager.getUIRenderer().drawAchievements(this.width,this.height, achievements);
+        // Nothing moves on this screen, draw it once and reuse it
+        drawManager.getBackgroundRenderer().drawStaticLayer(this, this.width, this.height, () -> {
+            List<Achievement> achievements = AchievementManager.getInstance().getAchievements();
+            drawManager.getUIRenderer().drawAchievements(this.width, this.height, achievements);
+        });
         drawManager.completeDrawing();
     }
 }
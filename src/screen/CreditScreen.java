@@ -83,25 +83,28 @@ public class CreditScreen extends Screen {
     @Override
     protected final void update() {
         super.update();
-        draw();
         // Pressing the spacebar will exit the screen.
         if (inputManager.isKeyDown(KeyEvent.VK_SPACE) && this.inputDelay.checkFinished()) {
             this.isRunning = false;
         }
     }
 
-    private void draw() {
+    @Override
+    protected void draw() {
 
         drawManager.initDrawing(this.width,this.height);
 
-        drawManager.getUIRenderer().drawCreditsMenu(this.width,this.height);
-        drawManager.getUIRenderer().drawCredits(
-                this.width,
-                this.height,
-                creditList.stream()
-                        .map(c -> c.getTeamName() + " - " + c.getRole())
-                        .toList()
-        );
+        // Nothing moves on this screen, draw it once and reuse it
+        drawManager.getBackgroundRenderer().drawStaticLayer(this, this.width, this.height, () -> {
+            drawManager.getUIRenderer().drawCreditsMenu(this.width,this.height);
+            drawManager.getUIRenderer().drawCredits(
+                    this.width,
+                    this.height,
+                    creditList.stream()
+                            .map(c -> c.getTeamName() + " - " + c.getRole())
+                            .toList()
+            );
+        });
 
         drawManager.completeDrawing();
     }
@@ -3,8 +3,10 @@ package screen;
 import engine.core.Cooldown;
 import engine.DTO.HUDInfoDTO;
 import engine.core.GameState;
+import engine.core.TickProfiler;
 import entity.level.Level;
 import engine.view.GameView;
+import engine.view.RenderThread;
 import entity.GameConstant;
 import entity.GameModel;
 import entity.ship.Ship;
@@ -29,6 +31,15 @@ public class GameScreen extends Screen {
     /** MVC Components */
     private GameModel model;   // Model
     private GameView view;     // View
+    /** Draws the frames published by the game loop. */
+    private RenderThread renderThread;
+
+    /** Key toggling the profiler overlay. */
+    private static final int PROFILER_OVERLAY_KEY = KeyEvent.VK_F3;
+    /** Frame timings of the game loop. */
+    private final TickProfiler profiler = TickProfiler.getInstance();
+    /** True if the overlay key was down last frame, toggles on press only. */
+    private boolean profilerKeyDown;
 
     /**
      * Constructor, establishes the properties of the screen.
@@ -79,11 +90,19 @@ public class GameScreen extends Screen {
     }
 
     /**
-     * Game loop.
+     * Game loop. The screen is drawn by a render thread for as long as
+     * the level runs.
      */
     @Override
     public final int run() {
-        super.run();
+        this.renderThread = new RenderThread(this.view, this.fps);
+        this.renderThread.start();
+        try {
+            super.run();
+        } finally {
+            // The next screen draws on the window from this thread.
+            this.renderThread.stop();
+        }
 
         int finalScore = this.model.calculateFinalScore();
         this.logger.info("Screen cleared with a score of " + finalScore);
@@ -96,8 +115,15 @@ public class GameScreen extends Screen {
      */
     @Override
     protected final void update() {
+        profiler.beginFrame();
         super.update();
 
+        boolean overlayKey = inputManager.isKeyDown(PROFILER_OVERLAY_KEY);
+        if (overlayKey && !profilerKeyDown) {
+            profiler.toggleOverlay();
+        }
+        profilerKeyDown = overlayKey;
+
         // Input Handling
         if (this.inputDelay.checkFinished() && !this.model.isLevelFinished()) {
 
@@ -119,9 +145,12 @@ public class GameScreen extends Screen {
             this.model.updateElapsedTime();
         }
 
-        // Create DTO and render via View
+        // Create DTO and hand the frame to the View
         HUDInfoDTO hudInfo = createHUDInfoDTO();
-        this.view.render(hudInfo);
+        this.renderThread.publish(hudInfo);
+        if (this.view.consumeOriginFinished()) {
+            this.model.setOrigin_skill_activated(false);
+        }
 
         // Game Over / Level Finish check
         if (this.model.isGameOver() && !this.model.isLevelFinished()) {
@@ -132,6 +161,7 @@ public class GameScreen extends Screen {
             this.model.processLevelCompletion();
             this.isRunning = false;
         }
+        profiler.endFrame();
     }
 	private void handleP1MovementInput() {
 		// Player 1 Input
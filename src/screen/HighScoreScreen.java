@@ -57,7 +57,6 @@ public class HighScoreScreen extends Screen {
 	protected final void update() {
 		super.update();
 
-		draw();
 		if (inputManager.isKeyDown(KeyEvent.VK_SPACE)
 				&& this.inputDelay.checkFinished())
 			this.isRunning = false;
@@ -66,11 +65,15 @@ public class HighScoreScreen extends Screen {
 	/**
 	 * Draws the elements associated with the screen.
 	 */
-	private void draw() {
+	@Override
+	protected void draw() {
 		drawManager.initDrawing(this.width, this.height);
 
-		drawManager.getUIRenderer().drawHighScoreMenu(this.width, this.height);
-		drawManager.getUIRenderer().drawHighScores(this.width, this.height, this.highScores);
+		// Nothing moves on this screen, draw it once and reuse it
+		drawManager.getBackgroundRenderer().drawStaticLayer(this, this.width, this.height, () -> {
+			drawManager.getUIRenderer().drawHighScoreMenu(this.width, this.height);
+			drawManager.getUIRenderer().drawHighScores(this.width, this.height, this.highScores);
+		});
 
 		drawManager.completeDrawing();
 	}
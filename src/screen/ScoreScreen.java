@@ -107,7 +107,6 @@ public class ScoreScreen extends Screen {
 	protected final void update() {
 		super.update();
 
-		draw();
 		if (this.inputDelay.checkFinished()) {
             ShopItem.resetAllItems();
             OriginSkill.resetUsed();
@@ -174,7 +173,8 @@ public class ScoreScreen extends Screen {
 	/**
 	 * Draws the elements associated with the screen.
 	 */
-	private void draw() {
+	@Override
+	protected void draw() {
 		drawManager.initDrawing(this.width,this.height);
 
 		drawManager.getUIRenderer().drawGameOver(this.width,this.height, this.inputDelay.checkFinished(),
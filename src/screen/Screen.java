@@ -6,6 +6,7 @@ import java.util.logging.Logger;
 
 import engine.core.Cooldown;
 import engine.core.Core;
+import engine.core.SimulationClock;
 import engine.view.DrawManager;
 import engine.core.InputManager;
 
@@ -18,6 +19,8 @@ import engine.core.InputManager;
 public class Screen {
 	/** Milliseconds until the screen accepts user input. */
 	private static final int INPUT_DELAY = 1000;
+	/** Most ticks run back to back to catch up after a stall. */
+	private static final int MAX_CATCH_UP_TICKS = 5;
 
 	/** Draw Manager instance. */
 	protected DrawManager drawManager;
@@ -74,21 +77,43 @@ public class Screen {
 
 	/**
 	 * Activates the screen.
+	 * Runs update() at a fixed rate, advancing the simulation clock by one
+	 * tick each time. Real time is accumulated so missed ticks are caught up
+	 * instead of slowing the game down; only update() is repeated to catch
+	 * up, and draw() runs once after the ticks of each pass.
 	 * 
 	 * @return Next screen code.
 	 */
 	public int run() {
 		this.isRunning = true;
 
-		while (this.isRunning) {
-			long time = System.currentTimeMillis();
+		final long tickNanos = SimulationClock.tickNanos(this.fps);
+		SimulationClock.takeOwnership();
+		long previous = System.nanoTime();
+		long accumulator = tickNanos;
 
-			update();
+		while (this.isRunning) {
+			long now = System.nanoTime();
+			accumulator += now - previous;
+			previous = now;
+			// Drop time we can't catch up on rather than spiralling.
+			accumulator = Math.min(accumulator, tickNanos * MAX_CATCH_UP_TICKS);
+
+			int ticks = 0;
+			while (accumulator >= tickNanos && this.isRunning) {
+				SimulationClock.advance(tickNanos);
+				update();
+				accumulator -= tickNanos;
+				ticks++;
+			}
+			if (ticks > 0) {
+				draw();
+			}
 
-			time = (1000 / this.fps) - (System.currentTimeMillis() - time);
-			if (time > 0) {
+			long wait = tickNanos - accumulator - (System.nanoTime() - previous);
+			if (wait > 0) {
 				try {
-					TimeUnit.MILLISECONDS.sleep(time);
+					TimeUnit.NANOSECONDS.sleep(wait);
 				} catch (InterruptedException e) {
 					return 0;
 				}
@@ -104,6 +129,13 @@ public class Screen {
 	protected void update() {
 	}
 
+	/**
+	 * Draws the screen, once per pass of the loop however many ticks it ran.
+	 * Screens drawn by a thread of their own leave it empty.
+	 */
+	protected void draw() {
+	}
+
 	/**
 	 * Getter for screen width.
 	 * 
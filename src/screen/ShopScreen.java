@@ -120,6 +120,10 @@ public class ShopScreen extends Screen {
                 gameState.getCoin() + " coins. BetweenLevels=" + betweenLevels);
 		SoundManager.stopAll();
         SoundManager.playLoop("sfx/Shop.wav");
+        if (betweenLevels) {
+            // The next level's music is opened while the shop is shown.
+            SoundManager.prepareMusic(SoundManager.levelMusic(gameState.getLevel() + 1));
+        }
     }
 
 
@@ -162,8 +166,6 @@ public class ShopScreen extends Screen {
     protected final void update() {
         super.update();
 
-        draw();
-
         if (this.selectionCooldown.checkFinished()
                 && this.inputDelay.checkFinished()) {
 
@@ -386,7 +388,8 @@ public class ShopScreen extends Screen {
     /**
      * Draws the elements associated with the screen.
      */
-    private void draw() {
+    @Override
+    protected void draw() {
         drawManager.initDrawing(this.width,this.height);
 
         ShopInfoDTO dto = createShopInfoDTO();
@@ -183,6 +183,7 @@ public class TitleScreen extends Screen {
         }
 
 		// Animate stars in their non-rotating space
+		final double twinklePhase = System.currentTimeMillis() / 500.0;
 		for (Star star : this.stars) {
 			star.baseY += star.speed;
 			if (star.baseY > this.getHeight()) {
@@ -190,7 +191,7 @@ public class TitleScreen extends Screen {
 				star.baseX = (float) (Math.random() * this.getWidth());
 			}
 			// Update brightness for twinkling effect
-			star.brightness = 0.5f + (float) (Math.sin(star.brightnessOffset + System.currentTimeMillis() / 500.0) + 1.0) / 4.0f;
+			star.brightness = 0.5f + (float) (Math.sin(star.brightnessOffset + twinklePhase) + 1.0) / 4.0f;
 		}
 
 		// Spawn and move background enemies
@@ -244,7 +245,6 @@ public class TitleScreen extends Screen {
             this.soundButton.setColor(Color.WHITE);
         }
 
-		draw();
 		if (this.selectionCooldown.checkFinished()
 				&& this.inputDelay.checkFinished()) {
 			if (inputManager.isKeyDown(KeyEvent.VK_UP)
@@ -329,14 +329,19 @@ public class TitleScreen extends Screen {
 	/**
 	 * Draws the elements associated with the screen.
 	 */
-	private void draw() {
+	@Override
+	protected void draw() {
 		drawManager.initDrawing(this.width, this.height);
 
+		// Title and controls only change with the screen size, keep them in the cached layer
+		drawManager.getBackgroundRenderer().drawStaticLayer(this, this.width, this.height,
+				() -> drawManager.getUIRenderer().drawTitle(this.width, this.height));
+
 		// Draw stars with rotation
 		drawManager.drawStars(this.width,this.height, this.stars, this.currentAngle);
 
 		// Draw shooting stars with rotation
-        drawManager.drawShootingStars( this.shootingStars, this.currentAngle);
+        drawManager.drawShootingStars(this.width, this.height, this.shootingStars, this.currentAngle);
 
 		// Draw background enemies with rotation
 		final double angleRad = Math.toRadians(this.currentAngle);
@@ -358,7 +363,6 @@ public class TitleScreen extends Screen {
 			drawManager.getEntityRenderer().drawEntity(enemy, screenX, screenY);
 		}
 
-		drawManager.getUIRenderer().drawTitle(this.width,this.height);
 		drawManager.getUIRenderer().drawMenu(this.width,this.height, this.returnCode);
 		drawManager.getEntityRenderer().drawEntity(this.soundButton, this.width * 4 / 5 - 16,
 				this.height * 4 / 5 - 16);
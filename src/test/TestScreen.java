@@ -73,8 +73,13 @@ public class TestScreen extends Screen {
 			// 2. (Controller) Tell Model to update all game logic
 			this.model.update();
 		}
+	}
 
-		// 3. (Controller) Tell View to draw the current Model state
+	/**
+	 * 3. (Controller) Tells View to draw the current Model state.
+	 */
+	@Override
+	protected final void draw() {
 		this.view.render(createHUDInfoDTO());
 	}
 	/**
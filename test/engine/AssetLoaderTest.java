@@ -0,0 +1,50 @@
+package engine;
+
+import engine.core.AssetLoader;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the progress and the load-time report of the asset loader.
+ */
+class AssetLoaderTest {
+
+    @Test
+    void testEveryAssetIsReportedOnceLoaded() {
+        // 1. Given a loader with a working and a failing asset,
+        AssetLoader assets = new AssetLoader(2);
+        Future<String> text = assets.submit("text", AssetLoader.Kind.FONT, () -> "loaded");
+        Future<String> broken = assets.submit("broken", AssetLoader.Kind.IMAGE, () -> {
+            throw new IOException("unreadable");
+        });
+
+        // 2. Awaiting them should return the asset, or null for the failure,
+        assertEquals("loaded", AssetLoader.await(text, "text"), "The asset should be returned.");
+        assertNull(AssetLoader.await(broken, "broken"), "A failed asset should be null.");
+        assets.shutdown();
+
+        // 3. And both should count as done and appear in the report.
+        assertTrue(assets.isDone(), "Every task should be done.");
+        assertEquals(1f, assets.getProgress(), "Progress should be complete.");
+        List<String> report = assets.report();
+        assertEquals(3, report.size(), "One line per asset plus the total should be reported.");
+        assertTrue(report.stream().anyMatch(line -> line.contains("broken") && line.contains("(failed)")),
+                "The failed asset should be marked.");
+    }
+
+    @Test
+    void testProgressWithoutAssetsIsComplete() {
+        // 1. Given a loader nothing was submitted to,
+        AssetLoader assets = new AssetLoader(1);
+
+        // 2. There should be nothing left to wait for.
+        assertTrue(assets.isDone(), "An empty loader should be done.");
+        assertEquals(1f, assets.getProgress(), "An empty loader should report full progress.");
+        assets.shutdown();
+    }
+}
@@ -0,0 +1,101 @@
+package engine;
+
+import audio.AudioCommandQueue;
+import audio.AudioMixer;
+import audio.OfflineSink;
+import audio.PcmSample;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that posted sound commands reach the mixer in order, merged and
+ * never blocking, without a sound card.
+ */
+class AudioCommandQueueTest {
+
+    private static final PcmSample HIT = new PcmSample(new short[200]);
+
+    @Test
+    void testCommandsAreCarriedOutBeforeTheNextBlock() {
+        // 1. Given a mixer with a queue of commands,
+        AudioMixer mixer = new AudioMixer(8);
+        AudioCommandQueue commands = new AudioCommandQueue(16, Map.of("hit.wav", HIT)::get);
+        mixer.setCommands(commands);
+
+        // 2. When the same sound is posted ten times in one tick,
+        for (int i = 0; i < 10; i++) {
+            assertTrue(commands.play("hit.wav", "hit.wav", 0, false, 8), "A free queue should take the command.");
+        }
+        assertEquals(0, mixer.activeVoices(), "Posting should not touch the voices.");
+
+        // 3. It should play once when the next block is mixed.
+        OfflineSink sink = OfflineSink.discarding();
+        mixer.render(sink, 1);
+        assertEquals(1, mixer.count("hit.wav"), "Sounds started in the same block should be merged.");
+        assertEquals(9, mixer.getCoalesced(), "The merged sounds should be counted.");
+
+        // 4. A sound posted after its stop should still play, in order.
+        commands.stop("hit.wav");
+        commands.play("hit.wav", "hit.wav", 0, false, 8);
+        commands.play("hit.wav", "loop", 0, true, 1);
+        commands.play("hit.wav", "loop", 0, true, 1);
+        mixer.render(sink, 1);
+        assertEquals(1, mixer.count("hit.wav"), "A sound posted after a stop should play again.");
+        assertEquals(1, mixer.count("loop"), "A single loop should take one voice.");
+        commands.stopAll();
+        mixer.render(sink, 1);
+        assertEquals(0, mixer.activeVoices(), "Stopping everything should free every voice.");
+    }
+
+    @Test
+    void testFullQueueDropsCommandsInsteadOfWaiting() {
+        // 1. Given a queue of four commands nobody drains,
+        AudioMixer mixer = new AudioMixer(8);
+        AudioCommandQueue commands = new AudioCommandQueue(4, Map.of("hit.wav", HIT)::get);
+
+        // 2. Posting a fifth command should fail at once and be counted.
+        for (int i = 0; i < 4; i++) {
+            assertTrue(commands.stop("voice" + i), "The queue should take as many commands as it holds.");
+        }
+        assertFalse(commands.stop("voice4"), "A full queue should drop the command.");
+        assertEquals(1, commands.getOverflows(), "The dropped command should be counted.");
+
+        // 3. Once drained, it should take commands again.
+        assertEquals(4, commands.drainTo(mixer), "Every waiting command should be carried out.");
+        assertTrue(commands.play("hit.wav", "hit.wav", 0, false, AudioCommandQueue.UNLIMITED), "A drained queue should have room.");
+    }
+
+    @Test
+    void testCommandsFromSeveralThreadsAreAllCarriedOut() throws InterruptedException {
+        // 1. Given four threads posting 1000 sounds each with distinct names,
+        AudioMixer mixer = new AudioMixer(1);
+        AudioCommandQueue commands = new AudioCommandQueue(4096, Map.of("hit.wav", HIT)::get);
+        Thread[] posters = new Thread[4];
+        for (int t = 0; t < posters.length; t++) {
+            final int id = t;
+            posters[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    commands.play("hit.wav", id + ":" + i, 0, false, AudioCommandQueue.UNLIMITED);
+                }
+            });
+            posters[t].start();
+        }
+
+        // 2. While the mixer drains them,
+        int carried = 0;
+        while (carried < 4000) {
+            carried += commands.drainTo(mixer);
+        }
+        for (Thread poster : posters) {
+            poster.join();
+        }
+
+        // 3. Every command should be carried out once.
+        assertEquals(4000, carried, "No command should be lost or repeated.");
+        assertEquals(0, commands.getOverflows(), "A queue large enough should drop nothing.");
+        assertEquals(3999, mixer.getStolen(), "Each sound should have taken over the single voice.");
+    }
+}
@@ -0,0 +1,111 @@
+package engine;
+
+import audio.AudioMixer;
+import audio.OfflineSink;
+import audio.PcmSample;
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the software mixer on an offline sink, without a sound card.
+ */
+class AudioMixerTest {
+
+    /** A stereo sound of the given length with every sample set to value. */
+    private static PcmSample constant(int frames, int value) {
+        short[] data = new short[frames * 2];
+        java.util.Arrays.fill(data, (short) value);
+        return new PcmSample(data);
+    }
+
+    /** Left sample of a frame of 16 bit little-endian stereo bytes. */
+    private static int left(byte[] bytes, int frame) {
+        return (short) ((bytes[frame * 4] & 0xFF) | bytes[frame * 4 + 1] << 8);
+    }
+
+    @Test
+    void testVoicesAreAddedAndClipped() {
+        // 1. Given a short sound and a long one playing together,
+        AudioMixer mixer = new AudioMixer(4);
+        mixer.play(constant(2, 10000), "short", 0, false);
+        mixer.play(constant(4, 30000), "long", 0, false);
+
+        // 2. When four frames are mixed into an offline sink,
+        OfflineSink sink = new OfflineSink(64);
+        assertEquals(16, mixer.render(sink, 4), "Four stereo frames should be four bytes each.");
+        byte[] out = sink.toByteArray();
+
+        // 3. The sum should be clipped to 16 bits, and the short sound should end on its own.
+        assertEquals(Short.MAX_VALUE, left(out, 0), "Overflowing sums should be clipped.");
+        assertEquals(30000, left(out, 3), "Only the long sound should be left at the end.");
+        assertEquals(0, mixer.count("short"), "A finished sound should free its voice.");
+    }
+
+    @Test
+    void testLoopingVoiceStartsOver() {
+        // 1. Given a looping sound of two frames,
+        short[] data = {1, 1, 2, 2};
+        AudioMixer mixer = new AudioMixer(1);
+        mixer.play(new PcmSample(data), "loop", 0, true);
+
+        // 2. Mixing five frames should repeat it until stopped.
+        OfflineSink sink = new OfflineSink(64);
+        mixer.render(sink, 5);
+        byte[] out = sink.toByteArray();
+        assertEquals(1, left(out, 4), "The loop should start over after its last frame.");
+        mixer.stop("loop");
+        assertEquals(0, mixer.activeVoices(), "A stopped loop should free its voice.");
+    }
+
+    @Test
+    void testBusyVoicesAreStolenByPriority() {
+        // 1. Given a mixer with two voices busy with unimportant sounds,
+        AudioMixer mixer = new AudioMixer(2);
+        mixer.play(constant(100, 1), "long", 0, false);
+        mixer.play(constant(10, 1), "short", 0, false);
+
+        // 2. A more important sound should take the voice closest to its end.
+        assertTrue(mixer.play(constant(10, 1), "music", 3, true) >= 0, "An important sound should get a voice.");
+        assertEquals(0, mixer.count("short"), "The voice with the fewest frames left should be stolen.");
+        assertEquals(1, mixer.getStolen(), "The stolen voice should be counted.");
+
+        // 3. Once only more important sounds play, new unimportant ones should be dropped.
+        mixer.play(constant(10, 1), "music2", 3, true);
+        assertEquals(-1, mixer.play(constant(10, 1), "hit", 0, false), "A sound less important than all voices should be dropped.");
+        assertEquals(1, mixer.getDropped(), "The dropped sound should be counted.");
+    }
+
+    @Test
+    void testMonoFileIsDecodedToStereoAtTheMixerRate() throws Exception {
+        // 1. Given a mono WAV file of 4800 frames at 48 kHz,
+        AudioFormat format = new AudioFormat(48000f, 16, 1, true, false);
+        byte[] pcm = new byte[4800 * 2];
+        for (int i = 0; i < 4800; i++) {
+            pcm[i * 2] = (byte) 100;
+        }
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        AudioSystem.write(new AudioInputStream(new ByteArrayInputStream(pcm), format, 4800),
+                AudioFileFormat.Type.WAVE, file);
+
+        // 2. When it is decoded,
+        PcmSample sample = PcmSample.decode(file.toByteArray());
+
+        // 3. It should last as long at 44.1 kHz, with the sound on both channels.
+        assertEquals(4410, sample.frames(), "A tenth of a second should be 4410 frames.");
+        AudioMixer mixer = new AudioMixer(1);
+        mixer.play(sample, "mono", 0, false);
+        OfflineSink sink = new OfflineSink(16);
+        mixer.render(sink, 1);
+        byte[] out = sink.toByteArray();
+        assertEquals(100, left(out, 0), "The left channel should carry the sound.");
+        assertEquals(100, (short) ((out[2] & 0xFF) | out[3] << 8), "The right channel should copy it.");
+    }
+}
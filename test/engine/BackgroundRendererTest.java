@@ -0,0 +1,57 @@
+package engine;
+
+import engine.view.BackBuffer;
+import engine.view.renderer.BackgroundRenderer;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the palette and the static layer cache of the background renderer.
+ */
+class BackgroundRendererTest {
+
+    @Test
+    void testGreysComeFromTheSharedPalette() {
+        // 1. Given two lookups of the same brightness,
+        Color first = BackgroundRenderer.grey(0.5f);
+        Color second = BackgroundRenderer.grey(0.5f);
+
+        // 2. They should return the same colour instead of building a new one.
+        assertSame(first, second, "The same brightness should reuse the palette colour.");
+        assertEquals(new Color(128, 128, 128), first, "Half brightness should be a middle grey.");
+
+        // 3. Brightness outside 0 to 1 should be clamped.
+        assertEquals(Color.BLACK, BackgroundRenderer.grey(-0.2f), "Negative brightness should be black.");
+        assertEquals(Color.WHITE, BackgroundRenderer.grey(1.3f), "Brightness above 1 should be white.");
+    }
+
+    @Test
+    void testStaticLayerIsOnlyDrawnWhenItChanges() {
+        // 1. Given a background renderer and a painter drawing through the back buffer,
+        BackBuffer backBuffer = new BackBuffer(null);
+        BackgroundRenderer renderer = new BackgroundRenderer(backBuffer);
+        Runnable painter = () -> {
+            Graphics g = backBuffer.getGraphics();
+            g.setColor(Color.GREEN);
+            g.fillRect(0, 0, 1, 1);
+        };
+
+        // 2. When the same layer is asked for twice, it should be drawn once.
+        BufferedImage layer = renderer.staticLayer("title", 4, 3, painter);
+        assertSame(layer, renderer.staticLayer("title", 4, 3, painter), "An unchanged layer should be reused.");
+        assertEquals(1, renderer.getStaticBuilds(), "An unchanged layer should not be drawn again.");
+        assertEquals(Color.GREEN.getRGB(), layer.getRGB(0, 0), "The painter should draw on the layer.");
+        assertEquals(Color.BLACK.getRGB(), layer.getRGB(3, 2), "The layer should start black.");
+        assertNull(backBuffer.getGraphics(), "The back buffer should be drawn on again after the layer.");
+
+        // 3. When the key or the size changes, it should be drawn again.
+        renderer.staticLayer("scores", 4, 3, painter);
+        renderer.staticLayer("scores", 5, 3, painter);
+        assertEquals(3, renderer.getStaticBuilds(), "A new key or size should draw the layer again.");
+    }
+}
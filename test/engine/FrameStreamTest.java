@@ -0,0 +1,50 @@
+package engine;
+
+import engine.view.renderer.AnimationLoader;
+import engine.view.renderer.FrameStream;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the bounded window of the streamed animation frames.
+ */
+class FrameStreamTest {
+
+    private static File frames(final int count) throws IOException {
+        File folder = Files.createTempDirectory("frames").toFile();
+        folder.deleteOnExit();
+        for (int i = 0; i < count; i++) {
+            BufferedImage image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+            image.setRGB(0, 0, i);
+            File file = new File(folder, String.format("frame_%02d.png", i));
+            ImageIO.write(image, "png", file);
+            file.deleteOnExit();
+        }
+        return folder;
+    }
+
+    @Test
+    void testFramesAreDecodedInOrderWithinTheWindow() throws IOException {
+        // 1. Given a folder of ten frames streamed with a window of three,
+        FrameStream stream = new FrameStream(new AnimationLoader(), frames(10).getPath(), 3);
+        assertEquals(10, stream.length(), "Every frame file should be listed.");
+        assertEquals(0, stream.getResidentFrames(), "Nothing should be decoded up front.");
+
+        // 2. The first frame has nothing to fall back on and should be waited for,
+        assertEquals(0, stream.get(0).getRGB(0, 0) & 0xFFFFFF, "The first frame should be the first file.");
+
+        // 3. And moving on should drop the frames behind the shown one.
+        stream.get(5);
+        assertTrue(stream.getResidentFrames() <= 3, "At most a window of frames should be held.");
+        stream.releaseAll();
+        assertEquals(0, stream.getResidentFrames(), "Releasing should drop every frame.");
+        assertNull(stream.get(10), "Out of range frames should be null.");
+    }
+}
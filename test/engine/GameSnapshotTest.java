@@ -0,0 +1,83 @@
+package engine;
+
+import engine.core.GameSnapshot;
+import engine.core.GameState;
+import entity.item.ShopItem;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that a game saved between levels is resumed as it was, and that
+ * damaged saves are refused.
+ */
+class GameSnapshotTest {
+
+    private static GameState sampleState() {
+        GameState state = new GameState(4, 1500, 900, 600, 3, 2, 120, 45, 2300);
+        state.setHittingCnt(80);
+        state.setDeathCnt(5);
+        return state;
+    }
+
+    @Test
+    void testMappedSnapshotRestoresTheGame() throws IOException {
+        // 1. Given a game with shop upgrades, saved to a file,
+        byte[] bytes = GameSnapshot.encode(sampleState(), new int[] {1, 5, 2, 3, 4});
+        Path file = Files.createTempFile("savegame", ".dat");
+        Files.write(file, bytes);
+
+        // 2. When the file is mapped and read,
+        GameSnapshot saved = GameSnapshot.map(file);
+        GameState state = saved.toGameState();
+
+        // 3. Every value should be restored, from a compact snapshot.
+        assertEquals(62, bytes.length, "The snapshot should be a few dozen bytes.");
+        assertEquals(GameSnapshot.VERSION, saved.getVersion(), "The snapshot should carry its version.");
+        assertEquals(4, state.getLevel(), "The level should be restored.");
+        assertEquals(1500, state.getScore(), "The score should be restored.");
+        assertEquals(600, state.getScoreP2(), "The second player's score should be restored.");
+        assertEquals(2, state.getLivesRemainingP2(), "The second player's lives should be restored.");
+        assertEquals(2300, state.getCoin(), "The coins should be restored.");
+        assertEquals(80, state.getHittingCnt(), "The hits should be restored.");
+        assertEquals(5, state.getDeathCnt(), "The deaths should be restored.");
+        assertArrayEquals(new int[] {1, 5, 2, 3, 4}, saved.getUpgradeLevels(), "The upgrades should be restored.");
+    }
+
+    @Test
+    void testShopUpgradesAreRestored() throws IOException {
+        // 1. Given upgrades bought in the shop and saved,
+        ShopItem.resetAllItems();
+        ShopItem.setRapidFireLevel(3);
+        ShopItem.setSHIPSPEED(2);
+        byte[] bytes = GameSnapshot.encode(sampleState(), ShopItem.getLevels());
+
+        // 2. When the game is reset and the save restored,
+        ShopItem.resetAllItems();
+        ShopItem.setLevels(GameSnapshot.read(ByteBuffer.wrap(bytes)).getUpgradeLevels());
+
+        // 3. The upgrades should be back.
+        assertEquals(3, ShopItem.getRapidFireLevel(), "Rapid fire should be restored.");
+        assertEquals(2, ShopItem.getShipSpeedLevel(), "Ship speed should be restored.");
+        assertEquals(0, ShopItem.getMultiShotLevel(), "Unbought upgrades should stay at 0.");
+        ShopItem.resetAllItems();
+    }
+
+    @Test
+    void testDamagedSnapshotIsRefused() {
+        // 1. Given a saved game with one changed byte,
+        byte[] bytes = GameSnapshot.encode(sampleState(), new int[] {0, 0, 0, 0, 0});
+        bytes[40] ^= 1;
+
+        // 2. Reading it should fail instead of resuming a wrong game.
+        assertThrows(IOException.class, () -> GameSnapshot.read(ByteBuffer.wrap(bytes)),
+                "A damaged save should be refused.");
+        assertThrows(IOException.class, () -> GameSnapshot.read(ByteBuffer.wrap(new byte[] {1, 2, 3})),
+                "A file that is not a save should be refused.");
+    }
+}
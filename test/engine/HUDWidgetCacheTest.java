@@ -0,0 +1,62 @@
+package engine;
+
+import engine.view.BackBuffer;
+import engine.view.renderer.HUDWidgetCache;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that HUD widgets are only repainted when what they show changes.
+ */
+class HUDWidgetCacheTest {
+
+    private static final int SCORE = 0;
+
+    /** Repaints the score widget if needed, the way the HUD renderer does, and draws it. */
+    private static void drawScore(HUDWidgetCache widgets, BackBuffer backBuffer, int x, int y, int score) {
+        if (!widgets.isCurrent(SCORE, x, y, score, null)) {
+            widgets.beginRepaint(SCORE, x, y, 2, 2, score, null);
+            try {
+                Graphics g = backBuffer.getGraphics();
+                g.setColor(score > 0 ? Color.GREEN : Color.RED);
+                g.fillRect(x, y, 1, 1);
+            } finally {
+                widgets.endRepaint();
+            }
+        }
+        widgets.draw(SCORE);
+    }
+
+    @Test
+    void testWidgetIsRepaintedOnlyWhenItsValuesChange() {
+        // 1. Given a widget cache drawing on a screen image,
+        BufferedImage screen = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
+        Graphics screenGraphics = screen.createGraphics();
+        BackBuffer backBuffer = new BackBuffer(null);
+        backBuffer.beginLayer(screenGraphics);
+        HUDWidgetCache widgets = new HUDWidgetCache(backBuffer, 1);
+
+        // 2. When the same score is drawn on several frames, it should be painted once.
+        drawScore(widgets, backBuffer, 3, 4, 0);
+        drawScore(widgets, backBuffer, 3, 4, 0);
+        assertEquals(1, widgets.getRepaints(), "An unchanged widget should not be repainted.");
+        assertEquals(Color.RED.getRGB(), screen.getRGB(3, 4), "The widget should be drawn where it was painted.");
+        assertSame(screenGraphics, backBuffer.getGraphics(), "The screen should be drawn on again after a repaint.");
+
+        // 3. When the score or its place changes, it should be painted again.
+        drawScore(widgets, backBuffer, 3, 4, 10);
+        assertEquals(Color.GREEN.getRGB(), screen.getRGB(3, 4), "A changed widget should show its new value.");
+        drawScore(widgets, backBuffer, 5, 4, 10);
+        assertEquals(3, widgets.getRepaints(), "A new value or place should repaint the widget.");
+
+        // 4. After being invalidated, every widget should be painted again.
+        widgets.invalidate();
+        drawScore(widgets, backBuffer, 5, 4, 10);
+        assertEquals(4, widgets.getRepaints(), "An invalidated widget should be repainted.");
+    }
+}
@@ -0,0 +1,141 @@
+package engine;
+
+import audio.AudioMixer;
+import audio.MusicStream;
+import audio.OfflineSink;
+import audio.PcmSample;
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that music is streamed without gaps and crossfaded on the mixer.
+ */
+class MusicStreamTest {
+
+    /** A stereo track at the mixer rate with the given left and right samples. */
+    private static MusicStream track(int... samples) {
+        ByteBuffer data = ByteBuffer.allocate(samples.length * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (int sample : samples) {
+            data.putShort((short) sample);
+        }
+        return new MusicStream(data.flip(), 2, AudioMixer.SAMPLE_RATE);
+    }
+
+    /** Left sample of a frame of 16 bit little-endian stereo bytes. */
+    private static int left(byte[] bytes, int frame) {
+        return (short) ((bytes[frame * 4] & 0xFF) | bytes[frame * 4 + 1] << 8);
+    }
+
+    @Test
+    void testLoopingTrackHasNoGap() {
+        // 1. Given a looping track of three frames,
+        MusicStream music = track(1, 1, 2, 2, 3, 3);
+
+        // 2. When seven frames are read in one go,
+        short[] out = new short[14];
+        assertEquals(7, music.read(out, 7), "A looping track should fill every frame.");
+
+        // 3. The first frame should follow the last one directly.
+        assertEquals("[1, 1, 2, 2, 3, 3, 1, 1, 2, 2, 3, 3, 1, 1]", Arrays.toString(out),
+                "The loop should start over without silence.");
+
+        // 4. Without looping, the track should end after its last frame.
+        music.rewind();
+        music.setLooping(false);
+        assertEquals(3, music.read(out, 7), "A track that does not loop should stop at its end.");
+        assertTrue(music.isFinished(), "The track should be finished.");
+    }
+
+    @Test
+    void testNewTrackCrossfadesFromTheCurrentOne() {
+        // 1. Given a mixer playing a track at full volume,
+        AudioMixer mixer = new AudioMixer(1);
+        mixer.playMusic(track(1000, 1000), "a", 0);
+
+        // 2. When another track replaces it with a fade of four frames,
+        mixer.playMusic(track(3000, 3000), "b", 4);
+        OfflineSink sink = new OfflineSink(64);
+        mixer.render(sink, 6);
+        byte[] out = sink.toByteArray();
+
+        // 3. The first should fade out while the second fades in.
+        assertEquals(1000, left(out, 0), "The fade should start on the old track.");
+        assertEquals(2000, left(out, 2), "Halfway, both tracks should play at half volume.");
+        assertEquals(3000, left(out, 4), "After the fade, only the new track should play.");
+        assertEquals("b", mixer.getMusicName(), "The new track should be the music.");
+        assertEquals(0, mixer.activeVoices(), "Music should not take a voice.");
+    }
+
+    @Test
+    void testMappedTrackMatchesTheDecodedSound() throws Exception {
+        // 1. Given a 48 kHz sound file, streamed and decoded whole,
+        MusicStream music = MusicStream.open("sfx/menu_select.wav");
+        PcmSample decoded = PcmSample.decode(Files.readAllBytes(Path.of("res/sfx/menu_select.wav")));
+
+        // 2. When the whole stream is read once,
+        music.setLooping(false);
+        short[] streamed = new short[(decoded.frames() + 8) * 2];
+        int frames = music.read(streamed, decoded.frames() + 8);
+
+        // 3. It should be resampled to the same number of frames, sample for sample.
+        assertEquals(decoded.frames(), frames, 1, "The stream should be resampled to the mixer rate.");
+        AudioMixer mixer = new AudioMixer(1);
+        mixer.play(decoded, "decoded", 0, false);
+        OfflineSink sink = new OfflineSink(4 * 256);
+        mixer.render(sink, 256);
+        byte[] out = sink.toByteArray();
+        for (int frame = 0; frame < 256; frame++) {
+            assertEquals(left(out, frame), streamed[frame * 2], 1, "Frame " + frame + " should match the decoded sound.");
+        }
+    }
+
+    @Test
+    void testEightBitTrackIsDecodedInsteadOfStreamed() throws Exception {
+        // 1. Given an 8 bit unsigned mono WAV file at the mixer rate,
+        byte[] pcm = {(byte) 128, (byte) 192, (byte) 64, (byte) 255};
+        AudioFormat format = new AudioFormat(AudioFormat.Encoding.PCM_UNSIGNED, AudioMixer.SAMPLE_RATE,
+                8, 1, 1, AudioMixer.SAMPLE_RATE, false);
+        ByteArrayOutputStream wav = new ByteArrayOutputStream();
+        AudioSystem.write(new AudioInputStream(new ByteArrayInputStream(pcm), format, pcm.length),
+                AudioFileFormat.Type.WAVE, wav);
+
+        // 2. When it is opened as a track and read once,
+        MusicStream music = MusicStream.fromFile(ByteBuffer.wrap(wav.toByteArray()));
+        music.setLooping(false);
+        short[] out = new short[8];
+        int frames = music.read(out, 4);
+
+        // 3. It should play as 16 bit stereo rather than stay silent.
+        assertEquals(4, frames, "Every frame of the 8 bit track should be read.");
+        int[] expected = {0, 16384, -16384, 32512};
+        for (int frame = 0; frame < 4; frame++) {
+            assertEquals(expected[frame], out[frame * 2], 256, "Frame " + frame + " should be widened to 16 bits.");
+            assertEquals(out[frame * 2], out[frame * 2 + 1], "Frame " + frame + " should play on both channels.");
+        }
+    }
+
+    @Test
+    void testDamagedChunkSizeIsRefused() {
+        // 1. Given a WAV file whose only chunk claims a size that wraps back onto itself,
+        ByteBuffer wav = ByteBuffer.allocate(20).order(ByteOrder.LITTLE_ENDIAN);
+        wav.putInt(0x46464952).putInt(12).putInt(0x45564157); // "RIFF", length, "WAVE"
+        wav.putInt(0x4B4E554A).putInt(0xFFFFFFF8); // "JUNK", size -8 if read signed
+        wav.flip();
+
+        // 2. Opening it should fail rather than loop on the chunk forever.
+        assertThrows(Exception.class, () -> MusicStream.fromFile(wav), "A damaged WAV file should be refused.");
+    }
+}
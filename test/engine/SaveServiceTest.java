@@ -0,0 +1,70 @@
+package engine;
+
+import engine.core.SaveService;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that save files are written in the background, batched and whole.
+ */
+class SaveServiceTest {
+
+    private static byte[] text(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testSavesAreBatchedAndReadBackBeforeBeingWritten() throws Exception {
+        // 1. Given a save service that waits a long time before writing,
+        Path dir = Files.createTempDirectory("saves");
+        Path file = dir.resolve("achievements.dat");
+        SaveService saves = new SaveService(60_000);
+
+        // 2. When a file is saved twice in a row,
+        saves.write(file, text("First Blood:false"));
+        saves.write(file, text("First Blood:true"));
+
+        // 3. Nothing should be on disk yet, but reads should find the last contents.
+        assertFalse(Files.exists(file), "Saving should not write on the calling thread.");
+        assertArrayEquals(text("First Blood:true"), saves.getPending(file), "The last save should be readable at once.");
+
+        // 4. Once flushed, only the last contents should be written, once, with no temporary file left.
+        saves.flush();
+        assertEquals("First Blood:true", Files.readString(file), "The file should hold the last save.");
+        assertEquals(1, saves.getWrites(), "Two saves of a file should be written together.");
+        assertNull(saves.getPending(file), "A written file should be read from disk again.");
+        assertFalse(Files.exists(dir.resolve("achievements.dat.tmp")), "The temporary file should be renamed.");
+        saves.close();
+    }
+
+    @Test
+    void testFileIsReplacedAfterTheDelay() throws Exception {
+        // 1. Given a file on disk and a save service with a short delay,
+        Path dir = Files.createTempDirectory("saves");
+        Path file = dir.resolve("scores");
+        Files.writeString(file, "AAA\n100\n");
+        SaveService saves = new SaveService(10);
+
+        // 2. When the file is saved,
+        saves.write(file, text("BBB\n200\n"));
+
+        // 3. The writer should replace it by itself shortly after.
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (saves.getWrites() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals("BBB\n200\n", Files.readString(file), "The file should be replaced in the background.");
+        saves.close();
+
+        // 4. After closing, saves should be written right away.
+        saves.write(file, text("CCC\n300\n"));
+        assertEquals("CCC\n300\n", Files.readString(file), "A closed service should write on the calling thread.");
+        saves.delete(file);
+        assertFalse(Files.exists(file), "A deleted file should be removed.");
+    }
+}
@@ -0,0 +1,63 @@
+package engine;
+
+import engine.core.Cooldown;
+import engine.core.GameTimer;
+import engine.core.SimulationClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that cooldowns and timers follow the stepped simulation clock.
+ */
+class SimulationClockTest {
+
+    private static final long TICK = SimulationClock.tickNanos(60);
+
+    @AfterEach
+    void tearDown() {
+        // Give the clock back to real time so other tests are not affected.
+        SimulationClock.releaseOwnership();
+    }
+
+    @Test
+    void testCooldownFinishesAfterEnoughTicks() {
+        // 1. Given a 100 ms cooldown on a stepped clock,
+        SimulationClock.takeOwnership();
+        Cooldown cooldown = new Cooldown(100);
+        cooldown.reset();
+
+        // 2. It should not finish while simulated time stands still,
+        assertFalse(cooldown.checkFinished(), "Cooldown should not finish without ticks.");
+
+        // 3. And should finish once 7 ticks (~116 ms) have been simulated.
+        for (int i = 0; i < 7; i++) {
+            SimulationClock.advance(TICK);
+        }
+        assertTrue(cooldown.checkFinished(), "Cooldown should finish after enough ticks.");
+    }
+
+    @Test
+    void testGameTimerUsesSimulatedTime() {
+        SimulationClock.takeOwnership();
+        GameTimer timer = new GameTimer();
+        timer.start();
+
+        // One simulated second passes instantly.
+        for (int i = 0; i < 60; i++) {
+            SimulationClock.advance(TICK);
+        }
+        assertEquals(999, timer.getElapsedTime(), 1, "Timer should report simulated time.");
+    }
+
+    @Test
+    void testReleaseNeverRunsBackwards() {
+        SimulationClock.takeOwnership();
+        SimulationClock.advance(TICK * 600);
+        long before = SimulationClock.currentTimeMillis();
+
+        SimulationClock.releaseOwnership();
+        assertTrue(SimulationClock.currentTimeMillis() >= before, "Released clock should continue from simulated time.");
+    }
+}
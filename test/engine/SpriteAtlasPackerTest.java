@@ -0,0 +1,61 @@
+package engine;
+
+import engine.view.DrawManager.SpriteType;
+import engine.view.SpriteAtlasPacker;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the sprite packer places every sprite where its index says.
+ */
+class SpriteAtlasPackerTest {
+
+    private static void writeSprite(File dir, String name, int width, int height, int argb) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, argb);
+            }
+        }
+        ImageIO.write(image, "png", new File(dir, name + ".png"));
+    }
+
+    @Test
+    void testPackedSpritesMatchTheirIndex() throws IOException {
+        // 1. Given sprites named after sprite types, an unknown one and an oversized one,
+        File source = Files.createTempDirectory("sprites").toFile();
+        File output = Files.createTempDirectory("atlas").toFile();
+        writeSprite(source, "shipp1", 25, 31, 0xFFFF0000);
+        writeSprite(source, "Bullet", 3, 5, 0xFF00FF00);
+        writeSprite(source, "NotASprite", 4, 4, 0xFF0000FF);
+        writeSprite(source, "BlackHole1", SpriteAtlasPacker.MAX_PACKED_SIZE + 1, 2, 0xFFFFFFFF);
+
+        // 2. When they are packed,
+        int packed = SpriteAtlasPacker.pack(source, output);
+
+        // 3. Only the known, small sprites should be in the atlas, at their indexed place.
+        assertEquals(2, packed, "Unknown and oversized sprites should be skipped.");
+        BufferedImage atlas = ImageIO.read(new File(output, SpriteAtlasPacker.IMAGE_FILE));
+        List<String> lines = Files.readAllLines(new File(output, SpriteAtlasPacker.INDEX_FILE).toPath());
+        assertEquals(3, lines.size(), "Index should have a header and one line per sprite.");
+        for (String line : lines.subList(1, lines.size())) {
+            String[] fields = line.split(" ");
+            SpriteType type = SpriteType.valueOf(fields[1]);
+            assertEquals(type.ordinal(), Integer.parseInt(fields[0]), "Index should store the ordinal.");
+            int x = Integer.parseInt(fields[2]);
+            int y = Integer.parseInt(fields[3]);
+            int expected = type == SpriteType.ShipP1 ? 0xFFFF0000 : 0xFF00FF00;
+            assertEquals(expected, atlas.getRGB(x, y), type + " should start at its indexed corner.");
+            assertEquals(expected, atlas.getRGB(x + Integer.parseInt(fields[4]) - 1, y + Integer.parseInt(fields[5]) - 1),
+                    type + " should end at its indexed size.");
+        }
+    }
+}
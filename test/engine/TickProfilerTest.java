@@ -0,0 +1,86 @@
+package engine;
+
+import engine.core.TickProfiler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the rolling window and percentiles of the tick profiler.
+ */
+class TickProfilerTest {
+
+    private final TickProfiler profiler = TickProfiler.getInstance();
+
+    @BeforeEach
+    void setUp() {
+        profiler.reset();
+        profiler.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        profiler.setEnabled(false);
+        profiler.reset();
+    }
+
+    private void recordFrames(int from, int to) {
+        for (int i = from; i <= to; i++) {
+            profiler.beginFrame();
+            profiler.add(TickProfiler.Phase.UPDATE, i * 1000L);
+            profiler.count(TickProfiler.Category.BULLETS, i);
+            profiler.endFrame();
+        }
+    }
+
+    @Test
+    void testPercentilesOfRecordedFrames() {
+        // 1. Given 100 frames whose update phase took 1 to 100 microseconds,
+        recordFrames(1, 100);
+
+        // 2. The percentiles and last values should match those frames.
+        assertEquals(100, profiler.getRecordedFrames(), "Every frame should be recorded.");
+        assertEquals(50_000L, profiler.getPercentile(TickProfiler.Phase.UPDATE, 50), "p50 should be the median frame.");
+        assertEquals(99_000L, profiler.getPercentile(TickProfiler.Phase.UPDATE, 99), "p99 should be the 99th frame.");
+        assertEquals(100_000L, profiler.getLast(TickProfiler.Phase.UPDATE), "Last should be the latest frame.");
+        assertEquals(100, profiler.getLastCount(TickProfiler.Category.BULLETS), "Counts should come from the latest frame.");
+        assertTrue(profiler.getLast(TickProfiler.Phase.FRAME) >= 0, "Frame time should be measured.");
+    }
+
+    @Test
+    void testWindowKeepsOnlyTheLatestFrames() {
+        // 1. Given more frames than the window holds,
+        recordFrames(1, TickProfiler.WINDOW + 60);
+
+        // 2. Only the latest frames should count: 61 to 300 microseconds.
+        assertEquals(TickProfiler.WINDOW, profiler.getRecordedFrames(), "The window should be full.");
+        assertEquals(61_000L, profiler.getPercentile(TickProfiler.Phase.UPDATE, 0), "Oldest frames should be dropped.");
+        assertEquals(180_000L, profiler.getPercentile(TickProfiler.Phase.UPDATE, 50), "p50 should cover the window only.");
+    }
+
+    @Test
+    void testPhasesTimedOnAnotherThreadCountInTheNextFrame() throws InterruptedException {
+        // 1. Given a render phase added from another thread between two frames,
+        recordFrames(1, 1);
+        Thread render = new Thread(() -> profiler.add(TickProfiler.Phase.RENDER_ENTITIES, 5_000L));
+        render.start();
+        render.join();
+
+        // 2. The next frame should carry it, and the frame after that should not.
+        recordFrames(2, 2);
+        assertEquals(5_000L, profiler.getLast(TickProfiler.Phase.RENDER_ENTITIES), "Render time should land in the next frame.");
+        recordFrames(3, 3);
+        assertEquals(0L, profiler.getLast(TickProfiler.Phase.RENDER_ENTITIES), "Render time should be counted once.");
+    }
+
+    @Test
+    void testDisabledProfilerRecordsNothing() {
+        // Given a disabled profiler, frames should be ignored.
+        profiler.setEnabled(false);
+        recordFrames(1, 10);
+        assertEquals(0, profiler.getRecordedFrames(), "No frame should be recorded while disabled.");
+        assertEquals(0L, profiler.begin(), "begin should not read the clock while disabled.");
+    }
+}
@@ -0,0 +1,106 @@
+package engine;
+
+import engine.view.DrawManager.SpriteType;
+import engine.view.renderer.TintedSpriteCache;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the derivations and the LRU behaviour of the tinted sprite cache.
+ */
+class TintedSpriteCacheTest {
+
+    private static BufferedImage sprite() {
+        BufferedImage image = new BufferedImage(2, 1, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, 0xC0112233);
+        image.setRGB(1, 0, 0x00000000);
+        return image;
+    }
+
+    @Test
+    void testDerivationsKeepTransparentPixels() {
+        // 1. Given a sprite with one visible and one transparent pixel,
+        BufferedImage source = sprite();
+
+        // 2. Each derivation should only change the visible pixel.
+        assertEquals(0xC0FF0000, TintedSpriteCache.derive(source, TintedSpriteCache.Mode.RECOLOR, 0xFFFF0000).getRGB(0, 0),
+                "Recolour should keep the pixel alpha.");
+        assertEquals(0x40112233, TintedSpriteCache.derive(source, TintedSpriteCache.Mode.FADE, 0x40).getRGB(0, 0),
+                "Fade should cap the pixel alpha.");
+        assertEquals(0xB4144AF6, TintedSpriteCache.derive(source, TintedSpriteCache.Mode.SOLID, 0xB4144AF6).getRGB(0, 0),
+                "Solid should use the whole colour.");
+        assertEquals(0, TintedSpriteCache.derive(source, TintedSpriteCache.Mode.SOLID, 0xFFFFFFFF).getRGB(1, 0),
+                "Transparent pixels should stay transparent.");
+    }
+
+    @Test
+    void testRepeatedLookupsHitTheCache() {
+        // 1. Given a cache and a sprite faded to nearby alpha values,
+        TintedSpriteCache cache = new TintedSpriteCache();
+        BufferedImage source = sprite();
+        BufferedImage first = cache.get(SpriteType.Shield, source, TintedSpriteCache.Mode.FADE, 200);
+
+        // 2. Alphas in the same quantisation step should share one image.
+        assertSame(first, cache.get(SpriteType.Shield, source, TintedSpriteCache.Mode.FADE, 201),
+                "Nearby alphas should reuse the derived sprite.");
+        assertEquals(1, cache.getMisses(), "Only the first lookup should derive.");
+        assertEquals(1, cache.getHits(), "The second lookup should hit.");
+        assertEquals(255, TintedSpriteCache.quantizeAlpha(300), "Alpha should be clamped.");
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        // 1. Given a cache of two entries,
+        TintedSpriteCache cache = new TintedSpriteCache(2);
+        BufferedImage source = sprite();
+        BufferedImage red = cache.get(SpriteType.Life, source, TintedSpriteCache.Mode.SOLID, 0xFFFF0000);
+        cache.get(SpriteType.Life, source, TintedSpriteCache.Mode.SOLID, 0xFF00FF00);
+
+        // 2. When the first entry is used again and a third one is added,
+        cache.get(SpriteType.Life, source, TintedSpriteCache.Mode.SOLID, 0xFFFF0000);
+        cache.get(SpriteType.Life, source, TintedSpriteCache.Mode.SOLID, 0xFF0000FF);
+
+        // 3. The least recently used (green) entry should be the one evicted.
+        assertEquals(2, cache.size(), "The cache should stay bounded.");
+        assertSame(red, cache.get(SpriteType.Life, source, TintedSpriteCache.Mode.SOLID, 0xFFFF0000),
+                "The recently used entry should be kept.");
+        long misses = cache.getMisses();
+        cache.get(SpriteType.Life, source, TintedSpriteCache.Mode.SOLID, 0xFF00FF00);
+        assertEquals(misses + 1, cache.getMisses(), "The evicted entry should be derived again.");
+    }
+
+    @Test
+    void testEvictionMatchesAnAccessOrderedMap() {
+        // 1. Given a small cache and an access-ordered map of the same capacity,
+        TintedSpriteCache cache = new TintedSpriteCache(8);
+        Map<Integer, Boolean> model = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Boolean> eldest) {
+                return size() > 8;
+            }
+        };
+        BufferedImage source = sprite();
+        Random random = new Random(42);
+
+        // 2. When both see the same long run of lookups over more colours than fit,
+        long expectedMisses = 0;
+        for (int i = 0; i < 5000; i++) {
+            int colour = 0xFF000000 | random.nextInt(20);
+            if (model.get(colour) == null) {
+                expectedMisses++;
+                model.put(colour, Boolean.TRUE);
+            }
+            cache.get(SpriteType.Life, source, TintedSpriteCache.Mode.SOLID, colour);
+        }
+
+        // 3. The cache should miss and keep exactly what the map does.
+        assertEquals(expectedMisses, cache.getMisses(), "Misses should match a least-recently-used map.");
+        assertEquals(model.size(), cache.size(), "The cache should hold as many entries as the map.");
+    }
+}
@@ -1,12 +1,16 @@
 package entity;
 
+import entity.bullet.BombBullet;
+import entity.bullet.BossBullet;
 import entity.bullet.Bullet;
 import entity.bullet.BulletPool;
+import entity.bullet.LaserBeam;
+import entity.bullet.ObjectPool;
+import entity.pattern.BossPattern;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.awt.*;
-import java.lang.reflect.Field;
+import java.awt.Point;
 import java.util.HashSet;
 import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
@@ -16,17 +20,10 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class BulletPoolTest {
 
-    // Use reflection to access the private static 'pool' field in BulletPool.
-    private static Set<Bullet> getInternalPool() throws Exception {
-        Field poolField = BulletPool.class.getDeclaredField("pool");
-        poolField.setAccessible(true);
-        return (Set<Bullet>) poolField.get(null); // 'null' signifies a static field.
-    }
-
     @BeforeEach
-    void setUp() throws Exception {
+    void setUp() {
         // Forcibly clear the BulletPool before each test to ensure no side-effects.
-        getInternalPool().clear();
+        BulletPool.clear();
     }
 
     @Test
@@ -62,17 +59,132 @@ class BulletPoolTest {
     }
 
     @Test
-    void testPoolEmptiesAfterGet() throws Exception {
+    void testPoolEmptiesAfterGet() {
         // 1. Given an object recycled into the pool.
         Set<Bullet> bulletsToRecycle = new HashSet<>();
         bulletsToRecycle.add(new Bullet(1, 1, 1,1,1));
         BulletPool.recycle(bulletsToRecycle);
-        assertEquals(1, getInternalPool().size(), "Pool should contain one object.");
+        assertEquals(1, BulletPool.getBulletPool().getAvailable(), "Pool should contain one object.");
 
         // 2. When that object is retrieved.
         BulletPool.getBullet(2, 2, 2);
 
         // 3. The pool should be empty again.
-        assertEquals(0, getInternalPool().size(), "Pool should be empty after object is retrieved.");
+        assertEquals(0, BulletPool.getBulletPool().getAvailable(), "Pool should be empty after object is retrieved.");
+    }
+
+    @Test
+    void testRecycleGoesToTypedPool() {
+        // 1. Given bullets of different types,
+        BombBullet bomb = BulletPool.getBombBullet(0, 0, -5);
+        BossBullet bossBullet = BulletPool.getBossBullet(0, 0, 1, 1, 3, 5, BossPattern.PatternBulletType.PINNED);
+
+        // 2. When they are recycled through the same entry point,
+        BulletPool.recycle(bomb);
+        BulletPool.recycle(bossBullet);
+
+        // 3. Each should come back only from the pool of its own type.
+        assertEquals(0, BulletPool.getBulletPool().getAvailable(), "Standard pool should stay empty.");
+        assertSame(bomb, BulletPool.getBombBullet(10, 10, -5), "Bomb should be reused as a bomb.");
+        BossBullet reused = BulletPool.getBossBullet(20, 30, 0, 4, 3, 5, BossPattern.PatternBulletType.PINNED);
+        assertSame(bossBullet, reused, "Boss bullet should be reused as a boss bullet.");
+        assertEquals(20, reused.getPositionX(), "Boss bullet position should be reset.");
+        assertFalse(reused.shouldBeRemoved(), "Reused boss bullet should not be marked for removal.");
+    }
+
+    @Test
+    void testDoubleReleaseIsIgnored() {
+        // 1. Given a bullet released back to its pool,
+        Bullet bullet = BulletPool.getBullet(0, 0, -1);
+        ObjectPool<Bullet> pool = BulletPool.getBulletPool();
+        BulletPool.recycle(bullet);
+
+        // 2. When it is released a second time,
+        BulletPool.recycle(bullet);
+
+        // 3. It should be stored once and handed to a single owner.
+        assertEquals(1, pool.getAvailable(), "The bullet should be pooled once.");
+        assertEquals(1, pool.getDoubleReleases(), "The second release should be counted.");
+        assertSame(bullet, BulletPool.getBullet(0, 0, -1), "The pooled bullet should be reused.");
+        assertNotSame(bullet, BulletPool.getBullet(0, 0, -1), "It should not be handed out twice.");
+    }
+
+    @Test
+    void testReusedBombIsDrawnInPlace() {
+        // 1. Given a bomb captured for drawing, then exploding and recycled,
+        BombBullet bomb = BulletPool.getBombBullet(100, 200, -5);
+        bomb.capturePosition(1);
+        BulletPool.recycleBomb(bomb);
+
+        // 2. When it is fired again nearby and captured in the next snapshot,
+        BombBullet reused = BulletPool.getBombBullet(110, 210, -5);
+        reused.capturePosition(2);
+
+        // 3. It should not be drawn sliding in from where it exploded.
+        assertSame(bomb, reused, "The bomb should be reused.");
+        assertEquals(110.0, reused.getPreviousX(), "A reused bomb should start in place.");
+        assertEquals(210.0, reused.getPreviousY(), "A reused bomb should start in place.");
+    }
+
+    @Test
+    void testStatsAndPrewarm() {
+        // 1. Given a pre-warmed pool,
+        BulletPool.prewarm(4);
+        ObjectPool<Bullet> pool = BulletPool.getBulletPool();
+        assertEquals(4, pool.getAvailable(), "Prewarm should fill the pool.");
+
+        // 2. When more bullets are taken than were prepared,
+        Set<Bullet> fired = new HashSet<>();
+        for (int i = 0; i < 6; i++) {
+            fired.add(BulletPool.getBullet(0, 0, -1));
+        }
+        BulletPool.recycle(fired);
+
+        // 3. The stats should report hits, misses and the peak usage.
+        assertEquals(4, pool.getHits(), "Prepared bullets should count as hits.");
+        assertEquals(2, pool.getMisses(), "Extra bullets should count as misses.");
+        assertEquals(6, pool.getHighWaterMark(), "Peak usage should be six bullets.");
+        assertEquals(6, pool.getAvailable(), "All bullets should be back in the pool.");
+    }
+
+    @Test
+    void testLaserComesBackReset() {
+        // 1. Given a laser beam that finished firing,
+        LaserBeam laser = BulletPool.getLaserBeam(new Point(0, 0), new Point(10, 10), 100, 100);
+
+        // 2. When the model recycles it,
+        BulletPool.recycleLaser(laser);
+
+        // 3. It should be pooled and come back reset.
+        assertEquals(1, BulletPool.getLaserPool().getAvailable(), "Laser should be pooled.");
+        LaserBeam reused = BulletPool.getLaserBeam(new Point(5, 5), new Point(5, 50), 100, 100);
+        assertSame(laser, reused, "Pooled laser should be reused.");
+        assertFalse(reused.isActive(), "Reused laser should start charging again.");
+        assertFalse(reused.shouldBeRemoved(), "Reused laser should not be marked for removal.");
+    }
+
+    @Test
+    void testDrainedLasersAreHandedOutOnce() {
+        // 1. Given a pattern that fired a laser,
+        BossPattern pattern = new BossPattern(new Point(0, 0)) {
+            @Override
+            public void attack() {
+                if (lasers == null) lasers = new HashSet<>();
+                lasers.add(BulletPool.getLaserBeam(new Point(0, 0), new Point(10, 10), 100, 100));
+            }
+            @Override
+            public void move() { }
+        };
+        pattern.attack();
+        assertTrue(pattern.hasLiveLasers(), "A laser waiting to be handed out should be live.");
+
+        // 2. When its lasers are drained twice,
+        Set<LaserBeam> first = new HashSet<>(pattern.drainLasers());
+        Set<LaserBeam> second = pattern.drainLasers();
+
+        // 3. The laser should only be handed out the first time.
+        assertEquals(1, first.size(), "The fired laser should be handed out.");
+        assertTrue(second.isEmpty(), "A handed out laser should not be handed out again.");
+        assertFalse(pattern.hasLiveLasers(), "The pattern should no longer hold the laser.");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+package entity;
+
+import entity.collision.CollisionGrid;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the collision broad phase reports the same pairs as a full pairwise scan.
+ */
+class CollisionGridTest {
+
+    /** Same overlap test as GameModel.checkCollision. */
+    private static boolean overlaps(Entity a, Entity b) {
+        int centerAX = a.getPositionX() + a.getWidth() / 2;
+        int centerAY = a.getPositionY() + a.getHeight() / 2;
+        int centerBX = b.getPositionX() + b.getWidth() / 2;
+        int centerBY = b.getPositionY() + b.getHeight() / 2;
+        int maxDistanceX = a.getWidth() / 2 + b.getWidth() / 2;
+        int maxDistanceY = a.getHeight() / 2 + b.getHeight() / 2;
+        return Math.abs(centerAX - centerBX) < maxDistanceX && Math.abs(centerAY - centerBY) < maxDistanceY;
+    }
+
+    @Test
+    void testSamePairsAsPairwiseScan() {
+        // 1. Given a crowded playfield, including entities that leave its bounds,
+        Random random = new Random(42);
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            entities.add(new Entity(random.nextInt(700) - 50, random.nextInt(700) - 50,
+                    random.nextInt(120), random.nextInt(120), null));
+        }
+
+        // 2. When the grid collects candidates for every entity,
+        CollisionGrid grid = new CollisionGrid(600, 600, CollisionGrid.DEFAULT_CELL_SIZE);
+        grid.build(entities);
+        List<String> gridHits = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i++) {
+            int count = grid.collectCandidates(i);
+            for (int k = 0; k < count; k++) {
+                int j = grid.candidateAt(k);
+                if (overlaps(entities.get(i), entities.get(j))) gridHits.add(i + "-" + j);
+            }
+        }
+
+        // 3. The colliding pairs and their order should match the O(n^2) loop.
+        List<String> pairwiseHits = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i++) {
+            for (int j = i + 1; j < entities.size(); j++) {
+                if (overlaps(entities.get(i), entities.get(j))) pairwiseHits.add(i + "-" + j);
+            }
+        }
+        assertEquals(pairwiseHits, gridHits, "Broad phase should not change collision results.");
+    }
+
+    @Test
+    void testCandidatesAreSortedAndUnique() {
+        // 1. Given a large entity spanning many cells and small ones inside it,
+        List<Entity> entities = new ArrayList<>();
+        entities.add(new Entity(0, 0, 300, 300, null));
+        entities.add(new Entity(200, 200, 10, 10, null));
+        entities.add(new Entity(10, 10, 10, 10, null));
+        entities.add(new Entity(500, 500, 10, 10, null));
+
+        CollisionGrid grid = new CollisionGrid(600, 600, 32);
+        grid.build(entities);
+
+        // 2. Each nearby entity should be reported once, in ascending order.
+        assertEquals(2, grid.collectCandidates(0));
+        assertEquals(1, grid.candidateAt(0));
+        assertEquals(2, grid.candidateAt(1));
+
+        // 3. Far-away entities should not be reported.
+        assertEquals(0, grid.collectCandidates(2));
+    }
+}
@@ -0,0 +1,91 @@
+package entity;
+
+import engine.view.DrawManager.SpriteType;
+import entity.base.CollisionLayer;
+import entity.bullet.BossBullet;
+import entity.bullet.Bullet;
+import entity.bullet.GuidedBullet;
+import entity.item.DropItem;
+import entity.item.Explosion;
+import entity.item.ShopItem;
+import entity.item.SubShip;
+import entity.pattern.BossPattern;
+import entity.ship.EnemyShip;
+import entity.ship.Ship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the collision layer matrix used to skip pairs that can never interact.
+ */
+class CollisionLayerTest {
+
+    private Ship ship;
+    private Bullet playerBullet;
+    private Bullet enemyBullet;
+    private BossBullet bossBullet;
+    private EnemyShip enemy;
+    private DropItem item;
+
+    @BeforeEach
+    void setUp() {
+        ShopItem.resetAllItems();
+        ship = new Ship(100, 100, Color.GREEN, true);
+        playerBullet = new Bullet(0, 0, -6, 5, 10);
+        enemyBullet = new Bullet(0, 0, 4, 5, 15);
+        bossBullet = new BossBullet(0, 0, 1, 1, 5, 5, BossPattern.PatternBulletType.PINNED);
+        enemy = new EnemyShip(0, 0, SpriteType.EnemyShipA1);
+        item = new DropItem(0, 0, 2, DropItem.ItemType.Coin);
+    }
+
+    @Test
+    void testPlayerInteractions() {
+        // The player ship must still meet everything that can hurt or reward it.
+        assertTrue(CollisionLayer.canCollide(ship, enemy));
+        assertTrue(CollisionLayer.canCollide(ship, enemyBullet));
+        assertTrue(CollisionLayer.canCollide(ship, bossBullet));
+        assertTrue(CollisionLayer.canCollide(ship, item));
+        assertTrue(CollisionLayer.canCollide(ship, new Explosion(0, 0)));
+        // But not its own bullets.
+        assertFalse(CollisionLayer.canCollide(ship, playerBullet));
+    }
+
+    @Test
+    void testBulletInteractions() {
+        // 1. Player bullets hit enemies, but not items.
+        assertTrue(CollisionLayer.canCollide(playerBullet, enemy));
+        assertFalse(CollisionLayer.canCollide(playerBullet, item));
+
+        // 2. Bullets of the same side, and plain enemy bullets vs player bullets, are skipped.
+        assertFalse(CollisionLayer.canCollide(enemyBullet, bossBullet));
+        assertFalse(CollisionLayer.canCollide(playerBullet, playerBullet));
+        assertFalse(CollisionLayer.canCollide(playerBullet, bossBullet));
+
+        // 3. Guided missiles can be shot down.
+        GuidedBullet guided = new GuidedBullet(0, 0, ship);
+        assertTrue(CollisionLayer.canCollide(playerBullet, guided));
+        assertFalse(CollisionLayer.canCollide(enemyBullet, guided));
+    }
+
+    @Test
+    void testBulletLayerFollowsSpeed() {
+        // A pooled bullet changes side when its direction changes.
+        Bullet bullet = new Bullet(0, 0, -6, 5, 10);
+        assertEquals(CollisionLayer.PLAYER_BULLET, bullet.getCollisionLayer());
+        bullet.setSpeed(4);
+        assertEquals(CollisionLayer.ENEMY_BULLET, bullet.getCollisionLayer());
+    }
+
+    @Test
+    void testSubShipIgnoresItems() {
+        SubShip sub = new SubShip(ship, true);
+        assertTrue(CollisionLayer.canCollide(sub, enemyBullet));
+        assertTrue(CollisionLayer.canCollide(sub, enemy));
+        assertFalse(CollisionLayer.canCollide(sub, item));
+        assertFalse(CollisionLayer.canCollide(enemy, enemy));
+    }
+}
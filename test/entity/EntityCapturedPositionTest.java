@@ -0,0 +1,56 @@
+package entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the positions entities keep for drawing between two snapshots.
+ */
+class EntityCapturedPositionTest {
+
+    private static Entity entityAt(int x, int y) {
+        return new Entity(x, y, 10, 10, Color.WHITE);
+    }
+
+    @Test
+    void testMovingEntityStartsFromThePreviousSnapshot() {
+        // 1. Given an entity captured in two consecutive snapshots, moving 5 pixels in between,
+        Entity entity = entityAt(100, 200);
+        entity.capturePosition(1);
+        entity.setPositionY(195);
+        entity.capturePosition(2);
+
+        // 2. It should be drawn moving from the first position to the second.
+        assertEquals(100.0, entity.getPreviousX(), "X should start where it was.");
+        assertEquals(200.0, entity.getPreviousY(), "Y should start where it was.");
+
+        // 3. Capturing the same snapshot again should not lose the starting point.
+        entity.capturePosition(2);
+        assertEquals(200.0, entity.getPreviousY(), "A second capture of a snapshot should be ignored.");
+    }
+
+    @Test
+    void testNewOrJumpingEntityIsDrawnInPlace() {
+        // 1. Given an entity first seen in snapshot 5,
+        Entity entity = entityAt(50, 60);
+        entity.capturePosition(5);
+        assertEquals(50.0, entity.getPreviousX(), "A new entity should not move in from elsewhere.");
+
+        // 2. When it jumps further than a tick of motion, like a teleport,
+        entity.setPositionX(50 + Entity.MAX_INTERPOLATED_STEP + 1);
+        entity.capturePosition(6);
+        assertEquals(entity.getPreciseX(), entity.getPreviousX(), "A jump should be drawn at once.");
+
+        // 3. When it misses a snapshot or is reset for reuse, it should start in place again.
+        entity.setPositionX(90);
+        entity.capturePosition(8);
+        assertEquals(90.0, entity.getPreviousX(), "An entity missing from the last snapshot should start in place.");
+        entity.resetCapturedPosition();
+        entity.setPositionX(95);
+        entity.capturePosition(9);
+        assertEquals(95.0, entity.getPreviousX(), "A reset entity should start in place.");
+    }
+}
@@ -0,0 +1,97 @@
+package entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests ordering and deferred removal of EntityList.
+ */
+class EntityListTest {
+
+    private static List<String> contents(EntityList<String> list) {
+        List<String> result = new ArrayList<>();
+        for (String s : list) result.add(s);
+        return result;
+    }
+
+    @Test
+    void testIteratesInInsertionOrderWithoutDuplicates() {
+        // 1. Given entities added in a known order, one of them twice,
+        EntityList<String> list = new EntityList<>(2);
+        list.add("c");
+        list.add("a");
+        list.add("b");
+        assertFalse(list.add("a"), "The same entity should not be added twice.");
+
+        // 2. Iteration should follow insertion order.
+        assertEquals(List.of("c", "a", "b"), contents(list), "Order should match insertion.");
+        assertEquals(3, list.size(), "Size should count each entity once.");
+    }
+
+    @Test
+    void testRemovalDuringIterationIsDeferred() {
+        // 1. Given a list being iterated,
+        EntityList<String> list = new EntityList<>();
+        list.add("a");
+        list.add("b");
+        list.add("c");
+
+        // 2. When entities are removed in the middle of the iteration,
+        List<String> visited = new ArrayList<>();
+        for (String s : list) {
+            visited.add(s);
+            if (s.equals("a")) {
+                list.remove("b");
+                list.add("d");
+            }
+        }
+
+        // 3. Removed entities are skipped, added ones are visited, and compaction keeps the order.
+        assertEquals(List.of("a", "c", "d"), visited, "Removed entities should be skipped.");
+        assertEquals(3, list.size(), "Size should reflect the removal immediately.");
+        list.compact();
+        assertEquals(List.of("a", "c", "d"), contents(list), "Compaction should keep the order.");
+    }
+
+    @Test
+    void testRemoveIfThroughIterator() {
+        // Given a list, removeIf should drop the matching entities only.
+        EntityList<String> list = new EntityList<>();
+        list.add("keep");
+        list.add("drop");
+        list.add("keep too");
+        list.removeIf(s -> s.equals("drop"));
+        list.compact();
+        assertEquals(List.of("keep", "keep too"), contents(list), "Only matching entities should be removed.");
+        assertFalse(list.contains("drop"), "Removed entity should not be contained.");
+    }
+
+    @Test
+    void testReAddingTheSameBulletsEveryTick() {
+        // 1. Given a boss whose bullets are added again on every tick,
+        EntityList<Object> list = new EntityList<>();
+        List<Object> bullets = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) bullets.add(new Object());
+
+        // 2. when some of them hit and are removed between ticks,
+        for (int tick = 0; tick < 200; tick++) {
+            list.addAll(bullets);
+            Object hit = bullets.remove(0);
+            assertTrue(list.remove(hit), "A bullet in the list should be removable.");
+            list.compact();
+        }
+
+        // 3. then every remaining bullet is held once, in order, and still found after compaction.
+        assertEquals(bullets.size(), list.size(), "Re-added bullets should not be duplicated.");
+        assertEquals(bullets, new ArrayList<>(list), "Bullets should keep their insertion order.");
+        for (Object bullet : bullets) {
+            assertTrue(list.contains(bullet), "Every remaining bullet should be found.");
+        }
+        assertTrue(list.remove(bullets.get(bullets.size() - 1)), "The last bullet should be removable after compaction.");
+        assertFalse(list.contains(bullets.get(bullets.size() - 1)), "A removed bullet should not be found.");
+    }
+}
@@ -0,0 +1,125 @@
+package entity;
+
+import entity.base.CollisionLayer;
+import entity.bullet.BossBullet;
+import entity.bullet.Bullet;
+import entity.bullet.ProjectileStore;
+import entity.pattern.BossPattern;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the structure-of-arrays bullet store and its Bullet handles.
+ */
+class ProjectileStoreTest {
+
+    private static Bullet bullet(int x, int y, int speed) {
+        Bullet b = new Bullet(x, y, speed, 10, 20);
+        b.setMaxPenetration(1);
+        return b;
+    }
+
+    @Test
+    void testHandlesReadAndWriteTheirSlot() {
+        // 1. Given a stored bullet,
+        ProjectileStore store = new ProjectileStore();
+        Bullet b = bullet(10, 100, -5);
+        b.setOwnerId(2);
+        store.add(b);
+
+        // 2. When the store moves it and the handle is changed,
+        store.update();
+        b.setPositionX(42);
+
+        // 3. The handle should see the store's state and keep it after removal.
+        assertEquals(95, b.getPositionY(), "Bulk update should move the bullet.");
+        assertEquals(42, b.getPositionX(), "Setter should write into the store.");
+        store.remove(b);
+        assertEquals(95, b.getPositionY(), "Removed bullet should keep its position.");
+        assertEquals(Integer.valueOf(2), b.getOwnerId(), "Removed bullet should keep its owner.");
+        assertFalse(store.contains(b), "Removed bullet should not be contained.");
+    }
+
+    @Test
+    void testSwapRemoveKeepsOtherBulletsIntact() {
+        // 1. Given several stored bullets,
+        ProjectileStore store = new ProjectileStore();
+        List<Bullet> all = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Bullet b = bullet(i * 10, 200 + i, 1);
+            all.add(b);
+            store.add(b);
+        }
+
+        // 2. When bullets are removed while iterating,
+        Iterator<Bullet> iterator = store.iterator();
+        int visited = 0;
+        while (iterator.hasNext()) {
+            Bullet b = iterator.next();
+            visited++;
+            if (b.getPositionX() % 20 == 0) iterator.remove();
+        }
+
+        // 3. Every bullet should be visited once and the rest keep their own state.
+        assertEquals(5, visited, "Iterator should visit every bullet once.");
+        assertEquals(2, store.size(), "Bullets at x = 0, 20 and 40 should be removed.");
+        for (Bullet b : store) {
+            assertEquals(200 + b.getPositionX() / 10, b.getPositionY(), "Moved slot should keep its own state.");
+        }
+        assertTrue(store.contains(all.get(1)) && store.contains(all.get(3)), "Odd bullets should remain.");
+    }
+
+    @Test
+    void testRemoveOutside() {
+        // 1. Given bullets inside and outside the playfield,
+        ProjectileStore store = new ProjectileStore();
+        store.add(bullet(0, 10, -5));
+        store.add(bullet(0, 300, 5));
+        store.add(bullet(0, 900, 5));
+
+        // 2. When bullets outside the limits are culled,
+        List<Bullet> removed = new ArrayList<>();
+        int count = store.removeOutside(50, 800, removed::add);
+
+        // 3. Only the inside bullet should remain.
+        assertEquals(2, count, "Two bullets should be culled.");
+        assertEquals(2, removed.size(), "Culled bullets should be handed out.");
+        assertEquals(1, store.size(), "One bullet should remain.");
+        assertEquals(300, store.iterator().next().getPositionY(), "The inside bullet should remain.");
+    }
+
+    @Test
+    void testCollectOverlapping() {
+        // 1. Given a target and player and enemy bullets on and off it,
+        ProjectileStore store = new ProjectileStore();
+        Bullet hit = bullet(105, 105, -5);
+        Bullet enemy = bullet(110, 110, 5);
+        store.add(hit);
+        store.add(bullet(400, 400, -5));
+        store.add(enemy);
+        Entity target = new Entity(100, 100, 30, 30, null);
+
+        // 2. The player bullet query should only report the overlapping player bullet,
+        List<Bullet> found = new ArrayList<>();
+        assertEquals(1, store.collectOverlapping(target, CollisionLayer.PLAYER_BULLET, found), "One player bullet should overlap.");
+        assertSame(hit, found.get(0), "The overlapping player bullet should be reported.");
+
+        // 3. and the enemy bullet query only the enemy bullet.
+        found.clear();
+        assertEquals(1, store.collectOverlapping(target, CollisionLayer.ENEMY_BULLET, found), "One enemy bullet should overlap.");
+        assertSame(enemy, found.get(0), "The overlapping enemy bullet should be reported.");
+    }
+
+    @Test
+    void testRejectsBossBullets() {
+        // Boss bullets move on their own and must stay out of the store.
+        ProjectileStore store = new ProjectileStore();
+        BossBullet b = new BossBullet(0, 0, 1, 1, 3, 5, BossPattern.PatternBulletType.PINNED);
+        assertThrows(IllegalArgumentException.class, () -> store.add(b));
+    }
+}